@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Integer serverPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the port to run the API server on, or null if the server should not be started.
+     */
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,9 +53,27 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String serverPortParameter = namedParameters.get("server-port");
+        if (serverPortParameter != null) {
+            appParameters.setServerPort(parseServerPort(serverPortParameter));
+        }
+
         return appParameters;
     }
 
+    private static Integer parseServerPort(String serverPortParameter) {
+        try {
+            int serverPort = Integer.parseInt(serverPortParameter);
+            if (serverPort >= 0 && serverPort <= 65535) {
+                return serverPort;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        logger.warning("Invalid server port " + serverPortParameter + ". The API server will not be started.");
+        return null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +86,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(serverPort, otherAppParameters.serverPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, serverPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("serverPort", serverPort)
                 .toString();
     }
 }
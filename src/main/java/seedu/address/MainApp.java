@@ -24,6 +24,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.ScheduleList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.ApiServer;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonScheduleListStorage;
@@ -49,6 +50,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
 
     @Override
     public void init() throws Exception {
@@ -72,6 +74,23 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
 
         model.linkUi(ui);
+
+        if (appParameters.getServerPort() != null) {
+            initApiServer(appParameters.getServerPort());
+        }
+    }
+
+    /**
+     * Starts the API server on {@code port}. The app keeps running without it if the port cannot be bound.
+     */
+    private void initApiServer(int port) {
+        try {
+            apiServer = new ApiServer(logic);
+            apiServer.start(port);
+        } catch (IOException e) {
+            logger.warning("Could not start API server on port " + port + ": " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
     }
 
     /**
@@ -198,6 +217,9 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
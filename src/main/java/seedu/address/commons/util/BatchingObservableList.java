@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list kept in a backing list, whose changes can be batched so that its listeners are notified of
+ * all of them at once.
+ * <p>
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} are merged into one change event, which is
+ * fired when the batch ends. Listeners therefore see the list only as the batch left it, and a listener that
+ * does work for every event, such as laying out a view of the list, does it once for the whole batch.
+ *
+ * @param <E> the type of the elements.
+ */
+public class BatchingObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> backingList;
+    private boolean isBatching = false;
+
+    /**
+     * Creates an observable list kept in {@code backingList}, which must only be changed through this list.
+     */
+    public BatchingObservableList(List<E> backingList) {
+        requireNonNull(backingList);
+        this.backingList = backingList;
+    }
+
+    /**
+     * Starts a batch of changes, of which the listeners are not notified until {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        checkArgument(!isBatching, "A batch of changes has already begun");
+        isBatching = true;
+        beginChange();
+    }
+
+    /**
+     * Ends the batch of changes, notifying the listeners of all of them as one change.
+     */
+    public void endBatch() {
+        checkArgument(isBatching, "No batch of changes has begun");
+        isBatching = false;
+        endChange();
+    }
+
+    public boolean isBatching() {
+        return isBatching;
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * The changes made to an observable list since they were last applied, kept so that what follows the list, such
+ * as an index of it, can apply them the next time it is used rather than as each of them is made.
+ * <p>
+ * Only so many elements are worth logging: once more elements have been removed and added than the limit given
+ * when recording, applying the changes one by one would cost more than rebuilding from the list, so the logged
+ * changes are dropped and the log is marked as overflowed instead.
+ *
+ * @param <E> the type of the elements.
+ */
+public class ListChangeLog<E> {
+
+    private final List<Entry<E>> entries = new ArrayList<>();
+    private int changedCount = 0;
+    private boolean isOverflowed = false;
+    private boolean wasPermutatedOrUpdated = false;
+
+    /**
+     * Logs {@code change}, or marks the log as overflowed if more than {@code maxChangedCount} elements would then
+     * have been removed and added since the log was last cleared.
+     */
+    public void record(ListChangeListener.Change<? extends E> change, int maxChangedCount) {
+        requireNonNull(change);
+        while (!isOverflowed && change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                wasPermutatedOrUpdated = true;
+                continue;
+            }
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+            if (changedCount > maxChangedCount) {
+                entries.clear();
+                isOverflowed = true;
+                return;
+            }
+            // The removed elements and the added view are only valid while the change is being handled
+            entries.add(new Entry<>(change.getFrom(), List.copyOf(change.getRemoved()),
+                    List.copyOf(change.getAddedSubList())));
+        }
+    }
+
+    /**
+     * Returns the logged changes to the elements, in the order they were made.
+     * Permutations and updates are not among them.
+     */
+    public List<Entry<E>> getEntries() {
+        return entries;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty() && !isOverflowed && !wasPermutatedOrUpdated;
+    }
+
+    /**
+     * Returns true if the changes were too many to be logged.
+     */
+    public boolean isOverflowed() {
+        return isOverflowed;
+    }
+
+    /**
+     * Returns true if the list was permutated, or any of its elements was updated in place, since it was cleared.
+     */
+    public boolean wasPermutatedOrUpdated() {
+        return wasPermutatedOrUpdated;
+    }
+
+    /**
+     * Forgets the logged changes, once they have been applied.
+     */
+    public void clear() {
+        entries.clear();
+        changedCount = 0;
+        isOverflowed = false;
+        wasPermutatedOrUpdated = false;
+    }
+
+    /**
+     * A change replacing the elements from an index of the list, either of which may be none.
+     */
+    public static class Entry<E> {
+        private final int from;
+        private final List<E> removed;
+        private final List<E> added;
+
+        Entry(int from, List<E> removed, List<E> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns the index of the list from which the elements were removed and added.
+         */
+        public int getFrom() {
+            return from;
+        }
+
+        public List<E> getRemoved() {
+            return removed;
+        }
+
+        public List<E> getAdded() {
+            return added;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("from", from)
+                    .add("removed", removed)
+                    .add("added", added)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose changed copies share most of their structure with it.
+ * <p>
+ * The elements are kept in a balanced binary tree in which each node knows the size of its subtree, so that the
+ * element at an index is found by walking down from the root. A changed copy only copies the nodes on the path to
+ * the changed index, so getting, setting, inserting or removing the element at an index takes O(log n) time and
+ * space, and the unchanged list can still be used. Holding on to a list is therefore an O(1) snapshot of it.
+ *
+ * @param <E> the type of the elements, which may not be null.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order, built in O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            checkArgument(element != null, "Elements may not be null");
+        }
+        return new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        checkArgument(element != null, "Elements may not be null");
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        checkArgument(element != null, "Elements may not be null");
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            // The nodes whose value and right subtree are still to be visited, innermost last
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmost(root);
+            }
+
+            private void pushLeftmost(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmost(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    //// tree operations, each returning the root of the changed copy of the tree
+
+    private static <E> Node<E> build(Object[] array, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        E value = (E) array[middle];
+        return new Node<>(value, build(array, from, middle), build(array, middle + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.left, node.right);
+        } else {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // The node takes the value of the first node of its right subtree, which is removed instead
+        Node<E> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code value} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one, given that they differed by at most two.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                left = rotateLeft(left.value, left.left, left.right);
+            }
+            return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                right = rotateRight(right.value, right.left, right.right);
+            }
+            return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <E> Node<E> rotateLeft(E value, Node<E> left, Node<E> right) {
+        return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+    }
+
+    private static <E> Node<E> rotateRight(E value, Node<E> left, Node<E> right) {
+        return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * A node of the tree, which is never changed once made.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * A modifiable list kept in a {@code PersistentList}, so that a snapshot of it can be taken in O(1) time.
+     * Changes take O(log n) time. Not thread-safe, but its snapshots may be read from any thread.
+     *
+     * @param <E> the type of the elements, which may not be null.
+     */
+    public static final class Builder<E> extends AbstractList<E> {
+        private PersistentList<E> current = empty();
+
+        /**
+         * Returns the current contents of this list, which later changes to it leave as they are.
+         */
+        public PersistentList<E> snapshot() {
+            return current;
+        }
+
+        @Override
+        public E get(int index) {
+            return current.get(index);
+        }
+
+        @Override
+        public int size() {
+            return current.size();
+        }
+
+        @Override
+        public E set(int index, E element) {
+            E previous = current.get(index);
+            current = current.with(index, element);
+            return previous;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            current = current.plus(index, element);
+            modCount++;
+        }
+
+        @Override
+        public E remove(int index) {
+            E previous = current.get(index);
+            current = current.minus(index);
+            modCount++;
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            current = empty();
+            modCount++;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> elements) {
+            if (isEmpty()) {
+                current = copyOf(elements);
+                modCount++;
+                return !elements.isEmpty();
+            }
+            return super.addAll(elements);
+        }
+
+        /**
+         * Returns an iterator over the elements as they are when it is made, which can remove the elements it
+         * returns from this list.
+         */
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private final Iterator<E> elements = current.iterator();
+                // The index in this list of the next element
+                private int index = 0;
+                private boolean canRemove = false;
+
+                @Override
+                public boolean hasNext() {
+                    return elements.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    E element = elements.next();
+                    index++;
+                    canRemove = true;
+                    return element;
+                }
+
+                @Override
+                public void remove() {
+                    if (!canRemove) {
+                        throw new IllegalStateException();
+                    }
+                    Builder.this.remove(--index);
+                    canRemove = false;
+                }
+            };
+        }
+    }
+}
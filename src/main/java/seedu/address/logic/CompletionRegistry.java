@@ -0,0 +1,181 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Completes partly typed commands from the command words, the flags, and the names, tags and subjects of
+ * the persons in the model, ranking the completions by how often they have been used.
+ * Kept up to date with {@link #update(ModelChange)} rather than rebuilt. Not thread-safe.
+ */
+class CompletionRegistry {
+
+    static final int MAX_COMPLETIONS = 8;
+
+    private static final String VALUE_SEPARATOR = ",";
+    // The last flag followed by its value, which may be partly typed
+    private static final Pattern LAST_FLAG_FORMAT = Pattern.compile("(?:^|.*\\s)(?<flag>-\\w+)\\s+(?<value>.*)");
+
+    private final CompletionTrie commandWords = new CompletionTrie(MAX_COMPLETIONS);
+    private final CompletionTrie flags = new CompletionTrie(MAX_COMPLETIONS);
+    private final CompletionTrie names = new CompletionTrie(MAX_COMPLETIONS);
+    private final CompletionTrie tags = new CompletionTrie(MAX_COMPLETIONS);
+    private final CompletionTrie subjects = new CompletionTrie(MAX_COMPLETIONS);
+    private final Map<String, CompletionTrie> valuesByFlag = Map.of("-name", names, "-tag", tags,
+            "-subject", subjects);
+
+    /**
+     * Creates a registry completing the values of the given {@code persons}.
+     */
+    CompletionRegistry(Collection<Person> persons) {
+        AddressBookParser.COMMAND_WORDS.forEach(commandWords::add);
+        CliSyntax.FLAGS.forEach(flags::add);
+        for (Subject.Subjects subject : Subject.Subjects.values()) {
+            if (subject != Subject.Subjects.NONE) {
+                subjects.add(subject.name().toLowerCase());
+            }
+        }
+        resetPersons(persons);
+    }
+
+    /**
+     * Replaces the completed person values with those of {@code persons}.
+     */
+    void resetPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        names.clear();
+        tags.clear();
+        persons.forEach(this::addValuesOf);
+    }
+
+    /**
+     * Updates the completed person values after {@code change}. Resets of the persons must be handled with
+     * {@link #resetPersons(Collection)} instead.
+     */
+    void update(ModelChange change) {
+        requireNonNull(change);
+        switch (change.getKind()) {
+        case PERSON_ADDED:
+            addValuesOf(change.getPerson());
+            break;
+        case PERSON_CHANGED:
+            removeValuesOf(change.getPreviousPerson());
+            addValuesOf(change.getPerson());
+            break;
+        case PERSON_REMOVED:
+            removeValuesOf(change.getPreviousPerson());
+            break;
+        default:
+            // Lessons only refer to the names of persons, which are completed already
+            break;
+        }
+    }
+
+    private void addValuesOf(Person person) {
+        names.add(person.getName().fullName);
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    private void removeValuesOf(Person person) {
+        names.remove(person.getName().fullName);
+        for (Tag tag : person.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+
+    /**
+     * Records a use of the command word, flags and values in {@code commandText}, so that they are ranked
+     * above less used completions.
+     */
+    void recordUsage(String commandText) {
+        requireNonNull(commandText);
+        String[] tokens = commandText.trim().split("\\s+");
+        recordUseIfPresent(commandWords, tokens[0]);
+        String flag = null;
+        StringBuilder value = new StringBuilder();
+        for (int i = 1; i <= tokens.length; i++) {
+            if (i < tokens.length && !tokens[i].startsWith("-")) {
+                value.append(value.length() == 0 ? "" : " ").append(tokens[i]);
+                continue;
+            }
+            recordValueUse(flag, value.toString());
+            if (i < tokens.length) {
+                flag = tokens[i];
+                value.setLength(0);
+                recordUseIfPresent(flags, flag);
+            }
+        }
+    }
+
+    private void recordValueUse(String flag, String value) {
+        if (flag == null || !valuesByFlag.containsKey(flag)) {
+            return;
+        }
+        CompletionTrie values = valuesByFlag.get(flag);
+        for (String part : value.split(VALUE_SEPARATOR)) {
+            recordUseIfPresent(values, part.trim());
+        }
+    }
+
+    private static void recordUseIfPresent(CompletionTrie trie, String word) {
+        // Unknown words, such as find keywords, would otherwise be remembered forever
+        if (trie.contains(word)) {
+            trie.recordUse(word);
+        }
+    }
+
+    /**
+     * Returns the possible completions of the last word of {@code commandText}, most used first.
+     * Each completion is the whole command text with the last word completed.
+     */
+    List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        int wordStart = commandText.lastIndexOf(' ') + 1;
+        if (wordStart == 0) {
+            return completeWith(commandWords, commandText, 0);
+        }
+        if (commandText.startsWith("-", wordStart)) {
+            return completeWith(flags, commandText, wordStart);
+        }
+
+        Matcher matcher = LAST_FLAG_FORMAT.matcher(commandText);
+        if (!matcher.matches()) {
+            return List.of();
+        }
+        CompletionTrie values = valuesByFlag.get(matcher.group("flag"));
+        if (values == null) {
+            return List.of();
+        }
+        // Tags and subjects are separated by commas, and a name is completed as a whole
+        int valueStart = Math.max(matcher.start("value"), commandText.lastIndexOf(VALUE_SEPARATOR) + 1);
+        while (valueStart < commandText.length() && commandText.charAt(valueStart) == ' ') {
+            valueStart++;
+        }
+        return completeWith(values, commandText, valueStart);
+    }
+
+    private static List<String> completeWith(CompletionTrie trie, String commandText, int wordStart) {
+        String typed = commandText.substring(0, wordStart);
+        List<String> words = trie.complete(commandText.substring(wordStart));
+        List<String> completions = new ArrayList<>(words.size());
+        for (String word : words) {
+            completions.add(typed + word + " ");
+        }
+        return completions;
+    }
+}
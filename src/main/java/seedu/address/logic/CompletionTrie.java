@@ -0,0 +1,196 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix trie of words ranked by how often they have been used.
+ * Every node caches the best ranked words below it, so that a completion only walks the prefix and
+ * takes time independent of the number of words. Words are matched case-insensitively.
+ * Not thread-safe.
+ */
+class CompletionTrie {
+
+    private static final Comparator<Node> RANKING = Comparator.<Node>comparingInt(node -> -node.frequency)
+            .thenComparing(node -> node.key);
+
+    private final int maxCompletions;
+    // Kept apart from the nodes so that usage survives the word being removed and added again
+    private final Map<String, Integer> frequencies = new HashMap<>();
+    private Node root = new Node(null, "");
+
+    /**
+     * Creates an empty trie that returns at most {@code maxCompletions} completions for a prefix.
+     */
+    CompletionTrie(int maxCompletions) {
+        assert maxCompletions > 0;
+        this.maxCompletions = maxCompletions;
+    }
+
+    /**
+     * Adds an occurrence of {@code word}. A word added several times is only removed once all its
+     * occurrences are removed.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (word.isEmpty()) {
+            return;
+        }
+        Node node = findOrCreate(toKey(word));
+        node.word = word;
+        node.count++;
+        if (node.count == 1) {
+            node.frequency = frequencies.getOrDefault(node.key, 0);
+            promote(node);
+        }
+    }
+
+    /**
+     * Removes an occurrence of {@code word}, if there is one.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        Node node = find(toKey(word));
+        if (node == null || node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count == 0) {
+            demote(node);
+        }
+    }
+
+    /**
+     * Records a use of {@code word}, ranking it above less used words. Uses of absent words are remembered
+     * until the word is added.
+     */
+    void recordUse(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        int frequency = frequencies.merge(key, 1, Integer::sum);
+        Node node = find(key);
+        if (node != null && node.count > 0) {
+            node.frequency = frequency;
+            promote(node);
+        }
+    }
+
+    /**
+     * Removes all words, keeping their recorded uses.
+     */
+    void clear() {
+        root = new Node(null, "");
+    }
+
+    boolean contains(String word) {
+        Node node = find(toKey(word));
+        return node != null && node.count > 0;
+    }
+
+    /**
+     * Returns the best ranked words starting with {@code prefix}, most used first.
+     */
+    List<String> complete(String prefix) {
+        requireNonNull(prefix);
+        Node node = find(toKey(prefix));
+        if (node == null) {
+            return List.of();
+        }
+        List<String> completions = new ArrayList<>(node.best.size());
+        for (Node match : node.best) {
+            completions.add(match.word);
+        }
+        return completions;
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase();
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private Node findOrCreate(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node parent = node;
+            String prefix = key.substring(0, i + 1);
+            node = parent.children.computeIfAbsent(key.charAt(i), c -> new Node(parent, prefix));
+        }
+        return node;
+    }
+
+    /**
+     * Updates the cached rankings of {@code word} and its prefixes after it was added or used more.
+     * Its rank can only have improved, so it can only push other words out.
+     */
+    private void promote(Node word) {
+        for (Node node = word; node != null; node = node.parent) {
+            List<Node> best = node.best;
+            best.remove(word);
+            int index = 0;
+            while (index < best.size() && RANKING.compare(best.get(index), word) < 0) {
+                index++;
+            }
+            if (index >= maxCompletions) {
+                // The prefixes rank at least as many words above it
+                return;
+            }
+            best.add(index, word);
+            if (best.size() > maxCompletions) {
+                best.remove(best.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Updates the cached rankings of {@code word} and its prefixes after its last occurrence was removed.
+     * The best words of a node are among its own word and the best words of its children, which are
+     * recomputed first.
+     */
+    private void demote(Node word) {
+        for (Node node = word; node != null; node = node.parent) {
+            if (!node.best.remove(word)) {
+                return;
+            }
+            List<Node> candidates = new ArrayList<>();
+            if (node.count > 0) {
+                candidates.add(node);
+            }
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.best);
+            }
+            candidates.sort(RANKING);
+            node.best.clear();
+            node.best.addAll(candidates.subList(0, Math.min(maxCompletions, candidates.size())));
+        }
+    }
+
+    /**
+     * A prefix in the trie, which is a word if it has been added more times than removed.
+     */
+    private static class Node {
+        private final Node parent;
+        private final String key;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Node> best = new ArrayList<>();
+        private String word;
+        private int count;
+        private int frequency;
+
+        Node(Node parent, String key) {
+            this.parent = parent;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchingObservableList;
+
+/**
+ * A copy of a source {@code ObservableList} that replays every change of the source through a dispatcher.
+ * This allows the model lists to be mutated on the command thread while the UI observes a list
+ * that is only ever modified on the UI thread.
+ * <p>
+ * The changes of the source made in a batch are replayed together, as one change of the mirror, so that the
+ * UI lays out the list once however many changes the batch made.
+ */
+class ListMirror<E> {
+
+    private final BatchingObservableList<E> mirror;
+    private final ObservableList<E> unmodifiableMirror;
+    private final Executor dispatcher;
+    // The edits held back in the batch in progress, or null if there is none. Only used on the thread that
+    // changes the source.
+    private List<Consumer<List<E>>> batchedEdits = null;
+
+    /**
+     * Creates a mirror of {@code source} whose changes are applied through {@code dispatcher}.
+     */
+    ListMirror(ObservableList<? extends E> source, Executor dispatcher) {
+        requireAllNonNull(source, dispatcher);
+        this.mirror = new BatchingObservableList<>(new ArrayList<>(source));
+        this.unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        this.dispatcher = dispatcher;
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns an unmodifiable view of the mirrored list.
+     */
+    ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Starts a batch, holding back the changes of the source until {@link #endBatch()}.
+     */
+    void beginBatch() {
+        checkArgument(batchedEdits == null, "A batch has already begun");
+        batchedEdits = new ArrayList<>();
+    }
+
+    /**
+     * Ends the batch, dispatching the changes of the source made in it to be applied on the mirror as one change.
+     */
+    void endBatch() {
+        checkArgument(batchedEdits != null, "No batch has begun");
+        List<Consumer<List<E>>> edits = batchedEdits;
+        batchedEdits = null;
+        dispatch(edits);
+    }
+
+    /**
+     * Captures the sub-changes of {@code change} while they are still valid, and dispatches them
+     * to be applied on the mirror in the same order.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Consumer<List<E>>> edits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                edits.add(target -> permute(from, permutation));
+            } else if (change.wasUpdated()) {
+                List<E> updated = new ArrayList<>(change.getList().subList(from, to));
+                edits.add(target -> replace(from, updated));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                edits.add(target -> splice(from, removedSize, added));
+            }
+        }
+        if (batchedEdits != null) {
+            batchedEdits.addAll(edits);
+        } else {
+            dispatch(edits);
+        }
+    }
+
+    private void dispatch(List<Consumer<List<E>>> edits) {
+        if (edits.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            mirror.beginBatch();
+            try {
+                edits.forEach(edit -> edit.accept(mirror));
+            } finally {
+                mirror.endBatch();
+            }
+        });
+    }
+
+    private void replace(int from, List<E> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            mirror.set(from + i, elements.get(i));
+        }
+    }
+
+    private void splice(int from, int removedSize, List<E> added) {
+        if (removedSize == added.size()) {
+            replace(from, added);
+            return;
+        }
+        if (removedSize > 0) {
+            mirror.remove(from, from + removedSize);
+        }
+        if (!added.isEmpty()) {
+            mirror.addAll(from, added);
+        }
+    }
+
+    private void permute(int from, int[] permutation) {
+        Map<E, Integer> newPositions = new IdentityHashMap<>();
+        for (int i = 0; i < mirror.size(); i++) {
+            boolean isPermuted = i >= from && i < from + permutation.length;
+            newPositions.put(mirror.get(i), isPermuted ? permutation[i - from] : i);
+        }
+        FXCollections.sort(mirror, (first, second) -> Integer.compare(newPositions.get(first),
+                newPositions.get(second)));
+    }
+}
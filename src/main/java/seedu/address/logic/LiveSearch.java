@@ -0,0 +1,110 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Evaluates the queries of a {@code find} command being typed, on a background executor.
+ * Each search supersedes the searches before it, which stop as soon as they notice. A query that only narrows
+ * the previous one is tested against the previous matches instead of every person.
+ */
+class LiveSearch {
+    // The number of persons tested between checks for a newer search
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+    private final Supplier<ModelSnapshot> snapshotSupplier;
+    private final Executor searchExecutor;
+    private final AtomicLong latestGeneration = new AtomicLong();
+
+    // Only accessed on the search executor, which runs one search at a time
+    private PersonQuery previousQuery;
+    private long previousVersion;
+    private List<Person> previousMatches;
+    private int lastTestedCount;
+
+    /**
+     * Creates a {@code LiveSearch} that searches the snapshots of {@code snapshotSupplier} on {@code searchExecutor}.
+     * The executor must run the searches one at a time, in submission order.
+     */
+    LiveSearch(Supplier<ModelSnapshot> snapshotSupplier, Executor searchExecutor) {
+        requireAllNonNull(snapshotSupplier, searchExecutor);
+        this.snapshotSupplier = snapshotSupplier;
+        this.searchExecutor = searchExecutor;
+    }
+
+    /**
+     * Starts finding the persons matching {@code query}, and returns the pending matches in address book order.
+     * The pending matches are cancelled if another search starts before they are found.
+     */
+    CompletableFuture<List<Person>> search(PersonQuery query) {
+        long generation = latestGeneration.incrementAndGet();
+        CompletableFuture<List<Person>> pendingMatches = new CompletableFuture<>();
+        searchExecutor.execute(() -> {
+            try {
+                pendingMatches.complete(findMatches(query, generation));
+            } catch (CancellationException e) {
+                pendingMatches.cancel(false);
+            } catch (RuntimeException e) {
+                pendingMatches.completeExceptionally(e);
+            }
+        });
+        return pendingMatches;
+    }
+
+    /**
+     * Cancels the search in progress, if any.
+     */
+    void cancel() {
+        latestGeneration.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of persons tested by the last completed search.
+     */
+    int getLastTestedCount() {
+        return lastTestedCount;
+    }
+
+    private List<Person> findMatches(PersonQuery query, long generation) {
+        checkCurrent(generation);
+        ModelSnapshot snapshot = snapshotSupplier.get();
+        boolean isNarrowing = previousQuery != null && previousVersion == snapshot.getVersion()
+                && query.isRefinementOf(previousQuery);
+        List<Person> candidates = isNarrowing ? previousMatches : snapshot.getPersons();
+
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0) {
+                checkCurrent(generation);
+            }
+            Person person = candidates.get(i);
+            if (query.test(person)) {
+                matches.add(person);
+            }
+        }
+
+        previousQuery = query;
+        previousVersion = snapshot.getVersion();
+        previousMatches = Collections.unmodifiableList(matches);
+        lastTestedCount = candidates.size();
+        return previousMatches;
+    }
+
+    private void checkCurrent(long generation) {
+        if (latestGeneration.get() != generation) {
+            throw new CancellationException("Superseded by a newer search");
+        }
+    }
+}
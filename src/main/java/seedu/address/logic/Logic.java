@@ -1,13 +1,20 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
-import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.person.Person;
@@ -25,6 +32,55 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command thread, after all previously submitted commands.
+     * The returned future completes with the result of the command, or exceptionally with the
+     * {@code CommandException} or {@code ParseException} thrown. Cancelling the future only
+     * succeeds if the command has not started executing.
+     * @param commandText The command as entered by the user.
+     * @return the pending result of the command execution.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Sets the executor used to publish changes to the lists returned by this {@code Logic},
+     * e.g. {@code Platform::runLater}. Changes are published on the command thread by default.
+     */
+    void setUiExecutor(Executor uiExecutor);
+
+    /**
+     * Returns an immutable snapshot of the current data. Can be called from any thread except the command thread;
+     * snapshots are reused until the data changes.
+     */
+    ModelSnapshot getModelSnapshot();
+
+    /**
+     * Registers a listener that is called on the command thread with the new model version
+     * after each command that changes the data.
+     */
+    void addModelVersionListener(LongConsumer listener);
+
+    /**
+     * Starts finding the persons matching the arguments of a {@code find} command that is still being typed,
+     * among the persons as of the last command, and returns the pending matches, without changing the displayed
+     * list or waiting for a running command.
+     * The pending matches fail with a {@code ParseException} if the arguments are invalid, and are cancelled
+     * if another preview starts before they are found.
+     */
+    CompletableFuture<List<Person>> previewFind(String arguments);
+
+    /**
+     * Cancels the preview of a {@code find} command in progress, if any.
+     */
+    void cancelPreviewFind();
+
+    /**
+     * Returns the possible completions of the last word of {@code commandText}, most used first.
+     * Each completion is the whole command text with the last word completed.
+     * Must be called on the UI thread.
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -59,8 +115,19 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
-    BooleanProperty getRefreshListUi();
+    /**
+     * Returns the attributes displayed on the lists in the gui, which only changes on the UI thread.
+     */
+    ReadOnlyObjectProperty<List<String>> displayedFieldsProperty();
 
-    void refreshListUi();
+    /**
+     * Returns a one line summary of the teaching statistics, which only changes on the UI thread.
+     */
+    ReadOnlyObjectProperty<String> statisticsSummaryProperty();
 
+    /**
+     * Registers {@code listener} to be told of each change to the persons or lessons of the model.
+     * The changes are delivered on the UI thread, after the lists returned by this class reflect them.
+     */
+    void addModelChangeListener(Consumer<ModelChange> listener);
 }
@@ -1,22 +1,40 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.billing.Rates;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -35,28 +53,182 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Executor commandExecutor;
+    private final ListMirror<Person> personListMirror;
+    private final ListMirror<Lesson> scheduleListMirror;
+    private final LiveSearch liveSearch;
+    // Only used on the UI thread, so that completions never wait for a command
+    private final CompletionRegistry completionRegistry;
+
+    // Changes meant for the UI are published through this executor, which is the UI thread once the UI starts
+    private volatile Executor uiExecutor = Runnable::run;
+
+    private volatile String[] displayedFieldsList = new String[0];
 
-    private String[] displayedFieldsList = new String[0];
+    private final List<LongConsumer> modelVersionListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<ModelChange>> modelChangeListeners = new CopyOnWriteArrayList<>();
+    // The model changes held back while a command runs, so that they reach the UI after the changes of the
+    // mirrored lists, or null if no command is running. Only used on the command thread.
+    private List<ModelChange> heldModelChanges = null;
+    private long publishedModelVersion;
+    private volatile ModelSnapshot latestSnapshot;
+    // Only used on the command thread
+    private Rates savedRates;
 
-    // Boolean property to track changes to ListUI to indicate a refresh
-    private BooleanProperty refreshListUi = new SimpleBooleanProperty(false);
+    // Only set on the UI thread, so that cells observing it are updated on the UI thread
+    private final ReadOnlyObjectWrapper<List<String>> displayedFields = new ReadOnlyObjectWrapper<>(List.of());
+    // Only set on the UI thread, from summaries made on the command thread
+    private final ReadOnlyObjectWrapper<String> statisticsSummary = new ReadOnlyObjectWrapper<>("");
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, newDaemonExecutor("command-executor"));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that runs commands submitted through {@link #executeAsync(String)}
+     * on {@code commandExecutor}. The executor must run the commands one at a time, in submission order.
+     */
+    LogicManager(Model model, Storage storage, Executor commandExecutor) {
         this.model = model;
         this.storage = storage;
+        this.commandExecutor = commandExecutor;
         addressBookParser = new AddressBookParser();
+        personListMirror = new ListMirror<>(model.getFilteredPersonList(), this::runOnUiThread);
+        scheduleListMirror = new ListMirror<>(model.getFilteredScheduleList(), this::runOnUiThread);
+        publishedModelVersion = model.getVersion();
+        savedRates = model.getRates();
+        latestSnapshot = ModelSnapshot.of(model);
+        // Searches the snapshot taken after the last command, so that a preview never waits for a running command
+        liveSearch = new LiveSearch(() -> latestSnapshot, newDaemonExecutor("live-search"));
+        completionRegistry = new CompletionRegistry(model.getAddressBook().getPersonList());
+        model.addModelChangeListener(this::updateCompletions);
+        statisticsSummary.set(summarizeStatistics());
+        model.addModelChangeListener(this::updateStatisticsSummary);
+        model.addModelChangeListener(this::publishModelChange);
+    }
+
+    private static Executor newDaemonExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult = executeAndSave(command, commandText);
+        recordUsage(commandText);
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        PendingCommand pendingCommand = new PendingCommand();
+        commandExecutor.execute(() -> {
+            try {
+                logger.info("----------------[USER COMMAND][" + commandText + "]");
+                Command command = addressBookParser.parseCommand(commandText);
+                if (!pendingCommand.start()) {
+                    logger.info("Command cancelled before it started: " + commandText);
+                    return;
+                }
+                pendingCommand.complete(executeAndSave(command, commandText));
+                recordUsage(commandText);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                pendingCommand.completeExceptionally(e);
+            }
+        });
+        return pendingCommand;
+    }
+
+    @Override
+    public CompletableFuture<List<Person>> previewFind(String arguments) {
+        FindCommand findCommand;
+        try {
+            findCommand = new FindCommandParser().parse(arguments);
+        } catch (ParseException e) {
+            liveSearch.cancel();
+            return CompletableFuture.failedFuture(e);
+        }
+        return liveSearch.search(findCommand.getQuery());
+    }
+
+    @Override
+    public void cancelPreviewFind() {
+        liveSearch.cancel();
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        return completionRegistry.complete(commandText);
+    }
+
+    private void recordUsage(String commandText) {
+        runOnUiThread(() -> completionRegistry.recordUsage(commandText));
+    }
+
+    /**
+     * Updates the completions after {@code change}. Called on the command thread, so the persons
+     * of a reset are copied here rather than read later on the UI thread.
+     */
+    private void updateCompletions(ModelChange change) {
+        if (change.getKind() == ModelChange.Kind.PERSONS_RESET) {
+            List<Person> persons = List.copyOf(model.getAddressBook().getPersonList());
+            runOnUiThread(() -> completionRegistry.resetPersons(persons));
+        } else {
+            runOnUiThread(() -> completionRegistry.update(change));
+        }
+    }
+
+    /**
+     * Updates the statistics summary after {@code change}. Called on the command thread, which the statistics
+     * are kept up to date on.
+     */
+    private void updateStatisticsSummary(ModelChange change) {
+        boolean isLessonChange = change.getLesson() != null || change.getPreviousLesson() != null
+                || change.getKind() == ModelChange.Kind.LESSONS_RESET;
+        if (!isLessonChange) {
+            return;
+        }
+        String summary = summarizeStatistics();
+        runOnUiThread(() -> statisticsSummary.set(summary));
+    }
+
+    private String summarizeStatistics() {
+        return StatsCommand.summarize(model.getTeachingStatistics(), LocalDate.now());
+    }
+
+    /**
+     * Executes the parsed {@code command}, entered as {@code commandText}, and saves the data.
+     * The command is run in a transaction, so that however many persons or lessons it changes, the UI is
+     * notified of one change to each list and the data is saved once. What the command changed is committed as
+     * one step that can be undone. If the command fails, the changes it made before failing are rolled back.
+     */
+    private CommandResult executeAndSave(Command command, String commandText) throws CommandException {
+        CommandResult commandResult;
+        beginUiBatch();
+        model.beginTransaction();
+        try {
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.rollbackTransaction();
+                throw e;
+            }
+            // Committed outside of the rollback path, as the transaction has ended even if a listener throws
+            model.commitTransaction();
+        } finally {
+            model.commitChanges(commandText.trim());
+            endUiBatch();
+        }
 
         // Set displayFieldsList if there is a list of params specified
         String[] displayParams = commandResult.getDisplayParams(); // array of strings eg. ["phone", "subjects"]
@@ -71,15 +243,50 @@ public class LogicManager implements Logic {
         try {
             storage.saveAddressBook(model.getAddressBook());
             storage.saveScheduleList(model.getScheduleList());
+            // Rates are kept in the user prefs, which are otherwise only saved on exit
+            if (!model.getRates().equals(savedRates)) {
+                storage.saveUserPrefs(model.getUserPrefs());
+                savedRates = model.getRates();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        } finally {
+            publishModelVersion();
         }
 
         return commandResult;
     }
 
+    /**
+     * Holds back the changes meant for the UI until {@link #endUiBatch()}.
+     */
+    private void beginUiBatch() {
+        personListMirror.beginBatch();
+        scheduleListMirror.beginBatch();
+        heldModelChanges = new ArrayList<>();
+    }
+
+    /**
+     * Sends the changes held back since {@link #beginUiBatch()} to the UI, those of the mirrored lists first.
+     */
+    private void endUiBatch() {
+        personListMirror.endBatch();
+        scheduleListMirror.endBatch();
+        List<ModelChange> changes = heldModelChanges;
+        heldModelChanges = null;
+        changes.forEach(this::publishModelChange);
+    }
+
+    private void publishModelChange(ModelChange change) {
+        if (heldModelChanges != null) {
+            heldModelChanges.add(change);
+            return;
+        }
+        runOnUiThread(() -> modelChangeListeners.forEach(listener -> listener.accept(change)));
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -87,12 +294,57 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return personListMirror.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Lesson> getFilteredScheduleList() {
-        return model.getFilteredScheduleList();
+        return scheduleListMirror.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public void setUiExecutor(Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+    }
+
+    private void runOnUiThread(Runnable runnable) {
+        uiExecutor.execute(runnable);
+    }
+
+    @Override
+    public ModelSnapshot getModelSnapshot() {
+        ModelSnapshot snapshot = latestSnapshot;
+        if (snapshot != null && snapshot.getVersion() == model.getVersion()) {
+            return snapshot;
+        }
+        // The snapshot is taken on the command thread so that it never sees a half-executed command
+        return CompletableFuture.supplyAsync(this::takeSnapshot, commandExecutor).join();
+    }
+
+    private ModelSnapshot takeSnapshot() {
+        ModelSnapshot snapshot = latestSnapshot;
+        if (snapshot == null || snapshot.getVersion() != model.getVersion()) {
+            snapshot = ModelSnapshot.of(model);
+            latestSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void addModelVersionListener(LongConsumer listener) {
+        requireNonNull(listener);
+        modelVersionListeners.add(listener);
+    }
+
+    private void publishModelVersion() {
+        long version = model.getVersion();
+        if (version == publishedModelVersion) {
+            return;
+        }
+        publishedModelVersion = version;
+        takeSnapshot();
+        modelVersionListeners.forEach(listener -> listener.accept(version));
     }
     @Override
     public Path getAddressBookFilePath() {
@@ -115,15 +367,53 @@ public class LogicManager implements Logic {
     }
     // list command should validate the fields, make sure they are valid
     public void setDisplayedFieldsList(String[] displayedFieldsList) {
+        if (Arrays.equals(this.displayedFieldsList, displayedFieldsList)) {
+            return;
+        }
         this.displayedFieldsList = displayedFieldsList;
-        refreshListUi();
+        List<String> fields = List.of(displayedFieldsList);
+        runOnUiThread(() -> displayedFields.set(fields));
     }
 
-    public BooleanProperty getRefreshListUi() {
-        return refreshListUi;
+    @Override
+    public ReadOnlyObjectProperty<List<String>> displayedFieldsProperty() {
+        return displayedFields.getReadOnlyProperty();
     }
 
-    public void refreshListUi() {
-        refreshListUi.setValue(!refreshListUi.getValue());
+    @Override
+    public ReadOnlyObjectProperty<String> statisticsSummaryProperty() {
+        return statisticsSummary.getReadOnlyProperty();
+    }
+
+    @Override
+    public void addModelChangeListener(Consumer<ModelChange> listener) {
+        requireNonNull(listener);
+        // Changes are published after the list changes, so the mirrors are updated before the listener is called
+        modelChangeListeners.add(listener);
+    }
+
+    /**
+     * A command waiting for, or undergoing, execution on the command executor.
+     * It can only be cancelled before it starts executing, so that a cancelled command never leaves
+     * the model changed but unsaved.
+     */
+    private static class PendingCommand extends CompletableFuture<CommandResult> {
+        private boolean isStarted = false;
+
+        /**
+         * Marks the command as started. Returns false if the command has been cancelled instead.
+         */
+        synchronized boolean start() {
+            if (isCancelled()) {
+                return false;
+            }
+            isStarted = true;
+            return true;
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            return !isStarted && super.cancel(mayInterruptIfRunning);
+        }
     }
 }
@@ -52,6 +52,10 @@ public class Messages {
         person.getTags().forEach(builder::append);
         builder.append("; Remark: ")
                 .append(person.getRemark());
+        if (!person.getAvailability().isEmpty()) {
+            builder.append("; Available: ")
+                    .append(person.getAvailability());
+        }
         return builder.toString();
     }
 
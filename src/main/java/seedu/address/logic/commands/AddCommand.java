@@ -73,6 +73,9 @@ public class AddCommand extends Command {
         if (lesson != null) {
             // ugly; copy and paste from the body of AddLessonCommand, refactor later when I have time by making command
             // could execute without model by making model singleton
+            if (model.hasLesson(lesson)) {
+                throw new CommandException(AddLessonCommand.MESSAGE_DUPLICATE_LESSON);
+            }
             if (model.hasLessonClashWith(lesson)) {
                 Lesson clashingLesson = model.getLessonClashWith(lesson);
                 throw new CommandException("Lesson already exists in the specified time slot: "
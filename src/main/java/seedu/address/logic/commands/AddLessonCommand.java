@@ -2,35 +2,176 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
 
 /**
  * Adds a lesson to the schedule.
+ * Each student name is resolved to the student with the closest name, so that typos do not create lessons
+ * for students who do not exist. A repeating lesson is added as a {@link LessonSeries}.
  */
 public class AddLessonCommand extends Command {
     public static final String COMMAND_WORD = "addLesson";
+
+    public static final String MESSAGE_DUPLICATE_LESSON = "This lesson already exists in the schedule";
+    public static final String MESSAGE_SERIES_SUCCESS = "New lesson series added: %1$d lessons until %2$s, "
+            + "starting with %3$s";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "There is no student named %1$s";
+    public static final String MESSAGE_AMBIGUOUS_STUDENT = "There is no student named %1$s. Did you mean %2$s?";
+    public static final String MESSAGE_NAME_CORRECTED = "\nNo student is named %1$s, so the lesson is for %2$s";
+    public static final String MESSAGE_OTHER_SIMILAR_NAMES = " (also similar: %1$s)";
+
+    // The largest number of similar names suggested for a misspelt name
+    private static final int MAX_SUGGESTIONS = 3;
+
     private Lesson lesson;
+    // 0 if the lesson does not repeat
+    private final int intervalInWeeks;
+    private final LocalDate lastDay;
+
     /**
      * Creates an AddLessonCommand to add the specified {@code Lesson}
      */
     public AddLessonCommand(Lesson lesson) {
         requireNonNull(lesson);
         this.lesson = lesson;
+        this.intervalInWeeks = 0;
+        this.lastDay = null;
+    }
+
+    /**
+     * Creates an AddLessonCommand to add {@code lesson} every {@code intervalInWeeks} weeks until {@code lastDay}.
+     */
+    public AddLessonCommand(Lesson lesson, int intervalInWeeks, LocalDate lastDay) {
+        requireNonNull(lesson);
+        requireNonNull(lastDay);
+        this.lesson = lesson;
+        this.intervalInWeeks = intervalInWeeks;
+        this.lastDay = lastDay;
     }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasLessonClashWith(lesson)) {
-            Lesson clashingLesson = model.getLessonClashWith(lesson);
+        StringBuilder corrections = new StringBuilder();
+        ArrayList<Name> students = new ArrayList<>();
+        for (Name name : lesson.getStudents()) {
+            students.add(resolveStudent(model, name, corrections));
+        }
+        Lesson resolvedLesson = students.equals(lesson.getStudents()) ? lesson : lesson.withStudents(students);
+        if (intervalInWeeks > 0) {
+            return addSeries(model, new LessonSeries(resolvedLesson, intervalInWeeks, lastDay, Set.of()),
+                    corrections);
+        }
+
+        if (model.hasLesson(resolvedLesson)) {
+            throw new CommandException(MESSAGE_DUPLICATE_LESSON);
+        }
+        if (model.hasLessonClashWith(resolvedLesson)) {
+            Lesson clashingLesson = model.getLessonClashWith(resolvedLesson);
             throw new CommandException("Lesson already exists in the specified time slot: "
                     + clashingLesson.toString());
         }
 
-        model.addLesson(lesson);
-        return new CommandResult(String.format("New lesson added: " + lesson.toString()));
+        model.addLesson(resolvedLesson);
+        return new CommandResult(String.format("New lesson added: " + resolvedLesson.toString()) + corrections);
+    }
+
+    /**
+     * Adds {@code series} to the schedule, unless one of its lessons is already in the schedule or clashes with it.
+     */
+    private static CommandResult addSeries(Model model, LessonSeries series, StringBuilder corrections)
+            throws CommandException {
+        if (model.hasAnyLessonOf(series)) {
+            throw new CommandException(MESSAGE_DUPLICATE_LESSON);
+        }
+        Lesson clashingLesson = model.getLessonClashWithSeries(series);
+        if (clashingLesson != null) {
+            throw new CommandException("Lesson already exists in the specified time slot: "
+                    + clashingLesson.toString());
+        }
+
+        model.addLessonSeries(series);
+        return new CommandResult(String.format(MESSAGE_SERIES_SUCCESS, series.getHeldCount(), series.getLastDay(),
+                series.getFirst()) + corrections);
+    }
+
+    /**
+     * Returns the name of the student whose name is closest to {@code name}, noting in {@code corrections}
+     * if it is not the same name.
+     *
+     * @throws CommandException if no student has a similar name, or several are equally similar.
+     */
+    private static Name resolveStudent(Model model, Name name, StringBuilder corrections) throws CommandException {
+        List<NameIndex.Match> matches = model.findPersonsNamedLike(name.fullName);
+        if (matches.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_STUDENT, name));
+        }
+        NameIndex.Match closest = matches.get(0);
+        if (closest.isExact()) {
+            // The student's own spelling is used, whatever the case of the given name
+            return closest.getPerson().getName();
+        }
+
+        List<NameIndex.Match> others = matches.subList(1, Math.min(matches.size(), MAX_SUGGESTIONS + 1));
+        if (!others.isEmpty() && others.get(0).getDistance() == closest.getDistance()) {
+            List<NameIndex.Match> tied = matches.stream()
+                    .filter(match -> match.getDistance() == closest.getDistance())
+                    .limit(MAX_SUGGESTIONS)
+                    .collect(Collectors.toList());
+            throw new CommandException(String.format(MESSAGE_AMBIGUOUS_STUDENT, name, joinNames(tied, " or ")));
+        }
+
+        corrections.append(String.format(MESSAGE_NAME_CORRECTED, name, closest.getPerson().getName()));
+        if (!others.isEmpty()) {
+            corrections.append(String.format(MESSAGE_OTHER_SIMILAR_NAMES, joinNames(others, ", ")));
+        }
+        return closest.getPerson().getName();
+    }
+
+    private static String joinNames(List<NameIndex.Match> matches, String delimiter) {
+        return matches.stream()
+                .map(match -> match.getPerson().getName().fullName)
+                .collect(Collectors.joining(delimiter));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddLessonCommand)) {
+            return false;
+        }
+
+        AddLessonCommand otherAddLessonCommand = (AddLessonCommand) other;
+        return lesson.equals(otherAddLessonCommand.lesson)
+                && intervalInWeeks == otherAddLessonCommand.intervalInWeeks
+                && Objects.equals(lastDay, otherAddLessonCommand.lastDay);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lesson", lesson)
+                .add("intervalInWeeks", intervalInWeeks)
+                .add("lastDay", lastDay)
+                .toString();
     }
 
 }
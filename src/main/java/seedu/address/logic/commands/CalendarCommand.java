@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_LESSONS;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.state.CalendarView;
+import seedu.address.model.state.State;
+
+/**
+ * Shows the lessons of a week or month of the schedule on a calendar.
+ */
+public class CalendarCommand extends Command {
+
+    public static final String COMMAND_WORD = "calendar";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the lessons of a week or month on a calendar. "
+            + "Scroll on the calendar to move to the next or previous week or month.\n"
+            + "Parameters: [week|month] [-date DATE]\n"
+            + "Example: " + COMMAND_WORD + " month -date 2023/10/01";
+
+    public static final String MESSAGE_SUCCESS = "Showing %1$d lessons on the calendar for the %2$s";
+
+    private final CalendarView calendarView;
+
+    /**
+     * Creates a CalendarCommand to show the days of {@code calendarView}.
+     */
+    public CalendarCommand(CalendarView calendarView) {
+        requireNonNull(calendarView);
+        this.calendarView = calendarView;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // The calendar moves across the whole schedule, so none of the lessons are left out
+        model.setLessonRange(LessonRange.all());
+        model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_LESSONS);
+        model.setState(State.CALENDAR);
+        long lessonCount = model.getFilteredScheduleList().stream()
+                .filter(lesson -> calendarView.contains(lesson.getStart().toLocalDate()))
+                .count();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lessonCount, calendarView), calendarView);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CalendarCommand)) {
+            return false;
+        }
+
+        CalendarCommand otherCalendarCommand = (CalendarCommand) other;
+        return calendarView.equals(otherCalendarCommand.calendarView);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("calendarView", calendarView)
+                .toString();
+    }
+}
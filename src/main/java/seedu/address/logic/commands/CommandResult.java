@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.state.CalendarView;
 import seedu.address.model.state.State;
 
 /**
@@ -26,15 +27,24 @@ public class CommandResult {
     /** The parameters on what to display for student details **/
     private final String[] displayParams;
 
+    /** The days to show on the calendar, if the calendar is to be shown **/
+    private final CalendarView calendarView;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, State state, String[] displayParams) {
+        this(feedbackToUser, showHelp, exit, state, displayParams, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, State state,
+            String[] displayParams, CalendarView calendarView) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.state = state;
         this.displayParams = displayParams;
+        this.calendarView = calendarView;
     }
 
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
@@ -61,6 +71,13 @@ public class CommandResult {
         this(feedbackToUser, false, false, state, displayParams);
     }
 
+    /**
+     * Constructs a {@code CommandResult} that shows the calendar on the days of {@code calendarView}.
+     */
+    public CommandResult(String feedbackToUser, CalendarView calendarView) {
+        this(feedbackToUser, false, false, State.CALENDAR, new String[0], requireNonNull(calendarView));
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -81,6 +98,13 @@ public class CommandResult {
         return displayParams;
     }
 
+    /**
+     * Returns the days to show on the calendar, or null if the calendar is not to be shown.
+     */
+    public CalendarView getCalendarView() {
+        return calendarView;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
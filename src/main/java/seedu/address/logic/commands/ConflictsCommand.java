@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.Schedule;
+import seedu.address.model.lessons.ScheduleConflicts;
+import seedu.address.model.state.State;
+
+/**
+ * Lists the lessons of the whole schedule that overlap, such as those in data files edited by hand.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_NO_CONFLICTS = "No lessons overlap";
+    public static final String MESSAGE_SUCCESS = "Found %1$d groups of overlapping lessons";
+    public static final String MESSAGE_GROUP = "\nLessons %1$s overlap";
+    public static final String MESSAGE_DOUBLE_BOOKING = "\n%1$s is booked for both lessons %2$d and %3$d";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // The occurrences of series are made as the sweep reaches them, and only those that conflict are kept
+        ReadOnlySchedule schedule = model.getScheduleList();
+        ScheduleConflicts conflicts = ScheduleConflicts.of(
+                Schedule.inStartOrder(schedule.getLessonList().iterator(), schedule.getSeriesList(), null));
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        // The view makes occurrences of its own, which are equal to those of the sweep. A lesson entered twice is
+        // also equal to its copy, but then the copy overlaps it and is shown as well.
+        Set<Lesson> conflicting = new HashSet<>();
+        conflicts.getOverlappingGroups().forEach(conflicting::addAll);
+        List<List<Lesson>> groups = conflicts.getOverlappingGroups();
+        List<Lesson> lastGroup = groups.get(groups.size() - 1);
+        model.setLessonRange(LessonRange.onDays(groups.get(0).get(0).getStart().toLocalDate(),
+                lastGroup.get(lastGroup.size() - 1).getStart().toLocalDate()));
+        model.updateFilteredScheduleList(conflicting::contains);
+
+        ShownIndexes shownIndexes = new ShownIndexes(model.getFilteredScheduleList());
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, groups.size()));
+        for (List<Lesson> group : groups) {
+            String indexes = group.stream()
+                    .map(lesson -> String.valueOf(shownIndexes.of(lesson)))
+                    .collect(Collectors.joining(", "));
+            message.append(String.format(MESSAGE_GROUP, indexes));
+        }
+        for (ScheduleConflicts.DoubleBooking booking : conflicts.getDoubleBookings()) {
+            message.append(String.format(MESSAGE_DOUBLE_BOOKING, booking.getStudent(),
+                    shownIndexes.of(booking.getFirst()), shownIndexes.of(booking.getSecond())));
+        }
+
+        if (model.sameState(State.SCHEDULE)) {
+            return new CommandResult(message.toString());
+        }
+        model.setState(State.SCHEDULE);
+        return new CommandResult(message.toString(), State.SCHEDULE);
+    }
+
+    /**
+     * The displayed indexes of the lessons shown, looked up by identity so that a lesson entered twice is told
+     * apart from its copy, or else by value for the occurrences of series, which the view makes anew.
+     */
+    private static class ShownIndexes {
+        private final Map<Lesson, Integer> byIdentity = new IdentityHashMap<>();
+        private final Map<Lesson, Integer> byValue = new HashMap<>();
+
+        ShownIndexes(List<Lesson> shownLessons) {
+            for (int i = 0; i < shownLessons.size(); i++) {
+                byIdentity.put(shownLessons.get(i), i + 1);
+                byValue.putIfAbsent(shownLessons.get(i), i + 1);
+            }
+        }
+
+        int of(Lesson lesson) {
+            Integer index = byIdentity.get(lesson);
+            if (index == null) {
+                index = byValue.get(lesson);
+            }
+            return index == null ? -1 : index;
+        }
+    }
+}
@@ -19,9 +19,14 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
+            + ": Deletes the person identified by the index number used in the displayed person list, "
+            + "or all the persons or lessons matching a filter. With -dry, only counts what would be deleted.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "or: -where [-not] -name|-subject|-tag|-phone|-email VALUE... [-dry]\n"
+            + "or: -lessons -where [-from DATE] [-to DATE] [-name NAME] [-subject SUBJECT] [-dry]\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " -where -tag alumni -dry\n"
+            + "Example: " + COMMAND_WORD + " -lessons -where -to 2023/12/31";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
 
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * Deletes all the lessons in the schedule matching a filter, including occurrences of series, or only counts them
+ * if it is a dry run.
+ */
+public class DeleteLessonsCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d lessons";
+    public static final String MESSAGE_DRY_RUN = "%1$d lessons would be deleted";
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Name student;
+    private final Subject subject;
+    private final boolean isDryRun;
+
+    /**
+     * Creates a DeleteLessonsCommand to delete the lessons starting on any day from {@code from} to {@code to},
+     * inclusive, that are attended by {@code student} and are of {@code subject}, or to count them if
+     * {@code isDryRun}. A filter that is null matches every lesson.
+     */
+    public DeleteLessonsCommand(LocalDate from, LocalDate to, Name student, Subject subject, boolean isDryRun) {
+        this.from = from;
+        this.to = to;
+        this.student = student;
+        this.subject = subject;
+        this.isDryRun = isDryRun;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Only the lessons in the date range are looked at, as they are found through the start time index
+        List<Lesson> targets = new ArrayList<>();
+        for (Lesson lesson : model.getLessonsIn(LessonRange.onDays(from, to))) {
+            if ((student == null || lesson.hasStudent(student))
+                    && (subject == null || subject.equals(lesson.getSubject()))) {
+                targets.add(lesson);
+            }
+        }
+        if (isDryRun) {
+            return new CommandResult(String.format(MESSAGE_DRY_RUN, targets.size()));
+        }
+        model.deleteLessons(targets);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targets.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteLessonsCommand)) {
+            return false;
+        }
+
+        DeleteLessonsCommand otherCommand = (DeleteLessonsCommand) other;
+        return Objects.equals(from, otherCommand.from)
+                && Objects.equals(to, otherCommand.to)
+                && Objects.equals(student, otherCommand.student)
+                && Objects.equals(subject, otherCommand.subject)
+                && isDryRun == otherCommand.isDryRun;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("student", student)
+                .add("subject", subject)
+                .add("isDryRun", isDryRun)
+                .toString();
+    }
+}
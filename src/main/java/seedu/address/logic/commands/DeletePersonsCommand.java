@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Deletes all the persons in the address book matching a query, or only counts them if it is a dry run.
+ */
+public class DeletePersonsCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d persons matching %2$s";
+    public static final String MESSAGE_DRY_RUN = "%1$d persons matching %2$s would be deleted";
+
+    private final PersonQuery query;
+    private final boolean isDryRun;
+
+    /**
+     * Creates a DeletePersonsCommand to delete the persons matching {@code query}, or to count them if
+     * {@code isDryRun}.
+     */
+    public DeletePersonsCommand(PersonQuery query, boolean isDryRun) {
+        requireNonNull(query);
+        this.query = query;
+        this.isDryRun = isDryRun;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Found through the indexes of the query planner, and deleted as one change to the address book
+        List<Person> targets = model.queryPersons(query).getMatches();
+        if (isDryRun) {
+            return new CommandResult(String.format(MESSAGE_DRY_RUN, targets.size(), query));
+        }
+        model.deletePersons(targets);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targets.size(), query));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeletePersonsCommand)) {
+            return false;
+        }
+
+        DeletePersonsCommand otherCommand = (DeletePersonsCommand) other;
+        return query.equals(otherCommand.query)
+                && isDryRun == otherCommand.isDryRun;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isDryRun", isDryRun)
+                .toString();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.DuplicateDetector;
+import seedu.address.model.person.Person;
+import seedu.address.model.state.State;
+
+/**
+ * Lists the students that are likely to have been entered more than once, so that they can be merged.
+ */
+public class DuplicatesCommand extends Command {
+
+    public static final String COMMAND_WORD = "duplicates";
+
+    public static final String MESSAGE_NO_DUPLICATES = "No possible duplicates found";
+    public static final String MESSAGE_SUCCESS = "Found %1$d groups of possible duplicates. "
+            + "Merge a group into its first student with " + MergeCommand.COMMAND_WORD + " INDEX INDEX...";
+    public static final String MESSAGE_GROUP = "\n%1$s: %2$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<DuplicateDetector.Group> groups = DuplicateDetector.findDuplicates(model.getAddressBook().getPersonList());
+        if (groups.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        // Persons are compared by identity, as duplicates may well be equal
+        Set<Person> duplicates = Collections.newSetFromMap(new IdentityHashMap<>());
+        groups.forEach(group -> duplicates.addAll(group.getPersons()));
+        model.updateFilteredPersonList(duplicates::contains);
+
+        List<Person> shownPersons = model.getFilteredPersonList();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, groups.size()));
+        for (DuplicateDetector.Group group : groups) {
+            String indexes = group.getPersons().stream()
+                    .map(person -> String.valueOf(indexOf(shownPersons, person) + 1))
+                    .collect(Collectors.joining(" "));
+            String reasons = group.getReasons().stream().map(Object::toString).collect(Collectors.joining(", "));
+            message.append(String.format(MESSAGE_GROUP, indexes, reasons));
+        }
+
+        if (model.sameState(State.STUDENT)) {
+            return new CommandResult(message.toString());
+        }
+        model.setState(State.STUDENT);
+        return new CommandResult(message.toString(), State.STUDENT);
+    }
+
+    private static int indexOf(List<Person> persons, Person person) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -16,6 +16,7 @@ import java.util.Set;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.lessons.Week;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -44,36 +45,29 @@ public class EditCommand extends Command {
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "[" + PREFIX_SUBJECT + "SUBJECT]...\n"
             + "[" + PREFIX_REMARK + "REMARK] \n"
+            + "[-available DAY START END, ...]\n"
+            + "or: -where FILTER -set [FIELD VALUE]... [-addtag TAG, ...] [-removetag TAG, ...] [-dry], "
+            + "to edit all the persons matching a filter as used by find, apart from their names\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
-            + PREFIX_EMAIL + "johndoe@example.com";
+            + PREFIX_EMAIL + "johndoe@example.com\n"
+            + "Example: " + COMMAND_WORD + " -where -tag sec4 -set -addtag alumni";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
 
     private final int index;
-    private final Name name;
-    private final Phone phone;
-    private final Email email;
-    private final Address address;
-    private final Set<Subject> subjects;
-    private final Set<Tag> tags;
-    private final Remark remark;
+    private final EditPersonDescriptor descriptor;
 
     /**
      * still some redundancy, but significant improvement over the original
      */
     public EditCommand(int index, Name name, Phone phone, Email email, Address address, Set<Subject> subjects,
-                       Set<Tag> tags, Remark remark) {
+                       Set<Tag> tags, Remark remark, Week availability) {
         this.index = index;
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.subjects = subjects;
-        this.tags = tags;
-        this.remark = remark;
+        this.descriptor = new EditPersonDescriptor(name, phone, email, address, subjects, tags, remark,
+                availability);
     }
 
     @Override
@@ -84,14 +78,8 @@ public class EditCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
         Person original = lastShownList.get(index - 1);
-        Person edited = original.clone();
-        edited.setNameIfNotNull(name);
-        edited.setPhoneIfNotNull(phone);
-        edited.setEmailIfNotNull(email);
-        edited.setAddressIfNotNull(address);
-        edited.setSubjectsIfNotNull(subjects);
-        edited.setTagsIfNotNull(tags);
-        edited.setRemarkIfNotNull(remark);
+        // The fields that are not edited are shared with the original person
+        Person edited = descriptor.applyTo(original.toBuilder()).build();
         if (edited.equals(original)) {
             throw new CommandException("No change detected.");
         }
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lessons.Week;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores the details to set on a person. Any detail that is null is not set, so that optional details parsed
+ * from a command can be given as they are.
+ */
+public class EditPersonDescriptor {
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Set<Subject> subjects;
+    private final Set<Tag> tags;
+    private final Remark remark;
+    private final Week availability;
+
+    /**
+     * Creates a descriptor setting the given details, any of which may be null.
+     */
+    public EditPersonDescriptor(Name name, Phone phone, Email email, Address address, Set<Subject> subjects,
+                                Set<Tag> tags, Remark remark, Week availability) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.subjects = subjects;
+        this.tags = tags;
+        this.remark = remark;
+        this.availability = availability;
+    }
+
+    /**
+     * Sets the details of this descriptor that are not null on {@code builder}, and returns it.
+     */
+    public Person.Builder applyTo(Person.Builder builder) {
+        requireNonNull(builder);
+        if (name != null) {
+            builder.withName(name);
+        }
+        if (phone != null) {
+            builder.withPhone(phone);
+        }
+        if (email != null) {
+            builder.withEmail(email);
+        }
+        if (address != null) {
+            builder.withAddress(address);
+        }
+        if (subjects != null) {
+            builder.withSubjects(subjects);
+        }
+        if (tags != null) {
+            builder.withTags(tags);
+        }
+        if (remark != null) {
+            builder.withRemark(remark);
+        }
+        if (availability != null) {
+            builder.withAvailability(availability);
+        }
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditPersonDescriptor)) {
+            return false;
+        }
+
+        EditPersonDescriptor otherDescriptor = (EditPersonDescriptor) other;
+        return Objects.equals(name, otherDescriptor.name)
+                && Objects.equals(phone, otherDescriptor.phone)
+                && Objects.equals(email, otherDescriptor.email)
+                && Objects.equals(address, otherDescriptor.address)
+                && Objects.equals(subjects, otherDescriptor.subjects)
+                && Objects.equals(tags, otherDescriptor.tags)
+                && Objects.equals(remark, otherDescriptor.remark)
+                && Objects.equals(availability, otherDescriptor.availability);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, address, subjects, tags, remark, availability);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .add("subjects", subjects)
+                .add("tags", tags)
+                .add("remark", remark)
+                .add("availability", availability)
+                .toString();
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.Week;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Subject;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Edits the details of all the persons in the address book matching a query, or only counts the persons that
+ * would be changed if it is a dry run. Names are not edited, as no two persons may have the same name.
+ */
+public class EditPersonsCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d of the %2$d persons matching %3$s";
+    public static final String MESSAGE_DRY_RUN = "%1$d of the %2$d persons matching %3$s would be edited";
+
+    private final PersonQuery query;
+    private final EditPersonDescriptor descriptor;
+    private final Set<Tag> tags;
+    private final Set<Tag> tagsToAdd;
+    private final Set<Tag> tagsToRemove;
+    private final boolean isDryRun;
+
+    /**
+     * Creates an EditPersonsCommand to edit the persons matching {@code query}, or to count those that would be
+     * changed if {@code isDryRun}. Fields that are null are left as they are. {@code tags} replaces the tags of
+     * each person, after which {@code tagsToAdd} are added and {@code tagsToRemove} are removed.
+     */
+    public EditPersonsCommand(PersonQuery query, Phone phone, Email email, Address address, Set<Subject> subjects,
+                              Set<Tag> tags, Set<Tag> tagsToAdd, Set<Tag> tagsToRemove, Remark remark,
+                              Week availability, boolean isDryRun) {
+        requireNonNull(query);
+        this.query = query;
+        // The tags are edited from the tags of each person
+        this.descriptor = new EditPersonDescriptor(null, phone, email, address, subjects, null, remark,
+                availability);
+        this.tags = tags;
+        this.tagsToAdd = tagsToAdd;
+        this.tagsToRemove = tagsToRemove;
+        this.isDryRun = isDryRun;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Found through the indexes of the query planner, and replaced as one change to the address book
+        List<Person> matches = model.queryPersons(query).getMatches();
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person original : matches) {
+            // The fields that are not edited are shared with the original person
+            Person.Builder builder = descriptor.applyTo(original.toBuilder());
+            Set<Tag> editedTags = editTags(original.getTags());
+            if (editedTags != null) {
+                builder.withTags(editedTags);
+            }
+            Person edited = builder.build();
+            if (!edited.equals(original)) {
+                targets.add(original);
+                editedPersons.add(edited);
+            }
+        }
+        if (isDryRun) {
+            return new CommandResult(String.format(MESSAGE_DRY_RUN, targets.size(), matches.size(), query));
+        }
+        model.setPersons(targets, editedPersons);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targets.size(), matches.size(), query));
+    }
+
+    /**
+     * Returns {@code originalTags} as edited by this command, or null if the tags are not edited.
+     */
+    private Set<Tag> editTags(Set<Tag> originalTags) {
+        if (tags == null && tagsToAdd == null && tagsToRemove == null) {
+            return null;
+        }
+        Set<Tag> editedTags = new HashSet<>(tags == null ? originalTags : tags);
+        if (tagsToAdd != null) {
+            editedTags.addAll(tagsToAdd);
+        }
+        if (tagsToRemove != null) {
+            editedTags.removeAll(tagsToRemove);
+        }
+        return editedTags;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditPersonsCommand)) {
+            return false;
+        }
+
+        EditPersonsCommand otherCommand = (EditPersonsCommand) other;
+        return query.equals(otherCommand.query)
+                && descriptor.equals(otherCommand.descriptor)
+                && Objects.equals(tags, otherCommand.tags)
+                && Objects.equals(tagsToAdd, otherCommand.tagsToAdd)
+                && Objects.equals(tagsToRemove, otherCommand.tagsToRemove)
+                && isDryRun == otherCommand.isDryRun;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("descriptor", descriptor)
+                .add("tags", tags)
+                .add("tagsToAdd", tagsToAdd)
+                .add("tagsToRemove", tagsToRemove)
+                .add("isDryRun", isDryRun)
+                .toString();
+    }
+}
@@ -6,32 +6,53 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryResult;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book matching all of the given filters.
+ * Name matching is by case-insensitive substring.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain "
+            + "the specified keyword (case-insensitive), or who match all of the given filters, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [-explain] KEYWORD\n"
+            + "or: [-explain] [-not] -name|-subject|-tag|-phone|-email VALUE...\n"
+            + "Example: " + COMMAND_WORD + " alice\n"
+            + "Example: " + COMMAND_WORD + " -name ali -subject physics -tag sec4 -not -tag alumni";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final PersonQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a FindCommand to find persons matching {@code query}, describing the plan used if {@code isExplain}.
+     */
+    public FindCommand(PersonQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(PersonQuery.of(PersonFilter.nameContains(predicate.getKeyword())), false);
+    }
+
+    public PersonQuery getQuery() {
+        return query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        QueryResult result = model.queryPersons(query);
+        model.updateFilteredPersonList(result);
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        return new CommandResult(isExplain ? message + "\n" + result.explain() : message);
     }
 
     @Override
@@ -46,13 +67,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query)
+                && isExplain == otherFindCommand.isExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("query", query)
+                .add("isExplain", isExplain)
                 .toString();
     }
 }
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.billing.Invoice;
+import seedu.address.model.billing.Money;
+import seedu.address.model.person.Name;
+
+/**
+ * Totals the time taught and the amount owed for the lessons in a period, per student.
+ */
+public class InvoiceCommand extends Command {
+
+    public static final String COMMAND_WORD = "invoice";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Totals the amount owed for the lessons starting "
+            + "in a period, by default the current month. A period given by only one day ends or starts with "
+            + "the month of that day.\n"
+            + "Parameters: [-from DATE] [-to DATE] [-name NAME]\n"
+            + "Example: " + COMMAND_WORD + " -from 2023/10/01 -to 2023/12/31 -name Alex Yeoh";
+
+    public static final String MESSAGE_SUCCESS = "Invoice from %1$s to %2$s: %3$s owed";
+    public static final String MESSAGE_STUDENT = "\n%1$s: %2$s for %3$s";
+    public static final String MESSAGE_NO_LESSONS = "\nNo lessons were taught";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final Name student;
+
+    /**
+     * Creates an InvoiceCommand for the lessons starting from {@code firstDay} to {@code lastDay} inclusive,
+     * only of {@code student} if it is not null.
+     */
+    public InvoiceCommand(LocalDate firstDay, LocalDate lastDay, Name student) {
+        requireNonNull(firstDay);
+        requireNonNull(lastDay);
+        checkArgument(!firstDay.isAfter(lastDay), "The first day must not be after the last day");
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.student = student;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Invoice invoice = model.getInvoice(firstDay, lastDay);
+
+        StringBuilder lines = new StringBuilder();
+        long totalCents = 0;
+        List<Map.Entry<Name, Long>> owed = new ArrayList<>(invoice.getCentsByStudent().entrySet());
+        owed.sort(Comparator.comparing(entry -> entry.getKey().fullName));
+        for (Map.Entry<Name, Long> entry : owed) {
+            Name name = entry.getKey();
+            if (student != null && !name.fullName.equalsIgnoreCase(student.fullName)) {
+                continue;
+            }
+            totalCents += entry.getValue();
+            lines.append(String.format(MESSAGE_STUDENT, name, Money.format(entry.getValue()),
+                    StatsCommand.formatHours(invoice.getMinutesByStudent().get(name))));
+        }
+        if (lines.length() == 0) {
+            lines.append(MESSAGE_NO_LESSONS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, firstDay.format(DATE_FORMATTER),
+                lastDay.format(DATE_FORMATTER), Money.format(totalCents)) + lines);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InvoiceCommand)) {
+            return false;
+        }
+
+        InvoiceCommand otherInvoiceCommand = (InvoiceCommand) other;
+        return firstDay.equals(otherInvoiceCommand.firstDay)
+                && lastDay.equals(otherInvoiceCommand.lastDay)
+                && Objects.equals(student, otherInvoiceCommand.student);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstDay", firstDay)
+                .add("lastDay", lastDay)
+                .add("student", student)
+                .toString();
+    }
+}
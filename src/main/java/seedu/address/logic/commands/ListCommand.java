@@ -1,11 +1,13 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_LESSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Arrays;
 
 import seedu.address.model.Model;
+import seedu.address.model.lessons.LessonRange;
 import seedu.address.model.state.State;
 
 /**
@@ -17,16 +19,23 @@ public class ListCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Showing list";
 
+    public static final String MESSAGE_RANGE_SUCCESS = "Showing %1$d lessons %2$s";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the specified list, which can be a "
             + "STUDENTS list or SCHEDULE list. Default command without "
             + "specified list displays the schedule list. When specifying STUDENTS list,"
-            + "optional parameters can be used to specify what student details to display\n"
+            + "optional parameters can be used to specify what student details to display. When specifying "
+            + "SCHEDULE list, the lessons shown can be limited to a date range, today, this week "
+            + "or the next N lessons\n"
             + "Parameters: [LIST] [KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " SCHEDULE\n"
+            + "Example: " + COMMAND_WORD + " SCHEDULE -from 2023/10/01 -to 2023/10/07\n"
+            + "Example: " + COMMAND_WORD + " SCHEDULE today|week|next 5\n"
             + "Example: " + COMMAND_WORD + " STUDENTS phone email\n";
 
     private final State state;
     private final String[] displayParams;
+    private final LessonRange lessonRange;
 
     /**
      * Creates a list command.
@@ -37,6 +46,17 @@ public class ListCommand extends Command {
     public ListCommand(State state, String[] displayParams) {
         this.state = state;
         this.displayParams = displayParams;
+        this.lessonRange = LessonRange.all();
+    }
+
+    /**
+     * Creates a list command that shows the lessons of the schedule in {@code lessonRange}.
+     */
+    public ListCommand(LessonRange lessonRange) {
+        requireNonNull(lessonRange);
+        this.state = State.SCHEDULE;
+        this.displayParams = new String[0];
+        this.lessonRange = lessonRange;
     }
 
     public ListCommand() {
@@ -51,11 +71,19 @@ public class ListCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        String message = MESSAGE_SUCCESS;
+        if (state == State.SCHEDULE) {
+            model.setLessonRange(lessonRange);
+            model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_LESSONS);
+            if (!lessonRange.isAll()) {
+                message = String.format(MESSAGE_RANGE_SUCCESS, model.getFilteredScheduleList().size(), lessonRange);
+            }
+        }
         if (model.sameState(state)) {
-            return new CommandResult(MESSAGE_SUCCESS, displayParams);
+            return new CommandResult(message, displayParams);
         } else {
             model.setState(state); // Only can pass in "STUDENTS" or "SCHEDULE", has been filtered by parser
-            return new CommandResult(MESSAGE_SUCCESS, state, displayParams);
+            return new CommandResult(message, state, displayParams);
         }
     }
 
@@ -72,6 +100,7 @@ public class ListCommand extends Command {
 
         ListCommand otherListCommand = (ListCommand) other;
         return state.equals(otherListCommand.state)
-                && Arrays.equals(displayParams, otherListCommand.displayParams);
+                && Arrays.equals(displayParams, otherListCommand.displayParams)
+                && lessonRange.equals(otherListCommand.lessonRange);
     }
 }
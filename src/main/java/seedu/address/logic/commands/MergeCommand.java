@@ -0,0 +1,180 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.Week;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Merges students entered more than once into the first of them.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Merges the students identified by the index numbers used in the displayed student list "
+            + "into the first of them. Details the first student does not have are taken from the others, "
+            + "subjects and tags are combined, and the lessons of the others are moved to the first student.\n"
+            + "Parameters: INDEX INDEX [MORE_INDEXES]... (must be positive integers)\n"
+            + "Example: " + COMMAND_WORD + " 1 3";
+
+    public static final String MESSAGE_SUCCESS = "Merged %1$d students into %2$s";
+    public static final String MESSAGE_REPEATED_INDEX = "A student cannot be merged with itself";
+
+    private final List<Index> targetIndexes;
+
+    /**
+     * Creates a MergeCommand to merge the persons at {@code targetIndexes} into the person at the first index.
+     */
+    public MergeCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert targetIndexes.size() > 1;
+        this.targetIndexes = List.copyOf(targetIndexes);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> persons = new ArrayList<>();
+        for (Index index : targetIndexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            Person person = lastShownList.get(index.getZeroBased());
+            if (persons.stream().anyMatch(merged -> merged == person)) {
+                throw new CommandException(MESSAGE_REPEATED_INDEX);
+            }
+            persons.add(person);
+        }
+
+        Person kept = persons.get(0);
+        List<Person> others = persons.subList(1, persons.size());
+        Person merged = merge(kept, others);
+        Set<Name> otherNames = new HashSet<>();
+        for (Person other : others) {
+            otherNames.add(other.getName());
+            model.deletePerson(other);
+        }
+        model.setPerson(kept, merged);
+        moveLessons(model, otherNames, merged.getName());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), Messages.format(merged)));
+    }
+
+    /**
+     * Returns a copy of {@code kept} with the details it lacks taken from {@code others}, in order,
+     * and with the subjects and tags of all of them.
+     */
+    private static Person merge(Person kept, List<Person> others) {
+        Phone phone = kept.getPhone();
+        Email email = kept.getEmail();
+        Address address = kept.getAddress();
+        Remark remark = kept.getRemark();
+        Week availability = kept.getAvailability();
+        Set<Subject> subjects = new HashSet<>(kept.getSubjects());
+        Set<Tag> tags = new HashSet<>(kept.getTags());
+        for (Person other : others) {
+            if (phone.equals(Phone.DEFAULT_PHONE)) {
+                phone = other.getPhone();
+            }
+            if (email.equals(Email.DEFAULT_EMAIL)) {
+                email = other.getEmail();
+            }
+            if (address.equals(Address.DEFAULT_ADDRESS)) {
+                address = other.getAddress();
+            }
+            if (remark.equals(Remark.DEFAULT_REMARK)) {
+                remark = other.getRemark();
+            }
+            if (availability.isEmpty()) {
+                availability = other.getAvailability();
+            }
+            subjects.addAll(other.getSubjects());
+            tags.addAll(other.getTags());
+        }
+        return kept.toBuilder()
+                .withPhone(phone)
+                .withEmail(email)
+                .withAddress(address)
+                .withRemark(remark)
+                .withAvailability(availability)
+                .withSubjects(subjects)
+                .withTags(tags)
+                .build();
+    }
+
+    /**
+     * Replaces {@code oldNames} by {@code newName} among the students of every lesson and series of lessons.
+     */
+    private static void moveLessons(Model model, Set<Name> oldNames, Name newName) {
+        List<Lesson> lessons = new ArrayList<>(model.getScheduleList().getLessonList());
+        for (Lesson lesson : lessons) {
+            if (lesson.getStudents().stream().anyMatch(oldNames::contains)) {
+                model.setLesson(lesson, lesson.withStudents(rename(lesson.getStudents(), oldNames, newName)));
+            }
+        }
+        List<LessonSeries> seriesList = new ArrayList<>(model.getScheduleList().getSeriesList());
+        for (LessonSeries series : seriesList) {
+            List<Name> students = series.getFirst().getStudents();
+            if (students.stream().anyMatch(oldNames::contains)) {
+                model.setLessonSeries(series, series.withStudents(rename(students, oldNames, newName)));
+            }
+        }
+    }
+
+    /**
+     * Returns {@code students} with {@code oldNames} replaced by {@code newName}, each student named once.
+     */
+    private static ArrayList<Name> rename(List<Name> students, Set<Name> oldNames, Name newName) {
+        ArrayList<Name> renamed = new ArrayList<>();
+        for (Name student : students) {
+            Name name = oldNames.contains(student) ? newName : student;
+            if (!renamed.contains(name)) {
+                renamed.add(name);
+            }
+        }
+        return renamed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MergeCommand)) {
+            return false;
+        }
+
+        MergeCommand otherMergeCommand = (MergeCommand) other;
+        return targetIndexes.equals(otherMergeCommand.targetIndexes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndexes", targetIndexes)
+                .toString();
+    }
+}
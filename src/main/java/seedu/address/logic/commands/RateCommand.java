@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.billing.Money;
+import seedu.address.model.billing.Rates;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.Subject;
+
+/**
+ * Sets the hourly rate charged for the lessons of a student or subject, or for all other lessons.
+ */
+public class RateCommand extends Command {
+
+    public static final String COMMAND_WORD = "rate";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the hourly rate charged for lessons. "
+            + "The rate of a student is used before the rate of a subject, which is used before the default rate.\n"
+            + "Parameters: [-name NAME | -subject SUBJECT] -amount AMOUNT\n"
+            + "Example: " + COMMAND_WORD + " -name Alex Yeoh -amount 45.50\n"
+            + "Example: " + COMMAND_WORD + " -amount 40";
+
+    public static final String MESSAGE_SUCCESS = "The hourly rate %1$s is now %2$s";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "There is no student named %1$s";
+
+    private final Name student;
+    private final Subject subject;
+    private final long centsPerHour;
+
+    /**
+     * Creates a RateCommand charging {@code centsPerHour} for the lessons of {@code student}, or of
+     * {@code subject}, or for lessons without a rate of their own if both are null.
+     */
+    public RateCommand(Name student, Subject subject, long centsPerHour) {
+        checkArgument(student == null || subject == null, "A rate is either for a student or for a subject");
+        checkArgument(centsPerHour >= 0, Rates.MESSAGE_CONSTRAINTS);
+        this.student = student;
+        this.subject = subject;
+        this.centsPerHour = centsPerHour;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Rates rates = model.getRates();
+        String target;
+        if (student != null) {
+            Name name = findStudent(model, student);
+            rates = rates.withStudentRate(name, centsPerHour);
+            target = "of " + name;
+        } else if (subject != null) {
+            rates = rates.withSubjectRate(subject, centsPerHour);
+            target = "for " + subject.subjectName;
+        } else {
+            rates = rates.withDefaultRate(centsPerHour);
+            target = "for other lessons";
+        }
+        model.setRates(rates);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, target, Money.format(centsPerHour)));
+    }
+
+    /**
+     * Returns the name of the student named {@code name}, ignoring case.
+     */
+    private static Name findStudent(Model model, Name name) throws CommandException {
+        List<NameIndex.Match> matches = model.findPersonsNamedLike(name.fullName);
+        if (matches.isEmpty() || !matches.get(0).isExact()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_STUDENT, name));
+        }
+        return matches.get(0).getPerson().getName();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RateCommand)) {
+            return false;
+        }
+
+        RateCommand otherRateCommand = (RateCommand) other;
+        return Objects.equals(student, otherRateCommand.student)
+                && Objects.equals(subject, otherRateCommand.subject)
+                && centsPerHour == otherRateCommand.centsPerHour;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("student", student)
+                .add("subject", subject)
+                .add("centsPerHour", centsPerHour)
+                .toString();
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonPlanner;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.lessons.Week;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+
+/**
+ * Adds a number of lessons for one or more students within a period, at times when all the students are free
+ * and the tutor has no other lesson.
+ */
+public class ScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds lessons for students within a period, "
+            + "spread evenly over it, at times when the students are available and no other lesson is held.\n"
+            + "Parameters: -name NAME[, NAME]... -count COUNT -to DATE -length MINUTES [-from DATE] "
+            + "[-gap MINUTES] [-subject SUBJECT]\n"
+            + "Example: " + COMMAND_WORD + " -name Alex Yeoh, Bernice Yu -count 10 -from 2023/10/02 "
+            + "-to 2023/12/10 -length 90 -gap 30 -subject MATHEMATICS";
+
+    public static final String MESSAGE_SUCCESS = "Scheduled %1$d lessons for %2$s:";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "There is no student named %1$s";
+    public static final String MESSAGE_SUBJECT_NOT_TAKEN = "%1$s does not take %2$s";
+    public static final String MESSAGE_NO_TIMES = "The lessons do not all fit in the period. "
+            + "Try a longer period, fewer or shorter lessons, or a smaller gap";
+
+    private static final DateTimeFormatter LESSON_FORMAT = DateTimeFormatter.ofPattern("EEE d MMM yyyy HH:mm");
+
+    private final List<Name> students;
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final int count;
+    private final int lengthInMinutes;
+    private final int gapInMinutes;
+    private final Subject subject;
+
+    /**
+     * Creates a ScheduleCommand adding {@code count} lessons of {@code lengthInMinutes} minutes for
+     * {@code students}, from {@code firstDay} to {@code lastDay} inclusive, at least {@code gapInMinutes} minutes
+     * from other lessons. If {@code subject} is none, the subject taken by all the students is used, if any.
+     */
+    public ScheduleCommand(List<Name> students, LocalDate firstDay, LocalDate lastDay, int count,
+            int lengthInMinutes, int gapInMinutes, Subject subject) {
+        requireNonNull(students);
+        requireNonNull(firstDay);
+        requireNonNull(lastDay);
+        requireNonNull(subject);
+        checkArgument(!students.isEmpty(), "There must be at least one student");
+        this.students = List.copyOf(students);
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.count = count;
+        this.lengthInMinutes = lengthInMinutes;
+        this.gapInMinutes = gapInMinutes;
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> persons = new ArrayList<>();
+        for (Name name : students) {
+            persons.add(findStudent(model, name));
+        }
+        Subject lessonSubject = chooseSubject(persons);
+
+        List<Week> availabilities = persons.stream().map(Person::getAvailability).collect(Collectors.toList());
+        LessonPlanner planner = new LessonPlanner(firstDay, lastDay, count, lengthInMinutes, gapInMinutes);
+        List<LocalDateTime> starts = planner.plan(availabilities,
+                model.getLessonsIn(LessonPlanner.rangeAround(firstDay, lastDay)));
+        if (starts.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_TIMES);
+        }
+
+        ArrayList<Name> names = persons.stream().map(Person::getName).collect(Collectors.toCollection(ArrayList::new));
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, starts.size(),
+                names.stream().map(Name::toString).collect(Collectors.joining(", "))));
+        for (LocalDateTime start : starts) {
+            model.addLesson(new Lesson(start, start.plusMinutes(lengthInMinutes), lessonSubject, new TaskList(),
+                    names));
+            message.append("\n").append(start.format(LESSON_FORMAT));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns the student named {@code name}, ignoring case.
+     */
+    private static Person findStudent(Model model, Name name) throws CommandException {
+        List<NameIndex.Match> matches = model.findPersonsNamedLike(name.fullName);
+        if (matches.isEmpty() || !matches.get(0).isExact()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_STUDENT, name));
+        }
+        return matches.get(0).getPerson();
+    }
+
+    /**
+     * Returns the subject of the lessons, which must be taken by each of {@code persons} who takes any subject.
+     */
+    private Subject chooseSubject(List<Person> persons) throws CommandException {
+        if (!subject.equals(Subject.getNone())) {
+            for (Person person : persons) {
+                if (!person.getSubjects().isEmpty() && !person.getSubjects().contains(subject)) {
+                    throw new CommandException(String.format(MESSAGE_SUBJECT_NOT_TAKEN, person.getName(),
+                            subject.subjectName));
+                }
+            }
+            return subject;
+        }
+
+        Set<Subject> common = null;
+        for (Person person : persons) {
+            if (person.getSubjects().isEmpty()) {
+                continue;
+            }
+            if (common == null) {
+                common = new HashSet<>(person.getSubjects());
+            } else {
+                common.retainAll(person.getSubjects());
+            }
+        }
+        return common != null && common.size() == 1 ? common.iterator().next() : Subject.getNone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleCommand)) {
+            return false;
+        }
+
+        ScheduleCommand otherScheduleCommand = (ScheduleCommand) other;
+        return students.equals(otherScheduleCommand.students)
+                && firstDay.equals(otherScheduleCommand.firstDay)
+                && lastDay.equals(otherScheduleCommand.lastDay)
+                && count == otherScheduleCommand.count
+                && lengthInMinutes == otherScheduleCommand.lengthInMinutes
+                && gapInMinutes == otherScheduleCommand.gapInMinutes
+                && subject.equals(otherScheduleCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("students", students)
+                .add("firstDay", firstDay)
+                .add("lastDay", lastDay)
+                .add("count", count)
+                .add("lengthInMinutes", lengthInMinutes)
+                .add("gapInMinutes", gapInMinutes)
+                .add("subject", subject)
+                .toString();
+    }
+}
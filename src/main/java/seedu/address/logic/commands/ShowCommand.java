@@ -51,6 +51,7 @@ public class ShowCommand extends Command {
             model.showPerson(personToShow);
             return new CommandResult(String.format(MESSAGE_SHOW_PERSON_SUCCESS, Messages.format(personToShow)));
         case SCHEDULE:
+        case CALENDAR:
             if (targetIndex.getZeroBased() >= lastShownSchedule.size()) {
                 throw new CommandException(Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
             }
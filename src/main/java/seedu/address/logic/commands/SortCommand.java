@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Sorts the displayed person list by one or more keys.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed students by the given keys, "
+            + "comparing each key in turn. Add :desc to a key to sort it in descending order, "
+            + "or use none to show students in the order they were added.\n"
+            + "Parameters: KEY[:desc] [MORE_KEYS]... (KEY is one of name, subject, tags, lesson)\n"
+            + "Example: " + COMMAND_WORD + " subject lesson:desc name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted %1$d students by %2$s";
+
+    private final PersonSortOrder sortOrder;
+
+    /**
+     * Creates a SortCommand to sort the displayed persons by {@code sortOrder}.
+     */
+    public SortCommand(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedPersonList(sortOrder);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(), sortOrder));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
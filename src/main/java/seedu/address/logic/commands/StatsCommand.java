@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.TeachingStatistics;
+import seedu.address.model.person.Name;
+
+/**
+ * Shows the hours taught per subject, student, week and month, the lessons of each student and the pending tasks.
+ * Optionally checks the statistics against the schedule first.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the hours taught and the pending tasks. "
+            + "With -verify, the statistics are first recomputed from the schedule and checked.\n"
+            + "Parameters: [-verify]\n"
+            + "Example: " + COMMAND_WORD + " -verify";
+
+    public static final String MESSAGE_SUMMARY = "%1$d lessons (%2$s), %3$s this week, %4$s this month, "
+            + "%5$d pending tasks";
+    public static final String MESSAGE_SUCCESS = "Teaching statistics: %1$s";
+    public static final String MESSAGE_SUBJECTS = "\nPer subject: %1$s";
+    public static final String MESSAGE_STUDENTS = "\nPer student: %1$s";
+    public static final String MESSAGE_STUDENT = "%1$s %2$d lessons (%3$s)";
+    public static final String MESSAGE_VERIFIED = "\nThe statistics match the schedule";
+    public static final String MESSAGE_RECOMPUTED = "\nThe statistics did not match the schedule and were recomputed";
+
+    private final LocalDate today;
+    private final boolean isVerify;
+
+    /**
+     * Creates a StatsCommand showing the week and month of {@code today}, checking the statistics first
+     * if {@code isVerify}.
+     */
+    public StatsCommand(LocalDate today, boolean isVerify) {
+        requireNonNull(today);
+        this.today = today;
+        this.isVerify = isVerify;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String verification = "";
+        if (isVerify) {
+            verification = model.verifyTeachingStatistics() ? MESSAGE_VERIFIED : MESSAGE_RECOMPUTED;
+        }
+
+        TeachingStatistics statistics = model.getTeachingStatistics();
+        String subjects = statistics.getMinutesBySubject().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(subject -> subject.subjectName)))
+                .map(entry -> entry.getKey().subjectName + " " + formatHours(entry.getValue()))
+                .collect(Collectors.joining(", "));
+        String students = statistics.getLessonCountsByStudent().keySet().stream()
+                .sorted(Comparator.comparing((Name name) -> name.fullName))
+                .map(name -> String.format(MESSAGE_STUDENT, name, statistics.getLessonCountForStudent(name),
+                        formatHours(statistics.getMinutesForStudent(name))))
+                .collect(Collectors.joining(", "));
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, summarize(statistics, today)));
+        if (!subjects.isEmpty()) {
+            message.append(String.format(MESSAGE_SUBJECTS, subjects));
+        }
+        if (!students.isEmpty()) {
+            message.append(String.format(MESSAGE_STUDENTS, students));
+        }
+        return new CommandResult(message.append(verification).toString());
+    }
+
+    /**
+     * Returns a one line summary of {@code statistics}, with the hours of the week and month of {@code today}.
+     */
+    public static String summarize(TeachingStatistics statistics, LocalDate today) {
+        requireNonNull(statistics);
+        requireNonNull(today);
+        return String.format(MESSAGE_SUMMARY, statistics.getLessonCount(),
+                formatHours(statistics.getTotalMinutes()), formatHours(statistics.getMinutesForWeekOf(today)),
+                formatHours(statistics.getMinutesForMonth(YearMonth.from(today))),
+                statistics.getPendingTaskCount());
+    }
+
+    /**
+     * Returns {@code minutes} in hours and minutes, such as 2 h 30 min.
+     */
+    static String formatHours(long minutes) {
+        return minutes % 60 == 0
+                ? (minutes / 60) + " h"
+                : String.format("%d h %d min", minutes / 60, minutes % 60);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return today.equals(otherStatsCommand.today) && isVerify == otherStatsCommand.isVerify;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("today", today)
+                .add("isVerify", isVerify)
+                .toString();
+    }
+}
@@ -1,10 +1,20 @@
 package seedu.address.logic.parser;
 
+import java.util.Set;
+
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Week;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new AddCommand object
@@ -44,20 +54,22 @@ public class AddCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format or of wrong value
      */
     public static Person parsePerson(String args) throws ParseException {
-        Person person = new Person(TypeParsingUtil.parseName("name", args));
-        person.setPhoneIfNotNull(TypeParsingUtil.parsePhone("phone", args, true));
-        person.setEmailIfNotNull(TypeParsingUtil.parseEmail("email", args, true));
-        person.setAddressIfNotNull(TypeParsingUtil.parseAddress("address", args, true));
-        person.setSubjectsIfNotNull(TypeParsingUtil.parseSubjects("subject", args, true));
-        person.setTagsIfNotNull(TypeParsingUtil.parseTags("tag", args, true));
-        String remarkString = null;
+        Name name = TypeParsingUtil.parseName("name", args);
+        Phone phone = TypeParsingUtil.parsePhone("phone", args, true);
+        Email email = TypeParsingUtil.parseEmail("email", args, true);
+        Address address = TypeParsingUtil.parseAddress("address", args, true);
+        Set<Subject> subjects = TypeParsingUtil.parseSubjects("subject", args, true);
+        Set<Tag> tags = TypeParsingUtil.parseTags("tag", args, true);
+        Week availability = TypeParsingUtil.parseWeek("available", args, true);
+        Remark remark = null;
         // should not use exception to control flow, will change in future
         try {
-            remarkString = TypeParsingUtil.parseFlag("remark", args);
+            remark = new Remark(TypeParsingUtil.parseFlag("remark", args));
         } catch (ParseException e) {
-            return person;
+            // The remark is optional
         }
-        person.setRemarkIfNotNull(new Remark(remarkString));
-        return person;
+        // The details that are not given keep their defaults
+        return new EditPersonDescriptor(null, phone, email, address, subjects, tags, remark, availability)
+                .applyTo(new Person.Builder(name)).build();
     }
 }
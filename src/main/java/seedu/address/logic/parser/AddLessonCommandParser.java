@@ -7,6 +7,7 @@ import java.time.LocalTime;
 import seedu.address.logic.commands.AddLessonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
 import seedu.address.model.lessons.TaskList;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Subject;
@@ -18,9 +19,37 @@ import seedu.address.model.person.Subject;
  */
 public class AddLessonCommandParser implements Parser<AddLessonCommand> {
 
+    public static final String MESSAGE_INVALID_REPEAT = "Lessons can repeat weekly or fortnightly";
+    public static final String MESSAGE_MISSING_UNTIL = "A repeating lesson needs the day of its last lesson, "
+            + "given with -until";
+
     @Override
     public AddLessonCommand parse(String args) throws ParseException {
-        return new AddLessonCommand(parseLesson(args));
+        Lesson lesson = parseLesson(args);
+        String repeat = TypeParsingUtil.parseStr("repeat", args, true);
+        if (repeat == null) {
+            return new AddLessonCommand(lesson);
+        }
+
+        int intervalInWeeks;
+        switch (repeat.trim().toLowerCase()) {
+        case "weekly":
+            intervalInWeeks = 1;
+            break;
+        case "fortnightly":
+            intervalInWeeks = 2;
+            break;
+        default:
+            throw new ParseException(MESSAGE_INVALID_REPEAT);
+        }
+        LocalDate lastDay = TypeParsingUtil.parseDate("until", args, true);
+        if (lastDay == null) {
+            throw new ParseException(MESSAGE_MISSING_UNTIL);
+        }
+        if (!LessonSeries.isValidSeries(lesson, intervalInWeeks, lastDay)) {
+            throw new ParseException(LessonSeries.MESSAGE_CONSTRAINTS);
+        }
+        return new AddLessonCommand(lesson, intervalInWeeks, lastDay);
     }
 
     /**
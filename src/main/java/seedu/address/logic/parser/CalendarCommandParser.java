@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.state.CalendarView;
+
+/**
+ * Parses input arguments and creates a new CalendarCommand object
+ */
+public class CalendarCommandParser implements Parser<CalendarCommand> {
+
+    private final Clock clock;
+
+    public CalendarCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser that shows the current week or month, according to {@code clock}, when no date is given.
+     */
+    public CalendarCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CalendarCommand
+     * and returns a CalendarCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CalendarCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        LocalDate date = TypeParsingUtil.parseDate("date", trimmedArgs, true);
+        if (date == null) {
+            date = LocalDate.now(clock);
+        }
+
+        String mode = trimmedArgs.split("-", 2)[0].trim().toLowerCase();
+        switch (mode) {
+        case "":
+        case "week":
+            return new CalendarCommand(CalendarView.weekOf(date));
+        case "month":
+            return new CalendarCommand(CalendarView.monthOf(date));
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CalendarCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -14,4 +16,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_SCHEDULE = new Prefix("l/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
+
+    /* Flags accepted by the commands, such as -name in "addLesson -name Alex -start 14:00 -end 15:00" */
+    public static final List<String> FLAGS = List.of("-name", "-phone", "-email", "-address", "-subject", "-tag",
+            "-remark", "-lesson", "-start", "-end", "-day", "-date", "-from", "-to", "-not", "-explain",
+            "-verify", "-amount", "-available", "-count", "-length", "-gap",
+            "-repeat", "-until", "-where", "-set", "-addtag", "-removetag", "-dry", "-lessons");
 }
@@ -2,21 +2,40 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.LocalDate;
+
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteLessonsCommand;
+import seedu.address.logic.commands.DeletePersonsCommand;
+import seedu.address.logic.parser.exceptions.InvalidInputException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
 
 /**
- * Parses input arguments and creates a new DeleteCommand object
+ * Parses input arguments and creates a new DeleteCommand object, or a command deleting all the persons or lessons
+ * matching a filter given after {@code -where}.
  */
-public class DeleteCommandParser implements Parser<DeleteCommand> {
+public class DeleteCommandParser implements Parser<Command> {
+
+    public static final String WHERE_FLAG = "where";
+    public static final String LESSONS_FLAG = "lessons";
+    public static final String DRY_RUN_FLAG = "dry";
+
+    public static final String MESSAGE_NO_LESSON_FILTER = "Give at least one of -from, -to, -name and -subject "
+            + "to filter the lessons to delete by";
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
      * and returns a DeleteCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public DeleteCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
+        if (TypeParsingUtil.hasFlag(WHERE_FLAG, args)) {
+            return parseFilteredDelete(args);
+        }
         try {
             Index index = ParserUtil.parseIndex(args);
             return new DeleteCommand(index);
@@ -26,4 +45,32 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
         }
     }
 
+    private Command parseFilteredDelete(String args) throws ParseException {
+        boolean isDryRun = TypeParsingUtil.hasFlag(DRY_RUN_FLAG, args);
+        String filter = TypeParsingUtil.removeFlag(WHERE_FLAG, TypeParsingUtil.removeFlag(DRY_RUN_FLAG, args));
+        if (TypeParsingUtil.hasFlag(LESSONS_FLAG, filter)) {
+            return parseLessonsDelete(TypeParsingUtil.removeFlag(LESSONS_FLAG, filter), isDryRun);
+        }
+        if (filter.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        }
+        return new DeletePersonsCommand(new PersonQueryParser().parse(filter), isDryRun);
+    }
+
+    private Command parseLessonsDelete(String filter, boolean isDryRun) throws ParseException {
+        LocalDate from = TypeParsingUtil.parseDate("from", filter, true);
+        LocalDate to = TypeParsingUtil.parseDate("to", filter, true);
+        Name student = TypeParsingUtil.parseName("name", filter, true);
+        // An optional subject that is not given is parsed as no subject, which would only match lessons without one
+        Subject subject = TypeParsingUtil.parseStr("subject", filter, true) == null
+                ? null
+                : TypeParsingUtil.parseSubject("subject", filter);
+        if (from == null && to == null && student == null && subject == null) {
+            throw new InvalidInputException(MESSAGE_NO_LESSON_FILTER);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidInputException(ScheduleCommandParser.MESSAGE_INVALID_PERIOD);
+        }
+        return new DeleteLessonsCommand(from, to, student, subject, isDryRun);
+    }
 }
@@ -1,9 +1,17 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditPersonsCommand;
+import seedu.address.logic.parser.exceptions.InvalidInputException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lessons.Week;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -13,16 +21,29 @@ import seedu.address.model.person.Subject;
 import seedu.address.model.tag.Tag;
 
 /**
- * Parses input arguments and creates a new EditCommand object
+ * Parses input arguments and creates a new EditCommand object, or a command editing all the persons matching a
+ * filter given after {@code -where}, with the fields to edit given after {@code -set}.
  */
-public class EditCommandParser implements Parser<EditCommand> {
+public class EditCommandParser implements Parser<Command> {
+
+    public static final String WHERE_FLAG = "where";
+    public static final String DRY_RUN_FLAG = "dry";
+
+    public static final String MESSAGE_NAME_NOT_EDITABLE = "Names cannot be edited for many persons at once, "
+            + "as no two persons may have the same name";
+
+    private static final Pattern FILTERED_EDIT_FORMAT =
+            Pattern.compile("(?<!\\S)-where(?<filter>.*?)(?<!\\S)-set(?!\\S)(?<fields>.*)");
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public EditCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
+        if (TypeParsingUtil.hasFlag(WHERE_FLAG, args)) {
+            return parseFilteredEdit(args);
+        }
 
         int index = TypeParsingUtil.parseNum(TypeParsingUtil
                 .getValueImmediatelyAfterCommandName("edit", "index", args));
@@ -32,13 +53,44 @@ public class EditCommandParser implements Parser<EditCommand> {
         Address address = TypeParsingUtil.parseAddress("address", args, true);
         Set<Subject> subjects = TypeParsingUtil.parseSubjects("subject", args, true);
         Set<Tag> tags = TypeParsingUtil.parseTags("tag", args, true);
-        Remark remark;
+        Week availability = TypeParsingUtil.parseWeek("available", args, true);
+        Remark remark = parseRemark(args);
+        return new EditCommand(index, name, phone, email, address, subjects, tags, remark, availability);
+
+    }
+
+    private Command parseFilteredEdit(String args) throws ParseException {
+        boolean isDryRun = TypeParsingUtil.hasFlag(DRY_RUN_FLAG, args);
+        Matcher matcher = FILTERED_EDIT_FORMAT.matcher(TypeParsingUtil.removeFlag(DRY_RUN_FLAG, args));
+        if (!matcher.find() || matcher.group("filter").isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE));
+        }
+        String fields = matcher.group("fields");
+        if (TypeParsingUtil.parseName("name", fields, true) != null) {
+            throw new InvalidInputException(MESSAGE_NAME_NOT_EDITABLE);
+        }
+        Phone phone = TypeParsingUtil.parsePhone("phone", fields, true);
+        Email email = TypeParsingUtil.parseEmail("email", fields, true);
+        Address address = TypeParsingUtil.parseAddress("address", fields, true);
+        Set<Subject> subjects = TypeParsingUtil.parseSubjects("subject", fields, true);
+        Set<Tag> tags = TypeParsingUtil.parseTags("tag", fields, true);
+        Set<Tag> tagsToAdd = TypeParsingUtil.parseTags("addtag", fields, true);
+        Set<Tag> tagsToRemove = TypeParsingUtil.parseTags("removetag", fields, true);
+        Week availability = TypeParsingUtil.parseWeek("available", fields, true);
+        Remark remark = parseRemark(fields);
+        if (phone == null && email == null && address == null && subjects == null && tags == null
+                && tagsToAdd == null && tagsToRemove == null && availability == null && remark == null) {
+            throw new InvalidInputException(EditCommand.MESSAGE_NOT_EDITED);
+        }
+        return new EditPersonsCommand(new PersonQueryParser().parse(matcher.group("filter")), phone, email, address,
+                subjects, tags, tagsToAdd, tagsToRemove, remark, availability, isDryRun);
+    }
+
+    private static Remark parseRemark(String args) {
         try {
-            remark = new Remark(TypeParsingUtil.parseFlag("remark", args));
+            return new Remark(TypeParsingUtil.parseFlag("remark", args));
         } catch (ParseException e) {
-            remark = null;
+            return null;
         }
-        return new EditCommand(index, name, phone, email, address, subjects, tags, remark);
-
     }
 }
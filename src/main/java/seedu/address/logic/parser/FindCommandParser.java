@@ -4,26 +4,39 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String EXPLAIN_FLAG = "-explain";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Arguments starting with a flag are parsed as a filter expression, anything else as a name keyword.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        boolean isExplain = trimmedArgs.startsWith(EXPLAIN_FLAG)
+                && (trimmedArgs.length() == EXPLAIN_FLAG.length()
+                || Character.isWhitespace(trimmedArgs.charAt(EXPLAIN_FLAG.length())));
+        if (isExplain) {
+            trimmedArgs = trimmedArgs.substring(EXPLAIN_FLAG.length()).trim();
+        }
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(trimmedArgs));
+        if (trimmedArgs.startsWith("-")) {
+            return new FindCommand(new PersonQueryParser().parse(trimmedArgs), isExplain);
+        }
+        return new FindCommand(PersonQuery.of(PersonFilter.nameContains(trimmedArgs)), isExplain);
     }
 
 }
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import seedu.address.logic.commands.InvoiceCommand;
+import seedu.address.logic.parser.exceptions.InvalidInputException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new InvoiceCommand object
+ */
+public class InvoiceCommandParser implements Parser<InvoiceCommand> {
+
+    public static final String MESSAGE_INVALID_PERIOD = "The -from date must not be after the -to date";
+
+    private final Clock clock;
+
+    public InvoiceCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser that invoices the current month, according to {@code clock}, when no dates are given.
+     */
+    public InvoiceCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the InvoiceCommand
+     * and returns an InvoiceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InvoiceCommand parse(String args) throws ParseException {
+        LocalDate from = TypeParsingUtil.parseDate("from", args, true);
+        LocalDate to = TypeParsingUtil.parseDate("to", args, true);
+        Name student = TypeParsingUtil.parseName("name", args, true);
+
+        // A missing end of the period is filled in with the month of the other end, or the current month
+        YearMonth month = YearMonth.from(from != null ? from : to != null ? to : LocalDate.now(clock));
+        if (from == null) {
+            from = month.atDay(1);
+        }
+        if (to == null) {
+            to = month.atEndOfMonth();
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidInputException(MESSAGE_INVALID_PERIOD);
+        }
+        return new InvoiceCommand(from, to, student);
+    }
+}
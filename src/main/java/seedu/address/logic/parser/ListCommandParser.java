@@ -2,11 +2,17 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.InvalidInputException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lessons.LessonRange;
 import seedu.address.model.state.State;
 
 /**
@@ -18,6 +24,21 @@ public class ListCommandParser implements Parser<ListCommand> {
             Arrays.asList("phone", "email", "address", "tags", "subjects", "remark")
     );
 
+    public static final String MESSAGE_INVALID_RANGE = "The -from date must not be after the -to date";
+
+    private final Clock clock;
+
+    public ListCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser that resolves relative ranges such as {@code today} using {@code clock}.
+     */
+    public ListCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListCommand
      * and returns a ListCommand object for execution.
@@ -26,39 +47,71 @@ public class ListCommandParser implements Parser<ListCommand> {
     public ListCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         String[] keywords = trimmedArgs.split("\\s+");
-        String[] displayParams = Arrays.copyOfRange(keywords, 1, keywords.length);
 
+        switch (keywords[0].toUpperCase()) {
+        case "":
+        case "SCHEDULE":
+            return parseSchedule(trimmedArgs, Arrays.copyOfRange(keywords, 1, keywords.length));
+
+        case "STUDENTS":
+            return new ListCommand(State.STUDENT, parseDisplayParams(
+                    Arrays.copyOfRange(keywords, 1, keywords.length)));
+
+        default:
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+
+    }
+
+    private String[] parseDisplayParams(String[] displayParams) throws ParseException {
         for (String p : displayParams) {
             // Check if displayParams contains "none" keyword, and set it to "none"
             if (p.equals("none")) {
-                displayParams = new String[]{"none"};
-                break;
+                return new String[]{"none"};
             }
             // Check if displayParams contains "all" keyword, and set it to all displayable fields
             if (p.equals("all")) {
-                displayParams = DISPLAYABLE_FIELDS.toArray(new String[0]);
-                break;
+                return DISPLAYABLE_FIELDS.toArray(new String[0]);
             }
             if (!DISPLAYABLE_FIELDS.contains(p)) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
             }
         }
+        return displayParams;
+    }
 
+    /**
+     * Parses the range of lessons to show, which is one of {@code -from DATE -to DATE} (either may be left out),
+     * {@code today}, {@code week} or {@code next N}.
+     */
+    private ListCommand parseSchedule(String args, String[] rangeParams) throws ParseException {
+        LocalDate from = TypeParsingUtil.parseDate("from", args, true);
+        LocalDate to = TypeParsingUtil.parseDate("to", args, true);
+        if (from != null || to != null) {
+            if (from != null && to != null && from.isAfter(to)) {
+                throw new InvalidInputException(MESSAGE_INVALID_RANGE);
+            }
+            return new ListCommand(LessonRange.onDays(from, to));
+        }
 
-        switch (keywords[0].toUpperCase()) {
-        case "":
-        case "SCHEDULE":
+        if (rangeParams.length == 0) {
             return new ListCommand(State.SCHEDULE);
-
-        case "STUDENTS":
-            return new ListCommand(State.STUDENT, displayParams);
-
-        default:
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
         }
-
+        String range = rangeParams[0].toLowerCase();
+        if (range.equals("today") && rangeParams.length == 1) {
+            return new ListCommand(LessonRange.on(LocalDate.now(clock)));
+        }
+        if (range.equals("week") && rangeParams.length == 1) {
+            return new ListCommand(LessonRange.weekOf(LocalDate.now(clock)));
+        }
+        if (range.equals("next") && rangeParams.length == 2) {
+            int count = TypeParsingUtil.parseNum(rangeParams[1], 1, Integer.MAX_VALUE);
+            return new ListCommand(LessonRange.next(LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES), count));
+        }
+        throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
     }
 
 }
@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.parser.exceptions.InvalidInputException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Subject;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Parses a filter expression such as {@code -name ali -subject physics -tag sec4 -not -tag alumni}
+ * into a {@code PersonQuery}. Each flag is followed by the value to filter by, which may span several words,
+ * and {@code -not} negates the filter that follows it.
+ */
+public class PersonQueryParser {
+
+    public static final String NOT_FLAG = "not";
+
+    public static final String MESSAGE_UNKNOWN_FILTER = "%s is not a field that can be filtered by. "
+            + "Available fields: -name, -subject, -tag, -phone, -email";
+
+    /**
+     * Parses {@code args} into a query matching persons that satisfy every filter in it.
+     * @throws ParseException if {@code args} is not a valid filter expression
+     */
+    public PersonQuery parse(String args) throws ParseException {
+        List<PersonFilter> filters = new ArrayList<>();
+        PersonFilter.Field field = null;
+        boolean isNegated = false;
+        boolean isNextNegated = false;
+        StringBuilder value = new StringBuilder();
+        for (String token : args.trim().split("\\s+")) {
+            if (!token.startsWith("-")) {
+                if (field == null) {
+                    throw new InvalidInputException("Expected a filter such as -name before " + token);
+                }
+                value.append(value.length() == 0 ? "" : " ").append(token);
+                continue;
+            }
+            if (field != null) {
+                filters.add(createFilter(field, value.toString(), isNegated));
+                field = null;
+                value.setLength(0);
+            }
+            String flag = token.substring(1).toLowerCase(Locale.ROOT);
+            if (flag.equals(NOT_FLAG)) {
+                isNextNegated = true;
+                continue;
+            }
+            field = parseField(token);
+            isNegated = isNextNegated;
+            isNextNegated = false;
+        }
+        if (field != null) {
+            filters.add(createFilter(field, value.toString(), isNegated));
+        }
+        if (isNextNegated) {
+            throw new InvalidInputException("-not must be followed by a filter");
+        }
+        return new PersonQuery(filters);
+    }
+
+    private static PersonFilter.Field parseField(String token) throws ParseException {
+        try {
+            return PersonFilter.Field.valueOf(token.substring(1).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException(String.format(MESSAGE_UNKNOWN_FILTER, token));
+        }
+    }
+
+    private static PersonFilter createFilter(PersonFilter.Field field, String value, boolean isNegated)
+            throws ParseException {
+        String flag = "-" + field.name().toLowerCase(Locale.ROOT);
+        if (value.isEmpty()) {
+            throw new InvalidInputException(flag + " must be followed by a value to filter by");
+        }
+        if (field == PersonFilter.Field.SUBJECT && !Subject.isValidSubject(value.toUpperCase(Locale.ROOT))) {
+            throw new InvalidInputException(Subject.MESSAGE_CONSTRAINTS);
+        }
+        return new PersonFilter(field, value, isNegated);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.RateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * Parses input arguments and creates a new RateCommand object
+ */
+public class RateCommandParser implements Parser<RateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RateCommand
+     * and returns a RateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RateCommand parse(String args) throws ParseException {
+        Name student = TypeParsingUtil.parseName("name", args, true);
+        Subject subject = TypeParsingUtil.parseSubject("subject", args, true);
+        if (subject.equals(Subject.getNone())) {
+            subject = null;
+        }
+        if (student != null && subject != null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RateCommand.MESSAGE_USAGE));
+        }
+        long centsPerHour = TypeParsingUtil.parseCents("amount", args);
+        return new RateCommand(student, subject, centsPerHour);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.InvalidInputException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lessons.Week;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand object
+ */
+public class ScheduleCommandParser implements Parser<ScheduleCommand> {
+
+    public static final String MESSAGE_INVALID_PERIOD = "The -from date must not be after the -to date";
+
+    // More lessons than there are days in a year cannot be placed, as there is at most one lesson a day
+    private static final int MAX_COUNT = 366;
+
+    private final Clock clock;
+
+    public ScheduleCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser that starts the period today, according to {@code clock}, when no -from date is given.
+     */
+    public ScheduleCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleCommand parse(String args) throws ParseException {
+        List<Name> students = new ArrayList<>();
+        for (String name : TypeParsingUtil.parseStrs("name", args)) {
+            students.add(TypeParsingUtil.parseName(name));
+        }
+        int count = TypeParsingUtil.parseNum("count", args, 1, MAX_COUNT);
+        int length = TypeParsingUtil.parseNum("length", args, 1, Week.MINUTES_PER_DAY);
+        int gap = 0;
+        if (TypeParsingUtil.parseStr("gap", args, true) != null) {
+            gap = TypeParsingUtil.parseNum("gap", args, 0, Week.MINUTES_PER_DAY);
+        }
+        LocalDate from = TypeParsingUtil.parseDate("from", args, true);
+        if (from == null) {
+            from = LocalDate.now(clock);
+        }
+        LocalDate to = TypeParsingUtil.parseDate("to", args);
+        if (from.isAfter(to)) {
+            throw new InvalidInputException(MESSAGE_INVALID_PERIOD);
+        }
+        Subject subject = TypeParsingUtil.parseSubject("subject", args, true);
+        return new ScheduleCommand(students, from, to, count, length, gap, subject);
+    }
+}
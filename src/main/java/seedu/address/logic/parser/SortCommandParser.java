@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.PersonSortOrder.Key;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    private static final String DESCENDING_SUFFIX = ":desc";
+    private static final String ASCENDING_SUFFIX = ":asc";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim().toLowerCase(Locale.ROOT);
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        if (trimmedArgs.equals("none")) {
+            return new SortCommand(PersonSortOrder.INSERTION_ORDER);
+        }
+
+        List<Criterion> criteria = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            boolean isDescending = keyword.endsWith(DESCENDING_SUFFIX);
+            String keyName = keyword;
+            if (isDescending) {
+                keyName = keyword.substring(0, keyword.length() - DESCENDING_SUFFIX.length());
+            } else if (keyword.endsWith(ASCENDING_SUFFIX)) {
+                keyName = keyword.substring(0, keyword.length() - ASCENDING_SUFFIX.length());
+            }
+            Criterion criterion = new Criterion(parseKey(keyName), isDescending);
+            if (criteria.stream().anyMatch(existing -> existing.getKey() == criterion.getKey())) {
+                throw new ParseException("Students can only be sorted by " + keyName + " once");
+            }
+            criteria.add(criterion);
+        }
+        return new SortCommand(new PersonSortOrder(criteria));
+    }
+
+    private static Key parseKey(String keyName) throws ParseException {
+        try {
+            return Key.valueOf(keyName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE), e);
+        }
+    }
+}
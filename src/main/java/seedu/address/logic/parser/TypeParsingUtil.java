@@ -13,6 +13,7 @@ import seedu.address.logic.parser.exceptions.FlagNotFoundException;
 import seedu.address.logic.parser.exceptions.InvalidInputException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.exceptions.RepeatedFlagException;
+import seedu.address.model.lessons.Week;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -334,6 +335,36 @@ public class TypeParsingUtil {
         }
         return parseDayOfWeek(parseFlag(flagName, input));
     }
+    /**
+     * Parses the times of the week at which a student is free, such as MON 15:00 18:00, WED 16:00 20:00
+     */
+    public static Week parseWeek(String input) throws ParseException {
+        if (!Week.isValidWeek(input)) {
+            throw new InvalidInputException(input + " is not a valid availability. " + Week.MESSAGE_CONSTRAINTS);
+        }
+        return new Week(input);
+    }
+
+    /**
+     * overloading parseWeek to take in flagName and parse the flag from the input string
+     */
+    public static Week parseWeek(String flagName, String input) throws ParseException {
+        return parseWeek(parseFlag(flagName, input));
+    }
+
+    /**
+     * overloading to not throw exception if the flag is not found when isOptional is true
+     */
+    public static Week parseWeek(String flagName, String input, boolean isOptional) throws ParseException {
+        if (isOptional) {
+            try {
+                parseFlag(flagName, input);
+            } catch (FlagNotFoundException e) {
+                return null;
+            }
+        }
+        return parseWeek(parseFlag(flagName, input));
+    }
     /**
      * Parses the email from the input string
      */
@@ -482,6 +513,26 @@ public class TypeParsingUtil {
         }
         return parseTags(flag, input);
     }
+    /**
+     * Parses an amount of money in dollars, such as 45 or $45.50, into cents
+     */
+    public static long parseCents(String input) throws ParseException {
+        String amount = input.startsWith("$") ? input.substring(1) : input;
+        if (!amount.matches("\\d{1,12}(\\.\\d{1,2})?")) {
+            throw new InvalidInputException(input + " is not an amount of money, such as 45 or 45.50");
+        }
+        String[] parts = amount.split("\\.");
+        long cents = Long.parseLong(parts[0]) * 100;
+        if (parts.length > 1) {
+            cents += Long.parseLong(parts[1]) * (parts[1].length() == 1 ? 10 : 1);
+        }
+        return cents;
+    }
+
+    public static long parseCents(String flag, String input) throws ParseException {
+        return parseCents(parseFlag(flag, input));
+    }
+
     /**
      * Parses the flag from the input string
      * @param flag the flag to parse
@@ -514,4 +565,25 @@ public class TypeParsingUtil {
             throw new FlagNotFoundException(errorFieldName + " not found");
         }
     }
+
+    /**
+     * Returns true if {@code input} has the flag {@code flag} as a word of its own, as flags that take no value are.
+     */
+    public static boolean hasFlag(String flag, String input) {
+        return standaloneFlagPattern(flag).matcher(input).find();
+    }
+
+    /**
+     * Returns {@code input} without the flag {@code flag} wherever it is a word of its own.
+     */
+    public static String removeFlag(String flag, String input) {
+        return standaloneFlagPattern(flag).matcher(input).replaceAll("").trim();
+    }
+
+    /**
+     * Returns the pattern of the flag {@code flag} as a word of its own, together with the spaces before it.
+     */
+    private static Pattern standaloneFlagPattern(String flag) {
+        return Pattern.compile("\\s*(?<!\\S)-" + Pattern.quote(flag) + "(?!\\S)");
+    }
 }
@@ -2,10 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -48,6 +51,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces each person of {@code targets} in the list with the person at the same position in
+     * {@code editedPersons}, as one change to the list.
+     * The persons of {@code targets} must exist in the address book.
+     * The person identity of an edited person must not be the same as that of another person in the address book.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setPersons(targets, editedPersons);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -67,14 +80,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with {@code id}, or null if there is none.
+     */
+    public Person getPersonById(long id) {
+        return persons.getPersonById(id);
+    }
+
+    /**
+     * Returns the person named {@code name}, or null if there is none.
+     */
+    public Person getPersonNamed(Name name) {
+        requireNonNull(name);
+        return persons.getPersonNamed(name);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The person is given an id, which it keeps as it is edited, unless it has one that no other person has.
      */
     public void addPerson(Person p) {
         persons.add(p);
     }
 
+    /**
+     * Adds a person to the address book at {@code index} of its person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -93,6 +130,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes the persons of {@code keys} from this {@code AddressBook}, as one change to the list.
+     * The persons must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
+    /**
+     * Returns the persons of this address book as they are now, in O(1) time.
+     * Later changes to this address book leave the snapshot as it is, and it may be read from any thread.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        ObservableList<Person> snapshot =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.snapshot()));
+        return () -> snapshot;
+    }
+
     //// util methods
 
     @Override
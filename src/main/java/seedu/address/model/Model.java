@@ -1,12 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.billing.Invoice;
+import seedu.address.model.billing.Rates;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryResult;
 import seedu.address.model.state.State;
 import seedu.address.ui.Ui;
 
@@ -29,6 +40,16 @@ public interface Model {
      */
     ReadOnlyUserPrefs getUserPrefs();
 
+    /**
+     * Returns the hourly rates charged for lessons.
+     */
+    Rates getRates();
+
+    /**
+     * Replaces the hourly rates charged for lessons, for past lessons too.
+     */
+    void setRates(Rates rates);
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -57,6 +78,18 @@ public interface Model {
     /** Returns the ScheduleList */
     ReadOnlySchedule getScheduleList();
 
+    /**
+     * Returns the AddressBook as it is now, which later changes to the model leave as it is.
+     * Takes O(1) time, and the snapshot may be read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the ScheduleList as it is now, which later changes to the model leave as it is.
+     * Takes O(1) time, and the snapshot may be read from any thread.
+     */
+    ReadOnlySchedule getScheduleListSnapshot();
+
     /**
      * Returns the user prefs' schedule list file path.
      */
@@ -86,6 +119,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons, as one change to the address book.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -99,6 +138,13 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person of {@code targets} with the person at the same position in {@code editedPersons}, as one
+     * change to the address book. The persons of {@code targets} must exist in the address book, and each edited
+     * person must have the name of the person it replaces.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -108,6 +154,32 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons matched in {@code result}.
+     * Persons added or edited afterwards are shown if they match its query.
+     * @throws NullPointerException if {@code result} is null.
+     */
+    void updateFilteredPersonList(QueryResult result);
+
+    /**
+     * Sorts the filtered person list by {@code sortOrder}.
+     * Persons are ranked by their next lesson as of when this is called.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void updateSortedPersonList(PersonSortOrder sortOrder);
+
+    /**
+     * Returns the persons in the address book matching {@code query}, found using the person indexes.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryResult queryPersons(PersonQuery query);
+
+    /**
+     * Returns the persons in the address book whose names are within a few edits of {@code name}, closest first.
+     * @throws NullPointerException if {@code name} is null.
+     */
+    List<NameIndex.Match> findPersonsNamedLike(String name);
+
     /**
      * Shows the details of the given person.
      * The person must exist in the address book.
@@ -118,16 +190,51 @@ public interface Model {
      */
     boolean hasLesson(Lesson lesson);
 
+    /**
+     * Returns the invoice of the lessons starting from {@code firstDay} to {@code lastDay} inclusive.
+     */
+    Invoice getInvoice(LocalDate firstDay, LocalDate lastDay);
+
+    /**
+     * Returns the totals of the lessons in the schedule, which are kept up to date as lessons change.
+     */
+    TeachingStatistics getTeachingStatistics();
+
+    /**
+     * Recomputes the totals of the lessons in the schedule and checks them against those kept up to date.
+     * The kept totals are replaced by the recomputed ones if they differ.
+     *
+     * @return true if the kept totals were correct.
+     */
+    boolean verifyTeachingStatistics();
+
+    /**
+     * Returns true if a lesson that overlaps {@code lesson} and shares one of its students exists in the schedule.
+     */
     boolean hasLessonClashWith(Lesson lesson);
 
+    /**
+     * Returns a lesson that overlaps {@code lesson} and shares one of its students, or null if there is none.
+     */
     Lesson getLessonClashWith(Lesson lesson);
 
+    /**
+     * Returns the lessons of the whole schedule in {@code range}, in order of start time.
+     */
+    List<Lesson> getLessonsIn(LessonRange range);
+
     /**
      * Deletes the given lesson.
      * The lesson must exist in the schedule list.
      */
     void deleteLesson(Lesson target);
 
+    /**
+     * Deletes the given lessons, which may be occurrences of series, as one change to the schedule list.
+     * The lessons must exist in the schedule list.
+     */
+    void deleteLessons(List<Lesson> targets);
+
     /**
      * Adds the given lesson.
      * {@code lesson} must not already exist in the schedule list.
@@ -140,6 +247,29 @@ public interface Model {
      * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the schedule list.
      */
     void setLesson(Lesson target, Lesson editedLesson);
+
+    /**
+     * Returns true if an occurrence of {@code series} is the same lesson as one in the schedule list.
+     */
+    boolean hasAnyLessonOf(LessonSeries series);
+
+    /**
+     * Returns an occurrence of {@code series} that clashes with a lesson in the schedule, or null if there is none.
+     */
+    Lesson getLessonClashWithSeries(LessonSeries series);
+
+    /**
+     * Adds the given series of lessons, whose occurrences are made as they are needed.
+     * None of its occurrences may already be in the schedule list.
+     */
+    void addLessonSeries(LessonSeries series);
+
+    /**
+     * Replaces the given series {@code target} with {@code editedSeries}.
+     * {@code target} must exist in the schedule list.
+     */
+    void setLessonSeries(LessonSeries target, LessonSeries editedSeries);
+
     // NOTE: TO ADD FILTERED FILTEREDLESSONLIST METHODS HERE.
     /**
      * Shows the details of the given lesson.
@@ -154,6 +284,16 @@ public interface Model {
      */
     void updateFilteredScheduleList(Predicate<Lesson> predicate);
 
+    /**
+     * Restricts the filtered schedule list to the lessons in {@code range}.
+     * The filtered schedule list keeps following {@code range} as lessons are added, edited or removed.
+     * @throws NullPointerException if {@code range} is null.
+     */
+    void setLessonRange(LessonRange range);
+
+    /** Returns the range of lessons the filtered schedule list is restricted to. */
+    LessonRange getLessonRange();
+
     /**
      * Links the Ui of the Application.
      */
@@ -175,4 +315,74 @@ public interface Model {
      * @param state State to check against app
      */
     boolean sameState(State state);
+
+    /**
+     * Commits the changes made to the persons, lessons and rates since the last commit as one step described by
+     * {@code description}, so that {@link #undo()} undoes them as a whole. Nothing is committed if nothing has
+     * changed, and committing a step discards the steps that can be redone.
+     */
+    void commitChanges(String description);
+
+    /**
+     * Returns true if there is a committed step that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest committed step that has not been undone. There must be such a step.
+     *
+     * @return the description of the step.
+     */
+    String undo();
+
+    /**
+     * Redoes the latest undone step. There must be such a step.
+     *
+     * @return the description of the step.
+     */
+    String redo();
+
+    /**
+     * Returns the version of the data in the model, which increases whenever a person or lesson changes.
+     */
+    long getVersion();
+
+    /**
+     * Registers {@code listener} to be told of each change to the persons or lessons of the model.
+     * Listeners are called on the thread that changed the model, after its lists have been updated.
+     * The changes made in a transaction are told when it ends.
+     */
+    void addModelChangeListener(Consumer<ModelChange> listener);
+
+    /**
+     * Starts a transaction, which groups the changes made until it is committed or rolled back.
+     * Until then, the listeners of the model are not told of the changes, and the filtered list of lessons is not
+     * updated, so that a change to many lessons finds the lessons in range once. There must be no transaction
+     * in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction in progress, keeping its changes. The filtered list of lessons is updated, and the
+     * listeners of the model are told of at most one change to the persons and one to the lessons, which is a
+     * reset if there were several.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the transaction in progress, reversing its changes. The listeners of the model are told of the changes
+     * as when a transaction is committed. Does nothing if there is no transaction in progress, such as when it
+     * has ended by being committed while one of the listeners threw.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction is in progress.
+     */
+    boolean isInTransaction();
 }
@@ -0,0 +1,185 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonField;
+
+/**
+ * Describes a single change to the persons or lessons of a {@code Model}, so that listeners can update only
+ * what the change affects. Indexes refer to the full person or lesson list, not to the filtered lists.
+ */
+public class ModelChange {
+
+    /**
+     * The kinds of change a model can undergo.
+     */
+    public enum Kind {
+        PERSON_ADDED, PERSON_CHANGED, PERSON_REMOVED, PERSONS_RESET,
+        LESSON_ADDED, LESSON_CHANGED, LESSON_MOVED, LESSON_REMOVED, LESSONS_RESET
+    }
+
+    private final Kind kind;
+    private final Person person;
+    private final Person previousPerson;
+    private final Lesson lesson;
+    private final Lesson previousLesson;
+    private final Set<PersonField> changedFields;
+    private final int fromIndex;
+    private final int toIndex;
+
+    private ModelChange(Kind kind, Person previousPerson, Person person, Lesson previousLesson, Lesson lesson,
+            Set<PersonField> changedFields, int fromIndex, int toIndex) {
+        this.kind = kind;
+        this.person = person;
+        this.previousPerson = previousPerson;
+        this.lesson = lesson;
+        this.previousLesson = previousLesson;
+        this.changedFields = changedFields;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    /**
+     * Returns a change where {@code person} was added at {@code index}.
+     */
+    public static ModelChange personAdded(Person person, int index) {
+        requireNonNull(person);
+        return new ModelChange(Kind.PERSON_ADDED, null, person, null, null, Set.of(), -1, index);
+    }
+
+    /**
+     * Returns a change where {@code previous} at {@code index} was replaced by {@code person}.
+     */
+    public static ModelChange personChanged(Person previous, Person person, int index) {
+        requireNonNull(previous);
+        requireNonNull(person);
+        return new ModelChange(Kind.PERSON_CHANGED, previous, person, null, null,
+                PersonField.changedBetween(previous, person), index, index);
+    }
+
+    /**
+     * Returns a change where {@code person} was removed from {@code index}.
+     */
+    public static ModelChange personRemoved(Person person, int index) {
+        requireNonNull(person);
+        return new ModelChange(Kind.PERSON_REMOVED, person, null, null, null, Set.of(), index, -1);
+    }
+
+    /**
+     * Returns a change where all persons were replaced.
+     */
+    public static ModelChange personsReset() {
+        return new ModelChange(Kind.PERSONS_RESET, null, null, null, null, EnumSet.allOf(PersonField.class), -1, -1);
+    }
+
+    /**
+     * Returns a change where {@code lesson} was added at {@code index}.
+     */
+    public static ModelChange lessonAdded(Lesson lesson, int index) {
+        requireNonNull(lesson);
+        return new ModelChange(Kind.LESSON_ADDED, null, null, null, lesson, Set.of(), -1, index);
+    }
+
+    /**
+     * Returns a change where {@code previous} at {@code fromIndex} was replaced by {@code lesson},
+     * which is now at {@code toIndex}. The change is a move if the two indexes differ.
+     */
+    public static ModelChange lessonChanged(Lesson previous, Lesson lesson, int fromIndex, int toIndex) {
+        requireNonNull(previous);
+        requireNonNull(lesson);
+        Kind kind = fromIndex == toIndex ? Kind.LESSON_CHANGED : Kind.LESSON_MOVED;
+        return new ModelChange(kind, null, null, previous, lesson, Set.of(), fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a change where {@code lesson} was removed from {@code index}.
+     */
+    public static ModelChange lessonRemoved(Lesson lesson, int index) {
+        requireNonNull(lesson);
+        return new ModelChange(Kind.LESSON_REMOVED, null, null, lesson, null, Set.of(), index, -1);
+    }
+
+    /**
+     * Returns a change where all lessons were replaced.
+     */
+    public static ModelChange lessonsReset() {
+        return new ModelChange(Kind.LESSONS_RESET, null, null, null, null, Set.of(), -1, -1);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns true if the change is to the persons, rather than to the lessons.
+     */
+    public boolean isPersonChange() {
+        return kind == Kind.PERSON_ADDED || kind == Kind.PERSON_CHANGED || kind == Kind.PERSON_REMOVED
+                || kind == Kind.PERSONS_RESET;
+    }
+
+    /**
+     * Returns the person after the change, or null if there is none.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the person before the change, or null if there is none.
+     */
+    public Person getPreviousPerson() {
+        return previousPerson;
+    }
+
+    /**
+     * Returns the lesson after the change, or null if there is none.
+     */
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    /**
+     * Returns the lesson before the change, or null if there is none.
+     */
+    public Lesson getPreviousLesson() {
+        return previousLesson;
+    }
+
+    /**
+     * Returns the fields of the person that changed.
+     */
+    public Set<PersonField> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * Returns the index of the changed element before the change, or -1 if it did not exist.
+     */
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    /**
+     * Returns the index of the changed element after the change, or -1 if it no longer exists.
+     */
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("fromIndex", fromIndex)
+                .add("toIndex", toIndex)
+                .add("changedFields", changedFields)
+                .toString();
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The changes made to a model, kept as the edits that undo and redo them, so that they can be undone and redone.
+ * <p>
+ * The edits made by one command are committed together as a step, which is undone and redone as a whole, however
+ * many persons or lessons the command changed. An edit only refers to the persons, lessons or snapshots involved
+ * in it, so a step takes space in proportion to what it changed rather than to the size of the model. Only the
+ * latest steps are kept, in a ring that drops the oldest step when a new one is committed to a full history.
+ * Committing a step discards the steps that were undone before it, which can then no longer be redone.
+ */
+public class ModelHistory {
+
+    /** The number of steps kept by default. */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final Step[] steps;
+    // The ring holds stepCount steps from firstStep onwards, of which the first doneCount can be undone
+    // and the rest can be redone
+    private int firstStep = 0;
+    private int stepCount = 0;
+    private int doneCount = 0;
+    private List<Edit> pendingEdits = new ArrayList<>();
+    // Edits are not recorded while a step is undone or redone, as the step already holds them
+    private boolean isApplying = false;
+
+    /**
+     * Creates a history keeping at most {@code capacity} steps.
+     */
+    public ModelHistory(int capacity) {
+        checkArgument(capacity > 0, "The history must keep at least one step");
+        steps = new Step[capacity];
+    }
+
+    /**
+     * Records {@code edit}, which has just been made, as part of the next step to be committed.
+     */
+    public void record(Edit edit) {
+        requireNonNull(edit);
+        if (!isApplying) {
+            pendingEdits.add(edit);
+        }
+    }
+
+    /**
+     * Commits the edits recorded since the last commit as one step described by {@code description}.
+     * Nothing is committed if there are no such edits, so that the steps that can be redone are kept.
+     */
+    public void commit(String description) {
+        requireNonNull(description);
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        while (stepCount > doneCount) {
+            steps[indexOf(--stepCount)] = null;
+        }
+        if (stepCount == steps.length) {
+            steps[firstStep] = null;
+            firstStep = indexOf(1);
+            stepCount--;
+            doneCount--;
+        }
+        steps[indexOf(stepCount)] = new Step(description, pendingEdits.toArray(new Edit[0]));
+        stepCount++;
+        doneCount++;
+        pendingEdits = new ArrayList<>();
+    }
+
+    /**
+     * Returns the number of edits recorded since the last commit.
+     */
+    public int getPendingEditCount() {
+        return pendingEdits.size();
+    }
+
+    /**
+     * Undoes the edits recorded since the last commit, apart from the first {@code count} of them, from the last
+     * to the first, and forgets them, as if they had never been made.
+     */
+    public void rollBackTo(int count) {
+        checkArgument(count >= 0 && count <= pendingEdits.size(), "There are fewer edits to keep than " + count);
+        isApplying = true;
+        try {
+            while (pendingEdits.size() > count) {
+                pendingEdits.remove(pendingEdits.size() - 1).undo();
+            }
+        } finally {
+            isApplying = false;
+        }
+    }
+
+    /**
+     * Returns true if there is a committed step that can be undone.
+     */
+    public boolean canUndo() {
+        return doneCount > 0;
+    }
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    public boolean canRedo() {
+        return doneCount < stepCount;
+    }
+
+    /**
+     * Undoes the latest step that has not been undone, undoing its edits from the last to the first.
+     * There must be such a step.
+     *
+     * @return the description of the step.
+     */
+    public String undo() {
+        checkArgument(canUndo(), "There is no step to undo");
+        Step step = steps[indexOf(doneCount - 1)];
+        isApplying = true;
+        try {
+            for (int i = step.edits.length - 1; i >= 0; i--) {
+                step.edits[i].undo();
+            }
+        } finally {
+            isApplying = false;
+        }
+        doneCount--;
+        return step.description;
+    }
+
+    /**
+     * Redoes the earliest step that has been undone, redoing its edits from the first to the last.
+     * There must be such a step.
+     *
+     * @return the description of the step.
+     */
+    public String redo() {
+        checkArgument(canRedo(), "There is no step to redo");
+        Step step = steps[indexOf(doneCount)];
+        isApplying = true;
+        try {
+            for (Edit edit : step.edits) {
+                edit.redo();
+            }
+        } finally {
+            isApplying = false;
+        }
+        doneCount++;
+        return step.description;
+    }
+
+    private int indexOf(int position) {
+        return (firstStep + position) % steps.length;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("capacity", steps.length)
+                .add("steps", stepCount)
+                .add("undoable", doneCount)
+                .toString();
+    }
+
+    /**
+     * A change made to a model, which knows how to undo and redo itself.
+     */
+    public interface Edit {
+        /**
+         * Reverses the change, given that the model is as the change left it.
+         */
+        void undo();
+
+        /**
+         * Makes the change again, given that the model is as it was before the change.
+         */
+        void redo();
+
+        /**
+         * Returns an edit that is undone by running {@code undo} and redone by running {@code redo}.
+         */
+        static Edit of(Runnable undo, Runnable redo) {
+            requireNonNull(undo);
+            requireNonNull(redo);
+            return new Edit() {
+                @Override
+                public void undo() {
+                    undo.run();
+                }
+
+                @Override
+                public void redo() {
+                    redo.run();
+                }
+            };
+        }
+    }
+
+    /**
+     * The edits made by one command.
+     */
+    private static class Step {
+        private final String description;
+        private final Edit[] edits;
+
+        Step(String description, Edit[] edits) {
+            this.description = description;
+            this.edits = edits;
+        }
+    }
+}
@@ -1,18 +1,44 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ModelHistory.Edit;
+import seedu.address.model.billing.BillingLedger;
+import seedu.address.model.billing.Invoice;
+import seedu.address.model.billing.Rates;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.query.PersonIndex;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryResult;
 import seedu.address.model.state.State;
 import seedu.address.ui.Ui;
 
@@ -26,11 +52,33 @@ public class ModelManager implements Model {
     private final ScheduleList scheduleList;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private PersonSortOrder.Ranking personRanking = null;
+    private final ObservableList<Lesson> lessonsInRange = FXCollections.observableArrayList();
     private final FilteredList<Lesson> filteredLessons;
+    private final QueryPlanner personQueryPlanner;
+    private final NameIndex personNameIndex;
+    private final TeachingStatistics teachingStatistics;
+    private final BillingLedger billingLedger;
+    private final ModelHistory history = new ModelHistory(ModelHistory.DEFAULT_CAPACITY);
     private Ui ui = null;
     private State state = State.SCHEDULE; // Default state of app. Can be either SCHEDULE or STUDENTS
+    // Starts on a bounded window, so that the lessons shown do not grow with how long the series run
+    private LessonRange lessonRange = LessonRange.weekOf(LocalDate.now());
     private Person currentShowingPerson = null;
     private Lesson currentShowingLesson = null;
+    private final List<Consumer<ModelChange>> changeListeners = new CopyOnWriteArrayList<>();
+    // The changes made in the transaction in progress, which are published when it ends, or null if there is none
+    private List<ModelChange> transactionChanges = null;
+    // The number of edits recorded in the history when the transaction in progress began
+    private int transactionStart = 0;
+    // Set when the lessons change in a transaction, so that the lessons in range are found once when it ends
+    private boolean isLessonsInRangeStale = false;
+    // Only changed on the thread that changes the model, but may be read from any thread
+    private volatile long version = 0;
+    // The last query of the persons, and the version of the model it ran on
+    private QueryResult lastQueryResult = null;
+    private long lastQueryVersion = 0;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -43,10 +91,32 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.scheduleList = new ScheduleList(scheduleList);
+        // Links the lessons of files saved before lessons were linked to persons, and drops links to persons who
+        // are gone, so that their ids cannot be taken by persons added later
+        linkAllLessons();
         // to add: filtered list of lessons
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredLessons = new FilteredList<>(this.scheduleList.getLessonList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        lessonsInRange.setAll(this.scheduleList.getLessonsIn(lessonRange));
+        filteredLessons = new FilteredList<>(lessonsInRange);
+        personQueryPlanner = new QueryPlanner(new PersonIndex(this.addressBook.getPersonList()));
+        personNameIndex = new NameIndex(this.addressBook.getPersonList());
+        teachingStatistics = TeachingStatistics.of(this.scheduleList.getLessonList(),
+                this.scheduleList.getSeriesList());
+        billingLedger = new BillingLedger(this.scheduleList::getLessonsIn, this.userPrefs.getRates(),
+                Clock.systemDefaultZone());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> version++);
+        // Added after the sorted list, so that it has stopped comparing the removed persons
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) this::forgetRemovedPersons);
+        this.scheduleList.getLessonList().addListener((ListChangeListener<Lesson>) change -> version++);
+        this.scheduleList.getLessonList().addListener((ListChangeListener<Lesson>) change -> onLessonsChanged());
+        this.scheduleList.getSeriesList().addListener((ListChangeListener<LessonSeries>) change -> version++);
+        this.scheduleList.getSeriesList().addListener((ListChangeListener<LessonSeries>) change ->
+                onLessonsChanged());
+        // The statistics follow the lists rather than each edit, as an edit of an occurrence also changes its series
+        this.scheduleList.getLessonList().addListener((ListChangeListener<Lesson>) this::countLessonChanges);
+        this.scheduleList.getSeriesList().addListener((ListChangeListener<LessonSeries>) this::countSeriesChanges);
     }
 
     public ModelManager() {
@@ -59,6 +129,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        billingLedger.setRates(this.userPrefs.getRates());
     }
 
     @Override
@@ -99,11 +170,33 @@ public class ModelManager implements Model {
         userPrefs.setScheduleListFilePath(scheduleListPath);
     }
 
+    @Override
+    public Rates getRates() {
+        return userPrefs.getRates();
+    }
+
+    @Override
+    public void setRates(Rates rates) {
+        requireNonNull(rates);
+        Rates previousRates = userPrefs.getRates();
+        applyRates(rates);
+        history.record(Edit.of(() -> setRates(previousRates), () -> setRates(rates)));
+    }
+
+    private void applyRates(Rates rates) {
+        userPrefs.setRates(rates);
+        billingLedger.setRates(rates);
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook previousAddressBook = this.addressBook.snapshot();
         this.addressBook.resetData(addressBook);
+        ReadOnlyAddressBook newAddressBook = this.addressBook.snapshot();
+        publishChange(ModelChange.personsReset());
+        history.record(Edit.of(() -> setAddressBook(previousAddressBook), () -> setAddressBook(newAddressBook)));
     }
 
     @Override
@@ -119,20 +212,83 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.getPersonList().indexOf(target);
         addressBook.removePerson(target);
+        publishChange(ModelChange.personRemoved(target, index));
+        history.record(Edit.of(() -> insertPerson(index, target), () -> deletePerson(target)));
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireAllNonNull(targets);
+        if (targets.isEmpty()) {
+            return;
+        }
+        ReadOnlyAddressBook previousAddressBook = addressBook.snapshot();
+        addressBook.removePersons(targets);
+        ReadOnlyAddressBook newAddressBook = addressBook.snapshot();
+        publishChange(ModelChange.personsReset());
+        history.record(Edit.of(() -> setAddressBook(previousAddressBook), () -> setAddressBook(newAddressBook)));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        int index = addressBook.getPersonList().size() - 1;
+        // The person kept by the address book has been given an id
+        Person added = addressBook.getPersonList().get(index);
+        // Lessons of a student of the same name who was deleted are linked to the added person
+        updateLessons(scheduleList.getLessonsOfStudent(added.getName()),
+                scheduleList.getSeriesOfStudent(added.getName()), this::link);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        publishChange(ModelChange.personAdded(added, index));
+        history.record(Edit.of(() -> deletePerson(added), () -> addPerson(added)));
+    }
+
+    /**
+     * Puts back {@code person} at {@code index}, from which it was deleted.
+     */
+    private void insertPerson(int index, Person person) {
+        addressBook.addPerson(index, person);
+        publishChange(ModelChange.personAdded(person, index));
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        int index = addressBook.getPersonList().indexOf(target);
+        Person replaced = index == -1 ? target : addressBook.getPersonList().get(index);
         addressBook.setPerson(target, editedPerson);
+        // The person kept by the address book has the id of the person it replaced
+        Person edited = addressBook.getPersonList().get(index);
+        if (!edited.getName().equals(replaced.getName())) {
+            long id = edited.getId();
+            updateLessons(scheduleList.getLessonsOfStudent(id), scheduleList.getSeriesOfStudent(id), lesson ->
+                    lesson.withStudentRenamed(id, edited.getName()));
+            // Not recorded on its own, as undoing the edit renames the rate back
+            applyRates(getRates().withStudentRenamed(replaced.getName(), edited.getName()));
+        }
+        publishChange(ModelChange.personChanged(replaced, edited, index));
+        history.record(Edit.of(() -> setPerson(edited, replaced), () -> setPerson(replaced, edited)));
+    }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Each person must be replaced by one edited person");
+        for (int i = 0; i < targets.size(); i++) {
+            // Renaming would also have to rename the students of lessons, which setPerson does one person at a time
+            checkArgument(targets.get(i).getName().equals(editedPersons.get(i).getName()),
+                    "Persons edited together must keep their names");
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        ReadOnlyAddressBook previousAddressBook = addressBook.snapshot();
+        addressBook.setPersons(targets, editedPersons);
+        ReadOnlyAddressBook newAddressBook = addressBook.snapshot();
+        publishChange(ModelChange.personsReset());
+        history.record(Edit.of(() -> setAddressBook(previousAddressBook), () -> setAddressBook(newAddressBook)));
     }
 
 
@@ -145,20 +301,106 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (filteredPersons.getPredicate() == predicate) {
+            // the filtered list is kept up to date as persons change, so filtering again changes nothing
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(QueryResult result) {
+        requireNonNull(result);
+        if (result != lastQueryResult || version != lastQueryVersion) {
+            // the persons may have changed since the query ran, so each of them is tested against it
+            updateFilteredPersonList(result.asPredicate());
+            return;
+        }
+        // Every person in the list was either matched by the query or not, so the list is filtered by the matches
+        // alone; only persons added or edited afterwards are tested against the query itself
+        boolean[] isFiltering = {true};
+        PersonQuery query = result.getQuery();
+        filteredPersons.setPredicate(person -> result.isMatch(person) || (!isFiltering[0] && query.test(person)));
+        isFiltering[0] = false;
+    }
+
+    @Override
+    public void updateSortedPersonList(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        List<Lesson> upcomingLessons = scheduleList.getLessonsIn(LessonRange.between(LocalDateTime.now(), null));
+        personRanking = sortOrder.createComparator(addressBook.getPersonList(), upcomingLessons);
+        sortedPersons.setComparator(personRanking);
+    }
+
+    /**
+     * Counts the lessons added and removed by {@code change} in the teaching statistics. Permutations and updates
+     * leave the lessons as they are, so they are not counted.
+     */
+    private void countLessonChanges(ListChangeListener.Change<? extends Lesson> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(teachingStatistics::remove);
+            change.getAddedSubList().forEach(teachingStatistics::add);
+        }
+    }
+
+    /**
+     * Counts the series added and removed by {@code change} in the teaching statistics, as by
+     * {@link #countLessonChanges}.
+     */
+    private void countSeriesChanges(ListChangeListener.Change<? extends LessonSeries> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(teachingStatistics::removeSeries);
+            change.getAddedSubList().forEach(teachingStatistics::addSeries);
+        }
+    }
+
+    /**
+     * Drops the persons removed by {@code change} from the ranking of the sort order, which would otherwise keep
+     * them alive until the persons are next sorted.
+     */
+    private void forgetRemovedPersons(ListChangeListener.Change<? extends Person> change) {
+        if (personRanking == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                personRanking.forget(change.getRemoved());
+            }
+        }
+    }
+
+    @Override
+    public QueryResult queryPersons(PersonQuery query) {
+        requireNonNull(query);
+        lastQueryResult = personQueryPlanner.execute(query);
+        lastQueryVersion = version;
+        return lastQueryResult;
+    }
+
+    @Override
+    public List<NameIndex.Match> findPersonsNamedLike(String name) {
+        requireNonNull(name);
+        return personNameIndex.search(name);
+    }
+
     //=========== ScheduleList ================================================================================
 
     @Override
     public void setScheduleList(ReadOnlySchedule scheduleList) {
+        ReadOnlySchedule previousScheduleList = this.scheduleList.snapshot();
         this.scheduleList.resetData(scheduleList);
+        linkAllLessons();
+        ReadOnlySchedule newScheduleList = this.scheduleList.snapshot();
+        billingLedger.invalidateAll();
+        publishChange(ModelChange.lessonsReset());
+        history.record(Edit.of(() -> setScheduleList(previousScheduleList), () ->
+                setScheduleList(newScheduleList)));
     }
 
     @Override
@@ -166,6 +408,16 @@ public class ModelManager implements Model {
         return scheduleList;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public ReadOnlySchedule getScheduleListSnapshot() {
+        return scheduleList.snapshot();
+    }
+
     @Override
     public boolean hasLesson(Lesson lesson) {
         requireNonNull(lesson);
@@ -187,22 +439,235 @@ public class ModelManager implements Model {
         return scheduleList.getLessonClashWith(lesson);
     }
 
+    @Override
+    public List<Lesson> getLessonsIn(LessonRange range) {
+        requireNonNull(range);
+        return scheduleList.getLessonsIn(range);
+    }
+
     @Override
     public void deleteLesson(Lesson target) {
+        int index = scheduleList.getLessonList().indexOf(target);
+        // An occurrence of a series is deleted by taking it out of its series
+        LessonSeries series = index == -1 ? scheduleList.getSeriesWith(target) : null;
         scheduleList.removeLesson(target);
+        billingLedger.invalidate(target);
+        publishChange(ModelChange.lessonRemoved(target, index));
+        if (series == null) {
+            history.record(Edit.of(() -> addLesson(target), () -> deleteLesson(target)));
+        } else {
+            history.record(Edit.of(() -> restoreOccurrence(series, target), () -> deleteLesson(target)));
+        }
     }
 
     @Override
-    public void addLesson(Lesson lesson) {
+    public void deleteLessons(List<Lesson> targets) {
+        requireAllNonNull(targets);
+        if (targets.isEmpty()) {
+            return;
+        }
+        ReadOnlySchedule previousScheduleList = scheduleList.snapshot();
+        scheduleList.removeLessons(targets);
+        ReadOnlySchedule newScheduleList = scheduleList.snapshot();
+        targets.forEach(billingLedger::invalidate);
+        publishChange(ModelChange.lessonsReset());
+        history.record(Edit.of(() -> setScheduleList(previousScheduleList), () ->
+                setScheduleList(newScheduleList)));
+    }
+
+    @Override
+    public void addLesson(Lesson toAdd) {
+        Lesson lesson = link(toAdd);
         scheduleList.addLesson(lesson);
+        billingLedger.invalidate(lesson);
         //updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        publishChange(ModelChange.lessonAdded(lesson, scheduleList.getLessonList().indexOf(lesson)));
+        history.record(Edit.of(() -> deleteLesson(lesson), () -> addLesson(lesson)));
     }
 
     @Override
-    public void setLesson(Lesson target, Lesson editedLesson) {
-        requireAllNonNull(target, editedLesson);
+    public void setLesson(Lesson target, Lesson edited) {
+        requireAllNonNull(target, edited);
+        Lesson editedLesson = link(edited);
 
+        int fromIndex = scheduleList.getLessonList().indexOf(target);
+        // An occurrence of a series is edited by taking it out of its series and adding the edited lesson
+        LessonSeries series = fromIndex == -1 ? scheduleList.getSeriesWith(target) : null;
         scheduleList.setLesson(target, editedLesson);
+        billingLedger.invalidate(target);
+        billingLedger.invalidate(editedLesson);
+        publishChange(ModelChange.lessonChanged(target, editedLesson, fromIndex,
+                scheduleList.getLessonList().indexOf(editedLesson)));
+        if (series == null) {
+            history.record(Edit.of(() -> setLesson(editedLesson, target), () -> setLesson(target, editedLesson)));
+        } else {
+            history.record(Edit.of(() -> {
+                deleteLesson(editedLesson);
+                restoreOccurrence(series, target);
+            }, () -> setLesson(target, editedLesson)));
+        }
+    }
+
+    /**
+     * Puts back {@code occurrence} into {@code series}, from which it was taken out.
+     */
+    private void restoreOccurrence(LessonSeries series, Lesson occurrence) {
+        setLessonSeries(series.withException(occurrence.getStart().toLocalDate()), series);
+    }
+
+    @Override
+    public boolean hasAnyLessonOf(LessonSeries series) {
+        requireNonNull(series);
+        return scheduleList.hasAnyLessonOf(series);
+    }
+
+    @Override
+    public Lesson getLessonClashWithSeries(LessonSeries series) {
+        requireNonNull(series);
+        return scheduleList.getLessonClashWithSeries(series);
+    }
+
+    @Override
+    public void addLessonSeries(LessonSeries toAdd) {
+        LessonSeries series = link(toAdd);
+        scheduleList.addSeries(series);
+        billingLedger.invalidateAll();
+        publishChange(ModelChange.lessonsReset());
+        history.record(Edit.of(() -> removeLessonSeries(series), () -> addLessonSeries(series)));
+    }
+
+    /**
+     * Removes {@code series}, which was added.
+     */
+    private void removeLessonSeries(LessonSeries series) {
+        scheduleList.removeSeries(series);
+        billingLedger.invalidateAll();
+        publishChange(ModelChange.lessonsReset());
+    }
+
+    @Override
+    public void setLessonSeries(LessonSeries target, LessonSeries edited) {
+        requireAllNonNull(target, edited);
+        LessonSeries editedSeries = link(edited);
+        scheduleList.setSeries(target, editedSeries);
+        billingLedger.invalidateAll();
+        publishChange(ModelChange.lessonsReset());
+        history.record(Edit.of(() -> setLessonSeries(editedSeries, target), () ->
+                setLessonSeries(target, editedSeries)));
+    }
+
+    //=========== Links between lessons and persons ==========================================================
+
+    /**
+     * Returns {@code lesson} with its students linked to the persons of the address book, or {@code lesson} itself
+     * if its links are up to date. A student linked to a person is given the name of that person, and a student
+     * not linked to a person still in the address book is linked to the person of the same name, if there is one.
+     */
+    private Lesson link(Lesson lesson) {
+        List<Name> students = lesson.getStudents();
+        long[] ids = lesson.getStudentIds();
+        ArrayList<Name> linkedStudents = new ArrayList<>(students);
+        long[] linkedIds = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            Person person = addressBook.getPersonById(ids[i]);
+            if (person == null) {
+                person = addressBook.getPersonNamed(students.get(i));
+            }
+            if (person != null) {
+                linkedStudents.set(i, person.getName());
+                linkedIds[i] = person.getId();
+            }
+        }
+        if (Arrays.equals(ids, linkedIds) && linkedStudents.equals(students)) {
+            return lesson;
+        }
+        return lesson.withStudents(linkedStudents).withStudentIds(linkedIds);
+    }
+
+    /**
+     * Returns {@code series} with the students of its lessons linked as by {@link #link(Lesson)}, or
+     * {@code series} itself if its links are up to date.
+     */
+    private LessonSeries link(LessonSeries series) {
+        return withFirst(series, link(series.getFirst()));
+    }
+
+    private static LessonSeries withFirst(LessonSeries series, Lesson first) {
+        if (first == series.getFirst()) {
+            return series;
+        }
+        return new LessonSeries(first, series.getIntervalInWeeks(), series.getLastDay(), series.getExceptions());
+    }
+
+    /**
+     * Links the students of every lesson and series of the schedule list, without recording the changes or
+     * updating the statistics.
+     */
+    private void linkAllLessons() {
+        for (Lesson lesson : new ArrayList<>(scheduleList.getLessonList())) {
+            Lesson linked = link(lesson);
+            if (linked != lesson) {
+                scheduleList.setLesson(lesson, linked);
+            }
+        }
+        for (LessonSeries series : new ArrayList<>(scheduleList.getSeriesList())) {
+            LessonSeries linked = link(series);
+            if (linked != series) {
+                scheduleList.setSeries(series, linked);
+            }
+        }
+    }
+
+    /**
+     * Replaces each of {@code lessons} with the lesson {@code update} makes of it, and each of {@code seriesList} with
+     * the series of the updated lessons. The lessons and series are those of the schedule list that may be affected,
+     * as found from its index of the lessons of each student, so that other lessons are not gone through.
+     * {@code update} only changes the students of a lesson. The changes are not recorded, as they follow from the
+     * change of a person, which undoes them when it is undone.
+     */
+    private void updateLessons(List<Lesson> lessons, List<LessonSeries> seriesList, UnaryOperator<Lesson> update) {
+        boolean isChanged = false;
+        for (Lesson lesson : lessons) {
+            Lesson updated = update.apply(lesson);
+            if (updated != lesson) {
+                scheduleList.setLesson(lesson, updated);
+                isChanged = true;
+            }
+        }
+        for (LessonSeries series : seriesList) {
+            LessonSeries updated = withFirst(series, update.apply(series.getFirst()));
+            if (updated != series) {
+                scheduleList.setSeries(series, updated);
+                isChanged = true;
+            }
+        }
+        if (isChanged) {
+            billingLedger.invalidateAll();
+            publishChange(ModelChange.lessonsReset());
+        }
+    }
+
+    @Override
+    public TeachingStatistics getTeachingStatistics() {
+        return teachingStatistics;
+    }
+
+    @Override
+    public boolean verifyTeachingStatistics() {
+        TeachingStatistics recomputed = TeachingStatistics.of(scheduleList.getLessonList(),
+                scheduleList.getSeriesList());
+        if (recomputed.equals(teachingStatistics)) {
+            return true;
+        }
+        logger.warning("Teaching statistics differ from the schedule, recomputing them: " + teachingStatistics);
+        teachingStatistics.reset(scheduleList.getLessonList(), scheduleList.getSeriesList());
+        return false;
+    }
+
+    @Override
+    public Invoice getInvoice(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        return billingLedger.invoice(firstDay, lastDay);
     }
 
     //=========== Filtered Lesson List Accessors =============================================================
@@ -219,8 +684,67 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredScheduleList(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
+        if (filteredLessons.getPredicate() == predicate) {
+            return;
+        }
         filteredLessons.setPredicate(predicate);
     }
+
+    @Override
+    public void setLessonRange(LessonRange range) {
+        requireNonNull(range);
+        lessonRange = range;
+        refreshLessonsInRange();
+    }
+
+    @Override
+    public LessonRange getLessonRange() {
+        return lessonRange;
+    }
+
+    /**
+     * Updates {@code lessonsInRange} after a change to the lessons, or leaves it to be updated when the transaction
+     * in progress ends.
+     */
+    private void onLessonsChanged() {
+        if (isInTransaction()) {
+            isLessonsInRangeStale = true;
+        } else {
+            refreshLessonsInRange();
+        }
+    }
+
+    /**
+     * Updates {@code lessonsInRange} to the lessons in {@code lessonRange}, changing only the part that differs
+     * so that lessons outside of the changed part are left in place. The occurrences of a series are made anew
+     * each time they are listed, so lessons are compared by their content rather than as the same instance.
+     */
+    private void refreshLessonsInRange() {
+        isLessonsInRangeStale = false;
+        List<Lesson> updated = scheduleList.getLessonsIn(lessonRange);
+        int sharedSize = Math.min(lessonsInRange.size(), updated.size());
+        int prefix = 0;
+        while (prefix < sharedSize && isSameContent(lessonsInRange.get(prefix), updated.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < sharedSize - prefix && isSameContent(lessonsInRange.get(lessonsInRange.size() - 1 - suffix),
+                updated.get(updated.size() - 1 - suffix))) {
+            suffix++;
+        }
+        lessonsInRange.remove(prefix, lessonsInRange.size() - suffix);
+        lessonsInRange.addAll(prefix, updated.subList(prefix, updated.size() - suffix));
+    }
+
+    /**
+     * Returns true if {@code lesson} and {@code other} show the same, down to the ids of their students and their
+     * tasks, which {@link Lesson#equals} does not compare.
+     */
+    private static boolean isSameContent(Lesson lesson, Lesson other) {
+        return lesson == other
+                || (lesson.equals(other) && Arrays.equals(lesson.getStudentIds(), other.getStudentIds())
+                && lesson.getTaskList().equals(other.getTaskList()));
+    }
     //=========== Ui Changing =============================================================
 
     public void linkUi(Ui ui) {
@@ -259,7 +783,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
     //=========== App State Changing =============================================================
@@ -279,4 +803,121 @@ public class ModelManager implements Model {
         return this.state.equals(state);
     }
 
+    //=========== Undo and Redo =============================================================
+
+    @Override
+    public void commitChanges(String description) {
+        history.commit(description);
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public String undo() {
+        return history.undo();
+    }
+
+    @Override
+    public String redo() {
+        return history.redo();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    //=========== Model Changes =============================================================
+
+    @Override
+    public void addModelChangeListener(Consumer<ModelChange> listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Notifies the listeners of {@code change}, once the lists of the model reflect it.
+     * A change made in a transaction is held back until the transaction ends.
+     */
+    private void publishChange(ModelChange change) {
+        if (transactionChanges != null) {
+            transactionChanges.add(change);
+            return;
+        }
+        changeListeners.forEach(listener -> listener.accept(change));
+    }
+
+    //=========== Transactions =============================================================
+
+    @Override
+    public void beginTransaction() {
+        checkArgument(!isInTransaction(), "A transaction is already in progress");
+        transactionChanges = new ArrayList<>();
+        transactionStart = history.getPendingEditCount();
+    }
+
+    @Override
+    public void commitTransaction() {
+        checkArgument(isInTransaction(), "No transaction is in progress");
+        List<ModelChange> changes = transactionChanges;
+        transactionChanges = null;
+        if (isLessonsInRangeStale) {
+            refreshLessonsInRange();
+        }
+        consolidate(changes).forEach(this::publishChange);
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (!isInTransaction()) {
+            return;
+        }
+        try {
+            history.rollBackTo(transactionStart);
+        } finally {
+            commitTransaction();
+        }
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return transactionChanges != null;
+    }
+
+    /**
+     * Returns one change to the persons and one to the lessons that together stand for {@code changes}, leaving
+     * out those of which there were none. A single change is kept as it is, while several are replaced by a reset.
+     */
+    private static List<ModelChange> consolidate(List<ModelChange> changes) {
+        List<ModelChange> personChanges = new ArrayList<>();
+        List<ModelChange> lessonChanges = new ArrayList<>();
+        for (ModelChange change : changes) {
+            if (change.isPersonChange()) {
+                personChanges.add(change);
+            } else {
+                lessonChanges.add(change);
+            }
+        }
+        List<ModelChange> consolidated = new ArrayList<>();
+        if (personChanges.size() == 1) {
+            consolidated.add(personChanges.get(0));
+        } else if (personChanges.size() > 1) {
+            consolidated.add(ModelChange.personsReset());
+        }
+        if (lessonChanges.size() == 1) {
+            consolidated.add(lessonChanges.get(0));
+        } else if (lessonChanges.size() > 1) {
+            consolidated.add(ModelChange.lessonsReset());
+        }
+        return consolidated;
+    }
+
 }
@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.Schedule;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons and lessons in a {@code Model} at a given version.
+ * Snapshots can be read from any thread while the model keeps changing.
+ * Snapshots of a model share the lists of the model instead of copying them. The occurrences of series of lessons
+ * are only made for the lessons asked for, so that reading a page of lessons takes memory for that page alone
+ * however long the series run.
+ */
+public class ModelSnapshot {
+
+    private final long version;
+    private final List<Person> persons;
+    private final List<Lesson> concreteLessons;
+    private final List<LessonSeries> series;
+
+    /**
+     * Creates a snapshot of {@code persons} and {@code lessons} taken at {@code version}.
+     */
+    public ModelSnapshot(long version, List<Person> persons, List<Lesson> lessons) {
+        requireAllNonNull(persons, lessons);
+        this.version = version;
+        this.persons = List.copyOf(persons);
+        this.concreteLessons = List.copyOf(lessons);
+        this.series = List.of();
+    }
+
+    /**
+     * Creates a snapshot of the unmodifiable lists {@code persons}, {@code lessons} and {@code series}, which are
+     * never changed, taken at {@code version}.
+     */
+    private ModelSnapshot(long version, List<Person> persons, List<Lesson> lessons, List<LessonSeries> series) {
+        this.version = version;
+        this.persons = persons;
+        this.concreteLessons = lessons;
+        this.series = series;
+    }
+
+    /**
+     * Takes a snapshot of the current data in {@code model}.
+     * Must be called on the thread that changes the model.
+     */
+    public static ModelSnapshot of(Model model) {
+        ReadOnlySchedule schedule = model.getScheduleListSnapshot();
+        return new ModelSnapshot(model.getVersion(), model.getAddressBookSnapshot().getPersonList(),
+                schedule.getLessonList(), schedule.getSeriesList());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /** Returns an unmodifiable list of all persons in the snapshot. */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the number of lessons in the snapshot, counting each occurrence of a series that is held.
+     */
+    public int getLessonCount() {
+        long count = concreteLessons.size();
+        for (LessonSeries lessonSeries : series) {
+            count += lessonSeries.getHeldCount();
+        }
+        return (int) count;
+    }
+
+    /**
+     * Returns up to {@code limit} of the lessons in the snapshot, from the {@code offset}-th in schedule order.
+     * Lessons are in order of start time, with the lessons of their own before the occurrences of series starting
+     * at the same time. Only the occurrences up to the last lesson returned are made.
+     */
+    public List<Lesson> getLessons(int offset, int limit) {
+        checkArgument(offset >= 0 && limit >= 0, "The offset and limit must not be negative");
+        Iterator<Lesson> lessons = Schedule.inStartOrder(concreteLessons.iterator(), series, null);
+        for (int i = 0; i < offset && lessons.hasNext(); i++) {
+            lessons.next();
+        }
+        List<Lesson> page = new ArrayList<>();
+        while (page.size() < limit && lessons.hasNext()) {
+            page.add(lessons.next());
+        }
+        return page;
+    }
+
+    /**
+     * Returns the lessons in the snapshot that are not occurrences of series, in order of start time.
+     * Only these lessons have tasks, as occurrences are made with none.
+     */
+    public List<Lesson> getConcreteLessons() {
+        return concreteLessons;
+    }
+
+    /**
+     * Returns the position in schedule order, among all lessons of the snapshot, of the {@code index}-th lesson of
+     * {@link #getConcreteLessons()}. The occurrences of series before it are counted from their dates rather than
+     * made.
+     */
+    public int getPositionOfConcreteLesson(int index) {
+        LocalDateTime start = concreteLessons.get(index).getStart();
+        long position = index;
+        for (LessonSeries lessonSeries : series) {
+            position += lessonSeries.getHeldCountBefore(start);
+        }
+        return (int) position;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons.size())
+                .add("lessons", concreteLessons.size())
+                .add("series", series.size())
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +15,9 @@ public interface ReadOnlySchedule {
      */
     ObservableList<Lesson> getLessonList();
 
+    /**
+     * Returns an unmodifiable view of the series of lessons, whose occurrences are not in the lesson list.
+     */
+    ObservableList<LessonSeries> getSeriesList();
+
 }
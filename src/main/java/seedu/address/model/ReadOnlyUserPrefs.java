@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.billing.Rates;
 
 /**
  * Unmodifiable view of user prefs.
@@ -15,4 +16,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getScheduleListFilePath();
 
+    Rates getRates();
+
 }
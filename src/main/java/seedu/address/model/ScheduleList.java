@@ -2,12 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
 import seedu.address.model.lessons.Schedule;
+import seedu.address.model.person.Name;
 
 /**
  * Wraps all data at the schedule-list level
@@ -55,6 +60,7 @@ public class ScheduleList implements ReadOnlySchedule {
         requireNonNull(newData);
 
         setLessons(newData.getLessonList());
+        lessons.setSeriesList(newData.getSeriesList());
     }
 
     //// person-level operations
@@ -68,7 +74,8 @@ public class ScheduleList implements ReadOnlySchedule {
     }
 
     /**
-     * Returns true if a lesson with the same identity as {@code lesson} exists in the schedule list.
+     * Returns true if a lesson that overlaps {@code lesson} and shares one of its students exists in the schedule
+     * list.
      */
     public boolean hasLessonClashWith(Lesson lesson) {
         requireNonNull(lesson);
@@ -110,6 +117,125 @@ public class ScheduleList implements ReadOnlySchedule {
         lessons.remove(key);
     }
 
+    /**
+     * Removes the lessons of {@code keys} from this {@code ScheduleList}, as one change to the lessons and at most
+     * one change to each series. The lessons must exist in the schedule list.
+     */
+    public void removeLessons(Collection<Lesson> keys) {
+        lessons.removeAll(keys);
+    }
+
+    /**
+     * Returns true if an occurrence of {@code series} is the same lesson as one in the schedule list.
+     */
+    public boolean hasAnyLessonOf(LessonSeries series) {
+        requireNonNull(series);
+        return lessons.containsAnyOf(series);
+    }
+
+    /**
+     * Returns an occurrence of {@code series} that clashes with a lesson in the schedule list, or null if there is
+     * none.
+     */
+    public Lesson getLessonClashWithSeries(LessonSeries series) {
+        requireNonNull(series);
+        return lessons.getLessonClashWithSeries(series);
+    }
+
+    /**
+     * Adds a series of lessons to the schedule list.
+     * None of its occurrences may already be in the schedule list.
+     */
+    public void addSeries(LessonSeries series) {
+        lessons.addSeries(series);
+    }
+
+    /**
+     * Replaces the series {@code target} with {@code editedSeries}.
+     * {@code target} must exist in the schedule list.
+     */
+    public void setSeries(LessonSeries target, LessonSeries editedSeries) {
+        requireNonNull(editedSeries);
+        lessons.setSeries(target, editedSeries);
+    }
+
+    /**
+     * Removes {@code series} from this {@code ScheduleList}.
+     * {@code series} must exist in the schedule list.
+     */
+    public void removeSeries(LessonSeries series) {
+        lessons.removeSeries(series);
+    }
+
+    /**
+     * Returns the series of which {@code occurrence} is an occurrence, or null if it is not an occurrence of a
+     * series in the schedule list.
+     */
+    public LessonSeries getSeriesWith(Lesson occurrence) {
+        requireNonNull(occurrence);
+        return lessons.getSeriesWith(occurrence);
+    }
+
+    /**
+     * Returns the lessons, other than occurrences of series, with a student named {@code student}.
+     */
+    public List<Lesson> getLessonsOfStudent(Name student) {
+        requireNonNull(student);
+        return lessons.getLessonsOfStudent(student);
+    }
+
+    /**
+     * Returns the lessons, other than occurrences of series, with a student linked to the person with {@code id}.
+     */
+    public List<Lesson> getLessonsOfStudent(long id) {
+        return lessons.getLessonsOfStudent(id);
+    }
+
+    /**
+     * Returns the series whose lessons have a student named {@code student}.
+     */
+    public List<LessonSeries> getSeriesOfStudent(Name student) {
+        requireNonNull(student);
+        return lessons.getSeriesOfStudent(student);
+    }
+
+    /**
+     * Returns the series whose lessons have a student linked to the person with {@code id}.
+     */
+    public List<LessonSeries> getSeriesOfStudent(long id) {
+        return lessons.getSeriesOfStudent(id);
+    }
+
+    /**
+     * Returns the lessons in {@code range}, in order of start time.
+     */
+    public List<Lesson> getLessonsIn(LessonRange range) {
+        requireNonNull(range);
+        return range.select(lessons);
+    }
+
+    /**
+     * Returns the lessons and series of this schedule list as they are now, in O(1) time.
+     * Later changes to this schedule list leave the snapshot as it is, and it may be read from any thread.
+     */
+    public ReadOnlySchedule snapshot() {
+        ObservableList<Lesson> lessonSnapshot =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(lessons.snapshot()));
+        ObservableList<LessonSeries> seriesSnapshot =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(lessons.snapshotSeries()));
+        return new ReadOnlySchedule() {
+            @Override
+            public ObservableList<Lesson> getLessonList() {
+                return lessonSnapshot;
+            }
+
+            @Override
+            public ObservableList<LessonSeries> getSeriesList() {
+                return seriesSnapshot;
+            }
+        };
+    }
+
     //// util methods
 
     @Override
@@ -124,6 +250,11 @@ public class ScheduleList implements ReadOnlySchedule {
         return lessons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<LessonSeries> getSeriesList() {
+        return lessons.asUnmodifiableObservableSeriesList();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,323 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * Totals of the lessons in a schedule, such as the minutes taught per subject, student, week and month,
+ * the number of lessons of each student and the number of pending tasks.
+ * The totals are kept up to date as lessons are added and removed, so that each of them is read without
+ * going through the schedule. Lessons added and removed are only counted once the totals are next read, so
+ * that a command changing many lessons does not update the totals at each step.
+ * {@link #of(Iterable, Iterable)} computes them from scratch, to check the kept totals against.
+ * A lesson is counted in the week and month it starts in.
+ * <p>
+ * A series of lessons is counted as a whole, from the number of its occurrences held, rather than occurrence by
+ * occurrence. Its minutes in a week or month are worked out from its dates when they are read.
+ */
+public class TeachingStatistics {
+
+    private final Map<Subject, Long> minutesBySubject = new HashMap<>();
+    private final Map<Name, Long> minutesByStudent = new HashMap<>();
+    private final Map<Name, Integer> lessonsByStudent = new HashMap<>();
+    // Keyed by the Monday starting the week
+    private final Map<LocalDate, Long> minutesByWeek = new HashMap<>();
+    private final Map<YearMonth, Long> minutesByMonth = new HashMap<>();
+    private long totalMinutes = 0;
+    private int lessonCount = 0;
+    private int pendingTaskCount = 0;
+    // Lessons yet to be counted, which are added to or taken from the totals in any order as the sums commute
+    private final List<Lesson> pendingAdded = new ArrayList<>();
+    private final List<Lesson> pendingRemoved = new ArrayList<>();
+    // The number of times each series is counted, as two equal series can be counted
+    private final Map<LessonSeries, Integer> seriesCounts = new HashMap<>();
+
+    /**
+     * Returns the statistics of {@code lessons}, computed from scratch.
+     */
+    public static TeachingStatistics of(Iterable<Lesson> lessons) {
+        requireNonNull(lessons);
+        TeachingStatistics statistics = new TeachingStatistics();
+        lessons.forEach(statistics::add);
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of {@code lessons} and the occurrences of {@code series}, computed from scratch.
+     */
+    public static TeachingStatistics of(Iterable<Lesson> lessons, Iterable<LessonSeries> series) {
+        requireNonNull(series);
+        TeachingStatistics statistics = of(lessons);
+        series.forEach(statistics::addSeries);
+        return statistics;
+    }
+
+    /**
+     * Counts {@code lesson} in the totals.
+     */
+    void add(Lesson lesson) {
+        requireNonNull(lesson);
+        pendingAdded.add(lesson);
+        pendingTaskCount += countPendingTasks(lesson);
+    }
+
+    /**
+     * Stops counting {@code lesson}, which must have been added, in the totals.
+     */
+    void remove(Lesson lesson) {
+        requireNonNull(lesson);
+        pendingRemoved.add(lesson);
+        pendingTaskCount -= countPendingTasks(lesson);
+    }
+
+    /**
+     * Counts the occurrences of {@code series} held in the totals.
+     */
+    void addSeries(LessonSeries series) {
+        requireNonNull(series);
+        updateSeries(series, 1);
+    }
+
+    /**
+     * Stops counting {@code series}, which must have been added, in the totals.
+     */
+    void removeSeries(LessonSeries series) {
+        requireNonNull(series);
+        updateSeries(series, -1);
+    }
+
+    /**
+     * Replaces the totals with those of {@code lessons} and the occurrences of {@code series}.
+     */
+    void reset(Iterable<Lesson> lessons, Iterable<LessonSeries> series) {
+        minutesBySubject.clear();
+        minutesByStudent.clear();
+        lessonsByStudent.clear();
+        minutesByWeek.clear();
+        minutesByMonth.clear();
+        totalMinutes = 0;
+        lessonCount = 0;
+        pendingTaskCount = 0;
+        pendingAdded.clear();
+        pendingRemoved.clear();
+        seriesCounts.clear();
+        lessons.forEach(this::add);
+        series.forEach(this::addSeries);
+        applyPending();
+    }
+
+    /**
+     * Counts the lessons added and removed since the totals were last read.
+     */
+    private void applyPending() {
+        if (pendingAdded.isEmpty() && pendingRemoved.isEmpty()) {
+            return;
+        }
+        pendingAdded.forEach(lesson -> update(lesson, 1));
+        pendingRemoved.forEach(lesson -> update(lesson, -1));
+        pendingAdded.clear();
+        pendingRemoved.clear();
+    }
+
+    private void update(Lesson lesson, int sign) {
+        requireNonNull(lesson);
+        long minutes = Duration.between(lesson.getStart(), lesson.getEnd()).toMinutes();
+        LocalDate date = lesson.getStart().toLocalDate();
+
+        updateTotals(lesson, sign);
+        addTo(minutesByWeek, weekOf(date), sign * minutes);
+        addTo(minutesByMonth, YearMonth.from(date), sign * minutes);
+    }
+
+    private void updateSeries(LessonSeries series, int sign) {
+        long heldCount = series.getHeldCount();
+        // Occurrences are made without tasks, so they add no pending tasks
+        updateTotals(series.getFirst(), sign * heldCount);
+        seriesCounts.merge(series, sign, Integer::sum);
+        seriesCounts.remove(series, 0);
+    }
+
+    /**
+     * Adds {@code times} lessons like {@code lesson}, or takes them if negative, to the totals other than those per
+     * week and month.
+     */
+    private void updateTotals(Lesson lesson, long times) {
+        long minutes = times * Duration.between(lesson.getStart(), lesson.getEnd()).toMinutes();
+        Subject subject = lesson.getSubject() == null ? Subject.getNone() : lesson.getSubject();
+
+        addTo(minutesBySubject, subject, minutes);
+        // A student listed twice still only attends once
+        for (Name student : new HashSet<>(lesson.getStudents())) {
+            addTo(minutesByStudent, student, minutes);
+            lessonsByStudent.merge(student, (int) times, Integer::sum);
+            lessonsByStudent.remove(student, 0);
+        }
+        totalMinutes += minutes;
+        lessonCount += (int) times;
+    }
+
+    /**
+     * Returns the number of tasks of {@code lesson} that are not done. Tasks can be changed after their lesson is
+     * counted, so they are counted as the lesson is added or removed rather than when the totals are next read.
+     */
+    private static int countPendingTasks(Lesson lesson) {
+        int count = 0;
+        for (Task task : lesson.getTaskList()) {
+            if (!task.isDone()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static <K> void addTo(Map<K, Long> totals, K key, long minutes) {
+        // Keys are removed once nothing is counted for them, so that the maps only hold what is taught
+        totals.merge(key, minutes, Long::sum);
+        totals.remove(key, 0L);
+    }
+
+    private static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public long getTotalMinutes() {
+        applyPending();
+        return totalMinutes;
+    }
+
+    public int getLessonCount() {
+        applyPending();
+        return lessonCount;
+    }
+
+    public int getPendingTaskCount() {
+        return pendingTaskCount;
+    }
+
+    public long getMinutesForSubject(Subject subject) {
+        applyPending();
+        return minutesBySubject.getOrDefault(subject, 0L);
+    }
+
+    public long getMinutesForStudent(Name student) {
+        applyPending();
+        return minutesByStudent.getOrDefault(student, 0L);
+    }
+
+    public int getLessonCountForStudent(Name student) {
+        applyPending();
+        return lessonsByStudent.getOrDefault(student, 0);
+    }
+
+    /**
+     * Returns the minutes taught in the week, from Monday to Sunday, containing {@code date}.
+     */
+    public long getMinutesForWeekOf(LocalDate date) {
+        requireNonNull(date);
+        applyPending();
+        LocalDate monday = weekOf(date);
+        return minutesByWeek.getOrDefault(monday, 0L) + getSeriesMinutesOnDays(monday, monday.plusDays(6));
+    }
+
+    public long getMinutesForMonth(YearMonth month) {
+        requireNonNull(month);
+        applyPending();
+        return minutesByMonth.getOrDefault(month, 0L)
+                + getSeriesMinutesOnDays(month.atDay(1), month.atEndOfMonth());
+    }
+
+    /**
+     * Returns the minutes of the occurrences of the series counted that start on the days from {@code firstDay} to
+     * {@code lastDay} inclusive.
+     */
+    private long getSeriesMinutesOnDays(LocalDate firstDay, LocalDate lastDay) {
+        long minutes = 0;
+        for (Map.Entry<LessonSeries, Integer> entry : seriesCounts.entrySet()) {
+            LessonSeries series = entry.getKey();
+            minutes += entry.getValue() * series.getLength().toMinutes()
+                    * series.getHeldCountOnDays(firstDay, lastDay);
+        }
+        return minutes;
+    }
+
+    /** Returns an unmodifiable view of the minutes taught per subject, without subjects never taught. */
+    public Map<Subject, Long> getMinutesBySubject() {
+        applyPending();
+        return Collections.unmodifiableMap(minutesBySubject);
+    }
+
+    /** Returns an unmodifiable view of the minutes taught per student, without students never taught. */
+    public Map<Name, Long> getMinutesByStudent() {
+        applyPending();
+        return Collections.unmodifiableMap(minutesByStudent);
+    }
+
+    /** Returns an unmodifiable view of the number of lessons of each student, without students never taught. */
+    public Map<Name, Integer> getLessonCountsByStudent() {
+        applyPending();
+        return Collections.unmodifiableMap(lessonsByStudent);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TeachingStatistics)) {
+            return false;
+        }
+
+        TeachingStatistics otherStatistics = (TeachingStatistics) other;
+        applyPending();
+        otherStatistics.applyPending();
+        return totalMinutes == otherStatistics.totalMinutes
+                && lessonCount == otherStatistics.lessonCount
+                && pendingTaskCount == otherStatistics.pendingTaskCount
+                && minutesBySubject.equals(otherStatistics.minutesBySubject)
+                && minutesByStudent.equals(otherStatistics.minutesByStudent)
+                && lessonsByStudent.equals(otherStatistics.lessonsByStudent)
+                && minutesByWeek.equals(otherStatistics.minutesByWeek)
+                && minutesByMonth.equals(otherStatistics.minutesByMonth)
+                && seriesCounts.equals(otherStatistics.seriesCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        applyPending();
+        return Objects.hash(totalMinutes, lessonCount, pendingTaskCount, minutesBySubject, minutesByStudent,
+                lessonsByStudent, minutesByWeek, minutesByMonth, seriesCounts);
+    }
+
+    @Override
+    public String toString() {
+        applyPending();
+        return new ToStringBuilder(this)
+                .add("lessonCount", lessonCount)
+                .add("totalMinutes", totalMinutes)
+                .add("pendingTaskCount", pendingTaskCount)
+                .add("minutesBySubject", minutesBySubject)
+                .add("minutesByStudent", minutesByStudent)
+                .toString();
+    }
+}
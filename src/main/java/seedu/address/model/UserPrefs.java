@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.billing.Rates;
 
 /**
  * Represents User's preferences.
@@ -18,6 +19,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private Path scheduleListFilePath = Paths.get("data" , "schedulelist.json");
 
+    private Rates rates = new Rates();
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -39,6 +42,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setScheduleListFilePath(newUserPrefs.getScheduleListFilePath());
+        setRates(newUserPrefs.getRates());
     }
 
     public GuiSettings getGuiSettings() {
@@ -68,6 +72,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.scheduleListFilePath = scheduleListFilePath;
     }
 
+    public Rates getRates() {
+        return rates;
+    }
+
+    public void setRates(Rates rates) {
+        requireNonNull(rates);
+        this.rates = rates;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -82,12 +95,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && scheduleListFilePath.equals(otherUserPrefs.scheduleListFilePath);
+                && scheduleListFilePath.equals(otherUserPrefs.scheduleListFilePath)
+                && rates.equals(otherUserPrefs.rates);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, scheduleListFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, scheduleListFilePath, rates);
     }
 
     @Override
@@ -96,6 +110,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nLocal schedule data file location: " + scheduleListFilePath);
+        sb.append("\nRates: " + rates);
         return sb.toString();
     }
 
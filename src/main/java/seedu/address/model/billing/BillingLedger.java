@@ -0,0 +1,107 @@
+package seedu.address.model.billing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+
+/**
+ * Makes invoices for periods of the schedule. A period is split into months, which are invoiced in parallel
+ * from the lessons starting in them and then added up. The invoices of months that are over are kept, so that
+ * invoicing a long period only goes through the lessons of the current month and of months changed since.
+ * Invoices must be made on the thread that changes the schedule, which only reads it while they are made.
+ */
+public class BillingLedger {
+
+    private final Function<LessonRange, List<Lesson>> lessonsIn;
+    private final Clock clock;
+    private final Map<YearMonth, Invoice> closedMonths = new ConcurrentHashMap<>();
+    private volatile Rates rates;
+
+    /**
+     * Creates a ledger charging {@code rates} for the lessons returned by {@code lessonsIn}, where the current
+     * month is given by {@code clock}.
+     */
+    public BillingLedger(Function<LessonRange, List<Lesson>> lessonsIn, Rates rates, Clock clock) {
+        requireNonNull(lessonsIn);
+        requireNonNull(rates);
+        requireNonNull(clock);
+        this.lessonsIn = lessonsIn;
+        this.rates = rates;
+        this.clock = clock;
+    }
+
+    public Rates getRates() {
+        return rates;
+    }
+
+    /**
+     * Charges {@code rates} from now on, for past lessons too.
+     */
+    public void setRates(Rates rates) {
+        requireNonNull(rates);
+        if (!rates.equals(this.rates)) {
+            this.rates = rates;
+            closedMonths.clear();
+        }
+    }
+
+    /**
+     * Forgets the invoice of the month of {@code lesson}, which was added, changed or removed.
+     */
+    public void invalidate(Lesson lesson) {
+        requireNonNull(lesson);
+        closedMonths.remove(YearMonth.from(lesson.getStart()));
+    }
+
+    /**
+     * Forgets the invoices of all months, after the whole schedule changed.
+     */
+    public void invalidateAll() {
+        closedMonths.clear();
+    }
+
+    /**
+     * Returns the invoice of the lessons starting from {@code firstDay} to {@code lastDay} inclusive.
+     */
+    public Invoice invoice(LocalDate firstDay, LocalDate lastDay) {
+        requireNonNull(firstDay);
+        requireNonNull(lastDay);
+        checkArgument(!firstDay.isAfter(lastDay), "The first day must not be after the last day");
+        Rates currentRates = rates;
+        YearMonth currentMonth = YearMonth.now(clock);
+
+        List<LocalDate[]> months = new ArrayList<>();
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = YearMonth.from(day).atEndOfMonth().plusDays(1)) {
+            LocalDate endOfMonth = YearMonth.from(day).atEndOfMonth();
+            months.add(new LocalDate[] {day, endOfMonth.isBefore(lastDay) ? endOfMonth : lastDay});
+        }
+        return months.parallelStream()
+                .map(month -> invoiceMonth(month[0], month[1], currentRates, currentMonth))
+                .reduce(Invoice::plus)
+                .orElseThrow();
+    }
+
+    /**
+     * Returns the invoice of the days from {@code firstDay} to {@code lastDay}, which are in the same month.
+     */
+    private Invoice invoiceMonth(LocalDate firstDay, LocalDate lastDay, Rates rates, YearMonth currentMonth) {
+        YearMonth month = YearMonth.from(firstDay);
+        boolean isWholeMonth = firstDay.getDayOfMonth() == 1 && lastDay.equals(month.atEndOfMonth());
+        if (!isWholeMonth || !month.isBefore(currentMonth)) {
+            return Invoice.of(firstDay, lastDay, lessonsIn.apply(LessonRange.onDays(firstDay, lastDay)), rates);
+        }
+        return closedMonths.computeIfAbsent(month, unused ->
+                Invoice.of(firstDay, lastDay, lessonsIn.apply(LessonRange.onDays(firstDay, lastDay)), rates));
+    }
+}
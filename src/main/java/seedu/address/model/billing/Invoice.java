@@ -0,0 +1,136 @@
+package seedu.address.model.billing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Name;
+
+/**
+ * The minutes taught and the amount owed by each student for the lessons starting in a period of days.
+ * Each lesson is charged at the hourly rate of each of its students, rounded to the nearest cent.
+ * Guarantees: immutable.
+ */
+public class Invoice {
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final int lessonCount;
+    private final Map<Name, Long> minutesByStudent;
+    private final Map<Name, Long> centsByStudent;
+
+    private Invoice(LocalDate firstDay, LocalDate lastDay, int lessonCount, Map<Name, Long> minutesByStudent,
+            Map<Name, Long> centsByStudent) {
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.lessonCount = lessonCount;
+        this.minutesByStudent = Collections.unmodifiableMap(minutesByStudent);
+        this.centsByStudent = Collections.unmodifiableMap(centsByStudent);
+    }
+
+    /**
+     * Returns the invoice of {@code lessons}, which start from {@code firstDay} to {@code lastDay} inclusive,
+     * charged at {@code rates}.
+     */
+    public static Invoice of(LocalDate firstDay, LocalDate lastDay, List<Lesson> lessons, Rates rates) {
+        requireNonNull(firstDay);
+        requireNonNull(lastDay);
+        requireNonNull(lessons);
+        requireNonNull(rates);
+        Map<Name, Long> minutesByStudent = new HashMap<>();
+        Map<Name, Long> centsByStudent = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            long minutes = Duration.between(lesson.getStart(), lesson.getEnd()).toMinutes();
+            for (Name student : new HashSet<>(lesson.getStudents())) {
+                long centsPerHour = rates.getCentsPerHour(student, lesson.getSubject());
+                minutesByStudent.merge(student, minutes, Long::sum);
+                // Rounds half up, without going through floating point
+                centsByStudent.merge(student, (minutes * centsPerHour + 30) / 60, Long::sum);
+            }
+        }
+        return new Invoice(firstDay, lastDay, lessons.size(), minutesByStudent, centsByStudent);
+    }
+
+    /**
+     * Returns the invoice covering the periods of both this invoice and {@code other}, which must not overlap.
+     */
+    public Invoice plus(Invoice other) {
+        requireNonNull(other);
+        Map<Name, Long> minutesByStudent = new HashMap<>(this.minutesByStudent);
+        other.minutesByStudent.forEach((student, minutes) -> minutesByStudent.merge(student, minutes, Long::sum));
+        Map<Name, Long> centsByStudent = new HashMap<>(this.centsByStudent);
+        other.centsByStudent.forEach((student, cents) -> centsByStudent.merge(student, cents, Long::sum));
+        LocalDate first = firstDay.isBefore(other.firstDay) ? firstDay : other.firstDay;
+        LocalDate last = lastDay.isAfter(other.lastDay) ? lastDay : other.lastDay;
+        return new Invoice(first, last, lessonCount + other.lessonCount, minutesByStudent, centsByStudent);
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    public int getLessonCount() {
+        return lessonCount;
+    }
+
+    /** Returns the minutes taught to each student with lessons in the period. */
+    public Map<Name, Long> getMinutesByStudent() {
+        return minutesByStudent;
+    }
+
+    /** Returns the cents owed by each student with lessons in the period. */
+    public Map<Name, Long> getCentsByStudent() {
+        return centsByStudent;
+    }
+
+    public long getTotalCents() {
+        return centsByStudent.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Invoice)) {
+            return false;
+        }
+
+        Invoice otherInvoice = (Invoice) other;
+        return firstDay.equals(otherInvoice.firstDay)
+                && lastDay.equals(otherInvoice.lastDay)
+                && lessonCount == otherInvoice.lessonCount
+                && minutesByStudent.equals(otherInvoice.minutesByStudent)
+                && centsByStudent.equals(otherInvoice.centsByStudent);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstDay, lastDay, lessonCount, minutesByStudent, centsByStudent);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstDay", firstDay)
+                .add("lastDay", lastDay)
+                .add("lessonCount", lessonCount)
+                .add("centsByStudent", centsByStudent)
+                .toString();
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.billing;
+
+/**
+ * Formats amounts of money, which are kept as whole cents so that they add up exactly.
+ */
+public class Money {
+
+    private Money() {}
+
+    /**
+     * Returns {@code cents} in dollars, such as $1,234.50.
+     */
+    public static String format(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absolute = Math.abs(cents);
+        return String.format("%s$%,d.%02d", sign, absolute / 100, absolute % 100);
+    }
+}
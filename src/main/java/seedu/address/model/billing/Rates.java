@@ -0,0 +1,145 @@
+package seedu.address.model.billing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * The hourly rates charged for lessons, in cents. The rate of a student overrides the rate of a subject,
+ * which overrides the default rate.
+ * Guarantees: immutable.
+ */
+public class Rates {
+
+    public static final String MESSAGE_CONSTRAINTS = "Rates must not be negative";
+
+    private final long defaultCentsPerHour;
+    // Keyed by the full name of the student and the name of the subject, so that they are stored as plain text
+    private final Map<String, Long> centsPerHourByStudent;
+    private final Map<String, Long> centsPerHourBySubject;
+
+    /**
+     * Creates rates that charge nothing.
+     */
+    public Rates() {
+        this(0, Map.of(), Map.of());
+    }
+
+    private Rates(long defaultCentsPerHour, Map<String, Long> centsPerHourByStudent,
+            Map<String, Long> centsPerHourBySubject) {
+        this.defaultCentsPerHour = defaultCentsPerHour;
+        this.centsPerHourByStudent = new HashMap<>(centsPerHourByStudent);
+        this.centsPerHourBySubject = new HashMap<>(centsPerHourBySubject);
+    }
+
+    /**
+     * Returns these rates with {@code centsPerHour} charged for lessons without a rate of their own.
+     */
+    public Rates withDefaultRate(long centsPerHour) {
+        checkArgument(centsPerHour >= 0, MESSAGE_CONSTRAINTS);
+        return new Rates(centsPerHour, centsPerHourByStudent, centsPerHourBySubject);
+    }
+
+    /**
+     * Returns these rates with {@code centsPerHour} charged for each lesson of {@code student}.
+     */
+    public Rates withStudentRate(Name student, long centsPerHour) {
+        requireNonNull(student);
+        checkArgument(centsPerHour >= 0, MESSAGE_CONSTRAINTS);
+        Rates rates = new Rates(defaultCentsPerHour, centsPerHourByStudent, centsPerHourBySubject);
+        rates.centsPerHourByStudent.put(student.fullName, centsPerHour);
+        return rates;
+    }
+
+    /**
+     * Returns these rates with the rate of {@code student}, if there is one, charged to {@code newName} instead,
+     * as the student has been renamed.
+     */
+    public Rates withStudentRenamed(Name student, Name newName) {
+        requireNonNull(student);
+        requireNonNull(newName);
+        if (!centsPerHourByStudent.containsKey(student.fullName)) {
+            return this;
+        }
+        Rates rates = new Rates(defaultCentsPerHour, centsPerHourByStudent, centsPerHourBySubject);
+        rates.centsPerHourByStudent.put(newName.fullName, rates.centsPerHourByStudent.remove(student.fullName));
+        return rates;
+    }
+
+    /**
+     * Returns these rates with {@code centsPerHour} charged for lessons of {@code subject}.
+     */
+    public Rates withSubjectRate(Subject subject, long centsPerHour) {
+        requireNonNull(subject);
+        checkArgument(centsPerHour >= 0, MESSAGE_CONSTRAINTS);
+        Rates rates = new Rates(defaultCentsPerHour, centsPerHourByStudent, centsPerHourBySubject);
+        rates.centsPerHourBySubject.put(subject.subjectName.name(), centsPerHour);
+        return rates;
+    }
+
+    /**
+     * Returns the hourly rate, in cents, charged to {@code student} for a lesson of {@code subject}.
+     */
+    public long getCentsPerHour(Name student, Subject subject) {
+        requireNonNull(student);
+        Long studentRate = centsPerHourByStudent.get(student.fullName);
+        if (studentRate != null) {
+            return studentRate;
+        }
+        Long subjectRate = subject == null ? null : centsPerHourBySubject.get(subject.subjectName.name());
+        return subjectRate != null ? subjectRate : defaultCentsPerHour;
+    }
+
+    public long getDefaultCentsPerHour() {
+        return defaultCentsPerHour;
+    }
+
+    /** Returns an unmodifiable view of the rates of students, keyed by their full names. */
+    public Map<String, Long> getCentsPerHourByStudent() {
+        return Collections.unmodifiableMap(centsPerHourByStudent);
+    }
+
+    /** Returns an unmodifiable view of the rates of subjects, keyed by their names. */
+    public Map<String, Long> getCentsPerHourBySubject() {
+        return Collections.unmodifiableMap(centsPerHourBySubject);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Rates)) {
+            return false;
+        }
+
+        Rates otherRates = (Rates) other;
+        return defaultCentsPerHour == otherRates.defaultCentsPerHour
+                && centsPerHourByStudent.equals(otherRates.centsPerHourByStudent)
+                && centsPerHourBySubject.equals(otherRates.centsPerHourBySubject);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(defaultCentsPerHour, centsPerHourByStudent, centsPerHourBySubject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("defaultCentsPerHour", defaultCentsPerHour)
+                .add("centsPerHourByStudent", centsPerHourByStudent)
+                .add("centsPerHourBySubject", centsPerHourBySubject)
+                .toString();
+    }
+}
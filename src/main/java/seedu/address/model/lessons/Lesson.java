@@ -1,11 +1,13 @@
 package seedu.address.model.lessons;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
 
 import javafx.collections.ObservableList;
@@ -20,13 +22,19 @@ import seedu.address.model.person.Subject;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Lesson {
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+
     // Lesson fields
     private LocalDateTime start;
     private LocalDateTime end;
     // Data fields
     private Subject subject;
 
-    private ArrayList<Name> students; // TODO: change to student object
+    private ArrayList<Name> students;
+    // The ids of the persons who are the students, in the same order, with Person.NO_ID for a student not linked
+    // to a person. Never changed in place, so that copies of the lesson can share it.
+    private long[] studentIds;
 
     /**
      * The Task List to store the Lesson Tasks.
@@ -49,6 +57,7 @@ public class Lesson {
         this.end = end;
         this.subject = subject;
         this.students = new ArrayList<>(Arrays.asList(studentNames));
+        this.studentIds = new long[studentNames.length];
         this.taskList = taskList;
     }
 
@@ -60,6 +69,7 @@ public class Lesson {
         this.start = start;
         this.end = end;
         this.students = new ArrayList<>(Arrays.asList(studentNames));
+        this.studentIds = new long[studentNames.length];
         this.taskList = taskList;
     }
     /**
@@ -72,9 +82,64 @@ public class Lesson {
         this.end = end;
         this.subject = subject;
         this.students = studentNames;
+        this.studentIds = new long[studentNames.size()];
         this.taskList = taskList;
     }
 
+    /**
+     * Returns a copy of this lesson attended by {@code studentNames} instead, who are not linked to persons.
+     */
+    public Lesson withStudents(ArrayList<Name> studentNames) {
+        requireAllNonNull(studentNames);
+        return copyWithStudents(studentNames, new long[studentNames.size()]);
+    }
+
+    /**
+     * Returns a copy of this lesson whose students are linked to the persons with {@code studentIds}, given in the
+     * same order as the students, or {@link Person#NO_ID} for a student not linked to a person.
+     */
+    public Lesson withStudentIds(long[] studentIds) {
+        requireAllNonNull(studentIds);
+        checkArgument(studentIds.length == students.size(), "There must be one id for each student");
+        return copyWithStudents(students, studentIds.clone());
+    }
+
+    /**
+     * Returns a copy of this lesson in which the student linked to the person with {@code id} is named
+     * {@code newName}, or this lesson if it has no such student.
+     */
+    public Lesson withStudentRenamed(long id, Name newName) {
+        requireAllNonNull(newName);
+        ArrayList<Name> newStudents = new ArrayList<>(students);
+        for (int i = 0; i < studentIds.length; i++) {
+            if (id != Person.NO_ID && studentIds[i] == id) {
+                newStudents.set(i, newName);
+            }
+        }
+        if (newStudents.equals(students)) {
+            return this;
+        }
+        return copyWithStudents(newStudents, studentIds);
+    }
+
+    private Lesson copyWithStudents(ArrayList<Name> newStudents, long[] newStudentIds) {
+        Lesson copy = new Lesson(start, end, taskList, newStudents.toArray(Name[]::new));
+        copy.subject = subject;
+        copy.studentIds = newStudentIds;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this lesson held from {@code start} to {@code end}, without any tasks.
+     */
+    public Lesson withTimes(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        Lesson copy = new Lesson(start, end, new TaskList(), students.toArray(Name[]::new));
+        copy.subject = subject;
+        copy.studentIds = studentIds;
+        return copy;
+    }
+
     /**
      * Returns true if the lesson has the specified student.
      * @param person The person to check
@@ -93,20 +158,45 @@ public class Lesson {
         return students.contains(name);
     }
 
+    /**
+     * Returns true if a student of the lesson is linked to the person with {@code id}.
+     */
+    public boolean hasStudentWithId(long id) {
+        if (id == Person.NO_ID) {
+            return false;
+        }
+        for (long studentId : studentIds) {
+            if (studentId == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every student of the lesson is linked to a person.
+     */
+    public boolean isLinked() {
+        for (long studentId : studentIds) {
+            if (studentId == Person.NO_ID) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets the start time formatted in 12h
      */
     public String getStartTimeStr() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("h:mm a");
-        return start.format(formatter);
+        return start.format(TIME_FORMATTER);
     }
 
     /**
      * Gets the end time formatted in 12h
      */
     public String getEndTimeStr() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("h:mm a");
-        return end.format(formatter);
+        return end.format(TIME_FORMATTER);
     }
 
     /**
@@ -139,12 +229,11 @@ public class Lesson {
      * @return
      */
     public String getLessonDateStr() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMM yyyy");
-        String formattedStart = start.format(formatter);
+        String formattedStart = start.format(DATE_FORMATTER);
         if (isSameDay()) {
             return formattedStart;
         } else {
-            String formattedEnd = end.format(formatter);
+            String formattedEnd = end.format(DATE_FORMATTER);
             return formattedStart + " - " + formattedEnd;
         }
     }
@@ -205,8 +294,17 @@ public class Lesson {
         return students;
     }
 
+    /**
+     * Returns the ids of the persons who are the students, in the same order as {@link #getStudents()}, with
+     * {@link Person#NO_ID} for a student not linked to a person.
+     */
+    public long[] getStudentIds() {
+        return studentIds.clone();
+    }
+
     public void setStudents(ArrayList<Name> students) {
         this.students = students;
+        this.studentIds = new long[students.size()];
     }
     /**
      * Adds a student to the lesson.
@@ -218,6 +316,7 @@ public class Lesson {
             throw new IllegalValueException("Student already exists in lesson");
         }
         this.students.add(student);
+        this.studentIds = Arrays.copyOf(studentIds, students.size());
     }
     /**
      * Serializes the start date to a String
@@ -314,7 +413,7 @@ public class Lesson {
         return Objects.hash(start, end, subject, students);
     }
     /**
-     * Returns true if both lessons have the same start and end time.
+     * Returns true if both lessons have the same start and end time and the same students.
      * This defines a weaker notion of equality between two lessons.
      */
     public boolean isSameLesson(Lesson otherLesson) {
@@ -324,11 +423,13 @@ public class Lesson {
 
         return otherLesson != null
                 && otherLesson.getStart().equals(getStart())
-                && otherLesson.getEnd().equals(getEnd());
+                && otherLesson.getEnd().equals(getEnd())
+                && new HashSet<>(otherLesson.getStudents()).equals(new HashSet<>(getStudents()));
     }
 
     /**
-     * Returns true if both lessons have the same identity and data fields.
+     * Returns true if the two lessons overlap in time and have a student in common, so that the student
+     * would be double booked. Lessons of different students may overlap.
      * @param otherLesson The other lesson to compare with
      * @return true if the lessons clash
      */
@@ -337,10 +438,34 @@ public class Lesson {
         if (otherLesson == this) {
             return true;
         }
-        return otherLesson != null
-                && otherLesson.getStart().isBefore(getEnd())
+        return isOverlappingWith(otherLesson) && hasStudentInCommonWith(otherLesson);
+    }
+
+    /**
+     * Returns true if the two lessons overlap in time, whoever their students are.
+     */
+    public boolean isOverlappingWith(Lesson otherLesson) {
+        requireAllNonNull(otherLesson);
+        return otherLesson.getStart().isBefore(getEnd())
                 && otherLesson.getEnd().isAfter(getStart());
     }
+
+    /**
+     * Returns true if the two lessons have at least one student in common.
+     */
+    public boolean hasStudentInCommonWith(Lesson otherLesson) {
+        requireAllNonNull(otherLesson);
+        if (isLinked() && otherLesson.isLinked()) {
+            // Compares the ids, which takes no allocation, when every student has one
+            for (long studentId : otherLesson.studentIds) {
+                if (hasStudentWithId(studentId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return otherLesson.getStudents().stream().anyMatch(students::contains);
+    }
     @Override
     public String toString() {
         /* this leads to `New lesson added: seedu.address.model.lessons.Lesson
@@ -0,0 +1,208 @@
+package seedu.address.model.lessons;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.lessons.Week.MINUTES_PER_DAY;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds times for a number of lessons of the same students within a period of days.
+ * <p>
+ * The period is split into as many equal parts as there are lessons, with one lesson in each part, so that the
+ * lessons are spread over the period. The free minutes of each day are found by AND-ing the availabilities of the
+ * students and clearing the minutes taken by the tutor's lessons, widened by the minimum gap between lessons.
+ * A backtracking search then picks a start time for each lesson in turn, trying the time of the first lesson on
+ * the same day of the week before the other times, so that the lessons are held at regular times where possible.
+ * The search gives up after {@link #MAX_STEPS} steps.
+ */
+public class LessonPlanner {
+
+    /** The lessons start at multiples of this many minutes past midnight. */
+    public static final int START_MINUTES = 15;
+
+    /** The largest number of start times tried before the search gives up. */
+    public static final int MAX_STEPS = 100_000;
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final int count;
+    private final int lengthInMinutes;
+    private final int gapInMinutes;
+
+    private int steps;
+
+    /**
+     * Creates a planner for {@code count} lessons of {@code lengthInMinutes} minutes, starting from
+     * {@code firstDay} to {@code lastDay} inclusive, at least {@code gapInMinutes} minutes from any other lesson.
+     */
+    public LessonPlanner(LocalDate firstDay, LocalDate lastDay, int count, int lengthInMinutes, int gapInMinutes) {
+        requireNonNull(firstDay);
+        requireNonNull(lastDay);
+        checkArgument(!firstDay.isAfter(lastDay), "The first day must not be after the last day");
+        checkArgument(count > 0, "There must be at least one lesson");
+        checkArgument(lengthInMinutes > 0 && lengthInMinutes <= MINUTES_PER_DAY,
+                "A lesson must last between a minute and a day");
+        checkArgument(gapInMinutes >= 0, "The gap between lessons must not be negative");
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.count = count;
+        this.lengthInMinutes = lengthInMinutes;
+        this.gapInMinutes = gapInMinutes;
+    }
+
+    /**
+     * Returns the start times of the lessons, in order, or an empty list if they cannot all be placed.
+     *
+     * @param availabilities The availabilities of the students. Students without one are free at any time.
+     * @param lessons The tutor's lessons around the period, which the new lessons must keep clear of.
+     */
+    public List<LocalDateTime> plan(List<Week> availabilities, List<Lesson> lessons) {
+        requireNonNull(availabilities);
+        requireNonNull(lessons);
+        int dayCount = (int) ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+        if (count > dayCount) {
+            return List.of();
+        }
+
+        List<List<Integer>> startsByDay = new ArrayList<>();
+        for (int day = 0; day < dayCount; day++) {
+            startsByDay.add(findStarts(freeMinutesOn(firstDay.plusDays(day), availabilities, lessons)));
+        }
+        for (int index = 0; index < count; index++) {
+            if (getCandidates(index, dayCount, startsByDay).isEmpty()) {
+                // Searching would only use up the steps before failing
+                return List.of();
+            }
+        }
+
+        int[] chosenDays = new int[count];
+        int[] chosenStarts = new int[count];
+        steps = 0;
+        if (!place(0, dayCount, startsByDay, chosenDays, chosenStarts)) {
+            return List.of();
+        }
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            starts.add(firstDay.plusDays(chosenDays[i]).atStartOfDay().plusMinutes(chosenStarts[i]));
+        }
+        return starts;
+    }
+
+    /**
+     * Returns the minutes of {@code date} at which every student is free and the tutor has no lesson.
+     */
+    private BitSet freeMinutesOn(LocalDate date, List<Week> availabilities, List<Lesson> lessons) {
+        BitSet free = new BitSet(MINUTES_PER_DAY);
+        free.set(0, MINUTES_PER_DAY);
+        for (Week availability : availabilities) {
+            if (!availability.isEmpty()) {
+                free.and(availability.getFreeMinutes(date.getDayOfWeek()));
+            }
+        }
+
+        LocalDateTime startOfDay = date.atStartOfDay();
+        for (Lesson lesson : lessons) {
+            long busyFrom = Duration.between(startOfDay, lesson.getStart()).toMinutes() - gapInMinutes;
+            long busyTo = Duration.between(startOfDay, lesson.getEnd()).toMinutes() + gapInMinutes;
+            if (busyTo > 0 && busyFrom < MINUTES_PER_DAY) {
+                free.clear((int) Math.max(busyFrom, 0), (int) Math.min(busyTo, MINUTES_PER_DAY));
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Returns the start times, in minutes past midnight, of the lessons that fit in {@code free}.
+     */
+    private List<Integer> findStarts(BitSet free) {
+        List<Integer> starts = new ArrayList<>();
+        for (int start = 0; start + lengthInMinutes <= MINUTES_PER_DAY; start += START_MINUTES) {
+            if (free.get(start) && free.nextClearBit(start) >= start + lengthInMinutes) {
+                starts.add(start);
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * Places the lessons from the {@code index}-th onwards, given the days and start times of those before it.
+     *
+     * @return true if all the lessons were placed.
+     */
+    private boolean place(int index, int dayCount, List<List<Integer>> startsByDay, int[] chosenDays,
+            int[] chosenStarts) {
+        if (index == count) {
+            return true;
+        }
+
+        List<int[]> candidates = getCandidates(index, dayCount, startsByDay);
+        if (index > 0) {
+            // The time of the first lesson, on the same day of the week, is tried first
+            int firstDayOfWeek = chosenDays[0] % 7;
+            int firstStart = chosenStarts[0];
+            candidates.sort(Comparator.comparingInt(candidate ->
+                    candidate[0] % 7 == firstDayOfWeek && candidate[1] == firstStart ? 0 : 1));
+        }
+
+        for (int[] candidate : candidates) {
+            if (++steps > MAX_STEPS) {
+                return false;
+            }
+            if (!isClearOfPlacedLessons(index, candidate, chosenDays, chosenStarts)) {
+                continue;
+            }
+            chosenDays[index] = candidate[0];
+            chosenStarts[index] = candidate[1];
+            if (place(index + 1, dayCount, startsByDay, chosenDays, chosenStarts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the days and start times at which the {@code index}-th lesson fits, in order.
+     */
+    private List<int[]> getCandidates(int index, int dayCount, List<List<Integer>> startsByDay) {
+        List<int[]> candidates = new ArrayList<>();
+        int fromDay = (int) ((long) index * dayCount / count);
+        int toDay = (int) ((long) (index + 1) * dayCount / count);
+        for (int day = fromDay; day < toDay; day++) {
+            for (int start : startsByDay.get(day)) {
+                candidates.add(new int[] {day, start});
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns true if a lesson at {@code candidate} is at least the gap away from the lessons already placed.
+     */
+    private boolean isClearOfPlacedLessons(int index, int[] candidate, int[] chosenDays, int[] chosenStarts) {
+        long start = (long) candidate[0] * MINUTES_PER_DAY + candidate[1];
+        for (int i = 0; i < index; i++) {
+            long placedStart = (long) chosenDays[i] * MINUTES_PER_DAY + chosenStarts[i];
+            if (start < placedStart + lengthInMinutes + gapInMinutes
+                    && placedStart < start + lengthInMinutes + gapInMinutes) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the lessons that a planner for the days from {@code firstDay} to {@code lastDay} must keep clear of,
+     * which are those within a day of the period.
+     */
+    public static LessonRange rangeAround(LocalDate firstDay, LocalDate lastDay) {
+        return LessonRange.onDays(firstDay.minusDays(1), lastDay.plusDays(1));
+    }
+}
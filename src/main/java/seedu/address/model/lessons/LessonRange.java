@@ -0,0 +1,128 @@
+package seedu.address.model.lessons;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A window of the schedule to show, such as the lessons in a date range or the next few lessons.
+ * Date ranges are half-open: they include lessons starting at {@code from} but not those starting at {@code to}.
+ */
+public class LessonRange {
+
+    private static final LessonRange ALL = new LessonRange(null, null, 0);
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    // Only used for the next few lessons, where 0 means that the range is bounded by dates instead
+    private final int count;
+
+    private LessonRange(LocalDateTime from, LocalDateTime to, int count) {
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    /**
+     * Returns the range covering the whole schedule.
+     */
+    public static LessonRange all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the range of lessons starting at or after {@code from} and before {@code to}.
+     * Either bound may be null, in which case the range is unbounded on that side.
+     */
+    public static LessonRange between(LocalDateTime from, LocalDateTime to) {
+        checkArgument(from == null || to == null || !from.isAfter(to),
+                "The start of a range must not be after its end");
+        return new LessonRange(from, to, 0);
+    }
+
+    /**
+     * Returns the range of lessons starting on any day from {@code firstDay} to {@code lastDay}, inclusive.
+     * Either day may be null, in which case the range is unbounded on that side.
+     */
+    public static LessonRange onDays(LocalDate firstDay, LocalDate lastDay) {
+        return between(firstDay == null ? null : firstDay.atStartOfDay(),
+                lastDay == null ? null : lastDay.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns the range of lessons starting on {@code day}.
+     */
+    public static LessonRange on(LocalDate day) {
+        requireNonNull(day);
+        return onDays(day, day);
+    }
+
+    /**
+     * Returns the range of lessons starting in the week, from Monday to Sunday, containing {@code day}.
+     */
+    public static LessonRange weekOf(LocalDate day) {
+        requireNonNull(day);
+        LocalDate monday = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return onDays(monday, monday.plusDays(6));
+    }
+
+    /**
+     * Returns the range of the first {@code count} lessons starting at or after {@code from}.
+     */
+    public static LessonRange next(LocalDateTime from, int count) {
+        requireNonNull(from);
+        checkArgument(count > 0, "The number of lessons must be positive");
+        return new LessonRange(from, null, count);
+    }
+
+    public boolean isAll() {
+        return this.equals(ALL);
+    }
+
+    /**
+     * Returns the lessons of {@code schedule} in this range, in order of start time.
+     */
+    public List<Lesson> select(Schedule schedule) {
+        requireNonNull(schedule);
+        return count > 0 ? schedule.getLessonsFrom(from, count) : schedule.getLessonsBetween(from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonRange)) {
+            return false;
+        }
+
+        LessonRange otherRange = (LessonRange) other;
+        return Objects.equals(from, otherRange.from)
+                && Objects.equals(to, otherRange.to)
+                && count == otherRange.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, count);
+    }
+
+    @Override
+    public String toString() {
+        if (count > 0) {
+            return "next " + count + " from " + from;
+        }
+        if (from == null && to == null) {
+            return "all";
+        }
+        return "from " + (from == null ? "the beginning" : from) + " to " + (to == null ? "the end" : to);
+    }
+}
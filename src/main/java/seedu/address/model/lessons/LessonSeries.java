@@ -0,0 +1,373 @@
+package seedu.address.model.lessons;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+
+/**
+ * A lesson held every few weeks up to a last day, stored as a rule instead of as one lesson per week.
+ * The lessons of the series, its occurrences, are made when they are looked at, so that a series takes the same
+ * space however long it runs. Dates on which the series is not held, because the lesson was cancelled or replaced
+ * by a lesson of its own, are kept as exceptions.
+ * Guarantees: immutable.
+ */
+public class LessonSeries {
+
+    public static final String MESSAGE_CONSTRAINTS = "A series must repeat every 1 to 52 weeks, "
+            + "and must not end before its first lesson";
+
+    private final Lesson first;
+    private final int intervalInWeeks;
+    private final LocalDate lastDay;
+    private final NavigableSet<LocalDate> exceptions;
+    private final Duration length;
+
+    /**
+     * Creates a series held like {@code first} every {@code intervalInWeeks} weeks, with the last lesson starting
+     * on or before {@code lastDay}, except on {@code exceptions}.
+     */
+    public LessonSeries(Lesson first, int intervalInWeeks, LocalDate lastDay, Set<LocalDate> exceptions) {
+        requireAllNonNull(first, lastDay, exceptions);
+        checkArgument(isValidSeries(first, intervalInWeeks, lastDay), MESSAGE_CONSTRAINTS);
+        this.first = first.withTimes(first.getStart(), first.getEnd());
+        this.intervalInWeeks = intervalInWeeks;
+        this.lastDay = lastDay;
+        this.exceptions = Collections.unmodifiableNavigableSet(new TreeSet<>(exceptions));
+        this.length = Duration.between(first.getStart(), first.getEnd());
+    }
+
+    /**
+     * Returns true if a series of {@code first} every {@code intervalInWeeks} weeks until {@code lastDay} is valid.
+     */
+    public static boolean isValidSeries(Lesson first, int intervalInWeeks, LocalDate lastDay) {
+        return intervalInWeeks >= 1 && intervalInWeeks <= 52 && !lastDay.isBefore(first.getStart().toLocalDate());
+    }
+
+    public Lesson getFirst() {
+        return first;
+    }
+
+    public int getIntervalInWeeks() {
+        return intervalInWeeks;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    /** Returns the dates on which the series is not held, in order. */
+    public Set<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /** Returns how long each lesson of the series lasts. */
+    public Duration getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the number of occurrences of the series, counting those on its exceptions.
+     */
+    public long getOccurrenceCount() {
+        long days = ChronoUnit.DAYS.between(first.getStart().toLocalDate(), lastDay);
+        return days / (7L * intervalInWeeks) + 1;
+    }
+
+    /**
+     * Returns the number of occurrences of the series that are held, found without going through them.
+     */
+    public long getHeldCount() {
+        return getHeldCountOnDays(first.getStart().toLocalDate(), lastDay);
+    }
+
+    /**
+     * Returns the number of occurrences of the series held on the days from {@code firstDay} to {@code lastDay}
+     * inclusive, found by arithmetic on their dates rather than by going through them.
+     */
+    public long getHeldCountOnDays(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        LocalDate start = first.getStart().toLocalDate();
+        LocalDate end = lastDay.isAfter(this.lastDay) ? this.lastDay : lastDay;
+        if (end.isBefore(firstDay) || end.isBefore(start)) {
+            return 0;
+        }
+        long period = 7L * intervalInWeeks;
+        long firstIndex = firstDay.isAfter(start)
+                ? (ChronoUnit.DAYS.between(start, firstDay) + period - 1) / period
+                : 0;
+        long lastIndex = ChronoUnit.DAYS.between(start, end) / period;
+        if (lastIndex < firstIndex) {
+            return 0;
+        }
+        long count = lastIndex - firstIndex + 1;
+        for (LocalDate exception : exceptions.subSet(firstDay, true, end, true)) {
+            if (isOnOccurrenceDate(exception)) {
+                count--;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of occurrences of the series held that start before {@code time}, found by arithmetic on
+     * their dates rather than by going through them.
+     */
+    public long getHeldCountBefore(LocalDateTime time) {
+        requireNonNull(time);
+        LocalDate day = time.toLocalDate();
+        long count = getHeldCountOnDays(first.getStart().toLocalDate(), day.minusDays(1));
+        if (isHeldOn(day) && first.getStart().toLocalTime().isBefore(time.toLocalTime())) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if the series is held on {@code date}.
+     */
+    public boolean isHeldOn(LocalDate date) {
+        requireNonNull(date);
+        return isOnOccurrenceDate(date) && !exceptions.contains(date);
+    }
+
+    /**
+     * Returns true if an occurrence of the series, held or not, falls on {@code date}.
+     */
+    private boolean isOnOccurrenceDate(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(first.getStart().toLocalDate(), date);
+        return days >= 0 && days % (7L * intervalInWeeks) == 0 && !date.isAfter(lastDay);
+    }
+
+    /**
+     * Returns true if the {@code index}-th occurrence, counting those on exceptions, is held.
+     */
+    public boolean isHeld(long index) {
+        return index >= 0 && index < getOccurrenceCount() && !exceptions.contains(dateOf(index));
+    }
+
+    /**
+     * Returns the {@code index}-th occurrence, counting those on exceptions, which must be held.
+     */
+    public Lesson getOccurrence(long index) {
+        checkArgument(isHeld(index), "The series is not held then");
+        return occurrence(index);
+    }
+
+    /**
+     * Returns an occurrence of this series that clashes with {@code lesson}, or null if there is none.
+     * The occurrence is found by arithmetic on the times of the series, without going through its occurrences.
+     */
+    public Lesson getOccurrenceClashingWith(Lesson lesson) {
+        requireNonNull(lesson);
+        if (!first.hasStudentInCommonWith(lesson)) {
+            return null;
+        }
+        long[] overlap = PeriodicInterval.of(this).findOverlap(PeriodicInterval.of(lesson), this::isHeld,
+                unused -> true);
+        return overlap == null ? null : occurrence(overlap[0]);
+    }
+
+    /**
+     * Returns an occurrence of this series that clashes with an occurrence of {@code other}, or null if there is
+     * none. The occurrence is found by arithmetic on the times of the two series, without going through their
+     * occurrences.
+     */
+    public Lesson getOccurrenceClashingWith(LessonSeries other) {
+        requireNonNull(other);
+        if (!first.hasStudentInCommonWith(other.first)) {
+            return null;
+        }
+        long[] overlap = PeriodicInterval.of(this).findOverlap(PeriodicInterval.of(other), this::isHeld,
+                other::isHeld);
+        return overlap == null ? null : occurrence(overlap[0]);
+    }
+
+    /**
+     * Returns true if a lesson of the series has {@code student}.
+     */
+    public boolean hasStudent(Name student) {
+        return first.hasStudent(student);
+    }
+
+    /**
+     * Returns the occurrences starting at or after {@code from}, in order of start time. Each occurrence is made
+     * when it is reached. {@code from} may be null, in which case the occurrences start from the first.
+     */
+    public Iterator<Lesson> occurrencesFrom(LocalDateTime from) {
+        return new OccurrenceIterator(from == null ? 0 : firstIndexFrom(from));
+    }
+
+    /**
+     * Returns the occurrences starting at or after {@code from} and before {@code to}, in order of start time.
+     * Either bound may be null, in which case the range is unbounded on that side.
+     */
+    public List<Lesson> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        List<Lesson> occurrences = new ArrayList<>();
+        for (Iterator<Lesson> it = occurrencesFrom(from); it.hasNext();) {
+            Lesson occurrence = it.next();
+            if (to != null && !occurrence.getStart().isBefore(to)) {
+                break;
+            }
+            occurrences.add(occurrence);
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrence of the series on {@code date}, or null if the series is not held then.
+     */
+    public Lesson getOccurrenceOn(LocalDate date) {
+        requireNonNull(date);
+        if (!isHeldOn(date)) {
+            return null;
+        }
+        return occurrence(ChronoUnit.DAYS.between(first.getStart().toLocalDate(), date) / (7L * intervalInWeeks));
+    }
+
+    /**
+     * Returns true if {@code lesson} is one of the occurrences of the series.
+     */
+    public boolean isOccurrence(Lesson lesson) {
+        requireNonNull(lesson);
+        return lesson.equals(getOccurrenceOn(lesson.getStart().toLocalDate()));
+    }
+
+    /**
+     * Returns this series without its occurrence on {@code date}.
+     */
+    public LessonSeries withException(LocalDate date) {
+        requireNonNull(date);
+        return withExceptions(List.of(date));
+    }
+
+    /**
+     * Returns this series without its occurrences on {@code dates}.
+     */
+    public LessonSeries withExceptions(Collection<LocalDate> dates) {
+        requireAllNonNull(dates);
+        Set<LocalDate> newExceptions = new TreeSet<>(exceptions);
+        newExceptions.addAll(dates);
+        return new LessonSeries(first, intervalInWeeks, lastDay, newExceptions);
+    }
+
+    /**
+     * Returns a copy of this series attended by {@code studentNames} instead.
+     */
+    public LessonSeries withStudents(ArrayList<Name> studentNames) {
+        return new LessonSeries(first.withStudents(studentNames), intervalInWeeks, lastDay, exceptions);
+    }
+
+    /**
+     * Returns the index of the first occurrence, counting exceptions, starting at or after {@code from}.
+     */
+    private long firstIndexFrom(LocalDateTime from) {
+        long minutes = ChronoUnit.MINUTES.between(first.getStart(), from);
+        if (minutes <= 0) {
+            return 0;
+        }
+        long period = 7L * 24 * 60 * intervalInWeeks;
+        return (minutes + period - 1) / period;
+    }
+
+    private LocalDate dateOf(long index) {
+        return first.getStart().toLocalDate().plusWeeks(index * intervalInWeeks);
+    }
+
+    private Lesson occurrence(long index) {
+        LocalDateTime start = first.getStart().plusWeeks(index * intervalInWeeks);
+        return first.withTimes(start, start.plus(length));
+    }
+
+    /**
+     * Goes through the occurrences from a given index, skipping the exceptions, making each one when it is reached.
+     */
+    private class OccurrenceIterator implements Iterator<Lesson> {
+        private long index;
+        private Lesson next;
+
+        OccurrenceIterator(long index) {
+            this.index = index;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null) {
+                LocalDate date = dateOf(index);
+                if (date.isAfter(lastDay)) {
+                    return;
+                }
+                if (!exceptions.contains(date)) {
+                    next = occurrence(index);
+                }
+                index++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Lesson next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Lesson current = next;
+            advance();
+            return current;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonSeries)) {
+            return false;
+        }
+
+        LessonSeries otherSeries = (LessonSeries) other;
+        return first.equals(otherSeries.first)
+                && intervalInWeeks == otherSeries.intervalInWeeks
+                && lastDay.equals(otherSeries.lastDay)
+                && exceptions.equals(otherSeries.exceptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, intervalInWeeks, lastDay, exceptions);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("intervalInWeeks", intervalInWeeks)
+                .add("lastDay", lastDay)
+                .add("exceptions", exceptions)
+                .toString();
+    }
+}
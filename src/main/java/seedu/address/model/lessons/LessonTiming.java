@@ -5,8 +5,8 @@ package seedu.address.model.lessons;
  */
 public class LessonTiming {
     // minutes since start
-    private int startTime;
-    private int endTime;
+    private final int startTime;
+    private final int endTime;
 
     /**
      * Constructor for a LessonTiming
@@ -18,6 +18,14 @@ public class LessonTiming {
         this.startTime = startTime;
         this.endTime = endTime;
     }
+    public int getStartTime() {
+        return startTime;
+    }
+
+    public int getEndTime() {
+        return endTime;
+    }
+
     /**
      * Converts a String-based 24 hour time format into the number of minutes since 0000
      * @param time The input string
@@ -53,6 +61,26 @@ public class LessonTiming {
         return hrStr + ":" + minStr;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonTiming)) {
+            return false;
+        }
+
+        LessonTiming otherTiming = (LessonTiming) other;
+        return startTime == otherTiming.startTime && endTime == otherTiming.endTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * startTime + endTime;
+    }
+
     @Override
     public String toString() {
         return getTimeFromMinutes(startTime) + " - " + getTimeFromMinutes(endTime);
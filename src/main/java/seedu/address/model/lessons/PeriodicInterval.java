@@ -0,0 +1,147 @@
+package seedu.address.model.lessons;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.LongPredicate;
+
+/**
+ * A time interval repeated at a fixed period a number of times, such as the occurrences of a {@link LessonSeries}.
+ * Occurrence {@code i} lasts from {@code start + i * period} to {@code start + i * period + duration}.
+ * <p>
+ * Whether two periodic intervals overlap is worked out without going through their occurrences. Occurrence
+ * {@code i} of one and {@code j} of the other overlap when the difference between their starts,
+ * {@code (otherStart - start) + j * otherPeriod - i * period}, lies strictly between {@code -otherDuration} and
+ * {@code duration}. The values {@code j * otherPeriod - i * period} can take are the multiples of the gcd of the
+ * periods, so only the differences in that range that are the right multiple are tried, and the occurrences giving
+ * each are found with the extended Euclidean algorithm.
+ */
+public class PeriodicInterval {
+
+    private final LocalDateTime start;
+    private final long periodInNanos;
+    private final long durationInNanos;
+    private final long count;
+
+    /**
+     * Creates an interval of {@code durationInNanos} starting at {@code start}, repeated {@code count} times every
+     * {@code periodInNanos}.
+     */
+    public PeriodicInterval(LocalDateTime start, long periodInNanos, long durationInNanos, long count) {
+        checkArgument(periodInNanos > 0, "The period must be positive");
+        checkArgument(durationInNanos >= 0, "The duration must not be negative");
+        checkArgument(count >= 0, "The number of occurrences must not be negative");
+        this.start = start;
+        this.periodInNanos = periodInNanos;
+        this.durationInNanos = durationInNanos;
+        this.count = count;
+    }
+
+    /**
+     * Returns the interval of {@code lesson}, which occurs once.
+     */
+    public static PeriodicInterval of(Lesson lesson) {
+        return new PeriodicInterval(lesson.getStart(), 1, ChronoUnit.NANOS.between(lesson.getStart(),
+                lesson.getEnd()), 1);
+    }
+
+    /**
+     * Returns the intervals of the occurrences of {@code series}, including those on its exceptions.
+     */
+    public static PeriodicInterval of(LessonSeries series) {
+        return new PeriodicInterval(series.getFirst().getStart(),
+                Duration.ofDays(7L * series.getIntervalInWeeks()).toNanos(),
+                series.getLength().toNanos(), series.getOccurrenceCount());
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the indexes {@code {i, j}} of an occurrence {@code i} of this interval and an occurrence {@code j}
+     * of {@code other} that overlap, where {@code isHeld} accepts {@code i} and {@code isOtherHeld} accepts
+     * {@code j}, or null if there are none. Occurrences that only touch do not overlap.
+     */
+    public long[] findOverlap(PeriodicInterval other, LongPredicate isHeld, LongPredicate isOtherHeld) {
+        if (count == 0 || other.count == 0 || durationInNanos == 0 || other.durationInNanos == 0) {
+            return null;
+        }
+        long offset = ChronoUnit.NANOS.between(start, other.start);
+        if (other.count == 1) {
+            return findOverlapWithSingle(offset, other.durationInNanos, isHeld, isOtherHeld, false);
+        }
+        if (count == 1) {
+            return other.findOverlapWithSingle(-offset, durationInNanos, isOtherHeld, isHeld, true);
+        }
+
+        long gcd = gcd(periodInNanos, other.periodInNanos);
+        long a = periodInNanos / gcd;
+        long b = other.periodInNanos / gcd;
+        long[] bezout = extendedEuclid(a, b);
+        // The differences between starts, offset + j * otherPeriod - i * period, that make the occurrences overlap
+        long firstDifference = offset - Math.floorDiv(offset + other.durationInNanos, gcd) * gcd;
+        if (firstDifference <= -other.durationInNanos) {
+            firstDifference += gcd;
+        }
+        for (long difference = firstDifference; difference < durationInNanos; difference += gcd) {
+            // i * a - j * b = k, where k * gcd = offset - difference
+            long k = (offset - difference) / gcd;
+            long i0 = Math.floorMod(Math.floorMod(bezout[0], b) * Math.floorMod(k, b), b);
+            long j0 = (i0 * a - k) / b;
+            // The solutions are i = i0 + t * b, j = j0 + t * a
+            long fromT = Math.max(ceilDiv(-i0, b), ceilDiv(-j0, a));
+            long toT = Math.min(Math.floorDiv(count - 1 - i0, b), Math.floorDiv(other.count - 1 - j0, a));
+            for (long t = fromT; t <= toT; t++) {
+                long i = i0 + t * b;
+                long j = j0 + t * a;
+                if (isHeld.test(i) && isOtherHeld.test(j)) {
+                    return new long[] {i, j};
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the indexes of an occurrence of this interval overlapping a single interval starting {@code offset}
+     * after the start of this one and lasting {@code duration}, or null if there is none. The indexes are swapped
+     * if {@code isSwapped}.
+     */
+    private long[] findOverlapWithSingle(long offset, long duration, LongPredicate isHeld,
+            LongPredicate isSingleHeld, boolean isSwapped) {
+        if (!isSingleHeld.test(0)) {
+            return null;
+        }
+        // offset - i * period lies strictly between -duration and durationInNanos
+        long fromIndex = Math.max(0, Math.floorDiv(offset - durationInNanos, periodInNanos) + 1);
+        long toIndex = Math.min(count - 1, ceilDiv(offset + duration, periodInNanos) - 1);
+        for (long i = fromIndex; i <= toIndex; i++) {
+            if (isHeld.test(i)) {
+                return isSwapped ? new long[] {0, i} : new long[] {i, 0};
+            }
+        }
+        return null;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns {@code {x, y}} such that {@code x * a + y * b} is the gcd of {@code a} and {@code b}.
+     */
+    static long[] extendedEuclid(long a, long b) {
+        if (b == 0) {
+            return new long[] {1, 0};
+        }
+        long[] next = extendedEuclid(b, a % b);
+        return new long[] {next[1], next[0] - (a / b) * next[1]};
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+}
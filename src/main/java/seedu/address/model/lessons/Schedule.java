@@ -3,14 +3,33 @@ package seedu.address.model.lessons;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.lessons.exceptions.DuplicateLessonException;
 import seedu.address.model.lessons.exceptions.LessonNotFoundException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 
@@ -23,20 +42,53 @@ import seedu.address.model.person.exceptions.DuplicatePersonException;
  *
  * Supports a minimal set of list operations.
  *
+ * Lessons held every few weeks are kept as {@link LessonSeries}, whose occurrences are only made when the lessons
+ * of a time range are asked for. Removing or replacing an occurrence adds an exception to its series instead, and
+ * the replacement is kept as a lesson of its own.
+ *
  * @see Lesson#isSameLesson(Lesson)
  */
 public class Schedule implements Iterable<Lesson> {
 
-    private final ObservableList<Lesson> internalSchedule = FXCollections.observableArrayList();
+    // The lessons and series are kept in persistent lists, so that a snapshot of them can be taken without copying
+    private final PersistentList.Builder<Lesson> backingSchedule = new PersistentList.Builder<>();
+    private final PersistentList.Builder<LessonSeries> backingSeries = new PersistentList.Builder<>();
+    private final ObservableList<Lesson> internalSchedule = FXCollections.observableList(backingSchedule);
     private final LessonComparator lessonComparator = new LessonComparator();
     private final ObservableList<Lesson> internalUnmodifiableSchedule =
             FXCollections.unmodifiableObservableList(internalSchedule);
+    private final ObservableList<LessonSeries> internalSeries = FXCollections.observableList(backingSeries);
+    private final ObservableList<LessonSeries> internalUnmodifiableSeries =
+            FXCollections.unmodifiableObservableList(internalSeries);
+    // Lessons keyed by start time, so that the lessons in a time range can be found without a full scan.
+    // Updated before internalSchedule, so that listeners of internalSchedule see an up to date index.
+    private final NavigableMap<LocalDateTime, List<Lesson>> lessonsByStart = new TreeMap<>();
+    // The lessons of each student keyed by start time, so that a clash is only looked for among the lessons
+    // of the students of a lesson, and only among those starting shortly before it.
+    private final Map<Name, NavigableMap<LocalDateTime, List<Lesson>>> lessonsByStudent = new HashMap<>();
+    // The lessons of each student linked to a person, keyed by the id of the person, so that the lessons to rename
+    // along with a person are found without a full scan.
+    private final Map<Long, NavigableMap<LocalDateTime, List<Lesson>>> lessonsByStudentId = new HashMap<>();
+    // The series of each student, by name and by id, kept up to date by a listener of internalSeries.
+    private final Map<Name, List<LessonSeries>> seriesByStudent = new HashMap<>();
+    private final Map<Long, List<LessonSeries>> seriesByStudentId = new HashMap<>();
+    // The series keyed by the time from the start of the week at which their lessons start, so that only the
+    // series that could have a lesson starting at a given time are looked at.
+    private final Map<Duration, List<LessonSeries>> seriesByWeeklyStart = new HashMap<>();
+    // At least as long as the longest indexed lesson, which bounds how early an overlapping lesson can start.
+    private Duration longestLesson = Duration.ZERO;
 
     /**
      * Constructor for a Schedule.
      */
     public Schedule() {
-
+        // Added before any other listener, so that they see an up to date index of the series
+        internalSeries.addListener((ListChangeListener<LessonSeries>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::unindexSeries);
+                change.getAddedSubList().forEach(this::indexSeries);
+            }
+        });
     }
 
     /**
@@ -63,28 +115,79 @@ public class Schedule implements Iterable<Lesson> {
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        System.out.println(internalSchedule);
-        return internalSchedule.stream().anyMatch(toCheck::isSameLesson);
+        return contains(toCheck, null, null);
+    }
+
+    /**
+     * Returns true if the list contains an equivalent lesson as {@code toCheck}, as if its series {@code target}
+     * were replaced by {@code replacement}. {@code target} may be null, in which case no series is replaced.
+     */
+    private boolean contains(Lesson toCheck, LessonSeries target, LessonSeries replacement) {
+        List<Lesson> sameStart = lessonsByStart.get(toCheck.getStart());
+        if (sameStart != null && sameStart.stream().anyMatch(toCheck::isSameLesson)) {
+            return true;
+        }
+        LocalDate date = toCheck.getStart().toLocalDate();
+        for (LessonSeries series : seriesStartingAt(toCheck.getStart())) {
+            LessonSeries checked = series == target ? replacement : series;
+            if (toCheck.isSameLesson(checked.getOccurrenceOn(date))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the series whose lessons start on the same day of the week and at the same time as {@code start}.
+     */
+    private List<LessonSeries> seriesStartingAt(LocalDateTime start) {
+        return seriesByWeeklyStart.getOrDefault(weeklyStartOf(start), List.of());
     }
 
     /**
      * Returns true if the list contains a lesson that clashes with the given argument.
      * @param toCheck Lesson to check
      * @return true if the list contains a lesson that clashes with the given argument.
+     * @see Lesson#isClashWith(Lesson)
      */
     public boolean hasLessonClashWith(Lesson toCheck) {
-        requireNonNull(toCheck);
-        return internalSchedule.stream().anyMatch(toCheck::isClashWith);
+        return getLessonClashWith(toCheck) != null;
     }
 
     /**
-     * Returns the lesson that clashes with the given argument.
+     * Returns a lesson that overlaps the given argument and shares one of its students, or null if there is none.
+     * Only the lessons of the students of {@code toCheck} are looked at, each with a lookup by start time.
      * @param toCheck Lesson to check
      * @return Lesson that clashes with the given argument.
+     * @see Lesson#isClashWith(Lesson)
      */
     public Lesson getLessonClashWith(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalSchedule.stream().filter(toCheck::isClashWith).findFirst().get();
+        LocalDateTime earliestStart = toCheck.getStart().minus(longestLesson);
+        if (earliestStart.isAfter(toCheck.getEnd())) {
+            return null;
+        }
+        for (Name student : new HashSet<>(toCheck.getStudents())) {
+            NavigableMap<LocalDateTime, List<Lesson>> lessons = lessonsByStudent.get(student);
+            if (lessons == null) {
+                continue;
+            }
+            // An overlapping lesson starts before toCheck ends, and no longer than the longest lesson before it starts
+            for (List<Lesson> bucket : lessons.subMap(earliestStart, false, toCheck.getEnd(), true).values()) {
+                for (Lesson lesson : bucket) {
+                    if (lesson.isClashWith(toCheck)) {
+                        return lesson;
+                    }
+                }
+            }
+        }
+        for (LessonSeries series : internalSeries) {
+            Lesson clash = series.getOccurrenceClashingWith(toCheck);
+            if (clash != null) {
+                return clash;
+            }
+        }
+        return null;
     }
 
     /**
@@ -96,8 +199,8 @@ public class Schedule implements Iterable<Lesson> {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
-        internalSchedule.add(toAdd);
-        internalSchedule.sort(lessonComparator);
+        index(toAdd);
+        internalSchedule.add(insertionIndexOf(toAdd), toAdd);
     }
 
     /**
@@ -110,15 +213,49 @@ public class Schedule implements Iterable<Lesson> {
 
         int index = internalSchedule.indexOf(target);
         if (index == -1) {
-            throw new LessonNotFoundException();
+            // Only the edited occurrence is made a lesson of its own, the rest of its series is left as it is
+            int seriesIndex = indexOfSeriesWith(target);
+            LessonSeries series = internalSeries.get(seriesIndex);
+            LessonSeries withException = series.withException(target.getStart().toLocalDate());
+            // Checked before the series is changed, so that a rejected edit leaves the lists as they are
+            if (contains(editedLesson, series, withException)) {
+                throw new DuplicateLessonException();
+            }
+            internalSeries.set(seriesIndex, withException);
+            add(editedLesson);
+            return;
         }
 
         if (!target.isSameLesson(editedLesson) && contains(editedLesson)) {
             throw new DuplicatePersonException();
         }
 
-        internalSchedule.set(index, editedLesson);
-        internalSchedule.sort(lessonComparator);
+        unindex(internalSchedule.get(index));
+        index(editedLesson);
+        if (editedLesson.getStart().equals(target.getStart())) {
+            internalSchedule.set(index, editedLesson);
+        } else {
+            internalSchedule.remove(index);
+            internalSchedule.add(insertionIndexOf(editedLesson), editedLesson);
+        }
+    }
+
+    /**
+     * Returns the index at which {@code lesson} is to be inserted to keep the lessons in order of start time,
+     * which is after the lessons starting at the same time.
+     */
+    private int insertionIndexOf(Lesson lesson) {
+        int low = 0;
+        int high = internalSchedule.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lessonComparator.compare(internalSchedule.get(middle), lesson) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 
     /**
@@ -127,15 +264,162 @@ public class Schedule implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalSchedule.remove(toRemove)) {
+        int index = internalSchedule.indexOf(toRemove);
+        if (index == -1) {
+            int seriesIndex = indexOfSeriesWith(toRemove);
+            internalSeries.set(seriesIndex,
+                    internalSeries.get(seriesIndex).withException(toRemove.getStart().toLocalDate()));
+            return;
+        }
+        unindex(internalSchedule.get(index));
+        internalSchedule.remove(index);
+    }
+
+    /**
+     * Removes the equivalent lessons of {@code toRemove} from the list, as one change to the lessons and at most one
+     * change to each series. The lessons must exist in the list.
+     */
+    public void removeAll(Collection<Lesson> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Lesson> removed = new HashSet<>();
+        Map<Integer, Set<LocalDate>> exceptionsBySeries = new HashMap<>();
+        for (Lesson lesson : toRemove) {
+            List<Lesson> sameStart = lessonsByStart.get(lesson.getStart());
+            if (sameStart != null && sameStart.contains(lesson)) {
+                removed.add(lesson);
+            } else {
+                exceptionsBySeries.computeIfAbsent(indexOfSeriesWith(lesson), unused -> new HashSet<>())
+                        .add(lesson.getStart().toLocalDate());
+            }
+        }
+        for (Map.Entry<Integer, Set<LocalDate>> entry : exceptionsBySeries.entrySet()) {
+            int seriesIndex = entry.getKey();
+            internalSeries.set(seriesIndex, internalSeries.get(seriesIndex).withExceptions(entry.getValue()));
+        }
+        removed.forEach(this::unindex);
+        internalSchedule.removeAll(removed);
+    }
+
+    /**
+     * Returns the index of the series of which {@code occurrence} is an occurrence.
+     *
+     * @throws LessonNotFoundException if there is no such series.
+     */
+    private int indexOfSeriesWith(Lesson occurrence) {
+        for (int i = 0; i < internalSeries.size(); i++) {
+            if (internalSeries.get(i).isOccurrence(occurrence)) {
+                return i;
+            }
+        }
+        throw new LessonNotFoundException();
+    }
+
+    /**
+     * Returns the series of which {@code occurrence} is an occurrence, or null if there is none.
+     */
+    public LessonSeries getSeriesWith(Lesson occurrence) {
+        requireNonNull(occurrence);
+        for (LessonSeries series : seriesStartingAt(occurrence.getStart())) {
+            if (series.isOccurrence(occurrence)) {
+                return series;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code series} has an occurrence that is the same lesson as a lesson in the schedule.
+     */
+    public boolean containsAnyOf(LessonSeries series) {
+        requireNonNull(series);
+        for (Iterator<Lesson> it = series.occurrencesFrom(null); it.hasNext();) {
+            if (contains(it.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an occurrence of {@code series} that clashes with a lesson in the schedule, or null if there is none.
+     * The occurrences of {@code series} are not gone through: other series are checked against it by arithmetic
+     * on their times, and lessons by looking up the lessons of its students while it runs.
+     */
+    public Lesson getLessonClashWithSeries(LessonSeries series) {
+        requireNonNull(series);
+        for (LessonSeries other : internalSeries) {
+            Lesson clash = series.getOccurrenceClashingWith(other);
+            if (clash != null) {
+                return clash;
+            }
+        }
+        LocalDateTime earliestStart = series.getFirst().getStart().minus(longestLesson);
+        LocalDateTime latestStart = series.getLastDay().plusDays(1).atStartOfDay().plus(series.getLength());
+        for (Name student : new HashSet<>(series.getFirst().getStudents())) {
+            NavigableMap<LocalDateTime, List<Lesson>> lessons = lessonsByStudent.get(student);
+            if (lessons == null) {
+                continue;
+            }
+            for (List<Lesson> bucket : lessons.subMap(earliestStart, false, latestStart, true).values()) {
+                for (Lesson lesson : bucket) {
+                    Lesson clash = series.getOccurrenceClashingWith(lesson);
+                    if (clash != null) {
+                        return clash;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a series of lessons to the schedule.
+     * None of its occurrences may already be in the schedule.
+     */
+    public void addSeries(LessonSeries toAdd) {
+        requireNonNull(toAdd);
+        if (containsAnyOf(toAdd)) {
+            throw new DuplicateLessonException();
+        }
+        internalSeries.add(toAdd);
+    }
+
+    /**
+     * Replaces the series {@code target} with {@code editedSeries}.
+     * {@code target} must be in the schedule.
+     */
+    public void setSeries(LessonSeries target, LessonSeries editedSeries) {
+        requireAllNonNull(target, editedSeries);
+        int index = internalSeries.indexOf(target);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        internalSeries.set(index, editedSeries);
+    }
+
+    /**
+     * Removes the equivalent series from the schedule.
+     * The series must be in the schedule.
+     */
+    public void removeSeries(LessonSeries toRemove) {
+        requireNonNull(toRemove);
+        if (!internalSeries.remove(toRemove)) {
+            throw new LessonNotFoundException();
+        }
+    }
+
+    /**
+     * Replaces the series of this schedule with {@code series}.
+     */
+    public void setSeriesList(List<LessonSeries> series) {
+        requireAllNonNull(series);
+        internalSeries.setAll(series);
     }
 
     public void setLessons(Schedule replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalSchedule);
         internalSchedule.setAll(replacement.internalSchedule);
-        internalSchedule.sort(lessonComparator);
     }
 
     /**
@@ -148,8 +432,278 @@ public class Schedule implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalSchedule.setAll(lessons);
-        internalSchedule.sort(lessonComparator);
+        reindex(lessons);
+        List<Lesson> sortedLessons = new ArrayList<>(lessons);
+        sortedLessons.sort(lessonComparator);
+        internalSchedule.setAll(sortedLessons);
+    }
+
+    /**
+     * Returns the lessons with a student named {@code student}, in order of start time. Occurrences of series are
+     * not among them.
+     */
+    public List<Lesson> getLessonsOfStudent(Name student) {
+        requireNonNull(student);
+        return flatten(lessonsByStudent.get(student));
+    }
+
+    /**
+     * Returns the lessons with a student linked to the person with {@code id}, in order of start time. Occurrences
+     * of series are not among them.
+     */
+    public List<Lesson> getLessonsOfStudent(long id) {
+        return flatten(lessonsByStudentId.get(id));
+    }
+
+    private static List<Lesson> flatten(NavigableMap<LocalDateTime, List<Lesson>> index) {
+        List<Lesson> lessons = new ArrayList<>();
+        if (index != null) {
+            index.values().forEach(lessons::addAll);
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns the series whose lessons have a student named {@code student}.
+     */
+    public List<LessonSeries> getSeriesOfStudent(Name student) {
+        requireNonNull(student);
+        return new ArrayList<>(seriesByStudent.getOrDefault(student, List.of()));
+    }
+
+    /**
+     * Returns the series whose lessons have a student linked to the person with {@code id}.
+     */
+    public List<LessonSeries> getSeriesOfStudent(long id) {
+        return new ArrayList<>(seriesByStudentId.getOrDefault(id, List.of()));
+    }
+
+    /**
+     * Returns the lessons starting at or after {@code from} and before {@code to}, in order of start time.
+     * Either bound may be null, in which case the range is unbounded on that side.
+     */
+    public List<Lesson> getLessonsBetween(LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, List<Lesson>> range = lessonsByStart;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, false);
+        }
+        return merge(range.values(), from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the first {@code count} lessons starting at or after {@code from}, in order of start time.
+     */
+    public List<Lesson> getLessonsFrom(LocalDateTime from, int count) {
+        requireNonNull(from);
+        return merge(lessonsByStart.tailMap(from, true).values(), from, null, count);
+    }
+
+    /**
+     * Returns up to {@code limit} of the lessons in {@code buckets} and the occurrences of the series starting at or
+     * after {@code from} and before {@code to}, in order of start time. The occurrences are made one at a time as
+     * they are reached, so that only those returned are made.
+     */
+    private List<Lesson> merge(Collection<List<Lesson>> buckets, LocalDateTime from, LocalDateTime to, int limit) {
+        Iterator<Lesson> merged = inStartOrder(buckets.stream().flatMap(List::stream).iterator(), internalSeries,
+                from);
+        List<Lesson> lessons = new ArrayList<>();
+        while (lessons.size() < limit && merged.hasNext()) {
+            Lesson lesson = merged.next();
+            if (to != null && !lesson.getStart().isBefore(to)) {
+                break;
+            }
+            lessons.add(lesson);
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns an iterator over {@code lessons}, which are in order of start time, and the occurrences of
+     * {@code series} starting at or after {@code from}, in order of start time. Lessons starting at the same time
+     * are in the order of their sources, with {@code lessons} first. The occurrences are made one at a time as they
+     * are reached, so that going through the first few lessons only makes the occurrences among them.
+     * {@code from} may be null, in which case the occurrences are gone through from the first.
+     */
+    public static Iterator<Lesson> inStartOrder(Iterator<Lesson> lessons, List<LessonSeries> series,
+            LocalDateTime from) {
+        requireAllNonNull(lessons, series);
+        PriorityQueue<PeekingIterator> sources = new PriorityQueue<>(Comparator
+                .comparing(PeekingIterator::peekStart).thenComparingInt(PeekingIterator::getOrder));
+        if (lessons.hasNext()) {
+            sources.add(new PeekingIterator(lessons, 0));
+        }
+        for (int i = 0; i < series.size(); i++) {
+            Iterator<Lesson> occurrences = series.get(i).occurrencesFrom(from);
+            if (occurrences.hasNext()) {
+                sources.add(new PeekingIterator(occurrences, i + 1));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !sources.isEmpty();
+            }
+
+            @Override
+            public Lesson next() {
+                if (sources.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                PeekingIterator source = sources.poll();
+                Lesson lesson = source.next();
+                if (source.hasNext()) {
+                    sources.add(source);
+                }
+                return lesson;
+            }
+        };
+    }
+
+    /**
+     * An iterator whose next lesson can be looked at without moving past it.
+     */
+    private static class PeekingIterator {
+        private final Iterator<Lesson> iterator;
+        // The position of the source among those merged, which orders lessons starting at the same time
+        private final int order;
+        private Lesson next;
+
+        PeekingIterator(Iterator<Lesson> iterator, int order) {
+            this.iterator = iterator;
+            this.order = order;
+            this.next = iterator.next();
+        }
+
+        LocalDateTime peekStart() {
+            return next.getStart();
+        }
+
+        int getOrder() {
+            return order;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        Lesson next() {
+            Lesson current = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+            return current;
+        }
+    }
+
+    private void index(Lesson lesson) {
+        addTo(lessonsByStart, lesson);
+        for (Name student : new HashSet<>(lesson.getStudents())) {
+            addTo(lessonsByStudent.computeIfAbsent(student, unused -> new TreeMap<>()), lesson);
+        }
+        for (long id : linkedIdsOf(lesson)) {
+            addTo(lessonsByStudentId.computeIfAbsent(id, unused -> new TreeMap<>()), lesson);
+        }
+        Duration length = Duration.between(lesson.getStart(), lesson.getEnd());
+        if (length.compareTo(longestLesson) > 0) {
+            longestLesson = length;
+        }
+    }
+
+    private void unindex(Lesson lesson) {
+        removeFrom(lessonsByStart, lesson);
+        for (Name student : new HashSet<>(lesson.getStudents())) {
+            NavigableMap<LocalDateTime, List<Lesson>> lessons = lessonsByStudent.get(student);
+            if (lessons != null && removeFrom(lessons, lesson)) {
+                lessonsByStudent.remove(student);
+            }
+        }
+        for (long id : linkedIdsOf(lesson)) {
+            NavigableMap<LocalDateTime, List<Lesson>> lessons = lessonsByStudentId.get(id);
+            if (lessons != null && removeFrom(lessons, lesson)) {
+                lessonsByStudentId.remove(id);
+            }
+        }
+        // longestLesson is left as it is, as an upper bound only makes clash checks look a little further back
+    }
+
+    private void reindex(List<Lesson> lessons) {
+        lessonsByStart.clear();
+        lessonsByStudent.clear();
+        lessonsByStudentId.clear();
+        longestLesson = Duration.ZERO;
+        lessons.forEach(this::index);
+    }
+
+    private void indexSeries(LessonSeries series) {
+        Lesson first = series.getFirst();
+        for (Name student : new HashSet<>(first.getStudents())) {
+            seriesByStudent.computeIfAbsent(student, unused -> new ArrayList<>()).add(series);
+        }
+        for (long id : linkedIdsOf(first)) {
+            seriesByStudentId.computeIfAbsent(id, unused -> new ArrayList<>()).add(series);
+        }
+        seriesByWeeklyStart.computeIfAbsent(weeklyStartOf(first.getStart()), unused -> new ArrayList<>()).add(series);
+    }
+
+    private void unindexSeries(LessonSeries series) {
+        Lesson first = series.getFirst();
+        for (Name student : new HashSet<>(first.getStudents())) {
+            removeSeriesFrom(seriesByStudent, student, series);
+        }
+        for (long id : linkedIdsOf(first)) {
+            removeSeriesFrom(seriesByStudentId, id, series);
+        }
+        removeSeriesFrom(seriesByWeeklyStart, weeklyStartOf(first.getStart()), series);
+    }
+
+    /**
+     * Returns the time from the start of the week, Monday at midnight, to {@code start}.
+     */
+    private static Duration weeklyStartOf(LocalDateTime start) {
+        return Duration.ofDays(start.getDayOfWeek().getValue() - 1)
+                .plus(Duration.ofNanos(start.toLocalTime().toNanoOfDay()));
+    }
+
+    private static <K> void removeSeriesFrom(Map<K, List<LessonSeries>> index, K key, LessonSeries series) {
+        List<LessonSeries> seriesOfKey = index.get(key);
+        if (seriesOfKey != null) {
+            seriesOfKey.removeIf(indexed -> indexed == series);
+            if (seriesOfKey.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct ids of the persons to which students of {@code lesson} are linked.
+     */
+    private static Set<Long> linkedIdsOf(Lesson lesson) {
+        Set<Long> ids = new HashSet<>();
+        for (long id : lesson.getStudentIds()) {
+            if (id != Person.NO_ID) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static void addTo(NavigableMap<LocalDateTime, List<Lesson>> index, Lesson lesson) {
+        index.computeIfAbsent(lesson.getStart(), unused -> new ArrayList<>()).add(lesson);
+    }
+
+    /**
+     * Removes {@code lesson} from {@code index}, returning true if the index is left empty.
+     */
+    private static boolean removeFrom(NavigableMap<LocalDateTime, List<Lesson>> index, Lesson lesson) {
+        List<Lesson> bucket = index.get(lesson.getStart());
+        if (bucket != null) {
+            bucket.removeIf(indexed -> indexed == lesson);
+            if (bucket.isEmpty()) {
+                index.remove(lesson.getStart());
+            }
+        }
+        return index.isEmpty();
     }
 
     /**
@@ -159,6 +713,28 @@ public class Schedule implements Iterable<Lesson> {
         return internalUnmodifiableSchedule;
     }
 
+    /**
+     * Returns the lessons as they are now, in order of start time, in O(1) time.
+     * Later changes to the schedule leave the snapshot as it is.
+     */
+    public PersistentList<Lesson> snapshot() {
+        return backingSchedule.snapshot();
+    }
+
+    /**
+     * Returns the series of lessons as they are now, in O(1) time.
+     */
+    public PersistentList<LessonSeries> snapshotSeries() {
+        return backingSeries.snapshot();
+    }
+
+    /**
+     * Returns the series of lessons as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<LessonSeries> asUnmodifiableObservableSeriesList() {
+        return internalUnmodifiableSeries;
+    }
+
     @Override
     public Iterator<Lesson> iterator() {
         return internalSchedule.iterator();
@@ -176,28 +752,32 @@ public class Schedule implements Iterable<Lesson> {
         }
 
         Schedule otherSchedule = (Schedule) other;
-        return internalSchedule.equals(otherSchedule.internalSchedule);
+        return internalSchedule.equals(otherSchedule.internalSchedule)
+                && internalSeries.equals(otherSchedule.internalSeries);
     }
 
     @Override
     public int hashCode() {
-        return internalSchedule.hashCode();
+        return Objects.hash(internalSchedule, internalSeries);
     }
 
     @Override
     public String toString() {
-        return internalSchedule.toString();
+        return internalSeries.isEmpty()
+                ? internalSchedule.toString()
+                : internalSchedule.toString() + " " + internalSeries.toString();
     }
 
     /**
      * Returns true if {@code lessons} contains only unique lessons.
      */
     private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
+        // Lessons are the same lesson exactly when they have the same times and the same set of students
+        Set<List<Object>> identities = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            if (!identities.add(Arrays.asList(lesson.getStart(), lesson.getEnd(),
+                    new HashSet<>(lesson.getStudents())))) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,177 @@
+package seedu.address.model.lessons;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+
+/**
+ * The overlapping lessons of a schedule, found with a single sweep over the lessons in order of their start.
+ * Lessons overlap if one starts before the other ends, so a lesson may start exactly when another ends.
+ */
+public class ScheduleConflicts {
+
+    private final List<List<Lesson>> overlappingGroups;
+    private final List<DoubleBooking> doubleBookings;
+
+    private ScheduleConflicts(List<List<Lesson>> overlappingGroups, List<DoubleBooking> doubleBookings) {
+        this.overlappingGroups = Collections.unmodifiableList(overlappingGroups);
+        this.doubleBookings = Collections.unmodifiableList(doubleBookings);
+    }
+
+    /**
+     * Finds the conflicts among {@code lessons}, which need not be sorted.
+     */
+    public static ScheduleConflicts of(List<Lesson> lessons) {
+        requireNonNull(lessons);
+        List<Lesson> sortedLessons = new ArrayList<>(lessons);
+        sortedLessons.sort(Comparator.comparing(Lesson::getStart));
+        return of(sortedLessons.iterator());
+    }
+
+    /**
+     * Finds the conflicts among {@code lessons}, which must be in order of start time. The lessons are gone through
+     * once and only those overlapping others are kept, so that they can be made as they are reached.
+     */
+    public static ScheduleConflicts of(Iterator<Lesson> lessons) {
+        requireNonNull(lessons);
+
+        List<List<Lesson>> groups = new ArrayList<>();
+        List<DoubleBooking> doubleBookings = new ArrayList<>();
+        // The lesson of each student that ends last among those swept so far
+        Map<Name, Lesson> lastEndingByStudent = new HashMap<>();
+        List<Lesson> group = new ArrayList<>();
+        LocalDateTime groupEnd = null;
+        while (lessons.hasNext()) {
+            Lesson lesson = lessons.next();
+            if (groupEnd != null && !lesson.getStart().isBefore(groupEnd)) {
+                addIfOverlapping(groups, group);
+                group = new ArrayList<>();
+                groupEnd = null;
+            }
+            group.add(lesson);
+            if (groupEnd == null || lesson.getEnd().isAfter(groupEnd)) {
+                groupEnd = lesson.getEnd();
+            }
+
+            for (Name student : lesson.getStudents()) {
+                Lesson lastEnding = lastEndingByStudent.get(student);
+                if (lastEnding != null && lesson.getStart().isBefore(lastEnding.getEnd())) {
+                    doubleBookings.add(new DoubleBooking(student, lastEnding, lesson));
+                }
+                if (lastEnding == null || lesson.getEnd().isAfter(lastEnding.getEnd())) {
+                    lastEndingByStudent.put(student, lesson);
+                }
+            }
+        }
+        addIfOverlapping(groups, group);
+        return new ScheduleConflicts(groups, doubleBookings);
+    }
+
+    private static void addIfOverlapping(List<List<Lesson>> groups, List<Lesson> group) {
+        if (group.size() > 1) {
+            groups.add(Collections.unmodifiableList(group));
+        }
+    }
+
+    /**
+     * Returns the groups of lessons that overlap, in order of their start. Every lesson of a group overlaps
+     * another lesson of the group, and no lesson overlaps lessons of two groups.
+     */
+    public List<List<Lesson>> getOverlappingGroups() {
+        return overlappingGroups;
+    }
+
+    /**
+     * Returns the students booked for overlapping lessons. Each lesson that overlaps an earlier lesson of the
+     * same student is reported once, with the earlier lesson that ends last.
+     */
+    public List<DoubleBooking> getDoubleBookings() {
+        return doubleBookings;
+    }
+
+    public boolean isEmpty() {
+        return overlappingGroups.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("overlappingGroups", overlappingGroups)
+                .add("doubleBookings", doubleBookings)
+                .toString();
+    }
+
+    /**
+     * A student booked for two overlapping lessons.
+     */
+    public static class DoubleBooking {
+        private final Name student;
+        private final Lesson first;
+        private final Lesson second;
+
+        /**
+         * Creates a double booking of {@code student} for {@code first} and the later starting {@code second}.
+         */
+        public DoubleBooking(Name student, Lesson first, Lesson second) {
+            requireNonNull(student);
+            requireNonNull(first);
+            requireNonNull(second);
+            this.student = student;
+            this.first = first;
+            this.second = second;
+        }
+
+        public Name getStudent() {
+            return student;
+        }
+
+        public Lesson getFirst() {
+            return first;
+        }
+
+        public Lesson getSecond() {
+            return second;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof DoubleBooking)) {
+                return false;
+            }
+
+            DoubleBooking otherBooking = (DoubleBooking) other;
+            return student.equals(otherBooking.student)
+                    && first.equals(otherBooking.first)
+                    && second.equals(otherBooking.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return (student.hashCode() * 31 + first.hashCode()) * 31 + second.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("student", student)
+                    .add("first", first)
+                    .add("second", second)
+                    .toString();
+        }
+    }
+}
@@ -69,6 +69,13 @@ public class Task {
     }
 
 
+    /**
+     * Returns true if the Task is Done.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
     /**
      * Marks the Task as Done.
      */
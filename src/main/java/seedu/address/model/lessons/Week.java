@@ -1,15 +1,23 @@
 package seedu.address.model.lessons;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.lessons.LessonTiming.getMinutesFromTime;
 
+import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
-
-
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * Encapsulates a week in which a student has lessons.
+ * Encapsulates the times of the week at which a student is free for lessons, such as MON 15:00 18:00.
+ * The free minutes of each day are kept as a bitset, so that the availabilities of several students can be
+ * intersected by AND-ing them.
+ * Guarantees: immutable; is valid as declared in {@link #isValidWeek(String)}
  */
 public class Week {
     /**
@@ -48,65 +56,145 @@ public class Week {
             }
             return day;
         }
+
+        /**
+         * Returns the day of {@code dayOfWeek}.
+         */
+        public static Days of(DayOfWeek dayOfWeek) {
+            return values()[dayOfWeek.getValue() - 1];
+        }
     }
 
-    private Map<Days, ArrayList<LessonTiming>> lessons = new EnumMap<>(Days.class);
+    public static final String MESSAGE_CONSTRAINTS = "Availability should be days with start and end times, "
+            + "separated by commas, such as MON 15:00 18:00, WED 16:00 20:00";
 
-    /**
-     * Creates a Week object with the correct lesson timings
-     * @param schedule
-     */
-    public Week(String schedule) {
-        String[] data = schedule.split(" ");
+    public static final int MINUTES_PER_DAY = 24 * 60;
 
-        Days day = Days.findByName(data[0]);
+    /** The availability of a student who has not given one. */
+    public static final Week NONE = new Week(new EnumMap<>(Days.class));
 
-        int startTime = getMinutesFromTime(data[1]);
-        int endTime = getMinutesFromTime(data[2]);
+    private static final Pattern TIMING_PATTERN =
+            Pattern.compile("([A-Za-z]{3})\\s+(\\d{2}):?(\\d{2})\\s+(\\d{2}):?(\\d{2})");
 
-        LessonTiming lt = new LessonTiming(startTime, endTime);
-        // ArrayList<LessonTiming> existingTimings = lessons.get(day);
-        ArrayList<LessonTiming> newTimings = new ArrayList<>();
-        // if (existingTimings != null) {
-        //     newTimings.addAll(existingTimings);
-        // }
+    private final Map<Days, BitSet> freeMinutes;
+
+    /**
+     * Creates a Week object with the given timings, such as MON 15:00 18:00, WED 16:00 20:00.
+     * Timings on the same day may overlap.
+     * @param schedule A valid availability.
+     */
+    public Week(String schedule) {
+        requireNonNull(schedule);
+        checkArgument(isValidWeek(schedule), MESSAGE_CONSTRAINTS);
+        freeMinutes = new EnumMap<>(Days.class);
+        for (String timing : schedule.split(",", -1)) {
+            Matcher m = TIMING_PATTERN.matcher(timing.trim());
+            m.matches();
+            Days day = Days.findByName(m.group(1));
+            int startTime = getMinutesFromTime(m.group(2) + m.group(3));
+            int endTime = getMinutesFromTime(m.group(4) + m.group(5));
+            freeMinutes.computeIfAbsent(day, unused -> new BitSet(MINUTES_PER_DAY)).set(startTime, endTime);
+        }
+    }
 
-        newTimings.add(lt);
+    private Week(Map<Days, BitSet> freeMinutes) {
+        this.freeMinutes = freeMinutes;
+    }
 
+    /**
+     * Returns true if a given string is a valid availability.
+     */
+    public static boolean isValidWeek(String test) {
+        if (test.isBlank()) {
+            return false;
+        }
+        for (String timing : test.split(",", -1)) {
+            Matcher m = TIMING_PATTERN.matcher(timing.trim());
+            if (!m.matches() || !Days.containsDays(m.group(1).toUpperCase())) {
+                return false;
+            }
+            int startHour = Integer.parseInt(m.group(2));
+            int endHour = Integer.parseInt(m.group(4));
+            int startMinute = Integer.parseInt(m.group(3));
+            int endMinute = Integer.parseInt(m.group(5));
+            boolean isEndOfDay = endHour == 24 && endMinute == 0;
+            if (startHour > 23 || startMinute > 59 || (endHour > 23 && !isEndOfDay) || endMinute > 59
+                    || startHour * 60 + startMinute >= endHour * 60 + endMinute) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        // lessons.put(day, newTimings);
-        // todo: CHange this to dynamic. currently, we are overwriting all the lessons
-        //       when we set a new lesson
-        Map<Days, ArrayList<LessonTiming>> newLessons = new EnumMap<>(Days.class);
-        newLessons.put(day, newTimings);
-        this.lessons = newLessons;
+    /**
+     * Returns true if no times were given.
+     */
+    public boolean isEmpty() {
+        return freeMinutes.isEmpty();
+    }
 
+    /**
+     * Returns the minutes of {@code day} that are free, where bit {@code i} stands for the minute starting
+     * {@code i} minutes after midnight. The returned bitset may be changed freely.
+     */
+    public BitSet getFreeMinutes(DayOfWeek day) {
+        requireNonNull(day);
+        BitSet minutes = freeMinutes.get(Days.of(day));
+        return minutes == null ? new BitSet(MINUTES_PER_DAY) : (BitSet) minutes.clone();
     }
 
+    /**
+     * Returns the free times of {@code day}, in order, with overlapping timings joined.
+     */
+    public List<LessonTiming> getTimings(Days day) {
+        requireNonNull(day);
+        List<LessonTiming> timings = new ArrayList<>();
+        BitSet minutes = freeMinutes.getOrDefault(day, new BitSet());
+        for (int start = minutes.nextSetBit(0); start >= 0; start = minutes.nextSetBit(start)) {
+            int end = minutes.nextClearBit(start);
+            timings.add(new LessonTiming(start, end));
+            start = end;
+        }
+        return timings;
+    }
 
     @Override
     public String toString() {
-        // todo
-        return "Lessons on: " + this.serialize();
-
+        return serialize();
     }
+
     /**
-     * Serialize Week to a string
+     * Serialize Week to a string that can be given to {@link #Week(String)}.
      * @return stringified version of week
      */
     public String serialize() {
-        StringBuilder result = new StringBuilder();
-        for (Map.Entry<Days, ArrayList<LessonTiming>> entry : this.lessons.entrySet()) {
-            Days day = entry.getKey();
-            ArrayList<LessonTiming> lessonTimings = entry.getValue();
-            result.append(day.toString() + ": ");
-            for (LessonTiming lessonTiming : lessonTimings) {
-                result.append(lessonTiming.toString());
-                result.append(",");
+        List<String> result = new ArrayList<>();
+        for (Days day : freeMinutes.keySet()) {
+            for (LessonTiming timing : getTimings(day)) {
+                result.add(day + " " + LessonTiming.getTimeFromMinutes(timing.getStartTime()) + " "
+                        + LessonTiming.getTimeFromMinutes(timing.getEndTime()));
             }
+        }
+        return String.join(", ", result);
+    }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
         }
 
-        return result.toString();
+        // instanceof handles nulls
+        if (!(other instanceof Week)) {
+            return false;
+        }
+
+        Week otherWeek = (Week) other;
+        return freeMinutes.equals(otherWeek.freeMinutes);
+    }
+
+    @Override
+    public int hashCode() {
+        return freeMinutes.hashCode();
     }
 }
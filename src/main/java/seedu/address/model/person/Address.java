@@ -68,14 +68,4 @@ public class Address {
         return value.hashCode();
     }
 
-    /**
-     * Returns a clone of this address that is equal to this address.
-     */
-    public Address clone() {
-        if (this == DEFAULT_ADDRESS) {
-            return DEFAULT_ADDRESS;
-        }
-        return new Address(value);
-    }
-
 }
@@ -0,0 +1,334 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Finds groups of persons that are likely to be the same student entered more than once.
+ * Instead of comparing every pair of persons, only persons sharing a phone or an email are compared with each
+ * other, and each person is compared with the few persons next to it when sorted by name, and by name spelt
+ * backwards, so that a misspelling near either end of a name still leaves it next to the right one.
+ * Persons with the same name are duplicates without being compared.
+ * Pairs found to be duplicates are joined into groups, so that each group can be merged at once.
+ */
+public class DuplicateDetector {
+
+    /** How similar the names of persons sharing a phone or email must be for them to be duplicates. */
+    public static final double CONTACT_NAME_SIMILARITY = 0.75;
+    /** How similar the names of persons sharing no contact details must be for them to be duplicates. */
+    public static final double NAME_SIMILARITY = 0.85;
+    /**
+     * Persons sharing a phone or email with more than this many others, such as a phone number shared by a whole
+     * family, are only compared with those whose names start with the same word.
+     */
+    public static final int MAX_BLOCK_SIZE = 500;
+    /** The number of persons after it in name order that each person is compared with. */
+    public static final int WINDOW_SIZE = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(DuplicateDetector.class);
+
+    /**
+     * The reasons persons are thought to be duplicates.
+     */
+    public enum Reason {
+        SAME_NAME, SIMILAR_NAME, SAME_PHONE, SAME_EMAIL;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        }
+    }
+
+    private DuplicateDetector() {}
+
+    /**
+     * Returns the groups of likely duplicates among {@code persons}, ordered by the position of their
+     * first person. The persons of a group are in the order of {@code persons}.
+     */
+    public static List<Group> findDuplicates(List<Person> persons) {
+        requireNonNull(persons);
+        Matcher matcher = new Matcher(persons);
+        Map<String, List<Integer>> sameNames = new HashMap<>();
+        Map<String, List<Integer>> contactBlocks = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            sameNames.computeIfAbsent(matcher.sortedNames[i], unused -> new ArrayList<>()).add(i);
+            for (String key : contactKeys(persons.get(i))) {
+                contactBlocks.computeIfAbsent(key, unused -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (List<Integer> members : sameNames.values()) {
+            for (int member : members.subList(1, members.size())) {
+                matcher.join(members.get(0), member, EnumSet.of(Reason.SAME_NAME));
+            }
+        }
+        contactBlocks.forEach((key, members) -> {
+            if (members.size() <= MAX_BLOCK_SIZE) {
+                matcher.compareAll(members);
+                return;
+            }
+            Map<String, List<Integer>> subBlocks = new HashMap<>();
+            for (int member : members) {
+                String firstWord = matcher.names[member].split(" ")[0];
+                subBlocks.computeIfAbsent(firstWord, unused -> new ArrayList<>()).add(member);
+            }
+            logger.info("Split " + members.size() + " persons sharing " + key + " into " + subBlocks.size()
+                    + " blocks by the first word of their names");
+            for (List<Integer> subBlock : subBlocks.values()) {
+                if (subBlock.size() <= MAX_BLOCK_SIZE) {
+                    matcher.compareAll(subBlock);
+                } else {
+                    logger.info("Comparing " + subBlock.size() + " persons sharing " + key
+                            + " with their neighbours in name order only");
+                    matcher.compareNeighbours(subBlock, i -> matcher.sortedNames[i]);
+                }
+            }
+        });
+        List<Integer> everyone = IntStream.range(0, persons.size()).boxed().collect(Collectors.toList());
+        matcher.compareNeighbours(everyone, i -> matcher.sortedNames[i]);
+        matcher.compareNeighbours(everyone, i -> matcher.reversedNames[i]);
+        return matcher.toGroups();
+    }
+
+    private static List<String> contactKeys(Person person) {
+        List<String> keys = new ArrayList<>(2);
+        if (!person.getPhone().equals(Phone.DEFAULT_PHONE)) {
+            keys.add("phone " + person.getPhone().value);
+        }
+        if (!person.getEmail().equals(Email.DEFAULT_EMAIL)) {
+            keys.add("email " + person.getEmail().value.toLowerCase(Locale.ROOT));
+        }
+        return keys;
+    }
+
+    /**
+     * Returns how similar two normalized names are, from 0 for nothing in common to 1 for the same name.
+     */
+    static double nameSimilarity(String first, String second) {
+        int length = Math.max(first.length(), second.length());
+        return length == 0 ? 1 : 1 - (double) NameIndex.distance(first, second) / length;
+    }
+
+    /**
+     * Returns true if two normalized names are at least {@code threshold} similar.
+     * Only as many edits as the threshold allows are looked for.
+     *
+     * @see #nameSimilarity(String, String)
+     */
+    private static boolean isSimilar(String first, String second, double threshold) {
+        int length = Math.max(first.length(), second.length());
+        if (length == 0) {
+            return true;
+        }
+        int maxDistance = (int) Math.ceil((1 - threshold) * length);
+        return 1 - (double) NameIndex.distance(first, second, maxDistance) / length >= threshold;
+    }
+
+    /**
+     * Returns {@code name} in lower case with single spaces between its words.
+     */
+    static String normalizeName(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String sortedTokens(String name) {
+        String[] tokens = name.split(" ");
+        Arrays.sort(tokens);
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * Compares persons by their position in a list, and joins those found to be duplicates.
+     */
+    private static class Matcher {
+        private final List<Person> persons;
+        private final String[] names;
+        private final String[] sortedNames;
+        private final String[] reversedNames;
+        private final int[] parents;
+        private final List<int[]> pairs = new ArrayList<>();
+        private final List<Set<Reason>> pairReasons = new ArrayList<>();
+
+        Matcher(List<Person> persons) {
+            this.persons = persons;
+            names = new String[persons.size()];
+            sortedNames = new String[persons.size()];
+            reversedNames = new String[persons.size()];
+            parents = new int[persons.size()];
+            for (int i = 0; i < persons.size(); i++) {
+                names[i] = normalizeName(persons.get(i).getName().fullName);
+                sortedNames[i] = sortedTokens(names[i]);
+                reversedNames[i] = new StringBuilder(names[i]).reverse().toString();
+                parents[i] = i;
+            }
+        }
+
+        /**
+         * Compares every pair of {@code members}.
+         */
+        void compareAll(List<Integer> members) {
+            for (int a = 0; a < members.size(); a++) {
+                for (int b = a + 1; b < members.size(); b++) {
+                    compare(members.get(a), members.get(b));
+                }
+            }
+        }
+
+        /**
+         * Compares each of {@code members} with the {@code WINDOW_SIZE} members after it when sorted by
+         * {@code keyOf}.
+         */
+        void compareNeighbours(List<Integer> members, IntFunction<String> keyOf) {
+            List<Integer> sorted = new ArrayList<>(members);
+            sorted.sort(Comparator.comparing(keyOf::apply));
+            for (int a = 0; a < sorted.size(); a++) {
+                for (int b = a + 1; b < Math.min(sorted.size(), a + 1 + WINDOW_SIZE); b++) {
+                    compare(sorted.get(a), sorted.get(b));
+                }
+            }
+        }
+
+        /**
+         * Compares the persons at {@code i} and {@code j}, and joins them if they are duplicates.
+         */
+        private void compare(int i, int j) {
+            Person first = persons.get(i);
+            Person second = persons.get(j);
+            Set<Reason> reasons = EnumSet.noneOf(Reason.class);
+            boolean isSamePhone = !first.getPhone().equals(Phone.DEFAULT_PHONE)
+                    && first.getPhone().equals(second.getPhone());
+            boolean isSameEmail = !first.getEmail().equals(Email.DEFAULT_EMAIL)
+                    && first.getEmail().value.equalsIgnoreCase(second.getEmail().value);
+            if (sortedNames[i].equals(sortedNames[j])) {
+                reasons.add(Reason.SAME_NAME);
+            } else if (isSimilar(names[i], names[j],
+                    isSamePhone || isSameEmail ? CONTACT_NAME_SIMILARITY : NAME_SIMILARITY)) {
+                reasons.add(Reason.SIMILAR_NAME);
+            } else {
+                return;
+            }
+            if (isSamePhone) {
+                reasons.add(Reason.SAME_PHONE);
+            }
+            if (isSameEmail) {
+                reasons.add(Reason.SAME_EMAIL);
+            }
+            join(i, j, reasons);
+        }
+
+        /**
+         * Joins the groups of the persons at {@code i} and {@code j}, which are duplicates for {@code reasons}.
+         */
+        void join(int i, int j, Set<Reason> reasons) {
+            int rootI = find(i);
+            int rootJ = find(j);
+            // The earlier person is the root, so that groups are found in list order
+            parents[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
+            pairs.add(new int[] {i, j});
+            pairReasons.add(reasons);
+        }
+
+        private int find(int i) {
+            while (parents[i] != i) {
+                // Path halving keeps the trees shallow
+                parents[i] = parents[parents[i]];
+                i = parents[i];
+            }
+            return i;
+        }
+
+        /**
+         * Returns the groups of persons joined so far, ordered by the position of their first person.
+         */
+        List<Group> toGroups() {
+            Map<Integer, Set<Reason>> reasonsByRoot = new HashMap<>();
+            for (int p = 0; p < pairs.size(); p++) {
+                int root = find(pairs.get(p)[0]);
+                reasonsByRoot.computeIfAbsent(root, unused -> EnumSet.noneOf(Reason.class))
+                        .addAll(pairReasons.get(p));
+            }
+            Map<Integer, List<Person>> membersByRoot = new LinkedHashMap<>();
+            for (int i = 0; i < persons.size(); i++) {
+                int root = find(i);
+                if (reasonsByRoot.containsKey(root)) {
+                    membersByRoot.computeIfAbsent(root, unused -> new ArrayList<>()).add(persons.get(i));
+                }
+            }
+            List<Group> groups = new ArrayList<>();
+            membersByRoot.forEach((root, members) -> groups.add(new Group(members, reasonsByRoot.get(root))));
+            return groups;
+        }
+    }
+
+    /**
+     * Persons that are likely to be the same student, with the reasons they were found to be.
+     */
+    public static class Group {
+        private final List<Person> persons;
+        private final Set<Reason> reasons;
+
+        /**
+         * Creates a group of {@code persons} found to be duplicates for {@code reasons}.
+         */
+        public Group(List<Person> persons, Set<Reason> reasons) {
+            requireNonNull(persons);
+            requireNonNull(reasons);
+            this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+            this.reasons = Collections.unmodifiableSet(EnumSet.copyOf(reasons));
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        public Set<Reason> getReasons() {
+            return reasons;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Group)) {
+                return false;
+            }
+
+            Group otherGroup = (Group) other;
+            return persons.equals(otherGroup.persons) && reasons.equals(otherGroup.reasons);
+        }
+
+        @Override
+        public int hashCode() {
+            return persons.hashCode() * 31 + reasons.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("persons", persons)
+                    .add("reasons", reasons)
+                    .toString();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +21,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    // Compares names the way the user's locale orders them, ignoring case
+    private static final Collator COLLATOR = createCollator();
+
     public final String fullName;
 
+    // Computed on first use, as most names are never sorted
+    private volatile CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +47,25 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
+    /**
+     * Returns the key to sort this name by, so that names can be compared without repeating the locale-aware
+     * comparison of their characters.
+     */
+    public CollationKey getCollationKey() {
+        CollationKey key = collationKey;
+        if (key == null) {
+            key = COLLATOR.getCollationKey(fullName);
+            collationKey = key;
+        }
+        return key;
+    }
+
 
     @Override
     public String toString() {
@@ -64,8 +92,4 @@ public class Name {
         return fullName.hashCode();
     }
 
-    public Name clone() {
-        return new Name(fullName);
-    }
-
 }
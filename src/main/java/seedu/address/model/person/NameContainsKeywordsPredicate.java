@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(Person person) {
         return StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword);
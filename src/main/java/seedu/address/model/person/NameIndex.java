@@ -0,0 +1,387 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeLog;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An index of the names of a list of persons that finds the names within a small edit distance of a
+ * (possibly misspelt) name. Names as long as the searched name, give or take the allowed edits, are the
+ * candidates, and of those only names sharing enough trigrams with it are compared with it: each edit changes
+ * at most three of the trigrams of a name, so names a few edits apart share all but a few of their trigrams.
+ * The candidates are then compared with an edit distance that stops as soon as it exceeds the allowed edits.
+ * Names are compared case-insensitively. Persons removed from the list leave their name in the index
+ * until enough have been removed for the index to be rebuilt. Changes to the list are applied the next time the
+ * index is searched, and changes to more persons than there are names in the index, such as replacing the whole
+ * list, are not applied person by person but make the index be rebuilt instead.
+ */
+public class NameIndex {
+
+    /** The largest number of edits a name is corrected by, however long it is. */
+    public static final int MAX_DISTANCE = 3;
+
+    private static final int GRAM_LENGTH = 3;
+    // Pads the names at both ends, so that every character of a name is in as many grams
+    private static final char PADDING = '\0';
+
+    private static final Comparator<Match> CLOSEST_FIRST = Comparator.comparingInt(Match::getDistance)
+            .thenComparing(match -> match.getPerson().getName().fullName);
+
+    private final ObservableList<Person> source;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final List<Entry> entriesById = new ArrayList<>();
+    private final Map<Integer, List<Entry>> entriesByLength = new HashMap<>();
+    // The postings of each gram, of the names of each length
+    private final Map<Integer, Map<String, Postings>> postingsByLength = new HashMap<>();
+    private int emptyEntryCount;
+    // The number of grams each name shares with the searched name, by the id of the name; all zero between searches
+    private int[] sharedGramCounts = new int[0];
+    private final ListChangeLog<Person> pendingChanges = new ListChangeLog<>();
+
+    /**
+     * Creates an index over the names in {@code source} that follows all later changes to it.
+     */
+    public NameIndex(ObservableList<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+        rebuild();
+        source.addListener(this::onSourceChanged);
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        // Rebuilding takes one insertion per name, which is cheaper than a removal and an insertion per change
+        pendingChanges.record(change, entries.size());
+    }
+
+    /**
+     * Applies the changes made to the list since the index was last searched, or rebuilds the index if they were
+     * too many to be logged.
+     */
+    private void applyPendingChanges() {
+        if (pendingChanges.isOverflowed()) {
+            rebuild();
+            return;
+        }
+        // Permutations and updates leave the names as they are
+        for (ListChangeLog.Entry<Person> change : pendingChanges.getEntries()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAdded().forEach(this::add);
+        }
+        pendingChanges.clear();
+        if (emptyEntryCount > entries.size() / 2) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        entries.clear();
+        entriesById.clear();
+        entriesByLength.clear();
+        postingsByLength.clear();
+        emptyEntryCount = 0;
+        source.forEach(this::add);
+        pendingChanges.clear();
+    }
+
+    private void add(Person person) {
+        String key = toKey(person.getName());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(entriesById.size(), key);
+            entries.put(key, entry);
+            entriesById.add(entry);
+            entriesByLength.computeIfAbsent(key.length(), length -> new ArrayList<>()).add(entry);
+            int id = entry.id;
+            Map<String, Postings> postingsByGram =
+                    postingsByLength.computeIfAbsent(key.length(), length -> new HashMap<>());
+            gramCountsOf(key).forEach((gram, count) ->
+                    postingsByGram.computeIfAbsent(gram, unused -> new Postings()).add(id, count));
+        } else if (entry.persons.isEmpty()) {
+            emptyEntryCount--;
+        }
+        entry.persons.add(person);
+    }
+
+    private void remove(Person person) {
+        Entry entry = entries.get(toKey(person.getName()));
+        if (entry != null && entry.persons.remove(person) && entry.persons.isEmpty()) {
+            emptyEntryCount++;
+        }
+    }
+
+    /**
+     * Returns the persons whose names are within the default distance of {@code name}, closest first.
+     *
+     * @see #maxDistanceFor(String)
+     */
+    public List<Match> search(String name) {
+        requireNonNull(name);
+        return search(name, maxDistanceFor(name));
+    }
+
+    /**
+     * Returns the persons whose names are at most {@code maxDistance} edits from {@code name}, closest first.
+     */
+    public List<Match> search(String name, int maxDistance) {
+        requireNonNull(name);
+        applyPendingChanges();
+        String key = toKey(name);
+        List<Match> matches = new ArrayList<>();
+        for (Entry candidate : findCandidates(key, maxDistance)) {
+            if (candidate.persons.isEmpty()) {
+                continue;
+            }
+            int distance = distance(key, candidate.key, maxDistance);
+            if (distance <= maxDistance) {
+                for (Person person : candidate.persons) {
+                    matches.add(new Match(person, distance));
+                }
+            }
+        }
+        matches.sort(CLOSEST_FIRST);
+        return matches;
+    }
+
+    /**
+     * Returns the names that may be within {@code maxDistance} edits of {@code key}: the names at most
+     * {@code maxDistance} characters longer or shorter than it, which share enough grams with it.
+     */
+    private List<Entry> findCandidates(String key, int maxDistance) {
+        List<Entry> candidates = new ArrayList<>();
+        Map<String, Integer> gramCounts = null;
+        for (int length = key.length() - maxDistance; length <= key.length() + maxDistance; length++) {
+            int minSharedGramCount = minSharedGrams(key.length(), length, maxDistance);
+            if (minSharedGramCount <= 0) {
+                // Too short for the grams to rule any of the names out
+                candidates.addAll(entriesByLength.getOrDefault(length, List.of()));
+                continue;
+            }
+            Map<String, Postings> postingsByGram = postingsByLength.get(length);
+            if (postingsByGram == null) {
+                continue;
+            }
+            if (gramCounts == null) {
+                gramCounts = gramCountsOf(key);
+            }
+            addSharingGrams(gramCounts, postingsByGram, minSharedGramCount, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Adds the names in {@code postingsByGram} sharing at least {@code minSharedGramCount} of the grams counted in
+     * {@code gramCounts} to {@code candidates}.
+     */
+    private void addSharingGrams(Map<String, Integer> gramCounts, Map<String, Postings> postingsByGram,
+            int minSharedGramCount, List<Entry> candidates) {
+        if (sharedGramCounts.length < entriesById.size()) {
+            sharedGramCounts = new int[entriesById.size()];
+        }
+        List<Postings> searchedPostings = new ArrayList<>();
+        gramCounts.forEach((gram, count) -> {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null) {
+                return;
+            }
+            searchedPostings.add(postings);
+            for (int i = 0; i < postings.size; i++) {
+                sharedGramCounts[postings.ids[i]] += Math.min(count, postings.counts[i]);
+            }
+        });
+        // Every name sharing a gram is in the postings, so going over them again clears the counts for next time
+        for (Postings postings : searchedPostings) {
+            for (int i = 0; i < postings.size; i++) {
+                int id = postings.ids[i];
+                if (sharedGramCounts[id] >= minSharedGramCount) {
+                    candidates.add(entriesById.get(id));
+                }
+                sharedGramCounts[id] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the fewest padded grams two names of these lengths share if they are at most {@code maxDistance}
+     * edits apart. Each edit changes at most {@code GRAM_LENGTH} of the grams of the longer name.
+     */
+    private static int minSharedGrams(int length, int otherLength, int maxDistance) {
+        return Math.max(length, otherLength) + GRAM_LENGTH - 1 - maxDistance * GRAM_LENGTH;
+    }
+
+    /**
+     * Returns the number of times each gram is in {@code key}, padded at both ends.
+     */
+    private static Map<String, Integer> gramCountsOf(String key) {
+        String padding = String.valueOf(PADDING).repeat(GRAM_LENGTH - 1);
+        String padded = padding + key + padding;
+        Map<String, Integer> gramCounts = new HashMap<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            gramCounts.merge(padded.substring(i, i + GRAM_LENGTH), 1, Integer::sum);
+        }
+        return gramCounts;
+    }
+
+    /**
+     * Returns the number of edits a name as long as {@code name} is corrected by, which grows with its length
+     * so that short names are not corrected into unrelated ones.
+     */
+    public static int maxDistanceFor(String name) {
+        return Math.min(MAX_DISTANCE, Math.max(1, name.length() / 4));
+    }
+
+    private static String toKey(Name name) {
+        return toKey(name.fullName);
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}.
+     */
+    static int distance(String a, String b) {
+        return distance(a, b, Math.max(a.length(), b.length()));
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}, or {@code maxDistance + 1} if it is more
+     * than {@code maxDistance}. Only the edits within {@code maxDistance} of the diagonal are worked out, and none
+     * after the first row in which all of them are more than {@code maxDistance}.
+     */
+    static int distance(String a, String b, int maxDistance) {
+        int tooFar = maxDistance + 1;
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return tooFar;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(b.length(), i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, tooFar) : tooFar;
+            int rowMin = current[from - 1];
+            char c = a.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(tooFar, Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1));
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < b.length()) {
+                // Read as the edit above the band by the next row
+                current[to + 1] = tooFar;
+            }
+            if (rowMin > maxDistance) {
+                return tooFar;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * A name in the index, with the persons currently having it.
+     */
+    private static class Entry {
+        private final int id;
+        private final String key;
+        private final List<Person> persons = new ArrayList<>(1);
+
+        Entry(int id, String key) {
+            this.id = id;
+            this.key = key;
+        }
+    }
+
+    /**
+     * The ids of the names containing a gram, each with the number of times it contains the gram.
+     */
+    private static class Postings {
+        private int[] ids = new int[2];
+        private int[] counts = new int[2];
+        private int size = 0;
+
+        void add(int id, int count) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            ids[size] = id;
+            counts[size] = count;
+            size++;
+        }
+    }
+
+    /**
+     * A person whose name is close to the searched name.
+     */
+    public static class Match {
+        private final Person person;
+        private final int distance;
+
+        /**
+         * Creates a match of {@code person}, whose name is {@code distance} edits from the searched name.
+         */
+        public Match(Person person, int distance) {
+            requireNonNull(person);
+            this.person = person;
+            this.distance = distance;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        public boolean isExact() {
+            return distance == 0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Match)) {
+                return false;
+            }
+
+            Match otherMatch = (Match) other;
+            return person.equals(otherMatch.person) && distance == otherMatch.distance;
+        }
+
+        @Override
+        public int hashCode() {
+            return person.hashCode() * 31 + distance;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("person", person)
+                    .add("distance", distance)
+                    .toString();
+        }
+    }
+}
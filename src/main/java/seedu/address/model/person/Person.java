@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -8,123 +10,107 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lessons.Week;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * A changed copy of a person is made with a {@link Builder}, which shares the fields left unchanged with the
+ * person it started from. The sets of subjects and tags are wrapped as unmodifiable sets once, when the person is
+ * made, and the hash code is worked out once too, so that persons are cheap to keep in hash-based indexes.
+ * <p>
+ * A person in the address book also has an id, which stays the same as the person is edited, so that lessons can
+ * refer to their students by id. The id is not a detail of the person, so it is left out of {@link #equals(Object)}.
  */
 public class Person {
 
+    /** The id of a person who has not been given one by an address book. */
+    public static final long NO_ID = 0;
+
+    private final long id;
+
     // Identity fields
-    private Name name;
-    private Phone phone = Phone.DEFAULT_PHONE;
-    private Email email = Email.DEFAULT_EMAIL;
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
 
     // Data fields
-    private Address address = Address.DEFAULT_ADDRESS;
-    private final Set<Subject> subjects = new HashSet<>();
-    private final Set<Tag> tags = new HashSet<>();
-    private Remark remark = Remark.DEFAULT_REMARK;
+    private final Address address;
+    private final Set<Subject> subjects;
+    private final Set<Tag> tags;
+    private final Remark remark;
+    private final Week availability;
 
+    private final int hash;
 
     /**
      * Make sense to only force the name to be non-null
      */
     public Person(Name name) {
-        requireAllNonNull(name);
-        this.name = name;
+        this(new Builder(name));
     }
     /**
      * Every field must be present and not null in this constructor.
      */
     public Person(Name name, Phone phone, Email email, Address address,
                   Set<Subject> subjects, Set<Tag> tags, Remark remark) {
-        requireAllNonNull(name, phone, email, address, subjects, tags, remark);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.subjects.addAll(subjects);
-        this.tags.addAll(tags);
-        this.remark = remark;
+        this(new Builder(name).withPhone(phone).withEmail(email).withAddress(address)
+                .withSubjects(subjects).withTags(tags).withRemark(remark));
+        requireAllNonNull(phone, email, address, subjects, tags, remark);
     }
 
-    public Name getName() {
-        return name;
+    private Person(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.phone = builder.phone;
+        this.email = builder.email;
+        this.address = builder.address;
+        this.subjects = builder.subjects;
+        this.tags = builder.tags;
+        this.remark = builder.remark;
+        this.availability = builder.availability;
+        // use this method for custom fields hashing instead of implementing your own
+        this.hash = Objects.hash(name, phone, email, address, subjects, tags, remark, availability);
     }
 
-    public void setName(Name name) {
-        this.name = name;
-    }
-    public void setNameIfNotNull(Name name) {
-        if (name != null) {
-            setName(name);
-        }
+    /**
+     * Returns a builder of a copy of this person, which starts with the fields of this person.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
     }
 
-    public Phone getPhone() {
-        return phone;
+    /**
+     * Returns the id of this person in the address book, or {@link #NO_ID} if it has not been given one.
+     */
+    public long getId() {
+        return id;
     }
-    public void setPhone(Phone phone) {
-        this.phone = phone;
+
+    public Name getName() {
+        return name;
     }
 
-    /**
-     * Only update if arguement passes is not null. To ease the update and edit command
-     */
-    public void setPhoneIfNotNull(Phone phone) {
-        if (phone != null) {
-            setPhone(phone);
-        }
+    public Phone getPhone() {
+        return phone;
     }
 
     public Email getEmail() {
         return email;
     }
-    public void setEmail(Email email) {
-        this.email = email;
-    }
-    /**
-     * Only update if arguement passes is not null. To ease the update and edit command
-     */
-    public void setEmailIfNotNull(Email email) {
-        if (email != null) {
-            setEmail(email);
-        }
-    }
 
     public Address getAddress() {
         return address;
     }
-    public void setAddress(Address address) {
-        this.address = address;
-    }
-    /**
-     * Only update if arguement passes is not null. To ease the update and edit command
-     */
-    public void setAddressIfNotNull(Address address) {
-        if (address != null) {
-            setAddress(address);
-        }
-    }
+
     /**
      * Returns an immutable subject set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Subject> getSubjects() {
-        return Collections.unmodifiableSet(subjects);
-    }
-    public void setSubjects(Set<Subject> subjects) {
-        requireAllNonNull(subjects);
-        this.subjects.clear();
-        this.subjects.addAll(subjects);
-    }
-
-    public void setSubjectsIfNotNull(Set<Subject> subjects) {
-        if (subjects != null) {
-            setSubjects(subjects);
-        }
+        return subjects;
     }
 
     /**
@@ -132,33 +118,18 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
-    }
-
-    public void setTags(Set<Tag> tags) {
-        requireAllNonNull(tags);
-        this.tags.clear();
-        this.tags.addAll(tags);
-    }
-    public void setTagsIfNotNull(Set<Tag> tags) {
-        if (tags != null) {
-            setTags(tags);
-        }
+        return tags;
     }
 
     public Remark getRemark() {
         return remark;
     }
 
-    public void setRemark(Remark remark) {
-        requireAllNonNull(remark);
-        this.remark = remark;
-    }
-
-    public void setRemarkIfNotNull(Remark remark) {
-        if (remark != null) {
-            setRemark(remark);
-        }
+    /**
+     * Returns the times of the week at which this person is free for lessons, which are empty if not given.
+     */
+    public Week getAvailability() {
+        return availability;
     }
 
     /**
@@ -190,19 +161,20 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
                 && subjects.equals(otherPerson.subjects)
                 && tags.equals(otherPerson.tags)
-                && remark.equals(otherPerson.remark);
+                && remark.equals(otherPerson.remark)
+                && availability.equals(otherPerson.availability);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, subjects, tags, remark);
+        return hash;
     }
 
     @Override
@@ -215,22 +187,132 @@ public class Person {
                 .add("subjects", subjects)
                 .add("tags", tags)
                 .add("remark", remark)
+                .add("availability", availability)
                 .toString();
     }
+
     /**
-     * Returns a clone of this person that is equal to this person.
+     * Builds a {@code Person}, either from a name alone or from the fields of an existing person.
+     * The fields that are not set keep their defaults, or the values of the person copied. No field may be set
+     * to null.
      */
-    public Person clone() {
-        Set<Subject> clonedSubjects = new HashSet<>();
-        for (Subject subject : subjects) {
-            clonedSubjects.add(subject.clone());
+    public static class Builder {
+        private long id = NO_ID;
+        private Name name;
+        private Phone phone = Phone.DEFAULT_PHONE;
+        private Email email = Email.DEFAULT_EMAIL;
+        private Address address = Address.DEFAULT_ADDRESS;
+        private Set<Subject> subjects = Collections.emptySet();
+        private Set<Tag> tags = Collections.emptySet();
+        private Remark remark = Remark.DEFAULT_REMARK;
+        private Week availability = Week.NONE;
+
+        /**
+         * Creates a builder of a person named {@code name}, with the default details.
+         */
+        public Builder(Name name) {
+            requireNonNull(name);
+            this.name = name;
         }
-        Set<Tag> clonedTags = new HashSet<>();
-        for (Tag tag : tags) {
-            clonedTags.add(tag.clone());
+
+        private Builder(Person person) {
+            id = person.id;
+            name = person.name;
+            phone = person.phone;
+            email = person.email;
+            address = person.address;
+            subjects = person.subjects;
+            tags = person.tags;
+            remark = person.remark;
+            availability = person.availability;
+        }
+
+        /**
+         * Sets the id of the person, which must be positive, or {@link #NO_ID}.
+         */
+        public Builder withId(long id) {
+            checkArgument(id >= 0, "Ids must not be negative");
+            this.id = id;
+            return this;
         }
-        return new Person(name.clone(), phone.clone(), email.clone(), address.clone(),
-                clonedSubjects, clonedTags, remark.clone());
-    }
 
+        /**
+         * Sets the name of the person.
+         */
+        public Builder withName(Name name) {
+            requireNonNull(name);
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the phone of the person.
+         */
+        public Builder withPhone(Phone phone) {
+            requireNonNull(phone);
+            this.phone = phone;
+            return this;
+        }
+
+        /**
+         * Sets the email of the person.
+         */
+        public Builder withEmail(Email email) {
+            requireNonNull(email);
+            this.email = email;
+            return this;
+        }
+
+        /**
+         * Sets the address of the person.
+         */
+        public Builder withAddress(Address address) {
+            requireNonNull(address);
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * Sets the subjects of the person to a copy of {@code subjects}.
+         */
+        public Builder withSubjects(Set<Subject> subjects) {
+            requireAllNonNull(subjects);
+            this.subjects = Collections.unmodifiableSet(new HashSet<>(subjects));
+            return this;
+        }
+
+        /**
+         * Sets the tags of the person to a copy of {@code tags}.
+         */
+        public Builder withTags(Set<Tag> tags) {
+            requireAllNonNull(tags);
+            this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+            return this;
+        }
+
+        /**
+         * Sets the remark of the person.
+         */
+        public Builder withRemark(Remark remark) {
+            requireNonNull(remark);
+            this.remark = remark;
+            return this;
+        }
+
+        /**
+         * Sets the availability of the person.
+         */
+        public Builder withAvailability(Week availability) {
+            requireNonNull(availability);
+            this.availability = availability;
+            return this;
+        }
+
+        /**
+         * Returns the person built.
+         */
+        public Person build() {
+            return new Person(this);
+        }
+    }
 }
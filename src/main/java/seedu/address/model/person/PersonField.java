@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The fields of a {@code Person}, used to describe which parts of a person changed.
+ */
+public enum PersonField {
+    NAME("name", Person::getName),
+    PHONE("phone", Person::getPhone),
+    EMAIL("email", Person::getEmail),
+    ADDRESS("address", Person::getAddress),
+    SUBJECTS("subjects", Person::getSubjects),
+    TAGS("tags", Person::getTags),
+    REMARK("remark", Person::getRemark);
+
+    private final String fieldName;
+    private final Function<Person, Object> getter;
+
+    PersonField(String fieldName, Function<Person, Object> getter) {
+        this.fieldName = fieldName;
+        this.getter = getter;
+    }
+
+    /**
+     * Returns the name of the field, as used by the {@code list} command to choose the fields to display.
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the fields that differ between {@code before} and {@code after}.
+     */
+    public static Set<PersonField> changedBetween(Person before, Person after) {
+        Set<PersonField> changed = EnumSet.noneOf(PersonField.class);
+        for (PersonField field : values()) {
+            if (!Objects.equals(field.getter.apply(before), field.getter.apply(after))) {
+                changed.add(field);
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,283 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.text.CollationKey;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.lessons.Lesson;
+
+/**
+ * The order to show persons in, as a list of keys that are compared in turn until one differs.
+ * An order without keys keeps persons in the order they were added.
+ */
+public class PersonSortOrder {
+
+    /** Above this many persons, sort keys are computed and sorted in parallel. */
+    public static final int PARALLEL_SORT_THRESHOLD = 2048;
+
+    public static final PersonSortOrder INSERTION_ORDER = new PersonSortOrder(List.of());
+
+    /**
+     * The fields persons can be sorted by.
+     */
+    public enum Key {
+        NAME, SUBJECT, TAGS, LESSON
+    }
+
+    /**
+     * A key to sort by, and whether larger values come first.
+     */
+    public static class Criterion {
+        private final Key key;
+        private final boolean isDescending;
+
+        /**
+         * Creates a criterion that sorts by {@code key}.
+         */
+        public Criterion(Key key, boolean isDescending) {
+            requireNonNull(key);
+            this.key = key;
+            this.isDescending = isDescending;
+        }
+
+        public Key getKey() {
+            return key;
+        }
+
+        public boolean isDescending() {
+            return isDescending;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Criterion)) {
+                return false;
+            }
+
+            Criterion otherCriterion = (Criterion) other;
+            return key == otherCriterion.key && isDescending == otherCriterion.isDescending;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, isDescending);
+        }
+
+        @Override
+        public String toString() {
+            return key.name().toLowerCase(Locale.ROOT) + (isDescending ? " (descending)" : "");
+        }
+    }
+
+    private final List<Criterion> criteria;
+
+    /**
+     * Creates an order that sorts by each of {@code criteria} in turn.
+     */
+    public PersonSortOrder(List<Criterion> criteria) {
+        requireNonNull(criteria);
+        this.criteria = List.copyOf(criteria);
+    }
+
+    public List<Criterion> getCriteria() {
+        return criteria;
+    }
+
+    public boolean isInsertionOrder() {
+        return criteria.isEmpty();
+    }
+
+    /**
+     * Returns a comparator for this order, or null if persons should stay in the order they were added.
+     * The sort keys of {@code persons} are computed once and ranked up front, so that the comparator only has to
+     * compare two ranks. Persons that are not in {@code persons}, such as those added later, are compared by
+     * their sort keys, which agrees with the ranks.
+     *
+     * @param persons The persons to rank.
+     * @param upcomingLessons Lessons that have not started yet, in order of start time,
+     *     used to find the next lesson of each person.
+     */
+    public Ranking createComparator(List<Person> persons, List<Lesson> upcomingLessons) {
+        requireAllNonNull(persons, upcomingLessons);
+        if (isInsertionOrder()) {
+            return null;
+        }
+
+        Map<Name, LocalDateTime> nextLessons = new HashMap<>();
+        for (Lesson lesson : upcomingLessons) {
+            for (Name student : lesson.getStudents()) {
+                nextLessons.putIfAbsent(student, lesson.getStart());
+            }
+        }
+        Function<Person, SortKey> keyOf = person -> new SortKey(person, nextLessons.get(person.getName()));
+        Comparator<SortKey> keyComparator = createKeyComparator();
+
+        SortKey[] keys;
+        if (persons.size() > PARALLEL_SORT_THRESHOLD) {
+            keys = persons.parallelStream().map(keyOf).toArray(SortKey[]::new);
+            Arrays.parallelSort(keys, keyComparator);
+        } else {
+            keys = persons.stream().map(keyOf).toArray(SortKey[]::new);
+            Arrays.sort(keys, keyComparator);
+        }
+
+        // Persons with equal keys share a rank, so that comparing ranks always agrees with comparing keys
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        int rank = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0 && keyComparator.compare(keys[i - 1], keys[i]) != 0) {
+                rank++;
+            }
+            ranks.put(keys[i].person, rank);
+        }
+        return new Ranking(ranks, keyOf, keyComparator);
+    }
+
+    /**
+     * A comparator of persons by the ranks they were given up front, or by their sort keys if they have none.
+     * Persons are looked up by identity, as an edited person is a new object with a rank of its own, so the
+     * persons that leave the sorted list must be {@link #forget(List) forgotten} rather than kept alive here.
+     */
+    public static class Ranking implements Comparator<Person> {
+        private final Map<Person, Integer> ranks;
+        private final Map<Person, SortKey> unrankedKeys = new IdentityHashMap<>();
+        private final Function<Person, SortKey> keyOf;
+        private final Comparator<SortKey> keyComparator;
+
+        private Ranking(Map<Person, Integer> ranks, Function<Person, SortKey> keyOf,
+                Comparator<SortKey> keyComparator) {
+            this.ranks = ranks;
+            this.keyOf = keyOf;
+            this.keyComparator = keyComparator;
+        }
+
+        @Override
+        public int compare(Person first, Person second) {
+            Integer firstRank = ranks.get(first);
+            Integer secondRank = ranks.get(second);
+            if (firstRank != null && secondRank != null) {
+                return Integer.compare(firstRank, secondRank);
+            }
+            return keyComparator.compare(unrankedKeys.computeIfAbsent(first, keyOf),
+                    unrankedKeys.computeIfAbsent(second, keyOf));
+        }
+
+        /**
+         * Drops the ranks and sort keys of {@code persons}, which are no longer sorted.
+         */
+        public void forget(List<? extends Person> persons) {
+            requireNonNull(persons);
+            for (Person person : persons) {
+                ranks.remove(person);
+                unrankedKeys.remove(person);
+            }
+        }
+
+        /**
+         * Returns the number of persons whose rank or sort key is held.
+         */
+        int getHeldCount() {
+            return ranks.size() + unrankedKeys.size();
+        }
+    }
+
+    private Comparator<SortKey> createKeyComparator() {
+        Comparator<SortKey> comparator = (first, second) -> 0;
+        for (Criterion criterion : criteria) {
+            Comparator<SortKey> keyComparator;
+            switch (criterion.key) {
+            case NAME:
+                keyComparator = Comparator.comparing(key -> key.name);
+                break;
+            case SUBJECT:
+                keyComparator = Comparator.comparing(key -> key.subject, nullsLast(criterion));
+                break;
+            case TAGS:
+                keyComparator = Comparator.comparingInt(key -> key.tagCount);
+                break;
+            case LESSON:
+                keyComparator = Comparator.comparing(key -> key.nextLesson, nullsLast(criterion));
+                break;
+            default:
+                throw new AssertionError("Unknown sort key " + criterion.key);
+            }
+            comparator = comparator.thenComparing(criterion.isDescending ? keyComparator.reversed() : keyComparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * Returns a comparator that puts missing values last, even once it has been reversed for {@code criterion}.
+     */
+    private static <T extends Comparable<? super T>> Comparator<T> nullsLast(Criterion criterion) {
+        return criterion.isDescending
+                ? Comparator.nullsFirst(Comparator.<T>naturalOrder())
+                : Comparator.nullsLast(Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * The values of a person that it can be sorted by.
+     */
+    private static class SortKey {
+        private final Person person;
+        private final CollationKey name;
+        private final String subject;
+        private final int tagCount;
+        private final LocalDateTime nextLesson;
+
+        SortKey(Person person, LocalDateTime nextLesson) {
+            this.person = person;
+            this.name = person.getName().getCollationKey();
+            this.subject = person.getSubjects().stream()
+                    .map(personSubject -> personSubject.subjectName.name())
+                    .min(Comparator.naturalOrder())
+                    .orElse(null);
+            this.tagCount = person.getTags().size();
+            this.nextLesson = nextLesson;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherOrder = (PersonSortOrder) other;
+        return criteria.equals(otherOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isInsertionOrder()
+                ? "insertion order"
+                : criteria.stream().map(Criterion::toString).collect(Collectors.joining(", "));
+    }
+}
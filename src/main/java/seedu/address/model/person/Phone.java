@@ -64,14 +64,4 @@ public class Phone {
         return value.hashCode();
     }
 
-    /**
-     * Returns a clone of this phone that is equal to this phone.
-     */
-    public Phone clone() {
-        if (this == DEFAULT_PHONE) {
-            return DEFAULT_PHONE;
-        }
-        return new Phone(value);
-    }
-
 }
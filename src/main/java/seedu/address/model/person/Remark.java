@@ -38,8 +38,4 @@ public class Remark {
         return value.hashCode();
     }
 
-    public Remark clone() {
-        return new Remark(value);
-    }
-
 }
@@ -112,9 +112,4 @@ public class Subject {
         return colour;
     }
 
-    public Subject clone() {
-        return new Subject(subjectName.toString());
-    }
-
-
 }
@@ -1,13 +1,24 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.LongObjectHashMap;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,33 +30,70 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * Each person in the list is given an id that no other person added to the list has had, which stays with the
+ * person as it is replaced by edited persons. Persons can be looked up by id or by name without going through
+ * the list.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    // Kept in a persistent list, so that a snapshot of the persons can be taken without copying them
+    private final PersistentList.Builder<Person> backingList = new PersistentList.Builder<>();
+    private final ObservableList<Person> internalList = FXCollections.observableList(backingList);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final LongObjectHashMap<Person> personsById = new LongObjectHashMap<>();
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    // Ids are never given out twice, even after the person with the id is removed
+    private long nextId = 1;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person with {@code id}, or null if there is none.
+     */
+    public Person getPersonById(long id) {
+        return personsById.get(id);
+    }
+
+    /**
+     * Returns the person named {@code name}, or null if there is none.
+     */
+    public Person getPersonNamed(Name name) {
+        requireNonNull(name);
+        return personsByName.get(name);
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
+     * The person is given a new id unless it has one that no person in the list has.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index}.
+     * The person must not already exist in the list.
+     * The person is given a new id unless it has one that no person in the list has.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person added = withFreeId(toAdd);
+        track(added);
+        internalList.add(index, added);
     }
 
     /**
@@ -65,7 +113,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        // The edited person keeps the id of the person it replaces
+        Person replaced = internalList.get(index);
+        Person edited = editedPerson.getId() == replaced.getId()
+                ? editedPerson
+                : editedPerson.toBuilder().withId(replaced.getId()).build();
+        untrack(replaced);
+        track(edited);
+        internalList.set(index, edited);
     }
 
     /**
@@ -74,14 +129,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        untrack(internalList.remove(index));
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, as one change to the list.
+     * The persons must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            removed.add(getKept(person));
+        }
+        removed.forEach(this::untrack);
+        internalList.removeAll(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
@@ -94,7 +165,100 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        personsById.clear();
+        personsByName.clear();
+        List<Person> replacement = new ArrayList<>(persons);
+        // Persons keep their ids where they can, so those not given one yet cannot take them
+        for (Person person : replacement) {
+            if (person.getId() != Person.NO_ID && !personsById.containsKey(person.getId())) {
+                track(person);
+            }
+        }
+        for (int i = 0; i < replacement.size(); i++) {
+            Person person = replacement.get(i);
+            if (personsById.get(person.getId()) != person) {
+                Person withId = withFreeId(person);
+                track(withId);
+                replacement.set(i, withId);
+            }
+        }
+        internalList.setAll(replacement);
+    }
+
+    /**
+     * Replaces each person of {@code targets} in the list with the person at the same position in
+     * {@code editedPersons}, as one change to the list. The persons of {@code targets} must exist in the list.
+     * The person identity of an edited person must not be the same as that of another person in the list.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Each person must be replaced by one edited person");
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            replacements.put(getKept(targets.get(i)), editedPersons.get(i));
+        }
+        List<Person> replacement = new ArrayList<>(internalList.size());
+        List<Person> edited = new ArrayList<>(replacements.size());
+        for (Person person : internalList) {
+            Person editedPerson = replacements.get(person);
+            if (editedPerson == null) {
+                replacement.add(person);
+                continue;
+            }
+            // The edited person keeps the id of the person it replaces
+            Person withId = editedPerson.getId() == person.getId()
+                    ? editedPerson
+                    : editedPerson.toBuilder().withId(person.getId()).build();
+            replacement.add(withId);
+            edited.add(withId);
+        }
+        if (!personsAreUnique(replacement)) {
+            throw new DuplicatePersonException();
+        }
+        replacements.keySet().forEach(this::untrack);
+        edited.forEach(this::track);
+        internalList.setAll(replacement);
+    }
+
+    /**
+     * Returns {@code person}, or a copy of it with a new id if it has none or has that of a person in the list.
+     */
+    private Person withFreeId(Person person) {
+        if (person.getId() != Person.NO_ID && !personsById.containsKey(person.getId())) {
+            return person;
+        }
+        return person.toBuilder().withId(nextId).build();
+    }
+
+    /**
+     * Returns the person in the list that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private Person getKept(Person person) {
+        Person kept = personsByName.get(person.getName());
+        if (kept == null || !kept.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return kept;
+    }
+
+    private void track(Person person) {
+        personsById.put(person.getId(), person);
+        personsByName.put(person.getName(), person);
+        nextId = Math.max(nextId, person.getId() + 1);
+    }
+
+    private void untrack(Person person) {
+        personsById.remove(person.getId());
+        personsByName.remove(person.getName());
+    }
+
+    /**
+     * Returns the persons as they are now, in O(1) time. Later changes to this list leave the snapshot as it is.
+     */
+    public PersistentList<Person> snapshot() {
+        return backingList.snapshot();
     }
 
     /**
@@ -138,11 +302,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Persons are the same person exactly when they have the same name
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,127 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+
+/**
+ * A single condition on one field of a {@code Person}, e.g. {@code tag=sec4} or {@code NOT name~ali}.
+ * Names are matched by case-insensitive substring; the other fields are matched exactly, ignoring case.
+ */
+public class PersonFilter implements Predicate<Person> {
+
+    /**
+     * The fields a {@code PersonFilter} can test.
+     */
+    public enum Field {
+        NAME, SUBJECT, TAG, PHONE, EMAIL
+    }
+
+    private final Field field;
+    private final String value;
+    private final boolean isNegated;
+
+    /**
+     * Creates a filter on {@code field}. {@code value} is normalised to lower case,
+     * except for subjects which are normalised to the name of the subject.
+     */
+    public PersonFilter(Field field, String value, boolean isNegated) {
+        requireAllNonNull(field, value);
+        this.field = field;
+        this.value = field == Field.SUBJECT ? value.toUpperCase(Locale.ROOT) : value.toLowerCase(Locale.ROOT);
+        this.isNegated = isNegated;
+        checkArgument(field != Field.SUBJECT || Subject.isValidSubject(this.value), Subject.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns a filter for persons whose name contains {@code keyword}, ignoring case.
+     */
+    public static PersonFilter nameContains(String keyword) {
+        return new PersonFilter(Field.NAME, keyword, false);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the normalised value this filter compares against.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isNegated() {
+        return isNegated;
+    }
+
+    /**
+     * Returns true if this filter only matches persons that {@code other} also matches.
+     */
+    public boolean implies(PersonFilter other) {
+        if (field != other.field || isNegated != other.isNegated) {
+            return false;
+        }
+        if (field != Field.NAME) {
+            return value.equals(other.value);
+        }
+        // a longer substring narrows a positive name filter, and widens a negated one
+        return isNegated ? other.value.contains(value) : value.contains(other.value);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matches(person) != isNegated;
+    }
+
+    private boolean matches(Person person) {
+        switch (field) {
+        case NAME:
+            return person.getName().fullName.toLowerCase(Locale.ROOT).contains(value);
+        case SUBJECT:
+            return person.getSubjects().stream().map(subject -> subject.subjectName.name()).anyMatch(value::equals);
+        case TAG:
+            return person.getTags().stream().anyMatch(tag -> tag.tagName.toLowerCase(Locale.ROOT).equals(value));
+        case PHONE:
+            return person.getPhone().value.equals(value);
+        case EMAIL:
+            return person.getEmail().value.toLowerCase(Locale.ROOT).equals(value);
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonFilter)) {
+            return false;
+        }
+
+        PersonFilter otherFilter = (PersonFilter) other;
+        return field == otherFilter.field
+                && value.equals(otherFilter.value)
+                && isNegated == otherFilter.isNegated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value, isNegated);
+    }
+
+    @Override
+    public String toString() {
+        String operator = field == Field.NAME ? "~" : "=";
+        return (isNegated ? "NOT " : "") + field.name().toLowerCase(Locale.ROOT) + operator + value;
+    }
+}
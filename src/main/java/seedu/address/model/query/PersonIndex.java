@@ -0,0 +1,257 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeLog;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.person.Subject.Subjects;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Secondary indexes over a list of persons, keyed by the position of each person in the list.
+ * Names are indexed by their trigrams, subjects and tags by bitmaps, and phones and emails by hash keys.
+ * Changes to the list are logged and applied the next time the index is used, so that the many changes made by
+ * one command are applied together, if at all. Appends and in-place replacements are applied incrementally; any
+ * other change to the list, or more changes than there are persons, causes the index to be rebuilt instead.
+ */
+public class PersonIndex {
+
+    /** Length of the n-grams names are indexed by. Shorter name terms cannot use the index. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final ObservableList<Person> source;
+    private final List<Person> persons = new ArrayList<>();
+    private final Map<String, BitSet> nameGrams = new HashMap<>();
+    private final Map<Subjects, BitSet> subjects = new EnumMap<>(Subjects.class);
+    private final Map<String, BitSet> tags = new HashMap<>();
+    private final Map<String, BitSet> phones = new HashMap<>();
+    private final Map<String, BitSet> emails = new HashMap<>();
+    private final ListChangeLog<Person> pendingChanges = new ListChangeLog<>();
+    private boolean isStale = true;
+
+    /**
+     * Creates an index over {@code source} that follows all later changes to it.
+     */
+    public PersonIndex(ObservableList<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this::onSourceChanged);
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        // A stale index is rebuilt from the list anyway, so its changes need not be logged
+        if (!isStale) {
+            pendingChanges.record(change, persons.size());
+        }
+    }
+
+    /**
+     * Returns the number of persons indexed.
+     */
+    public int size() {
+        ensureFresh();
+        return persons.size();
+    }
+
+    /**
+     * Returns the person at {@code position} of the indexed list.
+     */
+    public Person get(int position) {
+        ensureFresh();
+        return persons.get(position);
+    }
+
+    /**
+     * Returns the indexed persons, in list order.
+     */
+    public List<Person> getPersons() {
+        ensureFresh();
+        return persons;
+    }
+
+    /**
+     * Returns true if {@code filter} can be answered from this index without looking at the persons.
+     */
+    public static boolean isExact(PersonFilter filter) {
+        return filter.getField() != PersonFilter.Field.NAME;
+    }
+
+    /**
+     * Returns true if this index can narrow down the candidates for {@code filter}.
+     */
+    public static boolean isIndexable(PersonFilter filter) {
+        return isExact(filter) || filter.getValue().length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Returns the positions of the persons that may satisfy the positive form of {@code filter}.
+     * The result is exact unless {@code filter} is on names, in which case it is a superset.
+     */
+    public BitSet lookup(PersonFilter filter) {
+        ensureFresh();
+        if (!isIndexable(filter)) {
+            BitSet all = new BitSet(persons.size());
+            all.set(0, persons.size());
+            return all;
+        }
+        if (filter.getField() != PersonFilter.Field.NAME) {
+            BitSet postings = postingsOf(filter).get(keyOf(filter));
+            return postings == null ? new BitSet() : (BitSet) postings.clone();
+        }
+        BitSet candidates = null;
+        for (String gram : gramsOf(filter.getValue())) {
+            BitSet postings = nameGrams.get(gram);
+            if (postings == null) {
+                return new BitSet();
+            }
+            if (candidates == null) {
+                candidates = (BitSet) postings.clone();
+            } else {
+                candidates.and(postings);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons matching the positive form of {@code filter},
+     * computed from the sizes of the posting lists only.
+     */
+    public int estimate(PersonFilter filter) {
+        ensureFresh();
+        if (!isIndexable(filter)) {
+            return persons.size();
+        }
+        if (filter.getField() != PersonFilter.Field.NAME) {
+            BitSet postings = postingsOf(filter).get(keyOf(filter));
+            return postings == null ? 0 : postings.cardinality();
+        }
+        int estimate = persons.size();
+        for (String gram : gramsOf(filter.getValue())) {
+            BitSet postings = nameGrams.get(gram);
+            estimate = Math.min(estimate, postings == null ? 0 : postings.cardinality());
+        }
+        return estimate;
+    }
+
+    private Map<?, BitSet> postingsOf(PersonFilter filter) {
+        switch (filter.getField()) {
+        case SUBJECT:
+            return subjects;
+        case TAG:
+            return tags;
+        case PHONE:
+            return phones;
+        case EMAIL:
+            return emails;
+        default:
+            throw new AssertionError("Field is not indexed by key " + filter.getField());
+        }
+    }
+
+    private static Object keyOf(PersonFilter filter) {
+        return filter.getField() == PersonFilter.Field.SUBJECT
+                ? Subjects.valueOf(filter.getValue())
+                : filter.getValue();
+    }
+
+    /**
+     * Applies the changes made to the list since the index was last used, or rebuilds the index if they cannot
+     * be applied one by one, so that a change to many persons costs no more than one rebuild.
+     */
+    private void ensureFresh() {
+        if (!isStale && !pendingChanges.isEmpty()) {
+            applyPendingChanges();
+        }
+        if (!isStale) {
+            return;
+        }
+        persons.clear();
+        nameGrams.clear();
+        subjects.clear();
+        tags.clear();
+        phones.clear();
+        emails.clear();
+        source.forEach(this::append);
+        isStale = false;
+    }
+
+    private void applyPendingChanges() {
+        isStale = pendingChanges.isOverflowed() || pendingChanges.wasPermutatedOrUpdated();
+        for (int i = 0; !isStale && i < pendingChanges.getEntries().size(); i++) {
+            ListChangeLog.Entry<Person> change = pendingChanges.getEntries().get(i);
+            int from = change.getFrom();
+            List<Person> added = change.getAdded();
+            if (change.getRemoved().isEmpty() && from == persons.size()) {
+                added.forEach(this::append);
+            } else if (!change.getRemoved().isEmpty() && change.getRemoved().size() == added.size()) {
+                for (int j = 0; j < added.size(); j++) {
+                    replace(from + j, added.get(j));
+                }
+            } else {
+                isStale = true;
+            }
+        }
+        pendingChanges.clear();
+    }
+
+    private void append(Person person) {
+        persons.add(person);
+        index(persons.size() - 1, person, true);
+    }
+
+    private void replace(int position, Person person) {
+        index(position, persons.get(position), false);
+        persons.set(position, person);
+        index(position, person, true);
+    }
+
+    private void index(int position, Person person, boolean isAdding) {
+        for (String gram : gramsOf(person.getName().fullName.toLowerCase(Locale.ROOT))) {
+            mark(nameGrams, gram, position, isAdding);
+        }
+        for (Subject subject : person.getSubjects()) {
+            mark(subjects, subject.subjectName, position, isAdding);
+        }
+        for (Tag tag : person.getTags()) {
+            mark(tags, tag.tagName.toLowerCase(Locale.ROOT), position, isAdding);
+        }
+        mark(phones, person.getPhone().value, position, isAdding);
+        mark(emails, person.getEmail().value.toLowerCase(Locale.ROOT), position, isAdding);
+    }
+
+    private static <K> void mark(Map<K, BitSet> postings, K key, int position, boolean isAdding) {
+        if (isAdding) {
+            postings.computeIfAbsent(key, unused -> new BitSet()).set(position);
+            return;
+        }
+        BitSet positions = postings.get(key);
+        if (positions != null) {
+            positions.clear(position);
+            if (positions.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
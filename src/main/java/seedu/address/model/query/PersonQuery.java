@@ -0,0 +1,83 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A conjunction of {@code PersonFilter}s, e.g. {@code name~ali AND tag=sec4 AND NOT tag=alumni}.
+ * A query without filters matches every person.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    private final List<PersonFilter> filters;
+
+    /**
+     * Creates a query that matches persons matching all of {@code filters}.
+     */
+    public PersonQuery(List<PersonFilter> filters) {
+        requireNonNull(filters);
+        this.filters = List.copyOf(filters);
+    }
+
+    /**
+     * Creates a query that matches persons matching all of {@code filters}.
+     */
+    public static PersonQuery of(PersonFilter... filters) {
+        return new PersonQuery(List.of(filters));
+    }
+
+    public List<PersonFilter> getFilters() {
+        return filters;
+    }
+
+    /**
+     * Returns true if every person matched by this query is also matched by {@code other},
+     * i.e. this query only narrows {@code other}.
+     */
+    public boolean isRefinementOf(PersonQuery other) {
+        return other.filters.stream().allMatch(otherFilter -> filters.stream()
+                .anyMatch(filter -> filter.implies(otherFilter)));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (PersonFilter filter : filters) {
+            if (!filter.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return filters.equals(otherQuery.filters);
+    }
+
+    @Override
+    public int hashCode() {
+        return filters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return filters.isEmpty()
+                ? "ALL"
+                : filters.stream().map(PersonFilter::toString).collect(Collectors.joining(" AND "));
+    }
+}
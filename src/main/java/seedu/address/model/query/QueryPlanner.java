@@ -0,0 +1,108 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryResult.PlanStep;
+
+/**
+ * Plans and runs a {@code PersonQuery} against a {@code PersonIndex}.
+ * The most selective positive filter that the index can answer drives the plan, the remaining indexable
+ * filters are intersected with (or, when negated, subtracted from) its candidates, and only name filters
+ * are finally checked against the candidate persons themselves.
+ */
+public class QueryPlanner {
+
+    private final PersonIndex index;
+
+    /**
+     * Creates a planner that runs queries against {@code index}.
+     */
+    public QueryPlanner(PersonIndex index) {
+        requireNonNull(index);
+        this.index = index;
+    }
+
+    /**
+     * Runs {@code query} and returns the matching persons in list order.
+     */
+    public QueryResult execute(PersonQuery query) {
+        requireNonNull(query);
+        int size = index.size();
+        List<PlanStep> steps = new ArrayList<>();
+        List<PersonFilter> remaining = new ArrayList<>(query.getFilters());
+        remaining.sort(Comparator.comparingInt(index::estimate));
+
+        PersonFilter driver = remaining.stream()
+                .filter(filter -> !filter.isNegated() && PersonIndex.isIndexable(filter))
+                .findFirst()
+                .orElse(null);
+        BitSet candidates;
+        double estimate;
+        if (driver == null) {
+            candidates = new BitSet(size);
+            candidates.set(0, size);
+            estimate = size;
+            steps.add(new PlanStep("FULL SCAN persons", size, size));
+        } else {
+            remaining.remove(driver);
+            candidates = index.lookup(driver);
+            estimate = index.estimate(driver);
+            steps.add(new PlanStep("INDEX SCAN " + describeIndex(driver), Math.round(estimate),
+                    candidates.cardinality()));
+        }
+
+        for (PersonFilter filter : remaining) {
+            if (!PersonIndex.isIndexable(filter)) {
+                continue;
+            }
+            double selectivity = size == 0 ? 0 : (double) index.estimate(filter) / size;
+            if (!filter.isNegated()) {
+                candidates.and(index.lookup(filter));
+                estimate *= selectivity;
+                steps.add(new PlanStep("INTERSECT " + describeIndex(filter), Math.round(estimate),
+                        candidates.cardinality()));
+            } else if (PersonIndex.isExact(filter)) {
+                candidates.andNot(index.lookup(filter));
+                estimate *= 1 - selectivity;
+                steps.add(new PlanStep("EXCLUDE " + describeIndex(filter), Math.round(estimate),
+                        candidates.cardinality()));
+            }
+        }
+
+        List<PersonFilter> residual = query.getFilters().stream()
+                .filter(filter -> !PersonIndex.isExact(filter))
+                .collect(Collectors.toList());
+        List<Person> matches = new ArrayList<>();
+        for (int position = candidates.nextSetBit(0); position >= 0; position = candidates.nextSetBit(position + 1)) {
+            Person person = index.get(position);
+            if (residual.stream().allMatch(filter -> filter.test(person))) {
+                matches.add(person);
+            }
+        }
+        if (!residual.isEmpty()) {
+            steps.add(new PlanStep("CHECK " + residual.stream().map(PersonFilter::toString)
+                    .collect(Collectors.joining(", ")), Math.round(estimate), matches.size()));
+        }
+        return new QueryResult(query, matches, steps);
+    }
+
+    private static String describeIndex(PersonFilter filter) {
+        switch (filter.getField()) {
+        case NAME:
+            return filter + " using name trigrams";
+        case SUBJECT:
+        case TAG:
+            return filter + " using " + filter.getField().name().toLowerCase(Locale.ROOT) + " bitmap";
+        default:
+            return filter + " using " + filter.getField().name().toLowerCase(Locale.ROOT) + " hash";
+        }
+    }
+}
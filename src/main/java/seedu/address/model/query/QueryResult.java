@@ -0,0 +1,107 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The persons matched by a {@code PersonQuery}, together with the plan used to find them.
+ */
+public class QueryResult {
+
+    private final PersonQuery query;
+    private final List<Person> matches;
+    private final List<PlanStep> steps;
+    private final Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a result of {@code query}, which matched {@code matches}.
+     */
+    public QueryResult(PersonQuery query, List<Person> matches, List<PlanStep> steps) {
+        requireAllNonNull(query, matches, steps);
+        this.query = query;
+        this.matches = List.copyOf(matches);
+        this.steps = List.copyOf(steps);
+        this.matchSet.addAll(matches);
+    }
+
+    public PersonQuery getQuery() {
+        return query;
+    }
+
+    public List<Person> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns true if {@code person} is one of the matched persons, the very same instance.
+     */
+    public boolean isMatch(Person person) {
+        return matchSet.contains(person);
+    }
+
+    public List<PlanStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the matched persons.
+     * Persons added or edited after the query ran are tested against the query itself.
+     */
+    public Predicate<Person> asPredicate() {
+        // A person the query ran over but did not match fails the query as well
+        return person -> matchSet.contains(person) || query.test(person);
+    }
+
+    /**
+     * Returns a description of the plan, one line per step.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Plan for: ").append(query);
+        for (int i = 0; i < steps.size(); i++) {
+            builder.append('\n').append(i + 1).append(". ").append(steps.get(i));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * One step of a query plan, with the number of rows it was estimated to and actually did produce.
+     */
+    public static class PlanStep {
+        private final String description;
+        private final long estimatedRows;
+        private final int actualRows;
+
+        /**
+         * Creates a step described by {@code description}.
+         */
+        public PlanStep(String description, long estimatedRows, int actualRows) {
+            this.description = description;
+            this.estimatedRows = estimatedRows;
+            this.actualRows = actualRows;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public long getEstimatedRows() {
+            return estimatedRows;
+        }
+
+        public int getActualRows() {
+            return actualRows;
+        }
+
+        @Override
+        public String toString() {
+            return description + " (estimated " + estimatedRows + ", actual " + actualRows + ")";
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model.state;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Objects;
+
+/**
+ * The days shown on the calendar: a week from Monday to Sunday, or a calendar month.
+ * Guarantees: immutable.
+ */
+public class CalendarView {
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    /**
+     * The length of the period shown.
+     */
+    public enum Mode {
+        WEEK,
+        MONTH
+    }
+
+    private final Mode mode;
+    private final LocalDate firstDay;
+
+    private CalendarView(Mode mode, LocalDate firstDay) {
+        this.mode = mode;
+        this.firstDay = firstDay;
+    }
+
+    /**
+     * Returns the view of the {@code mode} period containing {@code day}.
+     */
+    public static CalendarView of(Mode mode, LocalDate day) {
+        requireAllNonNull(mode, day);
+        return mode == Mode.WEEK ? weekOf(day) : monthOf(day);
+    }
+
+    /**
+     * Returns the view of the week, from Monday to Sunday, containing {@code day}.
+     */
+    public static CalendarView weekOf(LocalDate day) {
+        return new CalendarView(Mode.WEEK, day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+    }
+
+    /**
+     * Returns the view of the calendar month containing {@code day}.
+     */
+    public static CalendarView monthOf(LocalDate day) {
+        return new CalendarView(Mode.MONTH, day.withDayOfMonth(1));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public LocalDate getLastDay() {
+        return mode == Mode.WEEK ? firstDay.plusDays(6) : firstDay.with(TemporalAdjusters.lastDayOfMonth());
+    }
+
+    public int getDayCount() {
+        return (int) ChronoUnit.DAYS.between(firstDay, getLastDay()) + 1;
+    }
+
+    /**
+     * Returns true if {@code day} is shown in this view.
+     */
+    public boolean contains(LocalDate day) {
+        return !day.isBefore(firstDay) && !day.isAfter(getLastDay());
+    }
+
+    /**
+     * Returns the view of the period after this one.
+     */
+    public CalendarView next() {
+        return mode == Mode.WEEK ? new CalendarView(mode, firstDay.plusWeeks(1))
+                : new CalendarView(mode, firstDay.plusMonths(1));
+    }
+
+    /**
+     * Returns the view of the period before this one.
+     */
+    public CalendarView previous() {
+        return mode == Mode.WEEK ? new CalendarView(mode, firstDay.minusWeeks(1))
+                : new CalendarView(mode, firstDay.minusMonths(1));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CalendarView)) {
+            return false;
+        }
+
+        CalendarView otherView = (CalendarView) other;
+        return mode == otherView.mode && firstDay.equals(otherView.firstDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, firstDay);
+    }
+
+    @Override
+    public String toString() {
+        return mode == Mode.WEEK ? "week of " + firstDay.format(DAY_FORMATTER) : firstDay.format(MONTH_FORMATTER);
+    }
+}
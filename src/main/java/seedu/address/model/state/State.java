@@ -11,6 +11,7 @@ public enum State {
 
     STUDENT,
     SCHEDULE,
+    CALENDAR,
     NONE;
 
     public static final String MESSAGE_CONSTRAINTS =
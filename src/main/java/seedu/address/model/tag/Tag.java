@@ -59,8 +59,4 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
-    public Tag clone() {
-        return new Tag(tagName);
-    }
-
 }
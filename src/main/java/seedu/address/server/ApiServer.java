@@ -0,0 +1,428 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+
+/**
+ * A local HTTP server that exposes the persons, lessons and tasks of the app as paginated JSON,
+ * accepts commands to change them, and streams change notifications as server-sent events.
+ * Only the loopback interface is bound.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String LESSONS_PATH = "/api/lessons";
+    public static final String TASKS_PATH = "/api/tasks";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String EVENTS_PATH = "/api/events";
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_WORKER_COUNT = 8;
+    public static final long COMMAND_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final int workerCount;
+
+    private HttpServer server;
+    private ExecutorService workers;
+    private EventStream eventStream;
+
+    /**
+     * Creates a server over {@code logic} that serves requests with the default number of workers.
+     */
+    public ApiServer(Logic logic) {
+        this(logic, DEFAULT_WORKER_COUNT);
+    }
+
+    /**
+     * Creates a server over {@code logic} that serves up to {@code workerCount} requests concurrently.
+     */
+    public ApiServer(Logic logic, int workerCount) {
+        requireNonNull(logic);
+        assert workerCount > 0;
+        this.logic = logic;
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * Starts the server on {@code port} of the loopback interface. A port of 0 picks any free port.
+     */
+    public void start(int port) throws IOException {
+        assert server == null : "Server already started";
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        workers = Executors.newFixedThreadPool(workerCount, daemonThreadFactory("api-worker"));
+        eventStream = new EventStream();
+        logic.addModelVersionListener(eventStream::publish);
+
+        createContext(PERSONS_PATH, new CollectionHandler<>(ModelSnapshot::getPersons, ApiServer::toJson));
+        createContext(LESSONS_PATH, new CollectionHandler<>(ModelSnapshot::getLessonCount, ModelSnapshot::getLessons,
+                ApiServer::toJson));
+        createContext(TASKS_PATH, new CollectionHandler<>(ApiServer::getTasks, entry -> entry));
+        createContext(COMMANDS_PATH, this::handleCommand);
+        createContext(EVENTS_PATH, eventStream);
+        server.setExecutor(workers);
+        server.start();
+        logger.info("API server listening on " + server.getAddress());
+    }
+
+    /**
+     * Serves the requests for exactly {@code path} with {@code handler}, and answers any other path under it,
+     * which the server would otherwise also pass to {@code handler}, with 404.
+     */
+    private void createContext(String path, HttpHandler handler) {
+        server.createContext(path, exchange -> {
+            if (exchange.getRequestURI().getPath().equals(path)) {
+                handler.handle(exchange);
+                return;
+            }
+            try {
+                sendError(exchange, 404, "No such resource");
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        assert server != null : "Server not started";
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, closing all open event streams.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        eventStream.close();
+        workers.shutdownNow();
+        server = null;
+        logger.info("API server stopped");
+    }
+
+    //=========== Handlers ===================================================================================
+
+    /**
+     * Serves a page of the items of a snapshot, e.g. {@code GET /api/persons?offset=50&limit=50}.
+     * The ETag of a response is the version of the snapshot it was read from.
+     */
+    private class CollectionHandler<T> implements HttpHandler {
+        private final ToIntFunction<ModelSnapshot> countOf;
+        private final PageReader<T> pageOf;
+        private final Function<T, Map<String, Object>> toJson;
+
+        CollectionHandler(Function<ModelSnapshot, List<T>> itemsOf, Function<T, Map<String, Object>> toJson) {
+            this(snapshot -> itemsOf.apply(snapshot).size(), (snapshot, offset, limit) -> {
+                List<T> items = itemsOf.apply(snapshot);
+                int from = Math.min(offset, items.size());
+                return items.subList(from, Math.min(from + limit, items.size()));
+            }, toJson);
+        }
+
+        /**
+         * Creates a handler over items that are only read a page at a time, such as lessons whose occurrences are
+         * made as they are read.
+         */
+        CollectionHandler(ToIntFunction<ModelSnapshot> countOf, PageReader<T> pageOf,
+                Function<T, Map<String, Object>> toJson) {
+            this.countOf = countOf;
+            this.pageOf = pageOf;
+            this.toJson = toJson;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                if (!exchange.getRequestMethod().equals("GET")) {
+                    sendError(exchange, 405, "Only GET is supported");
+                    return;
+                }
+
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                int offset;
+                int limit;
+                try {
+                    offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+                    limit = Integer.parseInt(query.getOrDefault("limit", String.valueOf(DEFAULT_PAGE_SIZE)));
+                } catch (NumberFormatException e) {
+                    sendError(exchange, 400, "offset and limit must be integers");
+                    return;
+                }
+                if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+                    sendError(exchange, 400, "offset must be at least 0 and limit between 1 and " + MAX_PAGE_SIZE);
+                    return;
+                }
+
+                ModelSnapshot snapshot = logic.getModelSnapshot();
+                String etag = "\"" + snapshot.getVersion() + "\"";
+                exchange.getResponseHeaders().set("ETag", etag);
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+
+                Map<String, Object> page = new LinkedHashMap<>();
+                page.put("version", snapshot.getVersion());
+                page.put("offset", offset);
+                page.put("limit", limit);
+                page.put("total", countOf.applyAsInt(snapshot));
+                page.put("items", pageOf.read(snapshot, offset, limit).stream().map(toJson)
+                        .collect(Collectors.toList()));
+                sendJson(exchange, 200, page);
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    /**
+     * Reads up to {@code limit} items of a snapshot, from the {@code offset}-th.
+     */
+    @FunctionalInterface
+    private interface PageReader<T> {
+        List<T> read(ModelSnapshot snapshot, int offset, int limit);
+    }
+
+    /**
+     * Executes the command in the request body, e.g. {@code POST /api/commands} with
+     * {@code addLesson -name Alex Yeoh -start 14:00 -end 16:00}, through the same path as the command box.
+     */
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendError(exchange, 405, "Only POST is supported");
+                return;
+            }
+
+            String commandText = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (commandText.isEmpty()) {
+                sendError(exchange, 400, "The request body must contain a command");
+                return;
+            }
+
+            try {
+                CommandResult commandResult = logic.executeAsync(commandText)
+                        .get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                sendJson(exchange, 200, Map.of("feedback", commandResult.getFeedbackToUser()));
+            } catch (ExecutionException e) {
+                sendError(exchange, 400, e.getCause().getMessage());
+            } catch (TimeoutException e) {
+                sendError(exchange, 503, "The command did not finish in time");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sendError(exchange, 503, "The server is shutting down");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Streams a {@code change} event with the new model version after every command that changes the data,
+     * e.g. {@code GET /api/events}. Open streams do not hold on to a worker.
+     */
+    private class EventStream implements HttpHandler {
+        private final List<OutputStream> subscribers = new ArrayList<>();
+        private final ExecutorService publisher = Executors.newSingleThreadExecutor(daemonThreadFactory("api-events"));
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "Only GET is supported");
+                exchange.close();
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            long version = logic.getModelSnapshot().getVersion();
+            publisher.execute(() -> {
+                if (send(body, "version", version)) {
+                    subscribers.add(body);
+                }
+            });
+        }
+
+        /**
+         * Sends a {@code change} event with {@code version} to all subscribers.
+         */
+        void publish(long version) {
+            if (publisher.isShutdown()) {
+                return;
+            }
+            publisher.execute(() -> subscribers.removeIf(body -> !send(body, "change", version)));
+        }
+
+        /**
+         * Sends an event to {@code body}, closing it if the client has gone away.
+         * Returns true if the event was sent.
+         */
+        private boolean send(OutputStream body, String event, long version) {
+            String message = "event: " + event + "\ndata: {\"version\": " + version + "}\n\n";
+            try {
+                body.write(message.getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                return true;
+            } catch (IOException e) {
+                closeQuietly(body);
+                return false;
+            }
+        }
+
+        void close() {
+            publisher.execute(() -> {
+                subscribers.forEach(this::closeQuietly);
+                subscribers.clear();
+            });
+            publisher.shutdown();
+        }
+
+        private void closeQuietly(OutputStream body) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                logger.fine("Event stream already closed: " + e.getMessage());
+            }
+        }
+    }
+
+    //=========== JSON ===================================================================================
+
+    private static Map<String, Object> toJson(Person person) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", person.getName().fullName);
+        json.put("phone", person.getPhone().value);
+        json.put("email", person.getEmail().value);
+        json.put("address", person.getAddress().value);
+        json.put("subjects", person.getSubjects().stream()
+                .map(subject -> subject.subjectName.toString()).sorted().collect(Collectors.toList()));
+        json.put("tags", person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList()));
+        json.put("remark", person.getRemark().value);
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Lesson lesson) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("start", lesson.getStart().toString());
+        json.put("end", lesson.getEnd().toString());
+        Subject subject = lesson.getSubject();
+        json.put("subject", subject == null ? null : subject.subjectName.toString());
+        json.put("students", lesson.getStudents().stream().map(name -> name.fullName).collect(Collectors.toList()));
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        lesson.getTaskList().forEach(task -> tasks.add(toJson(task)));
+        json.put("tasks", tasks);
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Task task) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("description", task.getDescription());
+        json.put("done", task.isDone());
+        return json;
+    }
+
+    /**
+     * Returns the tasks of all lessons in the snapshot, each with the index of its lesson among those served at
+     * {@link #LESSONS_PATH}. Occurrences of series have no tasks, so only the other lessons are gone through.
+     */
+    private static List<Map<String, Object>> getTasks(ModelSnapshot snapshot) {
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        List<Lesson> lessons = snapshot.getConcreteLessons();
+        for (int i = 0; i < lessons.size(); i++) {
+            int lessonIndex = -1;
+            for (Task task : lessons.get(i).getTaskList()) {
+                if (lessonIndex == -1) {
+                    lessonIndex = snapshot.getPositionOfConcreteLesson(i) + 1;
+                }
+                Map<String, Object> json = toJson(task);
+                json.put("lesson", lessonIndex);
+                tasks.add(json);
+            }
+        }
+        return tasks;
+    }
+
+    //=========== Utilities ===================================================================================
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of("error", message));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            String key = separator < 0 ? parameter : parameter.substring(0, separator);
+            String value = separator < 0 ? "" : parameter.substring(separator + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
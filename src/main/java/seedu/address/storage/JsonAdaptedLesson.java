@@ -2,6 +2,9 @@ package seedu.address.storage;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -10,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.TaskList;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Subject;
 
 
@@ -21,6 +25,8 @@ public class JsonAdaptedLesson {
     private final String end;
     private final String subject;
     private final String students; // comma-separated
+    // Missing from files saved before lessons were linked to persons
+    private final List<Long> studentIds;
     private final String taskList;
 
     /**
@@ -29,12 +35,14 @@ public class JsonAdaptedLesson {
     @JsonCreator
     public JsonAdaptedLesson(@JsonProperty("start") String start, @JsonProperty("end") String end,
                              @JsonProperty("subject") String subject, @JsonProperty("students") String students,
-                             @JsonProperty("taskList") String taskList) {
+                             @JsonProperty("taskList") String taskList,
+                             @JsonProperty("studentIds") List<Long> studentIds) {
         this.start = start;
         this.end = end;
         this.subject = subject;
         this.students = students;
         this.taskList = taskList;
+        this.studentIds = studentIds;
 
     }
 
@@ -46,6 +54,7 @@ public class JsonAdaptedLesson {
         end = source.serializeEnd();
         subject = source.serializeSubject();
         students = source.serializeStudents();
+        studentIds = Arrays.stream(source.getStudentIds()).boxed().collect(Collectors.toList());
         taskList = source.serializeTaskList(); //TODO
     }
     /**
@@ -60,6 +69,12 @@ public class JsonAdaptedLesson {
         ArrayList<String> students = Lesson.deserializeStudents(this.students);
         TaskList taskList = Lesson.deserializeTaskList(this.taskList); //TODO
 
-        return new Lesson(start, end, subject, taskList, students.stream().map(Name::new).toArray(Name[]::new));
+        Lesson lesson = new Lesson(start, end, subject, taskList,
+                students.stream().map(Name::new).toArray(Name[]::new));
+        // Students without ids are linked to persons by name when the lesson is added to the model
+        if (studentIds == null || studentIds.size() != students.size() || studentIds.contains(null)) {
+            return lesson;
+        }
+        return lesson.withStudentIds(studentIds.stream().mapToLong(id -> Math.max(id, Person.NO_ID)).toArray());
     }
 }
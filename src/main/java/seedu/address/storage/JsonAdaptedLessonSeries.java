@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+
+/**
+ * Jackson-friendly version of {@link LessonSeries}.
+ * Only the first lesson, the rule and the exceptions are stored, never the occurrences.
+ */
+class JsonAdaptedLessonSeries {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson series' %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE = "Lesson series' dates should be in the format YYYY-MM-DD";
+
+    private final JsonAdaptedLesson first;
+    private final int intervalInWeeks;
+    private final String lastDay;
+    private final List<String> exceptions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedLessonSeries} with the given series details.
+     */
+    @JsonCreator
+    public JsonAdaptedLessonSeries(@JsonProperty("first") JsonAdaptedLesson first,
+            @JsonProperty("intervalInWeeks") int intervalInWeeks, @JsonProperty("lastDay") String lastDay,
+            @JsonProperty("exceptions") List<String> exceptions) {
+        this.first = first;
+        this.intervalInWeeks = intervalInWeeks;
+        this.lastDay = lastDay;
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+    }
+
+    /**
+     * Converts a given {@code LessonSeries} into this class for Jackson use.
+     */
+    public JsonAdaptedLessonSeries(LessonSeries source) {
+        first = new JsonAdaptedLesson(source.getFirst());
+        intervalInWeeks = source.getIntervalInWeeks();
+        lastDay = source.getLastDay().toString();
+        exceptions.addAll(source.getExceptions().stream().map(LocalDate::toString).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted series into the model's {@code LessonSeries} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted series.
+     */
+    public LessonSeries toModelType() throws IllegalValueException {
+        if (first == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "first"));
+        }
+        if (lastDay == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lastDay"));
+        }
+        Lesson modelFirst = first.toModelType();
+        LocalDate modelLastDay = parseDate(lastDay);
+        Set<LocalDate> modelExceptions = new TreeSet<>();
+        for (String exception : exceptions) {
+            modelExceptions.add(parseDate(exception));
+        }
+        if (!LessonSeries.isValidSeries(modelFirst, intervalInWeeks, modelLastDay)) {
+            throw new IllegalValueException(LessonSeries.MESSAGE_CONSTRAINTS);
+        }
+        return new LessonSeries(modelFirst, intervalInWeeks, modelLastDay, modelExceptions);
+    }
+
+    private static LocalDate parseDate(String date) throws IllegalValueException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+    }
+}
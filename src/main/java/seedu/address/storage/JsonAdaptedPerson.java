@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lessons.Week;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -26,6 +27,8 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    // Missing from files saved before persons were given ids
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -33,20 +36,32 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedSubject> subjects = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final String remark;
+    private final String availability;
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, without an id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address,
+            List<JsonAdaptedSubject> subjects, List<JsonAdaptedTag> tags, String remark, String availability) {
+        this(null, name, phone, email, address, subjects, tags, remark, availability);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("subjects") List<JsonAdaptedSubject> subjects,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("remark") String remark) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("subjects") List<JsonAdaptedSubject> subjects,
+            @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("remark") String remark,
+            @JsonProperty("availability") String availability) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.remark = remark;
+        this.availability = availability;
         if (subjects != null) {
             this.subjects.addAll(subjects);
         }
@@ -60,6 +75,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId() == Person.NO_ID ? null : source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -71,6 +87,7 @@ class JsonAdaptedPerson {
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
         remark = source.getRemark().value;
+        availability = source.getAvailability().serialize();
     }
 
     /**
@@ -142,7 +159,23 @@ class JsonAdaptedPerson {
         }
         final Remark modelRemark = new Remark(remark);
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelSubjects, modelTags, modelRemark);
+        // Files saved before availabilities were kept have none
+        final Week modelAvailability;
+        if (availability == null || availability.isEmpty()) {
+            modelAvailability = Week.NONE;
+        } else {
+            if (!Week.isValidWeek(availability)) {
+                throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
+            }
+            modelAvailability = new Week(availability);
+        }
+
+        // Persons without a valid id are given one when they are added to the address book
+        final long modelId = id == null || id < 0 ? Person.NO_ID : id;
+
+        return new Person.Builder(modelName).withId(modelId).withPhone(modelPhone).withEmail(modelEmail)
+                .withAddress(modelAddress).withSubjects(modelSubjects).withTags(modelTags).withRemark(modelRemark)
+                .withAvailability(modelAvailability).build();
     }
 
 }
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.ScheduleList;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
 
 
 /**
@@ -22,14 +23,19 @@ public class JsonSerializableSchedule {
     public static final String MESSAGE_DUPLICATE_LESSON = "Lessons list contains duplicate lesson(s).";
 
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
+    private final List<JsonAdaptedLessonSeries> series = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableSchedule} with the given schedule details.
+     * Schedules saved before series were added have no series.
      */
     @JsonCreator
-    public JsonSerializableSchedule(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+    public JsonSerializableSchedule(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons,
+            @JsonProperty("series") List<JsonAdaptedLessonSeries> series) {
         this.lessons.addAll(lessons);
-
+        if (series != null) {
+            this.series.addAll(series);
+        }
     }
 
     /**
@@ -40,7 +46,9 @@ public class JsonSerializableSchedule {
         lessons.addAll(source.getLessonList()
                 .stream().map(JsonAdaptedLesson::new)
                 .collect(Collectors.toList()));
-
+        series.addAll(source.getSeriesList()
+                .stream().map(JsonAdaptedLessonSeries::new)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -58,6 +66,13 @@ public class JsonSerializableSchedule {
             }
             scheduleList.addLesson(lesson);
         }
+        for (JsonAdaptedLessonSeries jsonAdaptedSeries : series) {
+            LessonSeries lessonSeries = jsonAdaptedSeries.toModelType();
+            if (scheduleList.hasAnyLessonOf(lessonSeries)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+            }
+            scheduleList.addSeries(lessonSeries);
+        }
         return scheduleList;
     }
 }
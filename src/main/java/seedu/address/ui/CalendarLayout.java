@@ -0,0 +1,158 @@
+package seedu.address.ui;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.lessons.Lesson;
+
+/**
+ * Lays out the lessons of a calendar day as blocks, placing overlapping lessons side by side.
+ * A lesson is laid out on the day it starts, and is cut off at the end of that day.
+ */
+class CalendarLayout {
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    // Lessons shorter than this, or ending before they start, are drawn this long so that they can be seen
+    static final int MIN_BLOCK_MINUTES = 15;
+
+    private CalendarLayout() {} // prevents instantiation
+
+    /**
+     * A lesson placed on a day of the calendar, in one of the columns its overlapping lessons are split into.
+     */
+    static class LessonBlock {
+        private final Lesson lesson;
+        private final int displayedIndex;
+        private final int startMinute;
+        private final int endMinute;
+        private final int column;
+        private final int columnCount;
+
+        LessonBlock(Lesson lesson, int displayedIndex, int startMinute, int endMinute, int column, int columnCount) {
+            this.lesson = lesson;
+            this.displayedIndex = displayedIndex;
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+            this.column = column;
+            this.columnCount = columnCount;
+        }
+
+        Lesson getLesson() {
+            return lesson;
+        }
+
+        /**
+         * Returns the one-based index of the lesson in the displayed schedule.
+         */
+        int getDisplayedIndex() {
+            return displayedIndex;
+        }
+
+        int getStartMinute() {
+            return startMinute;
+        }
+
+        int getEndMinute() {
+            return endMinute;
+        }
+
+        int getColumn() {
+            return column;
+        }
+
+        int getColumnCount() {
+            return columnCount;
+        }
+    }
+
+    /**
+     * Returns the index of the first lesson of {@code lessons}, which are sorted by start, that starts
+     * at or after {@code time}.
+     */
+    static int firstStartingFrom(List<Lesson> lessons, LocalDateTime time) {
+        int low = 0;
+        int high = lessons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lessons.get(middle).getStart().isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Lays out the lessons of {@code lessons}, which are sorted by start, that start on {@code day}.
+     * Lessons that overlap, directly or through other lessons, form a group whose lessons share the width
+     * of the day equally; each lesson takes the leftmost column that is free when it starts.
+     */
+    static List<LessonBlock> layoutDay(List<Lesson> lessons, LocalDate day) {
+        int from = firstStartingFrom(lessons, day.atStartOfDay());
+        int to = firstStartingFrom(lessons, day.plusDays(1).atStartOfDay());
+        int count = to - from;
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        int[] columns = new int[count];
+        int[] columnCounts = new int[count];
+
+        List<Integer> columnEnds = new ArrayList<>();
+        int groupStart = 0;
+        int groupEnd = 0;
+        for (int i = 0; i < count; i++) {
+            Lesson lesson = lessons.get(from + i);
+            starts[i] = minuteOfDay(lesson.getStart());
+            ends[i] = endMinute(lesson, starts[i]);
+
+            if (starts[i] >= groupEnd) {
+                closeGroup(columnCounts, groupStart, i, columnEnds.size());
+                columnEnds.clear();
+                groupStart = i;
+            }
+            int column = 0;
+            while (column < columnEnds.size() && columnEnds.get(column) > starts[i]) {
+                column++;
+            }
+            if (column == columnEnds.size()) {
+                columnEnds.add(ends[i]);
+            } else {
+                columnEnds.set(column, ends[i]);
+            }
+            columns[i] = column;
+            groupEnd = Math.max(groupEnd, ends[i]);
+        }
+        closeGroup(columnCounts, groupStart, count, columnEnds.size());
+
+        List<LessonBlock> blocks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            blocks.add(new LessonBlock(lessons.get(from + i), from + i + 1, starts[i], ends[i],
+                    columns[i], columnCounts[i]));
+        }
+        return blocks;
+    }
+
+    private static void closeGroup(int[] columnCounts, int from, int to, int columnCount) {
+        for (int i = from; i < to; i++) {
+            columnCounts[i] = columnCount;
+        }
+    }
+
+    private static int minuteOfDay(LocalDateTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int endMinute(Lesson lesson, int startMinute) {
+        LocalDateTime start = lesson.getStart();
+        LocalDateTime end = lesson.getEnd();
+        int endMinute;
+        if (end.toLocalDate().isAfter(start.toLocalDate())) {
+            endMinute = MINUTES_PER_DAY;
+        } else {
+            endMinute = end.isAfter(start) ? minuteOfDay(end) : startMinute;
+        }
+        return Math.min(MINUTES_PER_DAY, Math.max(endMinute, startMinute + MIN_BLOCK_MINUTES));
+    }
+}
@@ -0,0 +1,309 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.state.CalendarView;
+import seedu.address.ui.CalendarLayout.LessonBlock;
+
+/**
+ * Panel drawing the lessons of a week or month onto a single canvas.
+ * Only the days affected by a change to the schedule are laid out and drawn again.
+ */
+public class CalendarPanel extends UiPart<Region> {
+    private static final String FXML = "CalendarPanel.fxml";
+
+    private static final double HEADER_HEIGHT = 24;
+    private static final double HOUR_GUTTER_WIDTH = 44;
+    private static final double MONTH_LINE_HEIGHT = 16;
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int WEEKS_IN_MONTH_VIEW = 6;
+    private static final double HIT_CELL_SIZE = 32;
+    // The scroll distance that moves the calendar by one week or month
+    private static final double SCROLL_STEP = 40;
+
+    private static final Color BACKGROUND_COLOUR = Color.web("#231F31");
+    private static final Color GRID_COLOUR = Color.web("#3A3450");
+    private static final Color TEXT_COLOUR = Color.WHITE;
+    private static final Color MUTED_TEXT_COLOUR = Color.web("#9A94B0");
+    private static final Font FONT = Font.font("Segoe UI", 11);
+    private static final DateTimeFormatter HEADER_DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE d");
+
+    private final Logger logger = LogsCenter.getLogger(CalendarPanel.class);
+
+    private final ObservableList<Lesson> lessons;
+    private final Consumer<Lesson> onLessonSelected;
+    private final Canvas canvas = new Canvas();
+    private final SpatialGridIndex<LessonBlock> hitIndex = new SpatialGridIndex<>(HIT_CELL_SIZE);
+    private final List<List<LessonBlock>> dayBlocks = new ArrayList<>();
+
+    // Days of the view, counted from its first day, whose lessons must be laid out and drawn again
+    private final BitSet dirtyDays = new BitSet();
+    private boolean isFullRedrawNeeded = true;
+    private boolean isRedrawScheduled = false;
+
+    private CalendarView view = CalendarView.weekOf(LocalDate.now());
+    private double scrollDistance = 0;
+
+    @FXML
+    private Label title;
+
+    @FXML
+    private Pane canvasHolder;
+
+    /**
+     * Creates a {@code CalendarPanel} drawing {@code lessons}, which must be sorted by start.
+     * {@code onLessonSelected} is called with the lesson that is clicked on.
+     */
+    public CalendarPanel(ObservableList<Lesson> lessons, Consumer<Lesson> onLessonSelected) {
+        super(FXML);
+        requireAllNonNull(lessons, onLessonSelected);
+        this.lessons = lessons;
+        this.onLessonSelected = onLessonSelected;
+
+        canvasHolder.getChildren().add(canvas);
+        canvas.widthProperty().bind(canvasHolder.widthProperty());
+        canvas.heightProperty().bind(canvasHolder.heightProperty());
+        canvas.widthProperty().addListener(observable -> redrawAll());
+        canvas.heightProperty().addListener(observable -> redrawAll());
+        canvas.setOnScroll(this::handleScroll);
+        canvas.setOnMouseClicked(this::handleClick);
+        lessons.addListener(this::handleLessonsChanged);
+        show(view);
+    }
+
+    /**
+     * Shows the days of {@code view}.
+     */
+    public void show(CalendarView view) {
+        this.view = view;
+        String viewName = view.toString();
+        title.setText(Character.toUpperCase(viewName.charAt(0)) + viewName.substring(1));
+        redrawAll();
+    }
+
+    private void handleScroll(ScrollEvent event) {
+        scrollDistance += event.getDeltaY();
+        if (scrollDistance >= SCROLL_STEP) {
+            scrollDistance = 0;
+            show(view.previous());
+        } else if (scrollDistance <= -SCROLL_STEP) {
+            scrollDistance = 0;
+            show(view.next());
+        }
+        event.consume();
+    }
+
+    private void handleClick(MouseEvent event) {
+        LessonBlock block = hitIndex.find(event.getX(), event.getY());
+        if (block != null) {
+            onLessonSelected.accept(block.getLesson());
+        }
+    }
+
+    /**
+     * Marks the days of the lessons in {@code change} to be drawn again. As the lessons are numbered by their
+     * position in the list, a lesson added or removed also renumbers the lessons on every later day.
+     */
+    private void handleLessonsChanged(ListChangeListener.Change<? extends Lesson> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                redrawAll();
+                continue;
+            }
+            List<Lesson> affected = new ArrayList<>(change.getRemoved());
+            affected.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+            boolean isRenumbered = change.getRemovedSize() != change.getAddedSize();
+            for (Lesson lesson : affected) {
+                int day = dayOfView(lesson.getStart().toLocalDate());
+                if (isRenumbered) {
+                    markDirty(Math.max(day, 0), view.getDayCount());
+                } else if (day >= 0 && day < view.getDayCount()) {
+                    markDirty(day, day + 1);
+                }
+            }
+        }
+    }
+
+    private int dayOfView(LocalDate day) {
+        return (int) ChronoUnit.DAYS.between(view.getFirstDay(), day);
+    }
+
+    private void markDirty(int fromDay, int toDay) {
+        if (fromDay >= toDay) {
+            return;
+        }
+        dirtyDays.set(fromDay, toDay);
+        scheduleRedraw();
+    }
+
+    private void redrawAll() {
+        isFullRedrawNeeded = true;
+        scheduleRedraw();
+    }
+
+    /**
+     * Draws the pending changes once the current changes to the schedule have all been applied.
+     */
+    private void scheduleRedraw() {
+        if (isRedrawScheduled) {
+            return;
+        }
+        isRedrawScheduled = true;
+        Platform.runLater(this::redraw);
+    }
+
+    private void redraw() {
+        isRedrawScheduled = false;
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFont(FONT);
+        gc.setTextBaseline(VPos.TOP);
+        int dayCount = view.getDayCount();
+        if (isFullRedrawNeeded) {
+            isFullRedrawNeeded = false;
+            hitIndex.clear();
+            dayBlocks.clear();
+            for (int day = 0; day < dayCount; day++) {
+                dayBlocks.add(List.of());
+            }
+            gc.setFill(BACKGROUND_COLOUR);
+            gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            drawFrame(gc);
+            dirtyDays.set(0, dayCount);
+        }
+
+        logger.fine("Redrawing " + dirtyDays.cardinality() + " days of the calendar");
+        for (int day = dirtyDays.nextSetBit(0); day >= 0 && day < dayCount; day = dirtyDays.nextSetBit(day + 1)) {
+            dayBlocks.get(day).forEach(hitIndex::remove);
+            List<LessonBlock> blocks = CalendarLayout.layoutDay(lessons, view.getFirstDay().plusDays(day));
+            dayBlocks.set(day, blocks);
+            if (view.getMode() == CalendarView.Mode.WEEK) {
+                drawWeekDay(gc, day, blocks);
+            } else {
+                drawMonthDay(gc, day, blocks);
+            }
+        }
+        dirtyDays.clear();
+    }
+
+    /**
+     * Draws the parts of the calendar that do not belong to any day.
+     */
+    private void drawFrame(GraphicsContext gc) {
+        gc.setFill(MUTED_TEXT_COLOUR);
+        if (view.getMode() == CalendarView.Mode.WEEK) {
+            double hourHeight = (canvas.getHeight() - HEADER_HEIGHT) / 24;
+            for (int hour = 0; hour < 24; hour++) {
+                gc.fillText(String.format("%02d:00", hour), 4, HEADER_HEIGHT + hour * hourHeight);
+            }
+            return;
+        }
+        double cellWidth = canvas.getWidth() / DAYS_IN_WEEK;
+        LocalDate monday = view.getFirstDay().minusDays(view.getFirstDay().getDayOfWeek().getValue() - 1);
+        for (int column = 0; column < DAYS_IN_WEEK; column++) {
+            gc.fillText(monday.plusDays(column).getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH),
+                    column * cellWidth + 4, 4);
+        }
+    }
+
+    private void drawWeekDay(GraphicsContext gc, int day, List<LessonBlock> blocks) {
+        double dayWidth = (canvas.getWidth() - HOUR_GUTTER_WIDTH) / DAYS_IN_WEEK;
+        double hourHeight = (canvas.getHeight() - HEADER_HEIGHT) / 24;
+        double x = HOUR_GUTTER_WIDTH + day * dayWidth;
+
+        gc.setFill(BACKGROUND_COLOUR);
+        gc.fillRect(x, 0, dayWidth, canvas.getHeight());
+        gc.setStroke(GRID_COLOUR);
+        gc.strokeLine(x + 0.5, 0, x + 0.5, canvas.getHeight());
+        for (int hour = 0; hour < 24; hour++) {
+            double y = Math.floor(HEADER_HEIGHT + hour * hourHeight) + 0.5;
+            gc.strokeLine(x, y, x + dayWidth, y);
+        }
+        gc.setFill(TEXT_COLOUR);
+        gc.fillText(view.getFirstDay().plusDays(day).format(HEADER_DAY_FORMATTER), x + 4, 4);
+
+        for (LessonBlock block : blocks) {
+            double columnWidth = dayWidth / block.getColumnCount();
+            double blockX = x + block.getColumn() * columnWidth + 1;
+            double blockY = HEADER_HEIGHT + block.getStartMinute() * hourHeight / 60;
+            double blockWidth = columnWidth - 2;
+            double blockHeight = (block.getEndMinute() - block.getStartMinute()) * hourHeight / 60;
+            LessonViewModel lesson = LessonViewModel.of(block.getLesson());
+
+            gc.setFill(lesson.getColour());
+            gc.fillRoundRect(blockX, blockY, blockWidth, blockHeight, 6, 6);
+            drawClippedText(gc, block.getDisplayedIndex() + ". " + lesson.getSubject() + "\n" + lesson.getStartTime(),
+                    blockX, blockY, blockWidth, blockHeight);
+            hitIndex.add(block, blockX, blockY, blockWidth, blockHeight);
+        }
+    }
+
+    private void drawMonthDay(GraphicsContext gc, int day, List<LessonBlock> blocks) {
+        double cellWidth = canvas.getWidth() / DAYS_IN_WEEK;
+        double cellHeight = (canvas.getHeight() - HEADER_HEIGHT) / WEEKS_IN_MONTH_VIEW;
+        int cell = view.getFirstDay().getDayOfWeek().getValue() - 1 + day;
+        double x = (cell % DAYS_IN_WEEK) * cellWidth;
+        double y = HEADER_HEIGHT + (cell / DAYS_IN_WEEK) * cellHeight;
+
+        gc.setFill(BACKGROUND_COLOUR);
+        gc.fillRect(x, y, cellWidth, cellHeight);
+        gc.setStroke(GRID_COLOUR);
+        gc.strokeRect(Math.floor(x) + 0.5, Math.floor(y) + 0.5, cellWidth, cellHeight);
+        gc.setFill(TEXT_COLOUR);
+        gc.fillText(String.valueOf(view.getFirstDay().plusDays(day).getDayOfMonth()), x + 4, y + 2);
+
+        int lineCount = Math.max(0, (int) ((cellHeight - MONTH_LINE_HEIGHT - 2) / MONTH_LINE_HEIGHT));
+        boolean isOverflowing = blocks.size() > lineCount;
+        int shownCount = isOverflowing ? Math.max(0, lineCount - 1) : blocks.size();
+        for (int i = 0; i < shownCount; i++) {
+            LessonBlock block = blocks.get(i);
+            LessonViewModel lesson = LessonViewModel.of(block.getLesson());
+            double lineY = y + MONTH_LINE_HEIGHT * (i + 1) + 2;
+            gc.setFill(lesson.getColour());
+            gc.fillRoundRect(x + 2, lineY, cellWidth - 4, MONTH_LINE_HEIGHT - 2, 4, 4);
+            drawClippedText(gc, block.getDisplayedIndex() + ". " + lesson.getStartTime() + " " + lesson.getSubject(),
+                    x + 2, lineY, cellWidth - 4, MONTH_LINE_HEIGHT - 2);
+            hitIndex.add(block, x + 2, lineY, cellWidth - 4, MONTH_LINE_HEIGHT - 2);
+        }
+        if (isOverflowing && lineCount > 0) {
+            gc.setFill(MUTED_TEXT_COLOUR);
+            gc.fillText("+" + (blocks.size() - shownCount) + " more", x + 4, y + MONTH_LINE_HEIGHT * lineCount + 2);
+        }
+    }
+
+    private void drawClippedText(GraphicsContext gc, String text, double x, double y, double width, double height) {
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, width, height);
+        gc.clip();
+        gc.setFill(TEXT_COLOUR);
+        gc.fillText(text, x + 3, y + 1);
+        gc.restore();
+    }
+}
@@ -17,6 +17,15 @@ public class ColoredTextEntry extends StackPane {
      * @param color The color of the background fillout.
      */
     public ColoredTextEntry(String text, String color) {
+        this(text, Color.web(color));
+    }
+
+    /**
+     * Creates a colored text entry.
+     * @param text The text content to display.
+     * @param color The color of the background fillout.
+     */
+    public ColoredTextEntry(String text, Color color) {
         Text textNode = new Text(text);
         textNode.setFont(Font.font("Segoe UI Semibold", FontWeight.BOLD, 10));
         textNode.setFill(Color.WHITE);
@@ -24,7 +33,7 @@ public class ColoredTextEntry extends StackPane {
                 textNode.getLayoutBounds().getHeight() + 10);
         rectangle.setArcWidth(20); // Customize the arc width to make it curved.
         rectangle.setArcHeight(20); // Customize the arc height to make it curved.
-        rectangle.setFill(Color.web(color));
+        rectangle.setFill(color);
         getChildren().addAll(rectangle, textNode);
     }
 
@@ -1,12 +1,22 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Person;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -16,19 +26,110 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    private static final String FIND_COMMAND_PREFIX = FindCommand.COMMAND_WORD + " ";
+    // Typing pauses shorter than this do not start a search
+    private static final Duration SEARCH_DEBOUNCE_DELAY = Duration.millis(150);
+
     private final CommandExecutor commandExecutor;
+    private final LiveSearcher liveSearcher;
+    private final Consumer<List<Person>> previewHandler;
+    private final Completer completer;
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE_DELAY);
+
+    private CompletableFuture<CommandResult> pendingCommand = CompletableFuture.completedFuture(null);
+    private CompletableFuture<List<Person>> pendingPreview = null;
+    // The completions being cycled through with Tab, and the one last filled in
+    private List<String> completions = List.of();
+    private int completionIndex = 0;
 
     @FXML
     private TextField commandTextField;
 
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * While a {@code find} command is being typed, its matches are found with {@code liveSearcher}
+     * and passed to {@code previewHandler}, which is passed null once the preview ends.
+     * Pressing Tab fills in the completions found by {@code completer} in turn.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, LiveSearcher liveSearcher,
+            Consumer<List<Person>> previewHandler, Completer completer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveSearcher = liveSearcher;
+        this.previewHandler = previewHandler;
+        this.completer = completer;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> handleTextChanged(text));
+        searchDebounce.setOnFinished(event -> startPreview(commandTextField.getText()));
+        commandTextField.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE) {
+                pendingCommand.cancel(false);
+            }
+        });
+        // A filter, as the text field would otherwise move the focus on Tab
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && !event.isShiftDown()) {
+                event.consume();
+                handleCompletion();
+            }
+        });
+    }
+
+    /**
+     * Fills in the next completion of the command text. Pressing Tab again right after a completion
+     * replaces it with the one after it.
+     */
+    private void handleCompletion() {
+        String text = commandTextField.getText();
+        boolean isCycling = !completions.isEmpty() && text.equals(completions.get(completionIndex));
+        if (isCycling) {
+            completionIndex = (completionIndex + 1) % completions.size();
+        } else {
+            completions = completer.complete(text);
+            completionIndex = 0;
+        }
+        if (completions.isEmpty()) {
+            return;
+        }
+        commandTextField.setText(completions.get(completionIndex));
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
+    private void handleTextChanged(String text) {
+        if (text.startsWith(FIND_COMMAND_PREFIX)) {
+            searchDebounce.playFromStart();
+        } else {
+            searchDebounce.stop();
+            endPreview();
+        }
+    }
+
+    /**
+     * Starts finding the matches of the {@code find} command in {@code text}. Only the matches of the latest
+     * preview are shown; invalid arguments, which are common while typing, leave the preview as it is.
+     */
+    private void startPreview(String text) {
+        if (!text.startsWith(FIND_COMMAND_PREFIX)) {
+            return;
+        }
+        CompletableFuture<List<Person>> preview = liveSearcher.search(text.substring(FIND_COMMAND_PREFIX.length()));
+        pendingPreview = preview;
+        preview.whenCompleteAsync((matches, error) -> {
+            if (preview == pendingPreview && error == null) {
+                previewHandler.accept(matches);
+            }
+        }, Platform::runLater);
+    }
+
+    private void endPreview() {
+        if (pendingPreview == null) {
+            return;
+        }
+        pendingPreview.cancel(false);
+        pendingPreview = null;
+        liveSearcher.cancel();
+        previewHandler.accept(null);
     }
 
     /**
@@ -41,12 +142,18 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        searchDebounce.stop();
+        pendingCommand = commandExecutor.execute(commandText);
+        pendingCommand.whenCompleteAsync((commandResult, error) -> {
+            if (error == null) {
+                // the user may have started typing the next command while this one was running
+                if (commandTextField.getText().equals(commandText)) {
+                    commandTextField.setText("");
+                }
+            } else if (!(error instanceof CancellationException)) {
+                setStyleToIndicateCommandFailure();
+            }
+        }, Platform::runLater);
     }
 
     /**
@@ -75,11 +182,41 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its pending result.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that completes partly typed commands.
+     */
+    @FunctionalInterface
+    public interface Completer {
+        /**
+         * Returns the possible completions of {@code commandText}, best first.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> complete(String commandText);
+    }
+
+    /**
+     * Represents a function that finds the persons matching the arguments of a {@code find} command.
+     */
+    public interface LiveSearcher {
+        /**
+         * Starts finding the matching persons and returns the pending matches.
+         *
+         * @see seedu.address.logic.Logic#previewFind(String)
+         */
+        CompletableFuture<List<Person>> search(String arguments);
+
+        /**
+         * Cancels the search in progress, if any.
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void cancel();
     }
 
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -22,7 +24,10 @@ public class LessonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Lesson lesson;
+    private final int staticFieldCount;
+    private Lesson lesson;
+    private LessonViewModel viewModel;
+    private List<String> displayFields;
     @FXML
     private VBox fields;
 
@@ -39,17 +44,50 @@ public class LessonCard extends UiPart<Region> {
     /**
      * Creates a {@code LessonCard} with the given {@code Lesson} and index to display.
      */
-    public LessonCard(Lesson lesson, int displayedIndex, String[] displayFields) {
+    public LessonCard(Lesson lesson, int displayedIndex, List<String> displayFields) {
         super(FXML);
-        this.lesson = lesson;
+        this.staticFieldCount = fields.getChildren().size();
+        this.displayFields = displayFields;
+        update(lesson, displayedIndex);
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    /**
+     * Shows {@code lesson} at {@code displayedIndex} on this card, rebuilding its fields only if the lesson
+     * differs from the one shown before.
+     */
+    public void update(Lesson lesson, int displayedIndex) {
         id.setText(displayedIndex + ". ");
-        overview.setText(lesson.getLessonDateStr());
-        duration.setText(lesson.getLessonDuration());
+        if (lesson == this.lesson) {
+            return;
+        }
+        this.lesson = lesson;
+        this.viewModel = LessonViewModel.of(lesson);
+        overview.setText(viewModel.getDate());
+        duration.setText(viewModel.getDuration());
+        rebuildFields();
+    }
+
+    /**
+     * Shows the fields named in {@code displayFields} of the lesson on this card.
+     */
+    public void setDisplayFields(List<String> displayFields) {
+        if (displayFields.equals(this.displayFields)) {
+            return;
+        }
+        this.displayFields = displayFields;
+        rebuildFields();
+    }
+
+    private void rebuildFields() {
+        fields.getChildren().remove(staticFieldCount, fields.getChildren().size());
         for (String field : displayFields) {
             // TODO: Implement the schedule detail
-            LessonCardFieldBuilder.build(field, lesson, fields);
+            LessonCardFieldBuilder.build(field, viewModel, fields);
         }
     }
 
-
 }
@@ -2,7 +2,6 @@ package seedu.address.ui;
 
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
-import seedu.address.model.lessons.Lesson;
 
 
 /**
@@ -12,10 +11,10 @@ public class LessonCardFieldBuilder {
     /**
      * Build a field of a person card
      * @param fieldName the name of the field
-     * @param lesson the lesson
+     * @param lesson the view model of the lesson
      * @param fields the fields
      */
-    public static void build(String fieldName, Lesson lesson, VBox fields) {
+    public static void build(String fieldName, LessonViewModel lesson, VBox fields) {
         switch (fieldName) {
         case "date":
             buildDate(lesson, fields);
@@ -32,19 +31,19 @@ public class LessonCardFieldBuilder {
         }
     }
 
-    static void buildDate(Lesson lesson, VBox fields) {
-        Label date = new Label(lesson.getLessonDateStr());
+    static void buildDate(LessonViewModel lesson, VBox fields) {
+        Label date = new Label(lesson.getDate());
         date.getStyleClass().add("cell_small_label");
         fields.getChildren().add(date);
     }
 
-    static void buildStudents(Lesson lesson, VBox fields) {
-        Label students = new Label(lesson.getStudentsStr());
+    static void buildStudents(LessonViewModel lesson, VBox fields) {
+        Label students = new Label(lesson.getStudents());
         students.getStyleClass().add("cell_small_label");
         fields.getChildren().add(students);
     }
-    static void buildSubjects(Lesson lesson, VBox fields) {
-        Label subject = new Label(lesson.getSubjectStr());
+    static void buildSubjects(LessonViewModel lesson, VBox fields) {
+        Label subject = new Label(lesson.getSubject());
         subject.getStyleClass().add("cell_small_label");
         fields.getChildren().add(subject);
     }
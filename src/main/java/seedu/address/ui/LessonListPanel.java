@@ -1,16 +1,17 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
-import javafx.beans.property.BooleanProperty;
 import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.model.ModelChange;
 import seedu.address.model.lessons.Lesson;
 
 /**
@@ -21,7 +22,6 @@ public class LessonListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(LessonListPanel.class);
 
     private Logic logic;
-    private BooleanProperty reRenderUi;
     @FXML
     private ListView<Lesson> scheduleListView;
 
@@ -31,27 +31,54 @@ public class LessonListPanel extends UiPart<Region> {
     public LessonListPanel(Logic logic) {
         super(FXML);
         this.logic = logic;
-        this.reRenderUi = logic.getRefreshListUi(); // Connect to the logic manager's boolean flag
         scheduleListView.setItems(logic.getFilteredScheduleList());
         scheduleListView.setCellFactory(listView -> new ScheduleListViewCell());
-        // Listens for a change in reRenderUi value and updates UI, the actual value is irrelevant
-        reRenderUi.addListener(new ChangeListener<Boolean>() {
-            @Override
-            public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
-                refreshUI();
-            }
-        });
-
+        logic.addModelChangeListener(this::handleModelChange);
     }
 
-    private void refreshUI() {
-        scheduleListView.refresh();
+    /**
+     * Discards the view models of the lessons that are no longer shown, and brings the lesson affected
+     * by {@code change} into view, following it if an edit moved it.
+     */
+    private void handleModelChange(ModelChange change) {
+        switch (change.getKind()) {
+        case LESSON_ADDED:
+            scheduleListView.scrollTo(change.getLesson());
+            break;
+        case LESSON_CHANGED:
+        case LESSON_MOVED:
+            LessonViewModel.invalidate(change.getPreviousLesson());
+            scheduleListView.scrollTo(change.getLesson());
+            break;
+        case LESSON_REMOVED:
+            LessonViewModel.invalidate(change.getLesson());
+            break;
+        case LESSONS_RESET:
+            LessonViewModel.invalidateAll();
+            break;
+        default:
+            break;
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} using a {@code LessonCard}.
+     * The card is reused for every lesson shown in the cell.
      */
     class ScheduleListViewCell extends ListCell<Lesson> {
+        private LessonCard card;
+
+        // Held by the cell, so that the listener lives exactly as long as the cell
+        private final ChangeListener<List<String>> displayedFieldsListener = (observable, oldFields, newFields) -> {
+            if (card != null) {
+                card.setDisplayFields(newFields);
+            }
+        };
+
+        ScheduleListViewCell() {
+            logic.displayedFieldsProperty().addListener(new WeakChangeListener<>(displayedFieldsListener));
+        }
+
         @Override
         protected void updateItem(Lesson lesson, boolean empty) {
             super.updateItem(lesson, empty);
@@ -59,8 +86,12 @@ public class LessonListPanel extends UiPart<Region> {
             if (empty || lesson == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new LessonCard(lesson, getIndex() + 1, logic.displayedFieldsProperty().get());
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new LessonCard(lesson, getIndex() + 1, logic.getDisplayedFieldsList()).getRoot());
+                card.update(lesson, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,82 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.scene.paint.Color;
+import seedu.address.model.lessons.Lesson;
+
+/**
+ * The text shown for a {@code Lesson}, computed once per version of the lesson.
+ * Guarantees: immutable.
+ */
+public class LessonViewModel {
+    private static final int CACHE_CAPACITY = 4096;
+    private static final ViewModelCache<Lesson, LessonViewModel> CACHE = new ViewModelCache<>(CACHE_CAPACITY);
+
+    private final String date;
+    private final String startTime;
+    private final String duration;
+    private final String students;
+    private final String subject;
+    private final Color colour;
+
+    private LessonViewModel(Lesson lesson) {
+        date = lesson.getLessonDateStr();
+        startTime = lesson.getStartTimeStr();
+        duration = lesson.getLessonDuration();
+        students = lesson.getStudentsStr();
+        subject = lesson.getSubjectStr();
+        colour = PersonViewModel.SubjectBadge.parseColour(
+                lesson.getSubject() == null ? null : lesson.getSubject().getColour());
+    }
+
+    /**
+     * Returns the view model of {@code lesson}, reusing the one computed earlier if there is one.
+     * Must be called on the UI thread.
+     */
+    public static LessonViewModel of(Lesson lesson) {
+        requireNonNull(lesson);
+        return CACHE.get(lesson, LessonViewModel::new);
+    }
+
+    /**
+     * Discards the view model computed for {@code lesson}.
+     */
+    public static void invalidate(Lesson lesson) {
+        CACHE.invalidate(lesson);
+    }
+
+    /**
+     * Discards every view model computed so far.
+     */
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getStartTime() {
+        return startTime;
+    }
+
+    public String getDuration() {
+        return duration;
+    }
+
+    public String getStudents() {
+        return students;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Returns the colour of the subject of the lesson.
+     */
+    public Color getColour() {
+        return colour;
+    }
+}
@@ -1,7 +1,13 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,12 +19,11 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.state.State;
@@ -31,6 +36,10 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    // Commands that finish within this delay do not flash the progress indicator
+    private static final Duration PROGRESS_DELAY = Duration.millis(300);
+    private static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled: %s";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -39,9 +48,11 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private LessonListPanel lessonListPanel;
+    private CalendarPanel calendarPanel;
     private StudentDetailListPanel studentDetailListPanel;
     private LessonDetailListPanel lessonDetailListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -63,6 +74,11 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane scheduleListPanelPlaceholder;
 
+    @FXML
+    private VBox calendarList;
+    @FXML
+    private StackPane calendarPanelPlaceholder;
+
     @FXML
     private VBox studentDetailList;
     @FXML
@@ -148,6 +164,9 @@ public class MainWindow extends UiPart<Stage> {
         lessonListPanel = new LessonListPanel(logic);
         scheduleListPanelPlaceholder.getChildren().add(lessonListPanel.getRoot());
 
+        calendarPanel = new CalendarPanel(logic.getFilteredScheduleList(), this::handleShowLesson);
+        calendarPanelPlaceholder.getChildren().add(calendarPanel.getRoot());
+
         studentDetailListPanel = new StudentDetailListPanel(logic);
         studentDetailListPanelPlaceholder.getChildren().add(studentDetailListPanel.getRoot());
 
@@ -157,16 +176,26 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.statisticsSummaryProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, new CommandBox.LiveSearcher() {
+            @Override
+            public CompletableFuture<List<Person>> search(String arguments) {
+                return logic.previewFind(arguments);
+            }
+
+            @Override
+            public void cancel() {
+                logic.cancelPreviewFind();
+            }
+        }, personListPanel::showPreview, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         studentDetailList.setVisible(false);
         lessonDetailList.setVisible(false);
 
-        contentSplitPane.getItems().removeAll(personList, studentDetailList);
+        contentSplitPane.getItems().removeAll(personList, calendarList, studentDetailList);
     }
 
     /**
@@ -214,49 +243,73 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command off the UI thread and returns its pending result.
+     * The outcome is shown once the command completes.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> pendingResult = logic.executeAsync(commandText);
+
+        PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
+        progressDelay.setOnFinished(event -> statusBarFooter.showProgress(commandText));
+        progressDelay.play();
+
+        pendingResult.whenCompleteAsync((commandResult, error) -> {
+            progressDelay.stop();
+            statusBarFooter.hideProgress();
+            if (error == null) {
+                handleCommandResult(commandResult);
+            } else {
+                handleCommandError(commandText, error);
             }
+        }, Platform::runLater);
+        return pendingResult;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (!commandResult.getState().equals(State.NONE)) {
-                State state = commandResult.getState();
-                double[] dividerPositions = contentSplitPane.getDividerPositions();
-                switch (state) {
-                case SCHEDULE:
-                    contentSplitPane.getItems().removeAll(personList, studentDetailList);
-                    contentSplitPane.getItems().addAll(scheduleList, lessonDetailList);
-                    break;
-                case STUDENT:
-                    contentSplitPane.getItems().removeAll(scheduleList, lessonDetailList);
-                    contentSplitPane.getItems().addAll(personList, studentDetailList);
-                    break;
-                default:
-                    System.out.println("unknown panel asked for");
-                    break;
-                }
-                contentSplitPane.setDividerPositions(dividerPositions);
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        if (!commandResult.getState().equals(State.NONE)) {
+            State state = commandResult.getState();
+            double[] dividerPositions = contentSplitPane.getDividerPositions();
+            switch (state) {
+            case SCHEDULE:
+                contentSplitPane.getItems().setAll(scheduleList, lessonDetailList);
+                break;
+            case STUDENT:
+                contentSplitPane.getItems().setAll(personList, studentDetailList);
+                break;
+            case CALENDAR:
+                calendarPanel.show(commandResult.getCalendarView());
+                contentSplitPane.getItems().setAll(calendarList, lessonDetailList);
+                break;
+            default:
+                System.out.println("unknown panel asked for");
+                break;
             }
+            contentSplitPane.setDividerPositions(dividerPositions);
+        }
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    private void handleCommandError(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            logger.info("Command cancelled: " + commandText);
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_COMMAND_CANCELLED, commandText));
+            return;
         }
+        logger.info("An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(cause.getMessage());
     }
 
     /**
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -23,7 +25,10 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private final int staticFieldCount;
+    private Person person;
+    private PersonViewModel viewModel;
+    private List<String> displayFields;
     @FXML
     private VBox fields;
 
@@ -39,13 +44,64 @@ public class PersonCard extends UiPart<Region> {
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
-    public PersonCard(Person person, int displayedIndex, String[] displayFields) {
+    public PersonCard(Person person, int displayedIndex, List<String> displayFields) {
         super(FXML);
+        this.staticFieldCount = fields.getChildren().size();
         this.person = person;
+        this.viewModel = PersonViewModel.of(person);
+        this.displayFields = displayFields;
         id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
+        name.setText(viewModel.getName());
+        buildFields();
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, rebuilding the displayed fields only
+     * if any of them differ from those of the person shown before.
+     */
+    public void update(Person person, int displayedIndex) {
+        id.setText(displayedIndex + ". ");
+        if (person == this.person) {
+            return;
+        }
+        PersonViewModel previousViewModel = viewModel;
+        this.person = person;
+        this.viewModel = PersonViewModel.of(person);
+        if (!viewModel.getName().equals(previousViewModel.getName())) {
+            name.setText(viewModel.getName());
+        }
+        for (String field : displayFields) {
+            if (!viewModel.hasSameField(previousViewModel, field)) {
+                rebuildFields();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Shows the fields named in {@code displayFields} of the person on this card.
+     */
+    public void setDisplayFields(List<String> displayFields) {
+        if (displayFields.equals(this.displayFields)) {
+            return;
+        }
+        this.displayFields = displayFields;
+        rebuildFields();
+    }
+
+    private void rebuildFields() {
+        fields.getChildren().remove(staticFieldCount, fields.getChildren().size());
+        tags.getChildren().clear();
+        buildFields();
+    }
+
+    private void buildFields() {
         for (String field : displayFields) {
-            PersonCardFieldBuilder.build(field, person, fields, tags);
+            PersonCardFieldBuilder.build(field, viewModel, fields, tags);
         }
     }
 }
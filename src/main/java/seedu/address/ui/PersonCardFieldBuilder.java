@@ -1,11 +1,8 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
-import seedu.address.model.person.Person;
 
 
 /**
@@ -15,11 +12,11 @@ public class PersonCardFieldBuilder {
     /**
      * Build a field of a person card
      * @param fieldName the name of the field
-     * @param person the person
+     * @param person the view model of the person
      * @param fields the fields
      * @param tags the tags
      */
-    public static void build(String fieldName, Person person, VBox fields, FlowPane tags) {
+    public static void build(String fieldName, PersonViewModel person, VBox fields, FlowPane tags) {
         switch (fieldName) {
         case "phone":
             buildPhone(person, fields, tags);
@@ -45,43 +42,39 @@ public class PersonCardFieldBuilder {
         }
     }
 
-    static void buildPhone(Person person, VBox fields, FlowPane tags) {
-        Label phone = new Label(person.getPhone().value);
+    static void buildPhone(PersonViewModel person, VBox fields, FlowPane tags) {
+        Label phone = new Label(person.getPhone());
         phone.getStyleClass().add("cell_small_label");
         fields.getChildren().add(phone);
     }
 
-    static void buildAddress(Person person, VBox fields, FlowPane tags) {
-        Label address = new Label(person.getAddress().value);
+    static void buildAddress(PersonViewModel person, VBox fields, FlowPane tags) {
+        Label address = new Label(person.getAddress());
         address.getStyleClass().add("cell_small_label");
         fields.getChildren().add(address);
     }
 
-    static void buildEmail(Person person, VBox fields, FlowPane tags) {
-        Label email = new Label(person.getEmail().value);
+    static void buildEmail(PersonViewModel person, VBox fields, FlowPane tags) {
+        Label email = new Label(person.getEmail());
         email.getStyleClass().add("cell_small_label");
         fields.getChildren().add(email);
     }
 
-    static void buildTags(Person person, VBox fields, FlowPane tags) {
+    static void buildTags(PersonViewModel person, VBox fields, FlowPane tags) {
         //why creating a new pane tags and push to fields does not work?
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        person.getTags().forEach(tag -> tags.getChildren().add(new Label(tag)));
     }
 
-    static void buildSubjects(Person person, VBox fields, FlowPane tags) {
+    static void buildSubjects(PersonViewModel person, VBox fields, FlowPane tags) {
         FlowPane subjects = new FlowPane();
-        person.getSubjects().stream()
-                .sorted(Comparator.comparing(subject -> subject.subjectName))
-                .forEach(subject -> subjects.getChildren()
-                        .add(new ColoredTextEntry(subject.subjectName.toString(), subject.getColour())));
+        person.getSubjects().forEach(subject -> subjects.getChildren()
+                .add(new ColoredTextEntry(subject.getText(), subject.getColour())));
         subjects.setHgap(10);
         fields.getChildren().add(subjects);
     }
 
-    static void buildRemark(Person person, VBox fields, FlowPane tags) {
-        String remarkValue = person.getRemark().value;
+    static void buildRemark(PersonViewModel person, VBox fields, FlowPane tags) {
+        String remarkValue = person.getRemark();
         if (!remarkValue.equals("")) {
             Label remark = new Label(remarkValue);
             remark.getStyleClass().add("cell_small_label");
@@ -1,16 +1,20 @@
 package seedu.address.ui;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
-import javafx.beans.property.BooleanProperty;
 import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.model.ModelChange;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,7 +25,6 @@ public class PersonListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     private Logic logic;
-    private BooleanProperty reRenderUi;
 
     @FXML
     private ListView<Person> personListView;
@@ -32,27 +35,69 @@ public class PersonListPanel extends UiPart<Region> {
     public PersonListPanel(Logic logic) {
         super(FXML);
         this.logic = logic;
-        this.reRenderUi = logic.getRefreshListUi(); // Connect to the logic manager's boolean flag
         personListView.setItems(logic.getFilteredPersonList());
         personListView.setCellFactory(listView -> new PersonListViewCell());
-        // Listens for a change in reRenderUi value and updates UI, the actual value is irrelevant
-        reRenderUi.addListener(new ChangeListener<Boolean>() {
-            @Override
-            public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
-                refreshUI();
-            }
-        });
+        logic.addModelChangeListener(this::handleModelChange);
+    }
 
+    /**
+     * Shows those of {@code matches} that are displayed in place of the displayed persons, in the displayed order,
+     * or the displayed persons again if it is null.
+     */
+    public void showPreview(List<Person> matches) {
+        if (matches == null) {
+            personListView.setItems(logic.getFilteredPersonList());
+            return;
+        }
+        Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchSet.addAll(matches);
+        // Filtered from the displayed persons, so that the preview keeps their filter and sort order
+        personListView.setItems(logic.getFilteredPersonList().filtered(matchSet::contains));
     }
-    private void refreshUI() {
-        personListView.setItems(logic.getFilteredPersonList());
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+
+    /**
+     * Discards the view models of the persons that are no longer shown, and brings the person affected
+     * by {@code change} into view. The cells showing the person are updated by the list itself,
+     * so the other cells are left as they are.
+     */
+    private void handleModelChange(ModelChange change) {
+        switch (change.getKind()) {
+        case PERSON_ADDED:
+            personListView.scrollTo(change.getPerson());
+            break;
+        case PERSON_CHANGED:
+            PersonViewModel.invalidate(change.getPreviousPerson());
+            personListView.scrollTo(change.getPerson());
+            break;
+        case PERSON_REMOVED:
+            PersonViewModel.invalidate(change.getPerson());
+            break;
+        case PERSONS_RESET:
+            PersonViewModel.invalidateAll();
+            break;
+        default:
+            break;
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The card is reused for every person shown in the cell.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
+        // Held by the cell, so that the listener lives exactly as long as the cell
+        private final ChangeListener<List<String>> displayedFieldsListener = (observable, oldFields, newFields) -> {
+            if (card != null) {
+                card.setDisplayFields(newFields);
+            }
+        };
+
+        PersonListViewCell() {
+            logic.displayedFieldsProperty().addListener(new WeakChangeListener<>(displayedFieldsListener));
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -60,8 +105,12 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new PersonCard(person, getIndex() + 1, logic.displayedFieldsProperty().get());
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, logic.getDisplayedFieldsList()).getRoot());
+                card.update(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,183 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javafx.scene.paint.Color;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+
+/**
+ * The text and colours shown for a {@code Person}, computed once per version of the person.
+ * Guarantees: immutable.
+ */
+public class PersonViewModel {
+    private static final int CACHE_CAPACITY = 4096;
+    private static final ViewModelCache<Person, PersonViewModel> CACHE = new ViewModelCache<>(CACHE_CAPACITY);
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String remark;
+    private final List<SubjectBadge> subjects;
+    private final List<String> tags;
+
+    private PersonViewModel(Person person) {
+        name = person.getName().fullName;
+        phone = person.getPhone().value;
+        email = person.getEmail().value;
+        address = person.getAddress().value;
+        remark = person.getRemark().value;
+        subjects = person.getSubjects().stream()
+                .sorted(Comparator.comparing(subject -> subject.subjectName))
+                .map(SubjectBadge::new)
+                .collect(Collectors.toUnmodifiableList());
+        tags = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the view model of {@code person}, reusing the one computed earlier if there is one.
+     * Must be called on the UI thread.
+     */
+    public static PersonViewModel of(Person person) {
+        requireNonNull(person);
+        return CACHE.get(person, PersonViewModel::new);
+    }
+
+    /**
+     * Discards the view model computed for {@code person}.
+     */
+    public static void invalidate(Person person) {
+        CACHE.invalidate(person);
+    }
+
+    /**
+     * Discards every view model computed so far.
+     */
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    /**
+     * Returns the subjects of the person, sorted by subject.
+     */
+    public List<SubjectBadge> getSubjects() {
+        return subjects;
+    }
+
+    /**
+     * Returns the tag names of the person, sorted alphabetically.
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns true if the field named {@code fieldName} is shown the same way for this person and {@code other}.
+     * Unknown fields are never shown, so they are always the same.
+     */
+    public boolean hasSameField(PersonViewModel other, String fieldName) {
+        switch (fieldName) {
+        case "phone":
+            return phone.equals(other.phone);
+        case "address":
+            return address.equals(other.address);
+        case "email":
+            return email.equals(other.email);
+        case "tags":
+            return tags.equals(other.tags);
+        case "subjects":
+            return subjects.equals(other.subjects);
+        case "remark":
+            return remark.equals(other.remark);
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * A subject as shown on a coloured badge.
+     */
+    public static class SubjectBadge {
+        private static final Color FALLBACK_COLOUR = Color.GRAY;
+
+        private final String text;
+        private final Color colour;
+
+        SubjectBadge(Subject subject) {
+            text = subject.subjectName.toString();
+            colour = parseColour(subject.getColour());
+        }
+
+        /**
+         * Returns the colour named {@code colour}, or a neutral colour if there is no such colour.
+         */
+        static Color parseColour(String colour) {
+            if (colour == null) {
+                return FALLBACK_COLOUR;
+            }
+            try {
+                return Color.web(colour);
+            } catch (IllegalArgumentException e) {
+                // subjects without a colour of their own, such as NONE
+                return FALLBACK_COLOUR;
+            }
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Color getColour() {
+            return colour;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SubjectBadge)) {
+                return false;
+            }
+
+            SubjectBadge otherBadge = (SubjectBadge) other;
+            return text.equals(otherBadge.text) && colour.equals(otherBadge.colour);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, colour);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * An index of rectangles drawn on a surface, answering which rectangle lies under a point.
+ * The surface is split into square cells, and each rectangle is listed in the cells it covers, so a lookup
+ * only checks the few rectangles near the point.
+ * Items are compared by identity.
+ */
+class SpatialGridIndex<T> {
+
+    private final double cellSize;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+    /**
+     * Creates an index splitting the surface into cells of {@code cellSize} by {@code cellSize}.
+     */
+    SpatialGridIndex(double cellSize) {
+        checkArgument(cellSize > 0, "Cell size must be positive");
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adds {@code item}, drawn over the given rectangle, replacing any earlier rectangle of the item.
+     * Items added later are drawn above items added earlier.
+     */
+    void add(T item, double x, double y, double width, double height) {
+        requireNonNull(item);
+        remove(item);
+        Entry<T> entry = new Entry<>(item, x, y, width, height);
+        entries.put(item, entry);
+        forEachCell(entry, cell -> cells.computeIfAbsent(cell, unused -> new ArrayList<>()).add(entry));
+    }
+
+    /**
+     * Removes {@code item} if it is in the index.
+     */
+    void remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) {
+            return;
+        }
+        forEachCell(entry, cell -> {
+            List<Entry<T>> cellEntries = cells.get(cell);
+            cellEntries.remove(entry);
+            if (cellEntries.isEmpty()) {
+                cells.remove(cell);
+            }
+        });
+    }
+
+    /**
+     * Returns the topmost item drawn over the point ({@code x}, {@code y}), or null if there is none.
+     */
+    T find(double x, double y) {
+        List<Entry<T>> cellEntries = cells.get(cellKey(cellOf(x), cellOf(y)));
+        if (cellEntries == null) {
+            return null;
+        }
+        for (int i = cellEntries.size() - 1; i >= 0; i--) {
+            Entry<T> entry = cellEntries.get(i);
+            if (entry.contains(x, y)) {
+                return entry.item;
+            }
+        }
+        return null;
+    }
+
+    void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void forEachCell(Entry<T> entry, LongConsumer action) {
+        int firstColumn = cellOf(entry.x);
+        int lastColumn = cellOf(entry.x + entry.width);
+        int firstRow = cellOf(entry.y);
+        int lastRow = cellOf(entry.y + entry.height);
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            for (int row = firstRow; row <= lastRow; row++) {
+                action.accept(cellKey(column, row));
+            }
+        }
+    }
+
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * An item and the rectangle it is drawn over.
+     */
+    private static class Entry<T> {
+        private final T item;
+        private final double x;
+        private final double y;
+        private final double width;
+        private final double height;
+
+        Entry(T item, double x, double y, double width, double height) {
+            this.item = item;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean contains(double pointX, double pointY) {
+            return pointX >= x && pointX < x + width && pointY >= y && pointY < y + height;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 
 /**
@@ -17,12 +19,41 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label statisticsStatus;
+
+    @FXML
+    private Label commandStatus;
+
+    @FXML
+    private ProgressBar commandProgress;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing {@code statisticsSummary}
+     * as it changes.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<String> statisticsSummary) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        statisticsStatus.textProperty().bind(statisticsSummary);
+        hideProgress();
+    }
+
+    /**
+     * Shows that {@code commandText} is still running.
+     */
+    public void showProgress(String commandText) {
+        commandStatus.setText("Running: " + commandText + " (Esc to cancel)");
+        commandStatus.setVisible(true);
+        commandProgress.setVisible(true);
+    }
+
+    /**
+     * Hides the progress of the running command.
+     */
+    public void hideProgress() {
+        commandStatus.setVisible(false);
+        commandProgress.setVisible(false);
     }
 
 }
@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -57,23 +56,20 @@ public class StudentDetailListPanel extends UiPart<Region> {
      * @param person The person whose details are to be shown.
      */
     public void setPersonDetails(Person person) {
-        name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
-        address.setText(person.getAddress().value);
-        email.setText(person.getEmail().value);
-        remark.setText(person.getRemark().value);
+        PersonViewModel viewModel = PersonViewModel.of(person);
+        name.setText(viewModel.getName());
+        phone.setText(viewModel.getPhone());
+        address.setText(viewModel.getAddress());
+        email.setText(viewModel.getEmail());
+        remark.setText(viewModel.getRemark());
 
         // Clears the previous items in the FlowPane for Tags and Subjects
         tags.getChildren().clear();
         subjects.getChildren().clear();
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getSubjects().stream()
-                .sorted(Comparator.comparing(subject -> subject.subjectName))
-                .forEach(subject -> subjects.getChildren()
-                        .add(new ColoredTextEntry(subject.subjectName.toString(), subject.getColour())));
+        viewModel.getTags().forEach(tag -> tags.getChildren().add(new Label(tag)));
+        viewModel.getSubjects().forEach(subject -> subjects.getChildren()
+                .add(new ColoredTextEntry(subject.getText(), subject.getColour())));
         subjects.setHgap(10);
     }
 
@@ -38,6 +38,9 @@ public class UiManager implements Ui {
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
 
+        // Commands run off the UI thread, so changes to the displayed lists must be published on it
+        logic.setUiExecutor(Platform::runLater);
+
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
@@ -94,7 +97,7 @@ public class UiManager implements Ui {
      * @param person The specified person to show the details of.
      */
     public void showPersonDetails(Person person) {
-        mainWindow.handleShowPerson(person);
+        Platform.runLater(() -> mainWindow.handleShowPerson(person));
     }
 
     /**
@@ -103,7 +106,7 @@ public class UiManager implements Ui {
      * @param lesson The specified lesson to show the details of.
      */
     public void showLessonDetails(Lesson lesson) {
-        mainWindow.handleShowLesson(lesson); //TODO
+        Platform.runLater(() -> mainWindow.handleShowLesson(lesson));
     }
 
 }
@@ -0,0 +1,108 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the view models of entities, evicting the least recently used view model when full.
+ * Entities are looked up by identity, as an edited entity is always a new object, in an identity map that
+ * needs no key objects, and the entries are kept in order of use in a list running through them, so that
+ * looking up a cached view model allocates nothing.
+ * Not thread-safe: the cache is meant to be used on the UI thread only.
+ */
+class ViewModelCache<E, V> {
+
+    private final int capacity;
+    private final Map<Object, Entry<V>> entries = new IdentityHashMap<>();
+    // The entries from the least to the most recently used, between the ends of a circular list
+    private final Entry<V> ends = new Entry<>(null, null);
+
+    /**
+     * Creates a cache holding at most {@code capacity} view models.
+     */
+    ViewModelCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+        ends.previous = ends;
+        ends.next = ends;
+    }
+
+    /**
+     * Returns the view model of {@code entity}, creating it with {@code factory} if it is not cached.
+     */
+    V get(E entity, Function<? super E, ? extends V> factory) {
+        requireAllNonNull(entity, factory);
+        Entry<V> entry = entries.get(entity);
+        if (entry != null) {
+            entry.unlink();
+            entry.linkBefore(ends);
+            return entry.viewModel;
+        }
+        entry = new Entry<>(entity, factory.apply(entity));
+        entries.put(entity, entry);
+        entry.linkBefore(ends);
+        if (entries.size() > capacity) {
+            Entry<V> eldest = ends.next;
+            eldest.unlink();
+            entries.remove(eldest.entity);
+        }
+        return entry.viewModel;
+    }
+
+    /**
+     * Discards the view model of {@code entity}, which has changed or left the model.
+     */
+    void invalidate(E entity) {
+        if (entity == null) {
+            return;
+        }
+        Entry<V> entry = entries.remove(entity);
+        if (entry != null) {
+            entry.unlink();
+        }
+    }
+
+    /**
+     * Discards every cached view model.
+     */
+    void clear() {
+        entries.clear();
+        ends.previous = ends;
+        ends.next = ends;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * The view model of an entity, linked to the entries used just before and after it.
+     */
+    private static class Entry<V> {
+        private final Object entity;
+        private final V viewModel;
+        private Entry<V> previous;
+        private Entry<V> next;
+
+        Entry(Object entity, V viewModel) {
+            this.entity = entity;
+            this.viewModel = viewModel;
+        }
+
+        void linkBefore(Entry<V> successor) {
+            previous = successor.previous;
+            next = successor;
+            previous.next = this;
+            successor.previous = this;
+        }
+
+        void unlink() {
+            previous.next = next;
+            next.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ListChangeLogTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+    private final ListChangeLog<String> log = new ListChangeLog<>();
+
+    @Test
+    public void record_changes_loggedInOrder() {
+        list.addListener((ListChangeListener<String>) change -> log.record(change, 10));
+        assertTrue(log.isEmpty());
+
+        list.add("d");
+        list.set(0, "e");
+        list.remove(1);
+
+        List<ListChangeLog.Entry<String>> entries = log.getEntries();
+        assertEquals(3, entries.size());
+        assertEquals(3, entries.get(0).getFrom());
+        assertEquals(List.of(), entries.get(0).getRemoved());
+        assertEquals(List.of("d"), entries.get(0).getAdded());
+        assertEquals(List.of("a"), entries.get(1).getRemoved());
+        assertEquals(List.of("e"), entries.get(1).getAdded());
+        assertEquals(1, entries.get(2).getFrom());
+        assertEquals(List.of("b"), entries.get(2).getRemoved());
+        assertFalse(log.isOverflowed());
+
+        log.clear();
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    public void record_moreChangesThanLimit_overflows() {
+        list.addListener((ListChangeListener<String>) change -> log.record(change, 3));
+        list.add("d");
+        list.add("e");
+        assertFalse(log.isOverflowed());
+
+        list.setAll("f", "g");
+        assertTrue(log.isOverflowed());
+        assertTrue(log.getEntries().isEmpty());
+        assertFalse(log.isEmpty());
+
+        list.add("h");
+        assertTrue(log.getEntries().isEmpty());
+        log.clear();
+        assertFalse(log.isOverflowed());
+    }
+
+    @Test
+    public void record_permutation_notLoggedAsEntry() {
+        list.addListener((ListChangeListener<String>) change -> log.record(change, 10));
+        FXCollections.sort(list, (first, second) -> second.compareTo(first));
+
+        assertTrue(log.wasPermutatedOrUpdated());
+        assertTrue(log.getEntries().isEmpty());
+        assertFalse(log.isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void changes_randomOperations_sameAsArrayList() {
+        Random random = new Random(45);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.plus(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, i);
+                expected.set(index, i);
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected, new ArrayList<>(list));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void changes_leaveEarlierVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        PersistentList<String> changed = original.plus(1, "x").minus(0).with(2, "y");
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("x", "b", "y"), changed);
+        assertSame(original, PersistentList.copyOf(original));
+        assertThrows(IndexOutOfBoundsException.class, () -> original.get(3));
+        assertThrows(IllegalArgumentException.class, () -> original.plus(0, null));
+        assertThrows(UnsupportedOperationException.class, () -> original.add("d"));
+    }
+
+    @Test
+    public void builder_snapshot_unchangedByLaterChanges() {
+        PersistentList.Builder<Integer> builder = new PersistentList.Builder<>();
+        builder.addAll(List.of(3, 1, 2));
+        PersistentList<Integer> snapshot = builder.snapshot();
+        builder.sort(null);
+        builder.add(0, 0);
+        builder.remove(Integer.valueOf(3));
+        assertEquals(List.of(0, 1, 2), builder);
+        assertEquals(List.of(3, 1, 2), snapshot);
+        builder.clear();
+        assertTrue(builder.isEmpty());
+    }
+
+    @Test
+    public void plus_manyAppends_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.plus(list.size(), i);
+        }
+        // A tree as deep as the list is long would overflow the stack when removing its first element
+        for (int i = 0; i < 1000; i++) {
+            list = list.minus(0);
+        }
+        assertEquals(1000, list.get(0));
+        assertEquals(99_000, list.size());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompletionRegistryTest {
+
+    private final CompletionRegistry registry = new CompletionRegistry(getTypicalPersons());
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(List.of("add ", "addLesson "), registry.complete("ad"));
+        registry.recordUsage("addLesson -name Alice Pauline -start 14:00 -end 15:00");
+        assertEquals(List.of("addLesson ", "add "), registry.complete("ad"));
+    }
+
+    @Test
+    public void complete_flag() {
+        assertEquals(List.of("find -subject "), registry.complete("find -su"));
+        assertEquals(List.of("edit -where "), registry.complete("edit -wh"));
+        assertEquals(List.of("add -name Amy -set ", "add -name Amy -start ", "add -name Amy -subject "),
+                registry.complete("add -name Amy -s"));
+    }
+
+    @Test
+    public void complete_values() {
+        assertEquals(List.of("find -name Benson Meier "), registry.complete("find -name ben"));
+        assertEquals(List.of("find -name Benson Meier "), registry.complete("find -name Benson M"));
+        assertEquals(List.of("edit 1 -tag friends,owesMoney "), registry.complete("edit 1 -tag friends,ow"));
+        assertEquals(List.of("find -subject physics "), registry.complete("find -subject ph"));
+        // find keywords and other unknown flags have no values to complete
+        assertEquals(List.of(), registry.complete("find -phone 9"));
+        assertEquals(List.of(), registry.complete("list SCH"));
+    }
+
+    @Test
+    public void update_personChanges() {
+        Person renamed = new PersonBuilder(BENSON).withName("Bernard Tan").withTags("tuition").build();
+        registry.update(ModelChange.personChanged(BENSON, renamed, 1));
+        assertEquals(List.of("find -name Bernard Tan "), registry.complete("find -name Be"));
+        assertEquals(List.of("find -tag tuition "), registry.complete("find -tag tu"));
+        // ALICE and others still have the friends tag
+        assertEquals(List.of("find -tag friends "), registry.complete("find -tag fr"));
+        assertEquals(List.of(), registry.complete("find -tag owes"));
+
+        registry.update(ModelChange.personRemoved(ALICE, 0));
+        assertEquals(List.of(), registry.complete("find -name Ali"));
+        registry.update(ModelChange.personAdded(ALICE, 0));
+        assertEquals(List.of("find -name Alice Pauline "), registry.complete("find -name Ali"));
+
+        registry.resetPersons(List.of());
+        assertEquals(List.of(), registry.complete("find -name Ali"));
+    }
+}
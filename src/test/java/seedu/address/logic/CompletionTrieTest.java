@@ -0,0 +1,75 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionTrieTest {
+
+    private final CompletionTrie trie = new CompletionTrie(3);
+
+    @Test
+    public void complete_matchingWords_alphabeticalIgnoringCase() {
+        trie.add("list");
+        trie.add("Lesson");
+        trie.add("delete");
+        assertEquals(List.of("Lesson", "list"), trie.complete("L"));
+        assertEquals(List.of("delete", "Lesson", "list"), trie.complete(""));
+        assertEquals(List.of(), trie.complete("x"));
+    }
+
+    @Test
+    public void complete_moreMatchesThanLimit_returnsMostUsed() {
+        trie.add("add");
+        trie.add("addLesson");
+        trie.add("address");
+        trie.add("admin");
+        assertEquals(List.of("add", "addLesson", "address"), trie.complete("ad"));
+
+        trie.recordUse("admin");
+        trie.recordUse("admin");
+        trie.recordUse("address");
+        assertEquals(List.of("admin", "address", "add"), trie.complete("ad"));
+        assertEquals(List.of("address", "add", "addLesson"), trie.complete("add"));
+    }
+
+    @Test
+    public void remove_lastOccurrence_promotesNextBest() {
+        trie.add("friends");
+        trie.add("friends");
+        trie.add("family");
+        trie.add("father");
+        trie.add("fast");
+        assertEquals(List.of("family", "fast", "father"), trie.complete("f"));
+
+        trie.remove("family");
+        assertEquals(List.of("fast", "father", "friends"), trie.complete("f"));
+        trie.remove("friends");
+        assertTrue(trie.contains("friends"));
+        trie.remove("friends");
+        assertFalse(trie.contains("friends"));
+        assertEquals(List.of("fast", "father"), trie.complete("f"));
+    }
+
+    @Test
+    public void recordUse_survivesRemovalAndClear() {
+        trie.add("alex");
+        trie.add("amy");
+        trie.recordUse("amy");
+        trie.remove("amy");
+        trie.add("amy");
+        assertEquals(List.of("amy", "alex"), trie.complete("a"));
+
+        trie.clear();
+        assertEquals(List.of(), trie.complete("a"));
+        trie.recordUse("alex");
+        trie.recordUse("alex");
+        trie.add("amy");
+        trie.add("alex");
+        assertEquals(List.of("alex", "amy"), trie.complete("a"));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class ListMirrorTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("d", "b", "a");
+
+    @Test
+    public void constructor_copiesSource() {
+        ListMirror<String> mirror = new ListMirror<>(source, Runnable::run);
+        assertEquals(source, mirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_inlineDispatcher_tracksSource() {
+        ObservableList<String> mirror = new ListMirror<>(source, Runnable::run).asUnmodifiableObservableList();
+
+        source.add("c");
+        assertEquals(source, mirror);
+        source.add(1, "e");
+        assertEquals(source, mirror);
+        source.set(0, "f");
+        assertEquals(source, mirror);
+        source.remove("b");
+        assertEquals(source, mirror);
+        FXCollections.sort(source, Comparator.naturalOrder());
+        assertEquals(source, mirror);
+        source.setAll("x", "y");
+        assertEquals(source, mirror);
+        source.clear();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void sourceChanged_filteredSource_tracksSource() {
+        FilteredList<String> filtered = new FilteredList<>(source);
+        ObservableList<String> mirror = new ListMirror<>(filtered, Runnable::run).asUnmodifiableObservableList();
+
+        filtered.setPredicate(s -> !s.equals("b"));
+        assertEquals(filtered, mirror);
+        source.addAll("b", "c");
+        assertEquals(filtered, mirror);
+        filtered.setPredicate(null);
+        assertEquals(filtered, mirror);
+    }
+
+    @Test
+    public void sourceChanged_deferredDispatcher_appliedOnlyWhenDispatched() {
+        List<Runnable> queue = new ArrayList<>();
+        ObservableList<String> mirror = new ListMirror<>(source, queue::add).asUnmodifiableObservableList();
+
+        source.add("c");
+        source.remove("d");
+        assertEquals(List.of("d", "b", "a"), mirror);
+
+        queue.forEach(Runnable::run);
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = new ListMirror<>(source, Runnable::run).asUnmodifiableObservableList();
+        assertThrows(UnsupportedOperationException.class, () -> mirror.remove(0));
+        assertTrue(source.contains("d"));
+    }
+
+    @Test
+    public void endBatch_changesInBatch_replayedAsOneChange() {
+        List<Runnable> dispatched = new ArrayList<>();
+        ListMirror<String> listMirror = new ListMirror<>(source, dispatched::add);
+        ObservableList<String> mirror = listMirror.asUnmodifiableObservableList();
+        List<Integer> changeCounts = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> changeCounts.add(1));
+
+        listMirror.beginBatch();
+        source.add("c");
+        source.remove("d");
+        source.set(0, "e");
+        assertTrue(dispatched.isEmpty());
+        listMirror.endBatch();
+
+        dispatched.forEach(Runnable::run);
+        assertEquals(source, mirror);
+        assertEquals(1, dispatched.size());
+        assertEquals(List.of(1), changeCounts);
+        assertThrows(IllegalArgumentException.class, listMirror::endBatch);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
+
+public class LiveSearchTest {
+
+    private ModelSnapshot snapshot = new ModelSnapshot(1, getTypicalPersons(), List.of());
+    private final List<Runnable> queuedSearches = new ArrayList<>();
+    private final LiveSearch liveSearch = new LiveSearch(() -> snapshot, queuedSearches::add);
+
+    private List<Person> searchNow(PersonQuery query) throws Exception {
+        CompletableFuture<List<Person>> matches = liveSearch.search(query);
+        runQueuedSearches();
+        return matches.get();
+    }
+
+    private void runQueuedSearches() {
+        List<Runnable> searches = new ArrayList<>(queuedSearches);
+        queuedSearches.clear();
+        searches.forEach(Runnable::run);
+    }
+
+    @Test
+    public void search_refinedQuery_testsPreviousMatchesOnly() throws Exception {
+        int personCount = getTypicalPersons().size();
+        assertEquals(List.of(BENSON, DANIEL, ELLE), searchNow(PersonQuery.of(PersonFilter.nameContains("me"))));
+        assertEquals(personCount, liveSearch.getLastTestedCount());
+
+        assertEquals(List.of(BENSON, DANIEL), searchNow(PersonQuery.of(PersonFilter.nameContains("mei"))));
+        assertEquals(3, liveSearch.getLastTestedCount());
+
+        // a broader query tests every person again
+        searchNow(PersonQuery.of(PersonFilter.nameContains("a")));
+        assertEquals(personCount, liveSearch.getLastTestedCount());
+    }
+
+    @Test
+    public void search_modelChanged_testsEveryPerson() throws Exception {
+        searchNow(PersonQuery.of(PersonFilter.nameContains("me")));
+        snapshot = new ModelSnapshot(2, getTypicalPersons(), List.of());
+        searchNow(PersonQuery.of(PersonFilter.nameContains("mei")));
+        assertEquals(getTypicalPersons().size(), liveSearch.getLastTestedCount());
+    }
+
+    @Test
+    public void search_newerSearchStarted_olderSearchCancelled() throws Exception {
+        CompletableFuture<List<Person>> stale = liveSearch.search(PersonQuery.of(PersonFilter.nameContains("me")));
+        CompletableFuture<List<Person>> latest = liveSearch.search(PersonQuery.of(PersonFilter.nameContains("mei")));
+        runQueuedSearches();
+
+        assertTrue(stale.isCancelled());
+        assertEquals(List.of(BENSON, DANIEL), latest.get());
+    }
+
+    @Test
+    public void cancel_pendingSearch_cancelled() {
+        CompletableFuture<List<Person>> pending = liveSearch.search(PersonQuery.of(PersonFilter.nameContains("me")));
+        liveSearch.cancel();
+        runQueuedSearches();
+        assertTrue(pending.isCancelled());
+    }
+}
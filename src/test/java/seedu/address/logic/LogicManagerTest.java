@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -8,7 +10,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,10 +23,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ListCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -48,14 +57,17 @@ public class LogicManagerTest {
 
     @BeforeEach
     public void setUp() {
+        logicManager = new LogicManager(model, createStorage());
+        logic = logicManager;
+    }
+
+    private StorageManager createStorage() {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         JsonScheduleListStorage scheduleListStorage =
                 new JsonScheduleListStorage(temporaryFolder.resolve("scheduleList.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleListStorage);
-        logicManager = new LogicManager(model, storage);
-        logic = logicManager;
+        return new StorageManager(addressBookStorage, userPrefsStorage, scheduleListStorage);
     }
 
     @Test
@@ -88,6 +100,91 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_listenerThrowsOnCommit_throwsListenerException() {
+        model.addModelChangeListener(change -> {
+            throw new IllegalStateException("listener failed");
+        });
+
+        assertThrows(IllegalStateException.class, "listener failed", () -> logic.execute(
+                "add -name Amy Bee -phone 11111111 -email amy@example.com"));
+        assertFalse(model.isInTransaction());
+        // The change was made before the listeners were told of it, so it is kept
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CompletableFuture<CommandResult> pendingResult = logic.executeAsync(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, pendingResult.get().getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> pendingResult = logic.executeAsync("uicfhmowqewca");
+        Throwable error = pendingResult.handle((commandResult, e) -> e).get();
+        assertTrue(error instanceof ParseException);
+    }
+
+    @Test
+    public void executeAsync_cancelledBeforeStart_commandNotExecuted() {
+        List<Runnable> queuedCommands = new ArrayList<>();
+        logic = new LogicManager(model, createStorage(), queuedCommands::add);
+
+        CompletableFuture<CommandResult> pendingResult = logic.executeAsync(
+                "add -name Amy Bee -phone 11111111 -email amy@example.com");
+        assertTrue(pendingResult.cancel(false));
+        queuedCommands.forEach(Runnable::run);
+
+        assertTrue(pendingResult.isCancelled());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_cancelledWhileRunning_cancelRejectedAndCommandCompleted() throws Exception {
+        CountDownLatch commandRunning = new CountDownLatch(1);
+        CountDownLatch commandReleased = new CountDownLatch(1);
+        // Holds the command on the command thread once it has added the person
+        model.addModelChangeListener(change -> {
+            commandRunning.countDown();
+            try {
+                commandReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        CompletableFuture<CommandResult> pendingResult = logic.executeAsync(
+                "add -name Amy Bee -phone 11111111 -email amy@example.com");
+        assertTrue(commandRunning.await(10, TimeUnit.SECONDS));
+        assertFalse(pendingResult.cancel(false));
+        assertFalse(pendingResult.isDone());
+        commandReleased.countDown();
+
+        pendingResult.get(10, TimeUnit.SECONDS);
+        assertFalse(pendingResult.isCancelled());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_cancelledAfterCompletion_cancelRejected() throws Exception {
+        CompletableFuture<CommandResult> pendingResult = logic.executeAsync(ListCommand.COMMAND_WORD);
+        pendingResult.get();
+        assertFalse(pendingResult.cancel(false));
+    }
+
+    @Test
+    public void getFilteredPersonList_deferredUiExecutor_updatedWhenDispatched() throws Exception {
+        List<Runnable> uiTasks = new ArrayList<>();
+        logic.setUiExecutor(uiTasks::add);
+
+        logic.execute("add -name Amy Bee -phone 11111111 -email amy@example.com");
+        assertEquals(0, logic.getFilteredPersonList().size());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -102,6 +199,97 @@ public class LogicManagerTest {
         assertEquals(6, ListCommandParser.DISPLAYABLE_FIELDS.size());
     }
 
+    @Test
+    public void displayedFieldsProperty_fieldsChanged_updatedOnlyOnChange() {
+        List<Runnable> uiTasks = new ArrayList<>();
+        logic.setUiExecutor(uiTasks::add);
+        List<List<String>> publishedFields = new ArrayList<>();
+        logic.displayedFieldsProperty().addListener((observable, oldFields, newFields) ->
+                publishedFields.add(newFields));
+
+        logic.setDisplayedFieldsList(new String[] {"phone", "tags"});
+        logic.setDisplayedFieldsList(new String[] {"phone", "tags"});
+        assertEquals(List.of(), logic.displayedFieldsProperty().get());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(List.of(List.of("phone", "tags")), publishedFields);
+    }
+
+    @Test
+    public void addModelChangeListener_personAdded_deliveredAfterListUpdated() throws Exception {
+        List<ModelChange> changes = new ArrayList<>();
+        logic.addModelChangeListener(change -> {
+            assertTrue(logic.getFilteredPersonList().contains(change.getPerson()));
+            changes.add(change);
+        });
+
+        logic.execute("add -name Amy Bee -phone 11111111 -email amy@example.com");
+        assertEquals(1, changes.size());
+        assertEquals(ModelChange.Kind.PERSON_ADDED, changes.get(0).getKind());
+        assertEquals(0, changes.get(0).getToIndex());
+    }
+
+    @Test
+    public void execute_undoAfterCommands_undoesLatestChange() throws Exception {
+        logic.execute("add -name Amy Bee -phone 11111111 -email amy@example.com");
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("add -name Bob Choo -phone 22222222 -email bob@example.com");
+
+        CommandResult result = logic.execute("undo");
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS,
+                "add -name Bob Choo -phone 22222222 -email bob@example.com"), result.getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        // The list command changed nothing, so the next undo undoes the first add
+        logic.execute("undo");
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertCommandException("undo", UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void previewFind_validArguments_findsWithoutChangingDisplayedList() throws Exception {
+        logic.execute("add -name Amy Bee -phone 11111111 -email amy@example.com");
+        logic.execute("add -name Bob Choo -phone 22222222 -email bob@example.com");
+
+        List<Person> matches = logic.previewFind("-name amy").get();
+        assertEquals(1, matches.size());
+        assertEquals("Amy Bee", matches.get(0).getName().fullName);
+        assertEquals(2, logic.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void previewFind_commandRunning_findsWithoutWaitingForCommand() throws Exception {
+        logic.execute("add -name Amy Bee -phone 11111111 -email amy@example.com");
+        CountDownLatch commandRunning = new CountDownLatch(1);
+        CountDownLatch commandReleased = new CountDownLatch(1);
+        model.addModelChangeListener(change -> {
+            commandRunning.countDown();
+            try {
+                commandReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        CompletableFuture<CommandResult> pendingResult = logic.executeAsync(
+                "add -name Amy Choo -phone 22222222 -email choo@example.com");
+        assertTrue(commandRunning.await(10, TimeUnit.SECONDS));
+        // Found among the persons as of the last command, while the running command is still held
+        List<Person> matches = logic.previewFind("-name amy").get(10, TimeUnit.SECONDS);
+        assertEquals(1, matches.size());
+        assertFalse(pendingResult.isDone());
+
+        commandReleased.countDown();
+        pendingResult.get(10, TimeUnit.SECONDS);
+        assertEquals(2, logic.previewFind("-name amy").get(10, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    public void previewFind_invalidArguments_failsWithParseException() {
+        Throwable error = logic.previewFind("-nam").handle((matches, e) -> e).join();
+        assertTrue(error instanceof ParseException);
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -184,11 +372,12 @@ public class LogicManagerTest {
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = "add -name Amy Bee -phone 11111111 -email amy@example.com "
                 + "-address Block 312, Amy Street 1 -subject Mathematics";
-        Person expectedPerson = new Person(new Name("Amy Bee"));
-        expectedPerson.setPhone(new Phone("11111111"));
-        expectedPerson.setEmail(new Email("amy@example.com"));
-        expectedPerson.setAddress(new Address("Block 312, Amy Street 1"));
-        expectedPerson.setSubjectsIfNotNull(Set.of(new Subject("Mathematics")));
+        Person expectedPerson = new Person.Builder(new Name("Amy Bee"))
+                .withPhone(new Phone("11111111"))
+                .withEmail(new Email("amy@example.com"))
+                .withAddress(new Address("Block 312, Amy Street 1"))
+                .withSubjects(Set.of(new Subject("Mathematics")))
+                .build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
@@ -10,9 +10,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,14 +26,24 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TeachingStatistics;
+import seedu.address.model.billing.Invoice;
+import seedu.address.model.billing.Rates;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
 import seedu.address.model.lessons.TaskList;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryResult;
 import seedu.address.model.state.State;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.ui.Ui;
@@ -190,6 +203,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(QueryResult result) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getScheduleListFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -274,6 +292,161 @@ public class AddCommandTest {
         public Lesson getLessonClashWith(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryResult queryPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLessonRange(LessonRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LessonRange getLessonRange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateSortedPersonList(PersonSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addModelChangeListener(Consumer<ModelChange> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<NameIndex.Match> findPersonsNamedLike(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TeachingStatistics getTeachingStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean verifyTeachingStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Rates getRates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setRates(Rates rates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Invoice getInvoice(LocalDate firstDay, LocalDate lastDay) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Lesson> getLessonsIn(LessonRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasAnyLessonOf(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Lesson getLessonClashWithSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLessonSeries(LessonSeries target, LessonSeries editedSeries) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlySchedule getScheduleListSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteLessons(List<Lesson> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -1,11 +1,14 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,8 +16,11 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
 import seedu.address.model.lessons.TaskList;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
 
 
 class AddLessonCommandTest {
@@ -37,6 +43,7 @@ class AddLessonCommandTest {
         }
         try {
             Model model = new ModelManager();
+            model.addPerson(new PersonBuilder().withName("test").build());
             assertFalse(model.hasLessonClashWith(lesson));
             addLessonCommand.execute(model);
             assertTrue(model.hasLessonClashWith(lesson));
@@ -46,4 +53,80 @@ class AddLessonCommandTest {
         }
     }
 
+    @Test
+    void execute_misspeltName_resolvesToClosestStudent() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        model.addPerson(new PersonBuilder().withName("Alex Yang").build());
+        model.addPerson(new PersonBuilder().withName("Bernice Yu").build());
+
+        LocalDateTime start = LocalDateTime.of(2023, 10, 20, 14, 0);
+        Lesson lesson = new Lesson(start, start.plusHours(1), Subject.getNone(), new TaskList(), new Name("alex yeo"));
+        CommandResult result = new AddLessonCommand(lesson).execute(model);
+
+        Lesson added = model.getScheduleList().getLessonList().get(0);
+        assertEquals(List.of(new Name("Alex Yeoh")), added.getStudents());
+        assertTrue(result.getFeedbackToUser().contains(String.format(AddLessonCommand.MESSAGE_NAME_CORRECTED,
+                "alex yeo", "Alex Yeoh")));
+    }
+
+    @Test
+    void execute_parallelLessonsOfDifferentStudents_allowed() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        model.addPerson(new PersonBuilder().withName("Bernice Yu").build());
+        LocalDateTime start = LocalDateTime.of(2023, 10, 20, 14, 0);
+
+        new AddLessonCommand(new Lesson(start, start.plusHours(2), Subject.getNone(), new TaskList(),
+                new Name("Alex Yeoh"))).execute(model);
+        new AddLessonCommand(new Lesson(start.plusHours(1), start.plusHours(2), Subject.getNone(), new TaskList(),
+                new Name("Bernice Yu"))).execute(model);
+        assertEquals(2, model.getScheduleList().getLessonList().size());
+
+        Lesson group = new Lesson(start.plusHours(1), start.plusHours(3), Subject.getNone(), new TaskList(),
+                new Name("Bernice Yu"), new Name("Alex Yeoh"));
+        assertThrows(CommandException.class, () -> new AddLessonCommand(group).execute(model));
+    }
+
+    @Test
+    void execute_unknownOrAmbiguousName_throwsCommandException() {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        model.addPerson(new PersonBuilder().withName("Alex Yeon").build());
+        LocalDateTime start = LocalDateTime.of(2023, 10, 20, 14, 0);
+
+        Lesson unknown = new Lesson(start, start.plusHours(1), Subject.getNone(), new TaskList(),
+                new Name("Charlotte Oliveiro"));
+        assertThrows(CommandException.class, String.format(AddLessonCommand.MESSAGE_UNKNOWN_STUDENT,
+                "Charlotte Oliveiro"), () -> new AddLessonCommand(unknown).execute(model));
+
+        Lesson ambiguous = new Lesson(start, start.plusHours(1), Subject.getNone(), new TaskList(),
+                new Name("Alex Yeox"));
+        assertThrows(CommandException.class, String.format(AddLessonCommand.MESSAGE_AMBIGUOUS_STUDENT,
+                "Alex Yeox", "Alex Yeoh or Alex Yeon"), () -> new AddLessonCommand(ambiguous).execute(model));
+        assertTrue(model.getScheduleList().getLessonList().isEmpty());
+    }
+
+    @Test
+    void execute_repeatingLesson_addsSeries() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        LocalDateTime start = LocalDateTime.of(2023, 10, 16, 14, 0);
+        Lesson lesson = new Lesson(start, start.plusHours(2), Subject.getNone(), new TaskList(),
+                new Name("Alex Yeoh"));
+
+        CommandResult result = new AddLessonCommand(lesson, 1, LocalDate.of(2023, 12, 31)).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(AddLessonCommand.MESSAGE_SERIES_SUCCESS, 11,
+                LocalDate.of(2023, 12, 31), lesson)));
+        assertTrue(model.getScheduleList().getLessonList().isEmpty());
+        assertEquals(11, model.getLessonsIn(LessonRange.all()).size());
+        assertEquals(11, model.getTeachingStatistics().getLessonCount());
+
+        Lesson clashing = new Lesson(start.plusWeeks(5).plusHours(1), start.plusWeeks(5).plusHours(3),
+                Subject.getNone(), new TaskList(), new Name("Alex Yeoh"));
+        assertThrows(CommandException.class, () -> new AddLessonCommand(clashing).execute(model));
+        assertThrows(CommandException.class, "Lesson already exists in the specified time slot: " + clashing, () ->
+                new AddLessonCommand(clashing, 2, LocalDate.of(2024, 3, 1)).execute(model));
+    }
+
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.state.CalendarView;
+import seedu.address.model.state.State;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CalendarCommand}.
+ */
+public class CalendarCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_monthView_showsCalendar() {
+        // the typical lessons start on 10 Oct, 20 Oct and 20 Nov 2022
+        CalendarView view = CalendarView.monthOf(LocalDate.of(2022, 10, 1));
+        model.setLessonRange(LessonRange.on(LocalDate.of(2022, 11, 20)));
+
+        CommandResult result = new CalendarCommand(view).execute(model);
+        assertEquals(String.format(CalendarCommand.MESSAGE_SUCCESS, 2, "October 2022"), result.getFeedbackToUser());
+        assertEquals(State.CALENDAR, result.getState());
+        assertEquals(view, result.getCalendarView());
+        assertEquals(State.CALENDAR, model.getState());
+        // the calendar can move to any week, so the whole schedule is shown
+        assertEquals(3, model.getFilteredScheduleList().size());
+    }
+
+    @Test
+    public void equals() {
+        CalendarCommand weekCommand = new CalendarCommand(CalendarView.weekOf(LocalDate.of(2023, 10, 9)));
+        assertTrue(weekCommand.equals(weekCommand));
+        assertTrue(weekCommand.equals(new CalendarCommand(CalendarView.weekOf(LocalDate.of(2023, 10, 11)))));
+        assertFalse(weekCommand.equals(new CalendarCommand(CalendarView.monthOf(LocalDate.of(2023, 10, 9)))));
+        assertFalse(weekCommand.equals(null));
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.model.state.State;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ConflictsCommand}.
+ */
+public class ConflictsCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_noConflicts() {
+        assertEquals(ConflictsCommand.MESSAGE_NO_CONFLICTS, new ConflictsCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_overlappingLessons_shownWithDoubleBookings() {
+        Lesson first = model.getScheduleList().getLessonList().get(0);
+        Name student = first.getStudents().get(0);
+        Lesson overlapping = new Lesson(first.getStart().plusMinutes(30), first.getEnd().plusMinutes(30),
+                first.getSubject(), new TaskList(), student);
+        model.addLesson(overlapping);
+        model.setLessonRange(LessonRange.between(first.getEnd().plusDays(1), null));
+        model.setState(State.STUDENT);
+
+        CommandResult result = new ConflictsCommand().execute(model);
+        assertEquals(String.format(ConflictsCommand.MESSAGE_SUCCESS, 1)
+                + String.format(ConflictsCommand.MESSAGE_GROUP, "1, 2")
+                + String.format(ConflictsCommand.MESSAGE_DOUBLE_BOOKING, student, 1, 2), result.getFeedbackToUser());
+        assertEquals(List.of(first, overlapping), model.getFilteredScheduleList());
+        assertEquals(State.SCHEDULE, result.getState());
+    }
+
+    @Test
+    public void execute_occurrenceOfSeriesOverlapping_shownWithIndexes() {
+        Model model = new ModelManager();
+        LocalDateTime start = LocalDateTime.of(2023, 10, 16, 14, 0);
+        Name student = new Name("Alex Yeoh");
+        model.addLessonSeries(new LessonSeries(new Lesson(start, start.plusHours(2), Subject.getNone(),
+                new TaskList(), student), 1, LocalDate.of(2100, 1, 1), Set.of()));
+        // Added around the series, as a data file edited by hand could have it
+        ScheduleList scheduleList = new ScheduleList(model.getScheduleList());
+        Lesson overlapping = new Lesson(start.plusWeeks(3).plusHours(1), start.plusWeeks(3).plusHours(3),
+                Subject.getNone(), new TaskList(), student);
+        scheduleList.setLessons(List.of(overlapping));
+        model.setScheduleList(scheduleList);
+
+        CommandResult result = new ConflictsCommand().execute(model);
+        assertEquals(String.format(ConflictsCommand.MESSAGE_SUCCESS, 1)
+                + String.format(ConflictsCommand.MESSAGE_GROUP, "1, 2")
+                + String.format(ConflictsCommand.MESSAGE_DOUBLE_BOOKING, student, 1, 2), result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredScheduleList().size());
+        assertEquals(overlapping, model.getFilteredScheduleList().get(1));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLessons.LESSON1;
+import static seedu.address.testutil.TypicalLessons.LESSON2;
+import static seedu.address.testutil.TypicalLessons.LESSON3;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code DeleteLessonsCommand}.
+ */
+public class DeleteLessonsCommandTest {
+
+    private static final LocalDate END_OF_OCTOBER = LocalDate.of(2022, 10, 31);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_lessonsUpToDate_deletesThem() {
+        String expectedMessage = String.format(DeleteLessonsCommand.MESSAGE_SUCCESS, 2);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+        expectedModel.deleteLesson(LESSON1);
+        expectedModel.deleteLesson(LESSON2);
+
+        assertCommandSuccess(new DeleteLessonsCommand(null, END_OF_OCTOBER, null, null, false), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_lessonsOfStudentAndSubject_deletesOnlyThose() {
+        String expectedMessage = String.format(DeleteLessonsCommand.MESSAGE_SUCCESS, 1);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+        expectedModel.deleteLesson(LESSON3);
+
+        assertCommandSuccess(new DeleteLessonsCommand(null, null, new Name("Bernice Yu"), new Subject("BIOLOGY"),
+                false), model, expectedMessage, expectedModel);
+        assertCommandSuccess(new DeleteLessonsCommand(null, null, new Name("Bernice Yu"), null, false), model,
+                String.format(DeleteLessonsCommand.MESSAGE_SUCCESS, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_dryRun_countsWithoutDeleting() {
+        String expectedMessage = String.format(DeleteLessonsCommand.MESSAGE_DRY_RUN, 2);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+
+        assertCommandSuccess(new DeleteLessonsCommand(null, END_OF_OCTOBER, null, null, true), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_occurrencesOfSeries_deletesOnlyThoseInRange() {
+        Lesson first = new Lesson(LESSON1.getStart().plusWeeks(1), LESSON1.getEnd().plusWeeks(1),
+                LESSON1.getSubject(), new TaskList(), new Name("Alex Yeoh"));
+        model.addLessonSeries(new LessonSeries(first, 1, LocalDate.of(2022, 12, 31), Set.of()));
+
+        CommandResult result = new DeleteLessonsCommand(LocalDate.of(2022, 11, 1), null, new Name("Alex Yeoh"), null,
+                false).execute(model);
+
+        assertEquals(String.format(DeleteLessonsCommand.MESSAGE_SUCCESS, 8), result.getFeedbackToUser());
+        List<Lesson> lessons = model.getLessonsIn(LessonRange.all());
+        assertEquals(List.of(LESSON1, first, LESSON2, first.withTimes(first.getStart().plusWeeks(1),
+                first.getEnd().plusWeeks(1)), first.withTimes(first.getStart().plusWeeks(2),
+                first.getEnd().plusWeeks(2)), LESSON3), lessons);
+    }
+
+    @Test
+    public void equals() {
+        DeleteLessonsCommand deleteOldLessons = new DeleteLessonsCommand(null, END_OF_OCTOBER, null, null, false);
+
+        assertTrue(deleteOldLessons.equals(deleteOldLessons));
+        assertTrue(deleteOldLessons.equals(new DeleteLessonsCommand(null, END_OF_OCTOBER, null, null, false)));
+        assertFalse(deleteOldLessons.equals(new DeleteLessonsCommand(null, END_OF_OCTOBER, null, null, true)));
+        assertFalse(deleteOldLessons.equals(new DeleteLessonsCommand(END_OF_OCTOBER, null, null, null, false)));
+        assertFalse(deleteOldLessons.equals(null));
+    }
+}
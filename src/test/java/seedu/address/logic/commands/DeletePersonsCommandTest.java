@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code DeletePersonsCommand}.
+ */
+public class DeletePersonsCommandTest {
+
+    private static final PersonQuery FRIENDS = PersonQuery.of(
+            new PersonFilter(PersonFilter.Field.TAG, "friends", false));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_matchingPersons_deletesAllOfThem() {
+        String expectedMessage = String.format(DeletePersonsCommand.MESSAGE_SUCCESS, 3, FRIENDS);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+        expectedModel.deletePerson(DANIEL);
+
+        assertCommandSuccess(new DeletePersonsCommand(FRIENDS, false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_dryRun_countsWithoutDeleting() {
+        String expectedMessage = String.format(DeletePersonsCommand.MESSAGE_DRY_RUN, 3, FRIENDS);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+
+        assertCommandSuccess(new DeletePersonsCommand(FRIENDS, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingPersons_deletesNothing() {
+        PersonQuery query = PersonQuery.of(new PersonFilter(PersonFilter.Field.TAG, "alumni", false));
+        String expectedMessage = String.format(DeletePersonsCommand.MESSAGE_SUCCESS, 0, query);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+
+        assertCommandSuccess(new DeletePersonsCommand(query, false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        DeletePersonsCommand deleteFriends = new DeletePersonsCommand(FRIENDS, false);
+
+        assertTrue(deleteFriends.equals(deleteFriends));
+        assertTrue(deleteFriends.equals(new DeletePersonsCommand(FRIENDS, false)));
+        assertFalse(deleteFriends.equals(new DeletePersonsCommand(FRIENDS, true)));
+        assertFalse(deleteFriends.equals(new DeletePersonsCommand(PersonQuery.of(), false)));
+        assertFalse(deleteFriends.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        DeletePersonsCommand command = new DeletePersonsCommand(FRIENDS, true);
+        assertEquals(DeletePersonsCommand.class.getCanonicalName() + "{query=" + FRIENDS + ", isDryRun=true}",
+                command.toString());
+    }
+}
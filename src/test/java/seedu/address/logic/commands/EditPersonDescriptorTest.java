@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class EditPersonDescriptorTest {
+
+    private static final EditPersonDescriptor NOTHING =
+            new EditPersonDescriptor(null, null, null, null, null, null, null, null);
+    private static final EditPersonDescriptor PHONE =
+            new EditPersonDescriptor(null, new Phone(VALID_PHONE_AMY), null, null, null, null, null, null);
+
+    @Test
+    public void applyTo_noDetails_personUnchanged() {
+        assertEquals(ALICE, NOTHING.applyTo(ALICE.toBuilder()).build());
+    }
+
+    @Test
+    public void applyTo_someDetails_onlyThoseSet() {
+        assertEquals(new PersonBuilder(ALICE).withPhone(VALID_PHONE_AMY).build(),
+                PHONE.applyTo(ALICE.toBuilder()).build());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(PHONE.equals(PHONE));
+        assertTrue(PHONE.equals(
+                new EditPersonDescriptor(null, new Phone(VALID_PHONE_AMY), null, null, null, null, null, null)));
+        assertFalse(PHONE.equals(null));
+        assertFalse(PHONE.equals(NOTHING));
+    }
+}
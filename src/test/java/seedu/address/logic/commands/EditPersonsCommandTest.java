@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code EditPersonsCommand}.
+ */
+public class EditPersonsCommandTest {
+
+    private static final PersonQuery FRIENDS = PersonQuery.of(
+            new PersonFilter(PersonFilter.Field.TAG, "friends", false));
+    private static final Set<Tag> ALUMNI = Set.of(new Tag("alumni"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_addTag_addedToMatchingPersons() {
+        String expectedMessage = String.format(EditPersonsCommand.MESSAGE_SUCCESS, 3, 3, FRIENDS);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+        for (Person person : new Person[] {ALICE, BENSON, DANIEL}) {
+            expectedModel.setPerson(person, person.toBuilder().withTags(union(person.getTags(), ALUMNI)).build());
+        }
+
+        assertCommandSuccess(addTag(ALUMNI, false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unchangedPersons_notCounted() {
+        Set<Tag> owesMoney = Set.of(new Tag("owesMoney"));
+        String expectedMessage = String.format(EditPersonsCommand.MESSAGE_SUCCESS, 2, 3, FRIENDS);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+        expectedModel.setPerson(ALICE, ALICE.toBuilder().withTags(union(ALICE.getTags(), owesMoney)).build());
+        expectedModel.setPerson(DANIEL, DANIEL.toBuilder().withTags(union(DANIEL.getTags(), owesMoney)).build());
+
+        // Benson already owes money
+        assertCommandSuccess(addTag(owesMoney, false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_dryRun_countsWithoutEditing() {
+        String expectedMessage = String.format(EditPersonsCommand.MESSAGE_DRY_RUN, 3, 3, FRIENDS);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+
+        assertCommandSuccess(addTag(ALUMNI, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyPersons_editedAsOneStep() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 5000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i)
+                    .withTags(i % 2 == 0 ? "sec4" : "sec3").build());
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs(), new ScheduleList());
+        PersonQuery sec4 = PersonQuery.of(new PersonFilter(PersonFilter.Field.TAG, "sec4", false));
+        EditPersonsCommand command = new EditPersonsCommand(sec4, new Phone(VALID_PHONE_AMY), null, null, null,
+                null, ALUMNI, Set.of(new Tag("sec4")), null, null, false);
+
+        assertEquals(String.format(EditPersonsCommand.MESSAGE_SUCCESS, 2500, 2500, sec4),
+                command.execute(model).getFeedbackToUser());
+        Person edited = model.getAddressBook().getPersonList().get(0);
+        assertEquals(ALUMNI, edited.getTags());
+        assertEquals(new Phone(VALID_PHONE_AMY), edited.getPhone());
+        assertEquals(Set.of(new Tag("sec3")), model.getAddressBook().getPersonList().get(1).getTags());
+        model.commitChanges("edit");
+        model.undo();
+        assertEquals(addressBook.getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        EditPersonsCommand addAlumni = addTag(ALUMNI, false);
+
+        assertTrue(addAlumni.equals(addAlumni));
+        assertTrue(addAlumni.equals(addTag(ALUMNI, false)));
+        assertFalse(addAlumni.equals(addTag(ALUMNI, true)));
+        assertFalse(addAlumni.equals(addTag(Set.of(new Tag("sec4")), false)));
+        assertFalse(addAlumni.equals(null));
+    }
+
+    private static EditPersonsCommand addTag(Set<Tag> tags, boolean isDryRun) {
+        return new EditPersonsCommand(FRIENDS, null, null, null, null, null, tags, null, null, null, isDryRun);
+    }
+
+    private static Set<Tag> union(Set<Tag> first, Set<Tag> second) {
+        Set<Tag> union = new HashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+}
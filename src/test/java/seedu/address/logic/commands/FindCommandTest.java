@@ -6,14 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -60,11 +67,34 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_compoundQuery_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        PersonQuery query = PersonQuery.of(PersonFilter.nameContains("meier"),
+                new PersonFilter(PersonFilter.Field.TAG, "owesMoney", true));
+        FindCommand command = new FindCommand(query, false);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planIncluded() throws Exception {
+        PersonQuery query = PersonQuery.of(new PersonFilter(PersonFilter.Field.SUBJECT, "biology", false),
+                new PersonFilter(PersonFilter.Field.TAG, "friends", false));
+        CommandResult result = new FindCommand(query, true).execute(model);
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2)));
+        assertTrue(feedback.contains("INDEX SCAN subject=BIOLOGY"));
+        assertTrue(feedback.contains("INTERSECT tag=friends"));
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate("keyword");
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{query=name~keyword, isExplain=false}";
         assertEquals(expected, findCommand.toString());
     }
 
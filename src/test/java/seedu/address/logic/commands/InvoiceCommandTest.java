@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class InvoiceCommandTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 10, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2023, 10, 31);
+
+    @Test
+    public void execute_afterRates_totalsPerStudent() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        model.addPerson(new PersonBuilder().withName("Bernice Yu").build());
+        LocalDateTime start = LocalDateTime.of(2023, 10, 20, 14, 0);
+        model.addLesson(new Lesson(start, start.plusMinutes(90), Subject.getNone(), new TaskList(),
+                new Name("Alex Yeoh"), new Name("Bernice Yu")));
+        model.addLesson(new Lesson(start.plusDays(30), start.plusDays(30).plusHours(1), Subject.getNone(),
+                new TaskList(), new Name("Alex Yeoh")));
+
+        new RateCommand(null, null, 4000).execute(model);
+        new RateCommand(new Name("bernice yu"), null, 5000).execute(model);
+        String message = new InvoiceCommand(FIRST_DAY, LAST_DAY, null).execute(model).getFeedbackToUser();
+
+        assertEquals(String.format(InvoiceCommand.MESSAGE_SUCCESS, "1 Oct 2023", "31 Oct 2023", "$135.00")
+                + String.format(InvoiceCommand.MESSAGE_STUDENT, "Alex Yeoh", "$60.00", "1 h 30 min")
+                + String.format(InvoiceCommand.MESSAGE_STUDENT, "Bernice Yu", "$75.00", "1 h 30 min"), message);
+
+        message = new InvoiceCommand(FIRST_DAY, LAST_DAY, new Name("alex yeoh")).execute(model).getFeedbackToUser();
+        assertTrue(message.startsWith(String.format(InvoiceCommand.MESSAGE_SUCCESS, "1 Oct 2023", "31 Oct 2023",
+                "$60.00")));
+        assertFalse(message.contains("Bernice"));
+    }
+
+    @Test
+    public void execute_noLessons_saysSo() throws CommandException {
+        String message = new InvoiceCommand(FIRST_DAY, LAST_DAY, null).execute(new ModelManager())
+                .getFeedbackToUser();
+        assertTrue(message.endsWith(InvoiceCommand.MESSAGE_NO_LESSONS));
+    }
+
+    @Test
+    public void equals() {
+        InvoiceCommand command = new InvoiceCommand(FIRST_DAY, LAST_DAY, null);
+        assertTrue(command.equals(new InvoiceCommand(FIRST_DAY, LAST_DAY, null)));
+        assertFalse(command.equals(new InvoiceCommand(FIRST_DAY, LAST_DAY, new Name("Alex Yeoh"))));
+        assertFalse(command.equals(new InvoiceCommand(FIRST_DAY, FIRST_DAY, null)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -5,15 +5,27 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalLessons.LESSON1;
+import static seedu.address.testutil.TypicalLessons.LESSON2;
 import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.model.state.State;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -40,6 +52,25 @@ public class ListCommandTest {
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_lessonRange_showsLessonsInRange() {
+        LessonRange range = LessonRange.onDays(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        String expectedMessage = String.format(ListCommand.MESSAGE_RANGE_SUCCESS, 2, range);
+        expectedModel.setLessonRange(range);
+        assertCommandSuccess(new ListCommand(range), model, expectedMessage, expectedModel);
+        assertEquals(List.of(LESSON1, LESSON2), model.getFilteredScheduleList());
+
+        // the range keeps applying as lessons are added
+        Lesson added = new Lesson(LocalDateTime.of(2022, 10, 15, 9, 0), LocalDateTime.of(2022, 10, 15, 10, 0),
+                new Subject("PHYSICS"), new TaskList(), new Name("Amy Bee"));
+        model.addLesson(added);
+        assertEquals(List.of(LESSON1, added, LESSON2), model.getFilteredScheduleList());
+
+        // listing the whole schedule again removes the range
+        assertCommandSuccess(new ListCommand(State.SCHEDULE), model, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(4, model.getFilteredScheduleList().size());
+    }
+
     @Test
     public void sameCommand() {
         ListCommand command = new ListCommand();
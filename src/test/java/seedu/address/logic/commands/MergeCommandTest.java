@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DuplicatesCommand} and {@code MergeCommand}.
+ */
+public class MergeCommandTest {
+
+    private final Person alex = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807")
+            .withSubjects("MATHEMATICS").withTags("sec4").build();
+    private final Person alexTypo = new PersonBuilder().withName("Alex Yeo").withPhone("87438807")
+            .withSubjects("PHYSICS").withTags("sec4", "new").build();
+    private final Person bernice = new PersonBuilder().withName("Bernice Yu").withPhone("91234567")
+            .withEmail("bernice@example.com").build();
+
+    private Model createModel() {
+        Model model = new ModelManager();
+        model.addPerson(bernice);
+        model.addPerson(alex);
+        model.addPerson(alexTypo);
+        LocalDateTime start = LocalDateTime.of(2023, 10, 20, 14, 0);
+        ArrayList<Name> students = new ArrayList<>(List.of(alexTypo.getName(), bernice.getName()));
+        model.addLesson(new Lesson(start, start.plusHours(1), Subject.getNone(), new TaskList(), students));
+        return model;
+    }
+
+    @Test
+    public void executeDuplicates_showsGroupsByDisplayedIndex() {
+        Model model = createModel();
+        CommandResult result = new DuplicatesCommand().execute(model);
+        assertEquals(String.format(DuplicatesCommand.MESSAGE_SUCCESS, 1)
+                + String.format(DuplicatesCommand.MESSAGE_GROUP, "1 2", "similar name, same phone, same email"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(alex, alexTypo), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeDuplicates_noDuplicates() {
+        Model model = new ModelManager();
+        model.addPerson(bernice);
+        assertEquals(DuplicatesCommand.MESSAGE_NO_DUPLICATES,
+                new DuplicatesCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_mergesDetailsAndLessons() throws CommandException {
+        Model model = createModel();
+        new DuplicatesCommand().execute(model);
+        new MergeCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(2))).execute(model);
+
+        Person merged = new PersonBuilder(alex).withSubjects("MATHEMATICS", "PHYSICS").withTags("sec4", "new")
+                .build();
+        assertEquals(List.of(bernice, merged), model.getAddressBook().getPersonList());
+        Lesson lesson = model.getScheduleList().getLessonList().get(0);
+        assertEquals(List.of(alex.getName(), bernice.getName()), lesson.getStudents());
+        assertTrue(lesson.hasStudent(merged));
+        assertFalse(lesson.hasStudent(alexTypo));
+    }
+
+    @Test
+    public void execute_invalidIndexes_throwsCommandException() {
+        Model model = createModel();
+        assertCommandFailure(new MergeCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(4))), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(new MergeCommand(List.of(Index.fromOneBased(2), Index.fromOneBased(2))), model,
+                MergeCommand.MESSAGE_REPEATED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeFirstSecond = new MergeCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(2)));
+        assertTrue(mergeFirstSecond.equals(new MergeCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(2)))));
+        assertFalse(mergeFirstSecond.equals(new MergeCommand(List.of(Index.fromOneBased(2), Index.fromOneBased(1)))));
+        assertFalse(mergeFirstSecond.equals(null));
+    }
+}
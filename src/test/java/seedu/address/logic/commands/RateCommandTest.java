@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.billing.Rates;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class RateCommandTest {
+
+    @Test
+    public void execute_rates_setInUserPrefs() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+
+        new RateCommand(null, null, 3000).execute(model);
+        new RateCommand(null, new Subject("MATHEMATICS"), 4000).execute(model);
+        CommandResult result = new RateCommand(new Name("alex yeoh"), null, 4550).execute(model);
+
+        assertEquals(String.format(RateCommand.MESSAGE_SUCCESS, "of Alex Yeoh", "$45.50"),
+                result.getFeedbackToUser());
+        Rates expected = new Rates().withDefaultRate(3000).withSubjectRate(new Subject("MATHEMATICS"), 4000)
+                .withStudentRate(new Name("Alex Yeoh"), 4550);
+        assertEquals(expected, model.getRates());
+        assertEquals(expected, model.getUserPrefs().getRates());
+    }
+
+    @Test
+    public void execute_unknownStudent_throwsCommandException() {
+        Model model = new ModelManager();
+        assertThrows(CommandException.class, String.format(RateCommand.MESSAGE_UNKNOWN_STUDENT, "Alex Yeoh"), ()
+                -> new RateCommand(new Name("Alex Yeoh"), null, 4550).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RateCommand command = new RateCommand(new Name("Alex Yeoh"), null, 4550);
+        assertTrue(command.equals(new RateCommand(new Name("Alex Yeoh"), null, 4550)));
+        assertFalse(command.equals(new RateCommand(null, null, 4550)));
+        assertFalse(command.equals(new RateCommand(new Name("Alex Yeoh"), null, 4500)));
+        assertFalse(command.equals(null));
+    }
+}
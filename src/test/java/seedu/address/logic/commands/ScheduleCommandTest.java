@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2023, 10, 2);
+    private static final List<Name> STUDENTS = List.of(new Name("alex yeoh"), new Name("Bernice Yu"));
+
+    private static Model modelWithStudents() {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").withSubjects("MATHEMATICS", "PHYSICS")
+                .withAvailability("MON 15:00 18:00, WED 16:00 20:00").build());
+        model.addPerson(new PersonBuilder().withName("Bernice Yu").withSubjects("MATHEMATICS")
+                .withAvailability("WED 17:00 21:00").build());
+        return model;
+    }
+
+    @Test
+    public void execute_studentsFree_lessonsAdded() throws CommandException {
+        Model model = modelWithStudents();
+        // The tutor teaches someone else on the first Wednesday
+        model.addLesson(new Lesson(MONDAY.plusDays(2).atTime(16, 30), MONDAY.plusDays(2).atTime(17, 30),
+                new TaskList(), new Name("Charlotte Oliveiro")));
+
+        CommandResult result = new ScheduleCommand(STUDENTS, MONDAY, MONDAY.plusDays(13), 2, 90, 15,
+                Subject.getNone()).execute(model);
+
+        assertEquals(String.format(ScheduleCommand.MESSAGE_SUCCESS, 2, "Alex Yeoh, Bernice Yu")
+                + "\nWed 4 Oct 2023 17:45\nWed 11 Oct 2023 17:45", result.getFeedbackToUser());
+        List<Lesson> added = model.getLessonsIn(LessonRange.onDays(MONDAY, MONDAY.plusDays(13)));
+        assertEquals(3, added.size());
+        Lesson first = added.get(1);
+        assertEquals(new Subject("MATHEMATICS"), first.getSubject());
+        assertEquals(List.of(new Name("Alex Yeoh"), new Name("Bernice Yu")), first.getStudents());
+        assertEquals(MONDAY.plusDays(2).atTime(19, 15), first.getEnd());
+    }
+
+    @Test
+    public void execute_noTimeFree_throwsCommandException() {
+        Model model = modelWithStudents();
+        assertThrows(CommandException.class, ScheduleCommand.MESSAGE_NO_TIMES, () -> new ScheduleCommand(STUDENTS,
+                MONDAY, MONDAY.plusDays(1), 1, 60, 0, Subject.getNone()).execute(model));
+        assertTrue(model.getLessonsIn(LessonRange.all()).isEmpty());
+    }
+
+    @Test
+    public void execute_subjectNotTaken_throwsCommandException() {
+        Model model = modelWithStudents();
+        assertThrows(CommandException.class, String.format(ScheduleCommand.MESSAGE_SUBJECT_NOT_TAKEN,
+                "Bernice Yu", "PHYSICS"), () -> new ScheduleCommand(STUDENTS, MONDAY, MONDAY.plusDays(13), 2, 90,
+                0, new Subject("PHYSICS")).execute(model));
+        assertThrows(CommandException.class, String.format(ScheduleCommand.MESSAGE_UNKNOWN_STUDENT, "Alex Yeo"), ()
+                -> new ScheduleCommand(List.of(new Name("Alex Yeo")), MONDAY, MONDAY, 1, 90, 0, Subject.getNone())
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ScheduleCommand command = new ScheduleCommand(STUDENTS, MONDAY, MONDAY.plusDays(13), 2, 90, 15,
+                Subject.getNone());
+        assertTrue(command.equals(new ScheduleCommand(STUDENTS, MONDAY, MONDAY.plusDays(13), 2, 90, 15,
+                Subject.getNone())));
+        assertFalse(command.equals(new ScheduleCommand(STUDENTS, MONDAY, MONDAY.plusDays(13), 3, 90, 15,
+                Subject.getNone())));
+        assertFalse(command.equals(new ScheduleCommand(STUDENTS, MONDAY, MONDAY.plusDays(13), 2, 90, 0,
+                Subject.getNone())));
+        assertFalse(command.equals(null));
+    }
+}
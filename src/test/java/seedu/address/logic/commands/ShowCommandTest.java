@@ -19,6 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.state.State;
 
@@ -46,6 +47,7 @@ public class ShowCommandTest {
     @Test
     public void execute_validIndexUnfilteredLessonList_success() {
         model.setState(State.SCHEDULE);
+        model.setLessonRange(LessonRange.all());
         Lesson lessonToShow = model.getFilteredScheduleList().get(INDEX_FIRST_PERSON.getZeroBased());
         ShowCommand showCommand = new ShowCommand(INDEX_FIRST_PERSON);
         String expectedMessage = String.format(ShowCommand.MESSAGE_SHOW_LESSON_SUCCESS,
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.PersonSortOrder.Key;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_nameDescending_sorted() {
+        PersonSortOrder order = new PersonSortOrder(List.of(new Criterion(Key.NAME, true)));
+        CommandResult result = new SortCommand(order).execute(model);
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, 7, "name (descending)"), result.getFeedbackToUser());
+        assertEquals(List.of(GEORGE, FIONA, ELLE, DANIEL, CARL, BENSON, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleKeys_comparedInTurn() {
+        // ALICE, BENSON and ELLE take biology, CARL and DANIEL chemistry, and FIONA and GEORGE no subjects
+        PersonSortOrder order = new PersonSortOrder(List.of(new Criterion(Key.SUBJECT, false),
+                new Criterion(Key.TAGS, true), new Criterion(Key.NAME, false)));
+        new SortCommand(order).execute(model);
+        assertEquals(List.of(BENSON, ALICE, ELLE, DANIEL, CARL, FIONA, GEORGE), model.getFilteredPersonList());
+
+        // persons added later are placed by their keys
+        Person added = new PersonBuilder().withName("Aaron Tan").withPhone("81234567").withEmail("aaron@example.com")
+                .withSubjects("CHEMISTRY").build();
+        model.addPerson(added);
+        assertEquals(List.of(BENSON, ALICE, ELLE, DANIEL, added, CARL, FIONA, GEORGE), model.getFilteredPersonList());
+
+        // none restores insertion order
+        new SortCommand(PersonSortOrder.INSERTION_ORDER).execute(model);
+        assertEquals(getTypicalAddressBook().getPersonList().get(0), model.getFilteredPersonList().get(0));
+        assertEquals(added, model.getFilteredPersonList().get(7));
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(new PersonSortOrder(List.of(new Criterion(Key.NAME, false))));
+        SortCommand sortByTags = new SortCommand(new PersonSortOrder(List.of(new Criterion(Key.TAGS, false))));
+
+        assertTrue(sortByName.equals(sortByName));
+        assertTrue(sortByName.equals(new SortCommand(new PersonSortOrder(List.of(new Criterion(Key.NAME, false))))));
+        assertFalse(sortByName.equals(1));
+        assertFalse(sortByName.equals(null));
+        assertFalse(sortByName.equals(sortByTags));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+public class StatsCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 10, 18);
+
+    @Test
+    public void execute_lessons_showsTotals() {
+        Model model = new ModelManager();
+        LocalDateTime start = TODAY.atTime(14, 0);
+        model.addLesson(new Lesson(start, start.plusMinutes(90), new Subject("MATHEMATICS"), new TaskList(),
+                new Name("Alex Yeoh")));
+        model.addLesson(new Lesson(start.plusDays(7), start.plusDays(7).plusHours(1), new Subject("BIOLOGY"),
+                new TaskList(), new Name("Alex Yeoh"), new Name("Bernice Yu")));
+
+        String message = new StatsCommand(TODAY, false).execute(model).getFeedbackToUser();
+
+        String summary = String.format(StatsCommand.MESSAGE_SUMMARY, 2, "2 h 30 min", "1 h 30 min",
+                "2 h 30 min", 0);
+        assertEquals(summary, StatsCommand.summarize(model.getTeachingStatistics(), TODAY));
+        assertEquals(String.format(StatsCommand.MESSAGE_SUCCESS, summary)
+                + String.format(StatsCommand.MESSAGE_SUBJECTS, "MATHEMATICS 1 h 30 min, BIOLOGY 1 h")
+                + String.format(StatsCommand.MESSAGE_STUDENTS, "Alex Yeoh 2 lessons (2 h 30 min), "
+                + "Bernice Yu 1 lessons (1 h)"), message);
+    }
+
+    @Test
+    public void execute_verify_reportsCheck() {
+        Model model = new ModelManager();
+        String message = new StatsCommand(TODAY, true).execute(model).getFeedbackToUser();
+        assertTrue(message.endsWith(StatsCommand.MESSAGE_VERIFIED));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand command = new StatsCommand(TODAY, false);
+        assertTrue(command.equals(new StatsCommand(TODAY, false)));
+        assertFalse(command.equals(new StatsCommand(TODAY, true)));
+        assertFalse(command.equals(new StatsCommand(TODAY.plusDays(1), false)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLessons.LESSON1;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.person.Person;
+
+public class UndoCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_deletedPerson_restoredAtSameIndex() {
+        Person secondPerson = model.getFilteredPersonList().get(1);
+        model.deletePerson(secondPerson);
+        model.commitChanges("delete 2");
+
+        assertCommandSuccess(new UndoCommand(), model, String.format(UndoCommand.MESSAGE_SUCCESS, "delete 2"),
+                expectedModel);
+        assertEquals(secondPerson, model.getFilteredPersonList().get(1));
+    }
+
+    @Test
+    public void execute_commandChangingManyPersons_undoneAsWhole() {
+        model.setAddressBook(new AddressBook());
+        model.addPerson(getTypicalAddressBook().getPersonList().get(0));
+        model.commitChanges("clear and add");
+
+        assertCommandSuccess(new UndoCommand(), model, String.format(UndoCommand.MESSAGE_SUCCESS, "clear and add"),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_editedOccurrenceOfSeries_seriesRestored() throws Exception {
+        Lesson first = LESSON1.withTimes(LESSON1.getStart().plusWeeks(1), LESSON1.getEnd().plusWeeks(1));
+        LessonSeries series = new LessonSeries(first, 1, first.getStart().toLocalDate().plusWeeks(3), Set.of());
+        model.addLessonSeries(series);
+        model.commitChanges("addLesson");
+        ScheduleList withSeries = new ScheduleList(model.getScheduleList());
+
+        Lesson occurrence = series.getOccurrence(1);
+        model.setLesson(occurrence, occurrence.withTimes(occurrence.getStart().plusHours(3),
+                occurrence.getEnd().plusHours(3)));
+        model.deleteLesson(series.getOccurrence(2));
+        model.commitChanges("edit");
+
+        new UndoCommand().execute(model);
+        assertEquals(withSeries, model.getScheduleList());
+        assertEquals(7, model.getTeachingStatistics().getLessonCount());
+        assertTrue(model.verifyTeachingStatistics());
+
+        new UndoCommand().execute(model);
+        assertEquals(getTypicalScheduleList(), model.getScheduleList());
+    }
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+}
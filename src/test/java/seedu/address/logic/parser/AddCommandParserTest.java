@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.TaskList;
+import seedu.address.model.lessons.Week;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -62,18 +63,31 @@ public class AddCommandParserTest {
             Person actualPerson = AddCommandParser.parsePerson("add -name Yiwen"
                     + " -phone 12345678 -email email@u.com -address Blk 123, Clementi Ave 3, #12,34 "
                     + "-tag friends -subject English");
-            Person expectedPerson = new Person(new Name("Yiwen"));
-            expectedPerson.setPhone(new Phone("12345678"));
-            expectedPerson.setEmail(new Email("email@u.com"));
-            expectedPerson.setAddress(new Address("Blk 123, Clementi Ave 3, #12,34"));
-            expectedPerson.setTagsIfNotNull(Set.of(new Tag("friends")));
-            expectedPerson.setSubjectsIfNotNull(Set.of(new Subject("English")));
+            Person expectedPerson = new Person.Builder(new Name("Yiwen"))
+                    .withPhone(new Phone("12345678"))
+                    .withEmail(new Email("email@u.com"))
+                    .withAddress(new Address("Blk 123, Clementi Ave 3, #12,34"))
+                    .withTags(Set.of(new Tag("friends")))
+                    .withSubjects(Set.of(new Subject("English")))
+                    .build();
             assertEquals(expectedPerson, actualPerson);
         } catch (ParseException e) {
             fail();
         }
     }
 
+    @Test
+    void correctAvailability() {
+        try {
+            Person actualPerson = AddCommandParser.parsePerson("add -name Yiwen"
+                    + " -available MON 15:00 18:00, wed 1600 2000");
+            assertEquals(new Week("MON 15:00 18:00, WED 16:00 20:00"), actualPerson.getAvailability());
+        } catch (ParseException e) {
+            fail();
+        }
+        assertThrows(ParseException.class, () -> p.parse("add -name Yiwen -available MON 18:00 15:00"));
+    }
+
     @Test
     void correctLesson() {
         try {
@@ -1,13 +1,17 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddLessonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lessons.Lesson;
 
 
 class AddLessonCommandParserTest {
@@ -25,4 +29,22 @@ class AddLessonCommandParserTest {
             fail();
         }
     }
+
+    @Test
+    void parse_repeat() throws ParseException {
+        AddLessonCommandParser p = new AddLessonCommandParser();
+        String lesson = "addLesson -name yiwen -start 14:30 -end 17:30 -day 2023/10/16";
+        Lesson expected = p.parseLesson(lesson);
+        assertEquals(new AddLessonCommand(expected, 2, LocalDate.of(2023, 12, 31)),
+                p.parse(lesson + " -repeat fortnightly -until 2023/12/31"));
+        assertEquals(new AddLessonCommand(expected, 1, LocalDate.of(2023, 12, 31)),
+                p.parse(lesson + " -repeat weekly -until 2023/12/31"));
+
+        assertThrows(ParseException.class, () ->
+                p.parse(lesson + " -repeat weekly"));
+        assertThrows(ParseException.class, () ->
+                p.parse(lesson + " -repeat daily -until 2023/12/31"));
+        assertThrows(ParseException.class, () ->
+                p.parse(lesson + " -repeat weekly -until 2023/10/01"));
+    }
 }
@@ -7,19 +7,38 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddLessonCommand;
+import seedu.address.logic.commands.CalendarCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DuplicatesCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.InvoiceCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.RateCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.PersonSortOrder.Key;
+import seedu.address.model.state.CalendarView;
 
 public class AddressBookParserTest {
 
@@ -65,6 +84,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         String keyword = "foo";
@@ -73,6 +98,49 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keyword)), command);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " name:desc");
+        assertEquals(new SortCommand(new PersonSortOrder(List.of(new Criterion(Key.NAME, true)))), command);
+    }
+
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
+    }
+
+    @Test
+    public void parseCommand_schedule() throws Exception {
+        assertTrue(parser.parseCommand(ScheduleCommand.COMMAND_WORD + " -name Alex Yeoh -count 2 -to 2099/10/31 "
+                + "-length 60") instanceof ScheduleCommand);
+    }
+
+    @Test
+    public void parseCommand_rateAndInvoice() throws Exception {
+        assertTrue(parser.parseCommand(RateCommand.COMMAND_WORD + " -amount 40") instanceof RateCommand);
+        assertTrue(parser.parseCommand(InvoiceCommand.COMMAND_WORD) instanceof InvoiceCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " -verify") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_duplicatesAndMerge() throws Exception {
+        assertTrue(parser.parseCommand(DuplicatesCommand.COMMAND_WORD) instanceof DuplicatesCommand);
+        MergeCommand command = (MergeCommand) parser.parseCommand(MergeCommand.COMMAND_WORD + " 2 1");
+        assertEquals(new MergeCommand(List.of(Index.fromOneBased(2), Index.fromOneBased(1))), command);
+    }
+
+    @Test
+    public void parseCommand_calendar() throws Exception {
+        CalendarCommand command = (CalendarCommand) parser.parseCommand(
+                CalendarCommand.COMMAND_WORD + " month -date 2023/10/12");
+        assertEquals(new CalendarCommand(CalendarView.monthOf(LocalDate.of(2023, 10, 1))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
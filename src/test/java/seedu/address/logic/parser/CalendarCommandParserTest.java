@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.model.state.CalendarView;
+
+public class CalendarCommandParserTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 10, 12);
+
+    private CalendarCommandParser parser = new CalendarCommandParser(Clock.fixed(
+            TODAY.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+
+    @Test
+    public void parse_validArgs_returnsCalendarCommand() {
+        assertParseSuccess(parser, "", new CalendarCommand(CalendarView.weekOf(TODAY)));
+        assertParseSuccess(parser, " WEEK ", new CalendarCommand(CalendarView.weekOf(TODAY)));
+        assertParseSuccess(parser, "month", new CalendarCommand(CalendarView.monthOf(TODAY)));
+        assertParseSuccess(parser, "month -date 2024/02/14",
+                new CalendarCommand(CalendarView.monthOf(LocalDate.of(2024, 2, 1))));
+        assertParseSuccess(parser, "-date 2024/02/14",
+                new CalendarCommand(CalendarView.weekOf(LocalDate.of(2024, 2, 14))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "year", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                CalendarCommand.MESSAGE_USAGE));
+    }
+}
@@ -5,9 +5,17 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteLessonsCommand;
+import seedu.address.logic.commands.DeletePersonsCommand;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -29,4 +37,28 @@ public class DeleteCommandParserTest {
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_personFilter_returnsDeletePersonsCommand() {
+        PersonQuery query = PersonQuery.of(new PersonFilter(PersonFilter.Field.TAG, "sec4", false));
+        assertParseSuccess(parser, " -where -tag sec4", new DeletePersonsCommand(query, false));
+        assertParseSuccess(parser, " -where -tag sec4 -dry", new DeletePersonsCommand(query, true));
+    }
+
+    @Test
+    public void parse_lessonFilter_returnsDeleteLessonsCommand() {
+        assertParseSuccess(parser, " -lessons -where -to 2023/12/31 -subject biology",
+                new DeleteLessonsCommand(null, LocalDate.of(2023, 12, 31), null, new Subject("BIOLOGY"), false));
+        assertParseSuccess(parser, " -lessons -where -from 2023/01/01 -name Alex Yeoh -dry",
+                new DeleteLessonsCommand(LocalDate.of(2023, 1, 1), null, new Name("Alex Yeoh"), null, true));
+    }
+
+    @Test
+    public void parse_invalidFilter_throwsParseException() {
+        assertParseFailure(parser, " -where -dry",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " -lessons -where -dry", DeleteCommandParser.MESSAGE_NO_LESSON_FILTER);
+        assertParseFailure(parser, " -lessons -where -from 2023/12/31 -to 2023/01/01",
+                ScheduleCommandParser.MESSAGE_INVALID_PERIOD);
+    }
 }
@@ -1,11 +1,19 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.EditPersonsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Phone;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.tag.Tag;
 
 public class EditCommandParserTest {
 
@@ -25,4 +33,23 @@ public class EditCommandParserTest {
     void badCases() {
         assertThrows(ParseException.class, () -> p.parse("edit -name yiwen"));
     }
+    @Test
+    void filteredEdit() throws ParseException {
+        PersonQuery query = PersonQuery.of(new PersonFilter(PersonFilter.Field.TAG, "sec4", false),
+                new PersonFilter(PersonFilter.Field.SUBJECT, "physics", true));
+        assertEquals(new EditPersonsCommand(query, null, null, null, null, null, Set.of(new Tag("alumni")),
+                        Set.of(new Tag("sec4")), null, null, false),
+                p.parse("edit -where -tag sec4 -not -subject physics -set -addtag alumni -removetag sec4"));
+        assertEquals(new EditPersonsCommand(query, new Phone("98765432"), null, null, null, null, null, null, null,
+                        null, true),
+                p.parse("edit -where -tag sec4 -not -subject physics -set -phone 98765432 -dry"));
+    }
+    @Test
+    void filteredEditBadCases() {
+        // Names are unique, so cannot be given to many persons
+        assertThrows(ParseException.class, () -> p.parse("edit -where -tag sec4 -set -name Yiwen"));
+        assertThrows(ParseException.class, () -> p.parse("edit -where -tag sec4 -phone 98765432"));
+        assertThrows(ParseException.class, () -> p.parse("edit -where -set -phone 98765432"));
+        assertThrows(ParseException.class, () -> p.parse("edit -where -tag sec4 -set"));
+    }
 }
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
 
 public class FindCommandParserTest {
 
@@ -24,6 +26,22 @@ public class FindCommandParserTest {
         FindCommand expectedFindCommand =
                 new FindCommand(new NameContainsKeywordsPredicate("Alice"));
         assertParseSuccess(parser, "Alice", expectedFindCommand);
+
+        // filter expression
+        PersonQuery query = PersonQuery.of(PersonFilter.nameContains("ali"),
+                new PersonFilter(PersonFilter.Field.TAG, "alumni", true));
+        assertParseSuccess(parser, " -name ali -not -tag alumni", new FindCommand(query, false));
+
+        // explain
+        assertParseSuccess(parser, "-explain Alice",
+                new FindCommand(PersonQuery.of(PersonFilter.nameContains("Alice")), true));
+        assertParseSuccess(parser, "-explain -name ali -not -tag alumni", new FindCommand(query, true));
+    }
+
+    @Test
+    public void parse_explainWithoutFilter_throwsParseException() {
+        assertParseFailure(parser, "-explain",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
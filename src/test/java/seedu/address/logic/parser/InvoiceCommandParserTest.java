@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.InvoiceCommand;
+import seedu.address.model.person.Name;
+
+public class InvoiceCommandParserTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2023-10-18T02:00:00Z"), ZoneOffset.UTC);
+
+    private InvoiceCommandParser parser = new InvoiceCommandParser(CLOCK);
+
+    @Test
+    public void parse_validArgs_returnsInvoiceCommand() {
+        assertParseSuccess(parser, "",
+                new InvoiceCommand(LocalDate.of(2023, 10, 1), LocalDate.of(2023, 10, 31), null));
+        assertParseSuccess(parser, " -from 2023/02/10",
+                new InvoiceCommand(LocalDate.of(2023, 2, 10), LocalDate.of(2023, 2, 28), null));
+        assertParseSuccess(parser, " -to 2023/12/05 -name Alex Yeoh",
+                new InvoiceCommand(LocalDate.of(2023, 12, 1), LocalDate.of(2023, 12, 5), new Name("Alex Yeoh")));
+        assertParseSuccess(parser, " -from 2022/01/01 -to 2023/12/31",
+                new InvoiceCommand(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 12, 31), null));
+    }
+
+    @Test
+    public void parse_invalidPeriod_throwsParseException() {
+        assertParseFailure(parser, " -from 2023/12/31 -to 2023/01/01", InvoiceCommandParser.MESSAGE_INVALID_PERIOD);
+    }
+}
@@ -4,9 +4,16 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.lessons.LessonRange;
 import seedu.address.model.state.State;
 
 
@@ -68,6 +75,31 @@ public class ListCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_validArgs_scheduleRanges() {
+        ListCommandParser fixedParser = new ListCommandParser(
+                Clock.fixed(Instant.parse("2023-10-19T02:30:45Z"), ZoneOffset.UTC));
+        assertParseSuccess(fixedParser, "schedule -from 2023/10/01 -to 2023/10/07",
+                new ListCommand(LessonRange.onDays(LocalDate.of(2023, 10, 1), LocalDate.of(2023, 10, 7))));
+        assertParseSuccess(fixedParser, "schedule -to 2023/10/07",
+                new ListCommand(LessonRange.onDays(null, LocalDate.of(2023, 10, 7))));
+        assertParseSuccess(fixedParser, "schedule today", new ListCommand(LessonRange.on(LocalDate.of(2023, 10, 19))));
+        assertParseSuccess(fixedParser, "SCHEDULE week",
+                new ListCommand(LessonRange.onDays(LocalDate.of(2023, 10, 16), LocalDate.of(2023, 10, 22))));
+        assertParseSuccess(fixedParser, "schedule next 3",
+                new ListCommand(LessonRange.next(LocalDateTime.of(2023, 10, 19, 2, 30), 3)));
+    }
+
+    @Test
+    public void parse_invalidArgs_scheduleRanges() {
+        assertParseFailure(parser, "schedule -from 2023/10/07 -to 2023/10/01", ListCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "schedule next 0", "Number 0 is not of range: 1-" + Integer.MAX_VALUE);
+        assertParseFailure(parser, "schedule tomorrow",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "schedule phone",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_wrongStateThrowsParseException() {
         assertParseFailure(parser, "a",
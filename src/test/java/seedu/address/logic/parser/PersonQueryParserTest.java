@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.InvalidInputException;
+import seedu.address.model.person.Subject;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonFilter.Field;
+import seedu.address.model.query.PersonQuery;
+
+public class PersonQueryParserTest {
+
+    private PersonQueryParser parser = new PersonQueryParser();
+
+    @Test
+    public void parse_allFields_success() throws Exception {
+        PersonQuery expected = PersonQuery.of(
+                new PersonFilter(Field.NAME, "alex yeoh", false),
+                new PersonFilter(Field.SUBJECT, "physics", false),
+                new PersonFilter(Field.TAG, "sec4", false),
+                new PersonFilter(Field.PHONE, "87438807", false),
+                new PersonFilter(Field.EMAIL, "alexyeoh@example.com", true));
+        assertEquals(expected, parser.parse(" -name Alex Yeoh -subject Physics -tag sec4 -phone 87438807 "
+                + "-not -email alexyeoh@example.com"));
+    }
+
+    @Test
+    public void parse_notAppliesToNextFilterOnly() throws Exception {
+        PersonQuery expected = PersonQuery.of(
+                new PersonFilter(Field.TAG, "alumni", true),
+                new PersonFilter(Field.TAG, "sec4", false));
+        assertEquals(expected, parser.parse("-not -tag alumni -tag sec4"));
+    }
+
+    @Test
+    public void parse_invalidInput_throwsInvalidInputException() {
+        assertThrows(InvalidInputException.class, () -> parser.parse("ali -tag sec4"));
+        assertThrows(InvalidInputException.class,
+                String.format(PersonQueryParser.MESSAGE_UNKNOWN_FILTER, "-address"), () -> parser.parse("-address x"));
+        assertThrows(InvalidInputException.class, () -> parser.parse("-name -tag sec4"));
+        assertThrows(InvalidInputException.class, () -> parser.parse("-tag sec4 -not"));
+        assertThrows(InvalidInputException.class, Subject.MESSAGE_CONSTRAINTS, () -> parser.parse("-subject art"));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RateCommand;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+public class RateCommandParserTest {
+
+    private RateCommandParser parser = new RateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRateCommand() {
+        assertParseSuccess(parser, " -amount 40", new RateCommand(null, null, 4000));
+        assertParseSuccess(parser, " -name Alex Yeoh -amount $45.5",
+                new RateCommand(new Name("Alex Yeoh"), null, 4550));
+        assertParseSuccess(parser, " -subject MATHEMATICS -amount 52.05",
+                new RateCommand(null, new Subject("MATHEMATICS"), 5205));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " -name Alex Yeoh -subject MATHEMATICS -amount 40",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RateCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " -amount 40.505", "40.505 is not an amount of money, such as 45 or 45.50");
+        assertParseFailure(parser, " -amount ten", "ten is not an amount of money, such as 45 or 45.50");
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+public class ScheduleCommandParserTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2023-10-18T02:00:00Z"), ZoneOffset.UTC);
+
+    private ScheduleCommandParser parser = new ScheduleCommandParser(CLOCK);
+
+    @Test
+    public void parse_validArgs_returnsScheduleCommand() {
+        assertParseSuccess(parser, " -name Alex Yeoh, Bernice Yu -count 10 -from 2023/10/02 -to 2023/12/10 "
+                + "-length 90 -gap 30 -subject MATHEMATICS",
+                new ScheduleCommand(List.of(new Name("Alex Yeoh"), new Name("Bernice Yu")), LocalDate.of(2023, 10, 2),
+                        LocalDate.of(2023, 12, 10), 10, 90, 30, new Subject("MATHEMATICS")));
+        assertParseSuccess(parser, " -name Alex Yeoh -count 2 -to 2023/10/31 -length 60",
+                new ScheduleCommand(List.of(new Name("Alex Yeoh")), LocalDate.of(2023, 10, 18),
+                        LocalDate.of(2023, 10, 31), 2, 60, 0, Subject.getNone()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " -name Alex Yeoh -count 2 -from 2023/11/01 -to 2023/10/31 -length 60",
+                ScheduleCommandParser.MESSAGE_INVALID_PERIOD);
+        assertParseFailure(parser, " -name Alex Yeoh -count 0 -to 2023/10/31 -length 60",
+                "Number 0 is not of range: 1-366");
+        assertParseFailure(parser, " -name Alex Yeoh -count 2 -to 2023/10/31", "Flag length not found");
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.PersonSortOrder.Key;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        PersonSortOrder expectedOrder = new PersonSortOrder(List.of(new Criterion(Key.SUBJECT, false),
+                new Criterion(Key.LESSON, true), new Criterion(Key.NAME, false), new Criterion(Key.TAGS, false)));
+        assertParseSuccess(parser, " subject LESSON:desc name:asc tags ", new SortCommand(expectedOrder));
+        assertParseSuccess(parser, "none", new SortCommand(PersonSortOrder.INSERTION_ORDER));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, "phone", expectedMessage);
+        assertParseFailure(parser, "name:up", expectedMessage);
+        assertParseFailure(parser, "name tags name:desc", "Students can only be sorted by name once");
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2023-10-18T02:00:00Z"), ZoneOffset.UTC);
+
+    private StatsCommandParser parser = new StatsCommandParser(CLOCK);
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(LocalDate.of(2023, 10, 18), false));
+        assertParseSuccess(parser, "  -verify ", new StatsCommand(LocalDate.of(2023, 10, 18), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "week", expectedMessage);
+        assertParseFailure(parser, "-verify now", expectedMessage);
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.LocalDate;
@@ -151,4 +153,12 @@ class TypeParsingUtilTest {
             fail(e.getMessage());
         }
     }
+    @Test
+    void hasAndRemoveFlagTest() {
+        assertTrue(TypeParsingUtil.hasFlag("dry", "-where -tag sec4 -dry"));
+        assertTrue(TypeParsingUtil.hasFlag("where", "-where -tag sec4"));
+        assertFalse(TypeParsingUtil.hasFlag("dry", "-where -tag dry"));
+        assertFalse(TypeParsingUtil.hasFlag("dry", "-where -dryrun"));
+        assertEquals("-where -tag sec4", TypeParsingUtil.removeFlag("dry", "-where -dry -tag sec4 -dry"));
+    }
 }
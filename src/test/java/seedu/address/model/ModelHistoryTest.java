@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelHistory.Edit;
+
+public class ModelHistoryTest {
+
+    private final List<Integer> values = new ArrayList<>();
+
+    @Test
+    public void undoRedo_stepOfSeveralEdits_appliedAsWhole() {
+        ModelHistory history = new ModelHistory(ModelHistory.DEFAULT_CAPACITY);
+        append(history, 1);
+        append(history, 2);
+        history.commit("append 1 2");
+        assertEquals(List.of(1, 2), values);
+
+        assertEquals("append 1 2", history.undo());
+        assertEquals(List.of(), values);
+        assertFalse(history.canUndo());
+
+        assertEquals("append 1 2", history.redo());
+        assertEquals(List.of(1, 2), values);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void record_whileUndoing_notRecorded() {
+        ModelHistory history = new ModelHistory(ModelHistory.DEFAULT_CAPACITY);
+        history.record(Edit.of(() -> append(history, 0), () -> { }));
+        history.commit("a");
+        history.undo();
+        history.commit("nothing");
+        // The edit recorded while undoing did not make a step that discards the undone one
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneSteps() {
+        ModelHistory history = new ModelHistory(ModelHistory.DEFAULT_CAPACITY);
+        append(history, 1);
+        history.commit("append 1");
+        history.undo();
+
+        history.commit("nothing");
+        assertTrue(history.canRedo());
+
+        append(history, 2);
+        history.commit("append 2");
+        assertFalse(history.canRedo());
+        assertEquals(List.of(2), values);
+    }
+
+    @Test
+    public void commit_fullHistory_dropsOldestStep() {
+        ModelHistory history = new ModelHistory(3);
+        for (int i = 0; i < 5; i++) {
+            append(history, i);
+            history.commit("append " + i);
+        }
+        assertEquals("append 4", history.undo());
+        assertEquals("append 3", history.undo());
+        assertEquals("append 2", history.undo());
+        assertFalse(history.canUndo());
+        assertEquals(List.of(0, 1), values);
+
+        assertEquals("append 2", history.redo());
+        assertEquals(List.of(0, 1, 2), values);
+        assertThrows(IllegalArgumentException.class, () -> new ModelHistory(0));
+    }
+
+    @Test
+    public void undo_nothingCommitted_throwsIllegalArgumentException() {
+        ModelHistory history = new ModelHistory(ModelHistory.DEFAULT_CAPACITY);
+        assertThrows(IllegalArgumentException.class, history::undo);
+        assertThrows(IllegalArgumentException.class, history::redo);
+    }
+
+    @Test
+    public void rollBackTo_pendingEdits_undoesAndForgetsLaterEdits() {
+        ModelHistory history = new ModelHistory(ModelHistory.DEFAULT_CAPACITY);
+        append(history, 1);
+        int count = history.getPendingEditCount();
+        append(history, 2);
+        append(history, 3);
+
+        history.rollBackTo(count);
+        assertEquals(List.of(1), values);
+        assertEquals(1, history.getPendingEditCount());
+        history.commit("append 1");
+        assertEquals("append 1", history.undo());
+        assertEquals(List.of(), values);
+        assertThrows(IllegalArgumentException.class, () -> history.rollBackTo(1));
+    }
+
+    /**
+     * Appends {@code value} to the values, recording the edit in {@code history}.
+     */
+    private void append(ModelHistory history, int value) {
+        values.add(value);
+        history.record(Edit.of(() -> values.remove(values.size() - 1), () -> values.add(value)));
+    }
+}
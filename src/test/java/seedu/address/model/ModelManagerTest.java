@@ -2,20 +2,44 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.LESSON1;
+import static seedu.address.testutil.TypicalLessons.LESSON3;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.billing.Rates;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.query.PersonFilter;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryResult;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +117,81 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_queryResult_showsMatchesAndEditedPersonsMatchingQuery() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        PersonQuery query = PersonQuery.of(PersonFilter.nameContains("Alice"));
+
+        modelManager.updateFilteredPersonList(modelManager.queryPersons(query));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedAlice, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsChangedSinceQuery_testsEachPersonAgainstQuery() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        PersonQuery query = PersonQuery.of(PersonFilter.nameContains("Alice"));
+        QueryResult result = modelManager.queryPersons(query);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.updateFilteredPersonList(result);
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addModelChangeListener_personEdited_publishesChangedFields() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addModelChangeListener(changes::add);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(2, changes.size());
+        ModelChange edit = changes.get(0);
+        assertEquals(ModelChange.Kind.PERSON_CHANGED, edit.getKind());
+        assertEquals(BENSON, edit.getPreviousPerson());
+        assertEquals(editedBenson, edit.getPerson());
+        assertEquals(Set.of(PersonField.PHONE), edit.getChangedFields());
+        assertEquals(1, edit.getToIndex());
+        assertEquals(ModelChange.Kind.PERSON_REMOVED, changes.get(1).getKind());
+        assertEquals(0, changes.get(1).getFromIndex());
+    }
+
+    @Test
+    public void addModelChangeListener_lessonRescheduled_publishesMove() {
+        modelManager.setLessonRange(LessonRange.all());
+        modelManager.addLesson(LESSON1);
+        modelManager.addLesson(LESSON3);
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addModelChangeListener(change -> {
+            // the lists already reflect the change when it is published
+            assertTrue(change.getKind() != ModelChange.Kind.LESSON_MOVED
+                    || modelManager.getFilteredScheduleList().get(change.getToIndex()) == change.getLesson());
+            changes.add(change);
+        });
+
+        Lesson rescheduled = new Lesson(LESSON3.getStart().plusDays(1), LESSON3.getEnd().plusDays(1),
+                LESSON1.getSubject(), new TaskList(), LESSON1.getStudents().toArray(new Name[0]));
+        modelManager.setLesson(LESSON1, rescheduled);
+
+        assertEquals(1, changes.size());
+        assertEquals(ModelChange.Kind.LESSON_MOVED, changes.get(0).getKind());
+        assertEquals(0, changes.get(0).getFromIndex());
+        assertEquals(1, changes.get(0).getToIndex());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -130,4 +229,273 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs, scheduleList)));
     }
+
+    @Test
+    public void snapshots_unchangedByLaterChanges() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        modelManager.addLesson(LESSON1);
+        ReadOnlyAddressBook addressBookSnapshot = modelManager.getAddressBookSnapshot();
+        ReadOnlySchedule scheduleSnapshot = modelManager.getScheduleListSnapshot();
+        ModelSnapshot snapshot = ModelSnapshot.of(modelManager);
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.addLesson(LESSON3);
+        modelManager.deleteLesson(LESSON1);
+
+        assertEquals(List.of(ALICE), addressBookSnapshot.getPersonList());
+        assertEquals(List.of(LESSON1), scheduleSnapshot.getLessonList());
+        assertEquals(List.of(ALICE), snapshot.getPersons());
+        assertEquals(List.of(LESSON1), snapshot.getLessons(0, 10));
+        assertEquals(List.of(BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void addLesson_studentOfAddressBook_linkedToPerson() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        Lesson lesson = LESSON1.withStudents(new ArrayList<>(List.of(ALICE.getName())));
+        modelManager.addLesson(lesson);
+        assertTrue(modelManager.getScheduleList().getLessonList().get(0).hasStudentWithId(alice.getId()));
+    }
+
+    @Test
+    public void setPerson_renamedPerson_renamesStudentOfLinkedLessons() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        modelManager.addLesson(LESSON1.withStudents(new ArrayList<>(List.of(ALICE.getName()))));
+        modelManager.commitChanges("add");
+
+        Person renamed = alice.toBuilder().withName(new Name("Alice Tan")).build();
+        modelManager.setPerson(alice, renamed);
+        modelManager.commitChanges("edit");
+        Lesson lesson = modelManager.getScheduleList().getLessonList().get(0);
+        assertTrue(lesson.hasStudent(new Name("Alice Tan")));
+        assertTrue(lesson.hasStudentWithId(alice.getId()));
+        assertTrue(modelManager.verifyTeachingStatistics());
+
+        modelManager.undo();
+        assertTrue(modelManager.getScheduleList().getLessonList().get(0).hasStudent(ALICE.getName()));
+        modelManager.redo();
+        assertTrue(modelManager.getScheduleList().getLessonList().get(0).hasStudent(new Name("Alice Tan")));
+    }
+
+    @Test
+    public void setPerson_renamedPerson_renamesStudentOfLinkedSeriesOnly() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        modelManager.addLesson(LESSON1.withStudents(new ArrayList<>(List.of(new Name("Bob Lim")))));
+        Lesson first = new Lesson(LESSON1.getStart().plusDays(1), LESSON1.getEnd().plusDays(1),
+                LESSON1.getSubject(), new TaskList(), ALICE.getName());
+        modelManager.addLessonSeries(new LessonSeries(first, 1, first.getStart().toLocalDate().plusWeeks(2),
+                Set.of()));
+        Lesson unrelated = modelManager.getScheduleList().getLessonList().get(0);
+
+        Name newName = new Name("Alice Tan");
+        modelManager.setPerson(alice, alice.toBuilder().withName(newName).build());
+
+        assertTrue(modelManager.getScheduleList().getSeriesList().get(0).getFirst().hasStudent(newName));
+        assertSame(unrelated, modelManager.getScheduleList().getLessonList().get(0));
+        assertTrue(modelManager.verifyTeachingStatistics());
+    }
+
+    @Test
+    public void addPerson_studentOfLessonsAndSeries_linkedToAddedPerson() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addLesson(LESSON1.withStudents(new ArrayList<>(List.of(ALICE.getName()))));
+        Lesson first = new Lesson(LESSON1.getStart().plusDays(1), LESSON1.getEnd().plusDays(1),
+                LESSON1.getSubject(), new TaskList(), ALICE.getName());
+        modelManager.addLessonSeries(new LessonSeries(first, 1, first.getStart().toLocalDate().plusWeeks(2),
+                Set.of()));
+
+        modelManager.addPerson(ALICE);
+
+        long id = modelManager.getAddressBook().getPersonList().get(0).getId();
+        assertTrue(modelManager.getScheduleList().getLessonList().get(0).hasStudentWithId(id));
+        assertTrue(modelManager.getScheduleList().getSeriesList().get(0).getFirst().hasStudentWithId(id));
+    }
+
+    @Test
+    public void setPerson_renamedPersonWithRate_keepsRate() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        modelManager.setRates(new Rates().withDefaultRate(3000).withStudentRate(ALICE.getName(), 5000));
+        modelManager.commitChanges("rate");
+
+        Name newName = new Name("Alice Tan");
+        modelManager.setPerson(alice, alice.toBuilder().withName(newName).build());
+        modelManager.commitChanges("edit");
+        assertEquals(5000, modelManager.getRates().getCentsPerHour(newName, null));
+        assertEquals(3000, modelManager.getRates().getCentsPerHour(ALICE.getName(), null));
+
+        modelManager.undo();
+        assertEquals(5000, modelManager.getRates().getCentsPerHour(ALICE.getName(), null));
+        assertEquals(3000, modelManager.getRates().getCentsPerHour(newName, null));
+        modelManager.redo();
+        assertEquals(5000, modelManager.getRates().getCentsPerHour(newName, null));
+    }
+
+    @Test
+    public void constructor_lessonsOfSavedData_linkedByName() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ScheduleList scheduleList = new ScheduleList();
+        // A lesson linked to a person who is gone is linked again by name
+        scheduleList.addLesson(LESSON1.withStudents(new ArrayList<>(List.of(ALICE.getName())))
+                .withStudentIds(new long[] {99}));
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs(), scheduleList);
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        assertTrue(modelManager.getScheduleList().getLessonList().get(0).hasStudentWithId(alice.getId()));
+    }
+
+    @Test
+    public void commitTransaction_severalChanges_publishedAsOneChangePerList() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.setLessonRange(LessonRange.all());
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addModelChangeListener(changes::add);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addLesson(LESSON1);
+        assertTrue(changes.isEmpty());
+        // The lessons in range are found when the transaction ends
+        assertTrue(modelManager.getFilteredScheduleList().isEmpty());
+        modelManager.commitTransaction();
+
+        assertEquals(List.of(ModelChange.Kind.PERSONS_RESET, ModelChange.Kind.LESSON_ADDED),
+                changes.stream().map(ModelChange::getKind).collect(Collectors.toList()));
+        assertEquals(List.of(LESSON1), modelManager.getFilteredScheduleList());
+        assertFalse(modelManager.isInTransaction());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_reversesChanges() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        modelManager.commitChanges("add");
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.addLesson(LESSON1);
+        modelManager.rollbackTransaction();
+
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getScheduleList().getLessonList().isEmpty());
+        assertTrue(modelManager.getFilteredScheduleList().isEmpty());
+        // The reversed changes are not committed as a step of their own
+        modelManager.commitChanges("rolled back");
+        assertEquals("add", modelManager.undo());
+    }
+
+    @Test
+    public void rollbackTransaction_noTransaction_doesNothing() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        modelManager.rollbackTransaction();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.isInTransaction());
+    }
+
+    @Test
+    public void beginTransaction_transactionInProgress_throwsIllegalArgumentException() {
+        ModelManager modelManager = new ModelManager();
+        assertThrows(IllegalArgumentException.class, modelManager::commitTransaction);
+        modelManager.beginTransaction();
+        assertThrows(IllegalArgumentException.class, modelManager::beginTransaction);
+    }
+
+    @Test
+    public void deletePersons_thenUndo_restoresPersonsWithTheirIds() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.commitChanges("add");
+        List<Person> persons = new ArrayList<>(modelManager.getAddressBook().getPersonList());
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addModelChangeListener(changes::add);
+
+        modelManager.deletePersons(List.of(persons.get(0), persons.get(2)));
+        modelManager.commitChanges("delete");
+
+        assertEquals(List.of(BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(List.of(ModelChange.Kind.PERSONS_RESET),
+                changes.stream().map(ModelChange::getKind).collect(Collectors.toList()));
+        modelManager.undo();
+        assertEquals(persons.stream().map(Person::getId).collect(Collectors.toList()),
+                modelManager.getAddressBook().getPersonList().stream().map(Person::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void setPersons_renamedPerson_throwsIllegalArgumentException() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        Person renamed = new PersonBuilder(ALICE).withName("Alicia").build();
+        assertThrows(IllegalArgumentException.class, () -> modelManager.setPersons(List.of(ALICE), List.of(renamed)));
+    }
+
+    @Test
+    public void deleteLessons_lessonsAndOccurrences_deletedAndUndoneTogether() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.setLessonRange(LessonRange.all());
+        modelManager.addLesson(LESSON1);
+        modelManager.addLesson(LESSON3);
+        Lesson first = new Lesson(LESSON1.getStart().plusDays(1), LESSON1.getEnd().plusDays(1),
+                LESSON1.getSubject(), new TaskList(), new Name("Alex Yeoh"));
+        LocalDate lastDay = first.getStart().toLocalDate().plusWeeks(2);
+        modelManager.addLessonSeries(new LessonSeries(first, 1, lastDay, Set.of()));
+        modelManager.commitChanges("add");
+        List<Lesson> lessons = modelManager.getLessonsIn(LessonRange.all());
+        assertEquals(5, lessons.size());
+
+        modelManager.deleteLessons(List.of(LESSON1, lessons.get(1), lessons.get(2)));
+        modelManager.commitChanges("delete");
+
+        assertEquals(List.of(lessons.get(3), lessons.get(4)), modelManager.getLessonsIn(LessonRange.all()));
+        assertEquals(modelManager.getLessonsIn(LessonRange.all()), modelManager.getFilteredScheduleList());
+        modelManager.undo();
+        assertEquals(lessons, modelManager.getLessonsIn(LessonRange.all()));
+    }
+
+    @Test
+    public void addLesson_seriesUnchanged_occurrencesLeftInPlace() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.setLessonRange(LessonRange.all());
+        Lesson first = new Lesson(LESSON1.getStart().plusDays(1), LESSON1.getEnd().plusDays(1),
+                LESSON1.getSubject(), new TaskList(), new Name("Alex Yeoh"));
+        modelManager.addLessonSeries(new LessonSeries(first, 1, first.getStart().toLocalDate().plusWeeks(8),
+                Set.of()));
+        List<Lesson> shown = new ArrayList<>(modelManager.getFilteredScheduleList());
+
+        modelManager.addLesson(LESSON1);
+
+        assertEquals(shown.size() + 1, modelManager.getFilteredScheduleList().size());
+        for (Lesson occurrence : shown) {
+            assertTrue(modelManager.getFilteredScheduleList().stream().anyMatch(lesson -> lesson == occurrence));
+        }
+    }
+
+    @Test
+    public void constructor_longSeries_showsThisWeekOnly() {
+        ScheduleList scheduleList = new ScheduleList();
+        LocalDateTime monday = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atTime(10, 0);
+        Lesson first = new Lesson(monday, monday.plusHours(1), LESSON1.getSubject(), new TaskList(),
+                new Name("Alex Yeoh"));
+        scheduleList.addSeries(new LessonSeries(first, 1, monday.toLocalDate().plusYears(500), Set.of()));
+
+        ModelManager modelManager = new ModelManager(new AddressBook(), new UserPrefs(), scheduleList);
+
+        assertEquals(LessonRange.weekOf(LocalDate.now()), modelManager.getLessonRange());
+        assertEquals(1, modelManager.getFilteredScheduleList().size());
+        modelManager.addLesson(LESSON1);
+        assertEquals(1, modelManager.getFilteredScheduleList().size());
+    }
 }
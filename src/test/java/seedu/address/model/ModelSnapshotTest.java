@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.testutil.LessonBuilder;
+
+public class ModelSnapshotTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2023, 10, 16, 10, 0);
+
+    @Test
+    public void getLessons_pages_sameAsAllLessonsInOrder() {
+        ScheduleList scheduleList = new ScheduleList();
+        Lesson withTask = new LessonBuilder().withStart(MONDAY.plusDays(15)).withSubject("ENGLISH")
+                .withTasks("Marking").withStudents("C").build();
+        scheduleList.addLesson(new LessonBuilder().withStart(MONDAY.plusDays(1)).withStudents("C").build());
+        scheduleList.addLesson(withTask);
+        scheduleList.addSeries(new LessonSeries(new LessonBuilder().withStart(MONDAY).withStudents("A").build(), 1,
+                LocalDate.of(2023, 12, 31), Set.of(LocalDate.of(2023, 10, 23))));
+        scheduleList.addSeries(new LessonSeries(new LessonBuilder().withStart(MONDAY.plusDays(15)).withStudents("B")
+                .build(), 2, LocalDate.of(2023, 12, 31), Set.of()));
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), scheduleList);
+        ModelSnapshot snapshot = ModelSnapshot.of(model);
+
+        List<Lesson> expected = new ArrayList<>(scheduleList.getLessonList());
+        scheduleList.getSeriesList().forEach(series -> expected.addAll(series.getOccurrencesBetween(null, null)));
+        expected.sort(Comparator.comparing(Lesson::getStart));
+        assertEquals(expected.size(), snapshot.getLessonCount());
+        assertEquals(expected, snapshot.getLessons(0, expected.size() + 5));
+        assertEquals(expected.subList(3, 7), snapshot.getLessons(3, 4));
+        assertEquals(List.of(), snapshot.getLessons(expected.size(), 5));
+
+        // Lessons of their own come before occurrences starting at the same time
+        int position = snapshot.getPositionOfConcreteLesson(1);
+        assertSame(withTask, snapshot.getConcreteLessons().get(1));
+        assertSame(withTask, snapshot.getLessons(position, 1).get(0));
+    }
+
+    @Test
+    public void getLessons_longSeries_onlyMakesPageAsked() {
+        ScheduleList scheduleList = new ScheduleList();
+        scheduleList.addSeries(new LessonSeries(new LessonBuilder().withStart(MONDAY).withStudents("A").build(), 1,
+                LocalDate.of(3023, 1, 1), Set.of()));
+        ModelSnapshot snapshot = ModelSnapshot.of(new ModelManager(new AddressBook(), new UserPrefs(),
+                scheduleList));
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(10, snapshot.getLessons(0, 10).size());
+            assertEquals(52_137, snapshot.getLessonCount());
+        }
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1_000, "Reading the first page 1000 times took " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonRange;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+public class TeachingStatisticsTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2023, 10, 30, 10, 0);
+    private static final Name ALEX = new Name("Alex Yeoh");
+    private static final Name BERNICE = new Name("Bernice Yu");
+
+    @Test
+    public void of_lessons_countsPerSubjectStudentWeekAndMonth() {
+        TaskList tasks = new TaskList();
+        tasks.add(new Task("Marking"));
+        Task done = new Task("Homework");
+        done.markTask();
+        tasks.add(done);
+        Lesson group = new Lesson(MONDAY, MONDAY.plusMinutes(90), new Subject("MATHEMATICS"), tasks, ALEX, BERNICE);
+        // Sunday of the same week, but already in November
+        Lesson sunday = new Lesson(MONDAY.plusDays(6), MONDAY.plusDays(6).plusHours(1), new Subject("BIOLOGY"),
+                new TaskList(), BERNICE);
+
+        TeachingStatistics statistics = TeachingStatistics.of(List.of(group, sunday));
+
+        assertEquals(2, statistics.getLessonCount());
+        assertEquals(150, statistics.getTotalMinutes());
+        assertEquals(1, statistics.getPendingTaskCount());
+        assertEquals(Map.of(new Subject("MATHEMATICS"), 90L, new Subject("BIOLOGY"), 60L),
+                statistics.getMinutesBySubject());
+        assertEquals(90, statistics.getMinutesForStudent(ALEX));
+        assertEquals(150, statistics.getMinutesForStudent(BERNICE));
+        assertEquals(2, statistics.getLessonCountForStudent(BERNICE));
+        assertEquals(150, statistics.getMinutesForWeekOf(LocalDate.of(2023, 11, 1)));
+        assertEquals(0, statistics.getMinutesForWeekOf(LocalDate.of(2023, 11, 6)));
+        assertEquals(90, statistics.getMinutesForMonth(YearMonth.of(2023, 10)));
+        assertEquals(60, statistics.getMinutesForMonth(YearMonth.of(2023, 11)));
+    }
+
+    @Test
+    public void of_series_sameAsOccurrencesCountedOneByOne() {
+        TaskList tasks = new TaskList();
+        tasks.add(new Task("Marking"));
+        Lesson first = new Lesson(MONDAY.plusDays(2), MONDAY.plusDays(2).plusMinutes(45), new Subject("MATHEMATICS"),
+                tasks, ALEX, BERNICE);
+        LessonSeries series = new LessonSeries(first, 1, LocalDate.of(2024, 2, 1),
+                Set.of(LocalDate.of(2023, 11, 8), LocalDate.of(2023, 12, 27)));
+        Lesson single = new Lesson(MONDAY, MONDAY.plusHours(1), new Subject("ENGLISH"), new TaskList(), ALEX);
+
+        TeachingStatistics statistics = TeachingStatistics.of(List.of(single), List.of(series));
+        List<Lesson> lessons = new ArrayList<>(series.getOccurrencesBetween(null, null));
+        lessons.add(single);
+        TeachingStatistics expected = TeachingStatistics.of(lessons);
+
+        assertEquals(expected.getLessonCount(), statistics.getLessonCount());
+        assertEquals(expected.getTotalMinutes(), statistics.getTotalMinutes());
+        assertEquals(expected.getPendingTaskCount(), statistics.getPendingTaskCount());
+        assertEquals(expected.getMinutesBySubject(), statistics.getMinutesBySubject());
+        assertEquals(expected.getMinutesByStudent(), statistics.getMinutesByStudent());
+        assertEquals(expected.getLessonCountsByStudent(), statistics.getLessonCountsByStudent());
+        for (LocalDate day = MONDAY.toLocalDate(); day.getYear() < 2025; day = day.plusDays(4)) {
+            assertEquals(expected.getMinutesForWeekOf(day), statistics.getMinutesForWeekOf(day), day.toString());
+            assertEquals(expected.getMinutesForMonth(YearMonth.from(day)),
+                    statistics.getMinutesForMonth(YearMonth.from(day)));
+        }
+    }
+
+    @Test
+    public void modelManager_occurrenceEditedAndDeleted_sameAsRecomputed() {
+        ModelManager model = new ModelManager();
+        Lesson first = new Lesson(MONDAY, MONDAY.plusHours(1), new Subject("MATHEMATICS"), new TaskList(), ALEX);
+        model.addLessonSeries(new LessonSeries(first, 1, LocalDate.of(2023, 12, 31), Set.of()));
+        List<Lesson> occurrences = model.getLessonsIn(LessonRange.all());
+
+        model.deleteLesson(occurrences.get(1));
+        model.setLesson(occurrences.get(2), new Lesson(MONDAY.plusDays(15), MONDAY.plusDays(15).plusHours(2),
+                new Subject("ENGLISH"), new TaskList(), BERNICE));
+
+        assertEquals(occurrences.size() - 1, model.getTeachingStatistics().getLessonCount());
+        assertEquals(TeachingStatistics.of(model.getLessonsIn(LessonRange.all())).getMinutesByStudent(),
+                model.getTeachingStatistics().getMinutesByStudent());
+        assertTrue(model.verifyTeachingStatistics());
+    }
+
+    @Test
+    public void modelManager_afterEdits_sameAsRecomputed() {
+        ModelManager model = new ModelManager();
+        List<Lesson> lessons = new ArrayList<>();
+        Name[] students = {ALEX, BERNICE, new Name("Charlotte Oliveiro")};
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = MONDAY.plusHours(random.nextInt(2000));
+            Lesson lesson = new Lesson(start, start.plusMinutes(30L * (1 + random.nextInt(4))),
+                    new Subject(random.nextBoolean() ? "MATHEMATICS" : "ENGLISH"), new TaskList(),
+                    students[random.nextInt(students.length)]);
+            int operation = random.nextInt(3);
+            if (operation == 0 || lessons.isEmpty()) {
+                if (!model.hasLesson(lesson)) {
+                    model.addLesson(lesson);
+                    lessons.add(lesson);
+                }
+            } else if (operation == 1) {
+                model.deleteLesson(lessons.remove(random.nextInt(lessons.size())));
+            } else if (!model.hasLesson(lesson)) {
+                int index = random.nextInt(lessons.size());
+                model.setLesson(lessons.get(index), lesson);
+                lessons.set(index, lesson);
+            }
+            assertEquals(TeachingStatistics.of(lessons), model.getTeachingStatistics());
+        }
+        assertTrue(model.verifyTeachingStatistics());
+
+        model.setScheduleList(new ScheduleList());
+        assertEquals(0, model.getTeachingStatistics().getLessonCount());
+        assertTrue(model.getTeachingStatistics().getMinutesByStudent().isEmpty());
+    }
+
+    @Test
+    public void verifyTeachingStatistics_taskChangedOutsideModel_recomputes() {
+        ModelManager model = new ModelManager();
+        TaskList tasks = new TaskList();
+        model.addLesson(new Lesson(MONDAY, MONDAY.plusHours(1), new Subject("MATHEMATICS"), tasks, ALEX));
+        tasks.add(new Task("Marking"));
+
+        assertEquals(0, model.getTeachingStatistics().getPendingTaskCount());
+        assertFalse(model.verifyTeachingStatistics());
+        assertEquals(1, model.getTeachingStatistics().getPendingTaskCount());
+        assertTrue(model.verifyTeachingStatistics());
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.billing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Schedule;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.LessonBuilder;
+
+public class BillingLedgerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2023-10-18T02:00:00Z"), ZoneOffset.UTC);
+    private static final Name ALEX = new Name("Alex Yeoh");
+    private static final Name BERNICE = new Name("Bernice Yu");
+    private static final Rates RATES = new Rates().withDefaultRate(3000).withStudentRate(ALEX, 4550)
+            .withSubjectRate(new Subject("BIOLOGY"), 5000);
+
+    @Test
+    public void invoice_lessons_chargedPerStudentRoundedToCents() {
+        LocalDateTime start = LocalDateTime.of(2023, 9, 4, 10, 0);
+        List<Lesson> lessons = List.of(
+                new LessonBuilder().withStart(start).withMinutes(90).withStudents(ALEX, BERNICE).build(),
+                new LessonBuilder().withStart(start.plusDays(1)).withMinutes(50).withSubject("BIOLOGY")
+                        .withStudents(BERNICE).build(),
+                new LessonBuilder().withStart(start.plusDays(40)).withStudents(BERNICE).build());
+        Schedule schedule = new Schedule();
+        schedule.setLessons(lessons);
+        BillingLedger ledger = new BillingLedger(range -> range.select(schedule), RATES, CLOCK);
+
+        Invoice invoice = ledger.invoice(LocalDate.of(2023, 9, 1), LocalDate.of(2023, 9, 30));
+        assertEquals(2, invoice.getLessonCount());
+        // 90 min at $45.50 and, for Bernice, 90 min at $30 plus 50 min at $50 rounded up from 4166.67 cents
+        assertEquals(Map.of(ALEX, 6825L, BERNICE, 4500L + 4167L), invoice.getCentsByStudent());
+        assertEquals(Map.of(ALEX, 90L, BERNICE, 140L), invoice.getMinutesByStudent());
+        assertEquals(6825 + 8667, invoice.getTotalCents());
+    }
+
+    @Test
+    public void invoice_afterEditsAndRateChanges_sameAsComputedFromScratch() {
+        Schedule schedule = new Schedule();
+        List<Lesson> lessons = new ArrayList<>();
+        AtomicInteger slices = new AtomicInteger();
+        BillingLedger ledger = new BillingLedger(range -> {
+            slices.incrementAndGet();
+            return range.select(schedule);
+        }, RATES, CLOCK);
+        Random random = new Random(17);
+        LocalDateTime base = LocalDateTime.of(2021, 1, 1, 8, 0);
+        Name[] students = {ALEX, BERNICE, new Name("Charlotte Oliveiro")};
+        for (int i = 0; i < 300; i++) {
+            Lesson lesson = new LessonBuilder().withStart(base.plusHours(random.nextInt(24 * 1100)))
+                    .withMinutes(30 * (1 + random.nextInt(4)))
+                    .withSubject(random.nextBoolean() ? "BIOLOGY" : "MATHEMATICS")
+                    .withStudents(students[random.nextInt(students.length)]).build();
+            if (random.nextInt(3) > 0 || lessons.isEmpty()) {
+                if (!schedule.contains(lesson)) {
+                    schedule.add(lesson);
+                    lessons.add(lesson);
+                    ledger.invalidate(lesson);
+                }
+            } else {
+                Lesson removed = lessons.remove(random.nextInt(lessons.size()));
+                schedule.remove(removed);
+                ledger.invalidate(removed);
+            }
+            if (i % 50 == 49) {
+                ledger.setRates(ledger.getRates().withDefaultRate(1000L * i));
+            }
+
+            LocalDate firstDay = base.toLocalDate().plusDays(random.nextInt(400));
+            LocalDate lastDay = firstDay.plusDays(random.nextInt(800));
+            List<Lesson> expected = lessons.stream()
+                    .filter(l -> !l.getStart().toLocalDate().isBefore(firstDay)
+                            && !l.getStart().toLocalDate().isAfter(lastDay))
+                    .collect(Collectors.toList());
+            assertEquals(Invoice.of(firstDay, lastDay, expected, ledger.getRates()),
+                    ledger.invoice(firstDay, lastDay));
+        }
+
+        // Once cached, only the current month is read again for a period ending in it
+        LocalDate firstDay = LocalDate.of(2021, 1, 1);
+        LocalDate lastDay = LocalDate.of(2023, 10, 31);
+        ledger.invoice(firstDay, lastDay);
+        slices.set(0);
+        ledger.invoice(firstDay, lastDay);
+        assertEquals(1, slices.get());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.billing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+public class RatesTest {
+
+    private static final Name ALEX = new Name("Alex Yeoh");
+    private static final Name BERNICE = new Name("Bernice Yu");
+    private static final Subject MATHEMATICS = new Subject("MATHEMATICS");
+
+    @Test
+    public void getCentsPerHour_studentBeforeSubjectBeforeDefault() {
+        Rates rates = new Rates().withDefaultRate(3000).withSubjectRate(MATHEMATICS, 4000)
+                .withStudentRate(ALEX, 5000);
+        assertEquals(5000, rates.getCentsPerHour(ALEX, MATHEMATICS));
+        assertEquals(4000, rates.getCentsPerHour(BERNICE, MATHEMATICS));
+        assertEquals(3000, rates.getCentsPerHour(BERNICE, new Subject("BIOLOGY")));
+        assertEquals(3000, rates.getCentsPerHour(BERNICE, null));
+        assertEquals(0, new Rates().getCentsPerHour(ALEX, MATHEMATICS));
+    }
+
+    @Test
+    public void withRates_leavesOriginalUnchanged() {
+        Rates rates = new Rates();
+        rates.withStudentRate(ALEX, 5000);
+        assertEquals(new Rates(), rates);
+        assertThrows(IllegalArgumentException.class, () -> rates.withDefaultRate(-1));
+    }
+
+    @Test
+    public void withStudentRenamed_rateMovesToNewName() {
+        Rates rates = new Rates().withDefaultRate(3000).withStudentRate(ALEX, 5000);
+        Rates renamed = rates.withStudentRenamed(ALEX, BERNICE);
+        assertEquals(5000, renamed.getCentsPerHour(BERNICE, MATHEMATICS));
+        assertEquals(3000, renamed.getCentsPerHour(ALEX, MATHEMATICS));
+        assertEquals(5000, rates.getCentsPerHour(ALEX, MATHEMATICS));
+        // Students without a rate of their own have nothing to move
+        assertSame(rates, rates.withStudentRenamed(BERNICE, ALEX));
+    }
+
+    @Test
+    public void format_cents() {
+        assertEquals("$0.00", Money.format(0));
+        assertEquals("$1,234.05", Money.format(123405));
+        assertEquals("-$0.50", Money.format(-50));
+    }
+}
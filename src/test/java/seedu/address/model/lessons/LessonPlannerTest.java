@@ -0,0 +1,99 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class LessonPlannerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2023, 10, 2);
+
+    @Test
+    public void plan_studentsAvailable_placedWhereAllAreFree() {
+        Week alex = new Week("MON 15:00 18:00, WED 16:00 20:00");
+        Week bernice = new Week("WED 17:00 21:00, FRI 09:00 12:00");
+        LessonPlanner planner = new LessonPlanner(MONDAY, MONDAY.plusDays(13), 2, 90, 0);
+
+        assertEquals(List.of(MONDAY.plusDays(2).atTime(17, 0), MONDAY.plusDays(9).atTime(17, 0)),
+                planner.plan(List.of(alex, bernice, Week.NONE), List.of()));
+    }
+
+    @Test
+    public void plan_existingLessons_keptClearOfWithGap() {
+        Week alex = new Week("MON 15:00 18:00");
+        List<Lesson> lessons = List.of(new LessonBuilder().withStart(MONDAY.atTime(15, 30))
+                .withStudents("Someone Else").build());
+        LessonPlanner planner = new LessonPlanner(MONDAY, MONDAY, 1, 60, 30);
+
+        // 15:30 to 16:30 is taken, and kept clear of until 17:00
+        assertEquals(List.of(MONDAY.atTime(17, 0)), planner.plan(List.of(alex), lessons));
+        assertEquals(List.of(), new LessonPlanner(MONDAY, MONDAY, 1, 90, 30).plan(List.of(alex), lessons));
+    }
+
+    @Test
+    public void plan_tooManyLessons_empty() {
+        LessonPlanner planner = new LessonPlanner(MONDAY, MONDAY.plusDays(2), 4, 60, 0);
+        assertEquals(List.of(), planner.plan(List.of(), List.of()));
+
+        // No day in the second half of the period is free
+        Week mondays = new Week("MON 09:00 12:00");
+        assertEquals(List.of(), new LessonPlanner(MONDAY, MONDAY.plusDays(13), 3, 60, 0)
+                .plan(List.of(mondays), List.of()));
+    }
+
+    @Test
+    public void plan_term_regularAndClearOfLessons() {
+        // A term of 13 weeks with a busy tutor
+        Random random = new Random(2103);
+        LocalDate lastDay = MONDAY.plusWeeks(13).minusDays(1);
+        List<Lesson> lessons = new ArrayList<>();
+        for (LocalDate day = MONDAY; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            for (int i = 0; i < 3; i++) {
+                lessons.add(new LessonBuilder().withStart(day.atTime(9 + random.nextInt(12), 15 * random.nextInt(4)))
+                        .withStudents("Someone Else").build());
+            }
+        }
+        List<Week> availabilities = List.of(new Week("TUE 14:00 21:00, THU 15:00 20:00, SAT 09:00 18:00"),
+                new Week("TUE 16:00 22:00, SAT 10:00 16:00"));
+        LessonPlanner planner = new LessonPlanner(MONDAY, lastDay, 13, 90, 15);
+
+        long startTime = System.nanoTime();
+        List<LocalDateTime> starts = planner.plan(availabilities, lessons);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        assertEquals(13, starts.size());
+        assertTrue(elapsedMillis < 1000, "Planning took " + elapsedMillis + " ms");
+        for (int i = 0; i < starts.size(); i++) {
+            LocalDateTime start = starts.get(i);
+            LocalDateTime end = start.plusMinutes(90);
+            // One lesson in each week of the term
+            assertEquals(MONDAY.plusWeeks(i), start.toLocalDate().with(DayOfWeek.MONDAY));
+            for (Week availability : availabilities) {
+                BitSet free = availability.getFreeMinutes(start.getDayOfWeek());
+                int minute = start.toLocalTime().toSecondOfDay() / 60;
+                assertTrue(free.nextClearBit(minute) >= minute + 90);
+            }
+            for (Lesson other : lessons) {
+                assertTrue(!start.isBefore(other.getEnd().plusMinutes(15))
+                        || !end.plusMinutes(15).isAfter(other.getStart()));
+            }
+        }
+    }
+
+    @Test
+    public void rangeAround_includesNeighbouringDays() {
+        assertEquals(LessonRange.onDays(MONDAY.minusDays(1), MONDAY.plusDays(1)),
+                LessonPlanner.rangeAround(MONDAY, MONDAY));
+    }
+}
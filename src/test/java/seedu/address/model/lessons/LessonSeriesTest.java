@@ -0,0 +1,98 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+public class LessonSeriesTest {
+
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2023, 10, 16, 15, 0);
+    private static final Lesson FIRST = new Lesson(FIRST_START, FIRST_START.plusHours(2),
+            new Subject("MATHEMATICS"), new TaskList(), new Name("Alex"));
+
+    @Test
+    public void constructor_invalidRule_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonSeries(FIRST, 0, LocalDate.of(2023, 12, 31), Set.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonSeries(FIRST, 1, LocalDate.of(2023, 10, 15), Set.of()));
+    }
+
+    @Test
+    public void getOccurrencesBetween_weekly_skipsExceptions() {
+        LessonSeries series = new LessonSeries(FIRST, 1, LocalDate.of(2023, 11, 6),
+                Set.of(LocalDate.of(2023, 10, 30)));
+        List<LocalDateTime> starts = new ArrayList<>();
+        series.getOccurrencesBetween(null, null).forEach(lesson -> starts.add(lesson.getStart()));
+        assertEquals(List.of(FIRST_START, FIRST_START.plusWeeks(1), FIRST_START.plusWeeks(3)), starts);
+
+        Lesson occurrence = series.getOccurrencesBetween(FIRST_START.plusMinutes(1), null).get(0);
+        assertEquals(FIRST_START.plusWeeks(1), occurrence.getStart());
+        assertEquals(FIRST_START.plusWeeks(1).plusHours(2), occurrence.getEnd());
+        assertEquals(FIRST.getSubject(), occurrence.getSubject());
+        assertEquals(FIRST.getStudents(), occurrence.getStudents());
+        assertEquals(List.of(), series.getOccurrencesBetween(FIRST_START.plusWeeks(3).plusMinutes(1), null));
+    }
+
+    @Test
+    public void occurrencesFrom_longSeries_startsWithoutGoingThroughEarlierOccurrences() {
+        LessonSeries series = new LessonSeries(FIRST, 2, LocalDate.of(3023, 1, 1), Set.of());
+        LocalDateTime from = LocalDateTime.of(2900, 1, 1, 0, 0);
+        Iterator<Lesson> occurrences = series.occurrencesFrom(from);
+        Lesson next = occurrences.next();
+        assertFalse(next.getStart().isBefore(from));
+        assertTrue(next.getStart().minusWeeks(2).isBefore(from));
+        assertEquals(next.getStart().plusWeeks(2), occurrences.next().getStart());
+    }
+
+    @Test
+    public void getHeldCountOnDays_sameAsOccurrencesListed() {
+        LessonSeries series = new LessonSeries(FIRST, 2, LocalDate.of(2024, 6, 30),
+                Set.of(LocalDate.of(2023, 10, 30), LocalDate.of(2023, 11, 13), LocalDate.of(2024, 3, 4)));
+        assertEquals(series.getOccurrencesBetween(null, null).size(), series.getHeldCount());
+
+        LocalDate day = LocalDate.of(2023, 10, 1);
+        for (int i = 0; i < 300; i += 3) {
+            LocalDate firstDay = day.plusDays(i);
+            for (int length = 0; length < 40; length += 5) {
+                LocalDate lastDay = firstDay.plusDays(length);
+                long listed = series.getOccurrencesBetween(firstDay.atStartOfDay(),
+                        lastDay.plusDays(1).atStartOfDay()).size();
+                assertEquals(listed, series.getHeldCountOnDays(firstDay, lastDay), firstDay + " to " + lastDay);
+            }
+        }
+        assertFalse(series.isHeldOn(LocalDate.of(2023, 10, 30)));
+        assertTrue(series.isHeldOn(LocalDate.of(2023, 11, 27)));
+        assertFalse(series.isHeldOn(LocalDate.of(2023, 11, 20)));
+    }
+
+    @Test
+    public void getOccurrenceOn_andIsOccurrence() {
+        LessonSeries series = new LessonSeries(FIRST, 2, LocalDate.of(2023, 12, 31), Set.of());
+        assertNull(series.getOccurrenceOn(LocalDate.of(2023, 10, 23)));
+        Lesson occurrence = series.getOccurrenceOn(LocalDate.of(2023, 10, 30));
+        assertTrue(series.isOccurrence(occurrence));
+        assertFalse(series.isOccurrence(occurrence.withTimes(occurrence.getStart().plusHours(1),
+                occurrence.getEnd().plusHours(1))));
+
+        LessonSeries withException = series.withException(LocalDate.of(2023, 10, 30));
+        assertNull(withException.getOccurrenceOn(LocalDate.of(2023, 10, 30)));
+        assertFalse(withException.isOccurrence(occurrence));
+        assertFalse(series.equals(withException));
+        assertEquals(series, new LessonSeries(FIRST, 2, LocalDate.of(2023, 12, 31), Set.of()));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.lessons;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
@@ -29,4 +30,55 @@ class LessonTest {
         assertTrue(lesson.hasStudent(p));
         assertEquals(lesson.getStudentsStr(), "Yiwen, Yiwen2, Yiwen3");
     }
+
+    @Test
+    void isClashWith_overlappingLessonsSharingStudent() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 10, 0);
+        Lesson group = new Lesson(start, start.plusHours(2), Subject.getNone(), new TaskList(),
+                new Name("Alex"), new Name("Bernice"));
+        Lesson bernice = new Lesson(start.plusHours(1), start.plusHours(3), Subject.getNone(), new TaskList(),
+                new Name("Bernice"));
+        Lesson charlotte = new Lesson(start.plusHours(1), start.plusHours(3), Subject.getNone(), new TaskList(),
+                new Name("Charlotte"));
+        Lesson afterwards = new Lesson(start.plusHours(2), start.plusHours(3), Subject.getNone(), new TaskList(),
+                new Name("Alex"));
+
+        assertTrue(group.isClashWith(bernice));
+        assertTrue(group.isOverlappingWith(charlotte));
+        assertFalse(group.isClashWith(charlotte));
+        assertFalse(group.isClashWith(afterwards));
+        assertFalse(group.isSameLesson(new Lesson(start, start.plusHours(2), Subject.getNone(), new TaskList(),
+                new Name("Charlotte"))));
+        assertTrue(group.isSameLesson(new Lesson(start, start.plusHours(2), Subject.getNone(), new TaskList(),
+                new Name("Bernice"), new Name("Alex"))));
+    }
+
+    @Test
+    void studentIds_linkedLessons_comparedById() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 10, 0);
+        Lesson group = new Lesson(start, start.plusHours(2), Subject.getNone(), new TaskList(),
+                new Name("Alex"), new Name("Bernice"));
+        assertEquals(2, group.getStudentIds().length);
+        assertFalse(group.isLinked());
+
+        Lesson linkedGroup = group.withStudentIds(new long[] {1, 2});
+        assertTrue(linkedGroup.isLinked());
+        assertTrue(linkedGroup.hasStudentWithId(2));
+        assertFalse(linkedGroup.hasStudentWithId(Person.NO_ID));
+        // Ids are not part of the identity of a lesson
+        assertEquals(group, linkedGroup);
+        // Times are changed without losing the links
+        assertTrue(linkedGroup.withTimes(start.plusHours(1), start.plusHours(2)).hasStudentWithId(1));
+
+        Lesson renamed = linkedGroup.withStudentRenamed(2, new Name("Bernie"));
+        assertTrue(renamed.hasStudent(new Name("Bernie")));
+        assertFalse(renamed.hasStudent(new Name("Bernice")));
+        assertTrue(renamed.hasStudentWithId(2));
+
+        // Linked lessons are compared by id, so a student keeps clashing with herself after being renamed
+        Lesson bernice = new Lesson(start.plusHours(1), start.plusHours(3), Subject.getNone(), new TaskList(),
+                new Name("Bernice")).withStudentIds(new long[] {2});
+        assertTrue(renamed.isClashWith(bernice));
+        assertFalse(renamed.isClashWith(bernice.withStudentIds(new long[] {3})));
+    }
 }
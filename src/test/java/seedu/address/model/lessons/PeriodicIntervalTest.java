@@ -0,0 +1,120 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class PeriodicIntervalTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 10, 16, 8, 0);
+
+    @Test
+    public void extendedEuclid_givesGcd() {
+        long[] bezout = PeriodicInterval.extendedEuclid(4, 6);
+        assertEquals(2, bezout[0] * 4 + bezout[1] * 6);
+        bezout = PeriodicInterval.extendedEuclid(1, 52);
+        assertEquals(1, bezout[0] + bezout[1] * 52);
+    }
+
+    @Test
+    public void findOverlap_touchingOccurrences_doNotOverlap() {
+        Duration week = Duration.ofDays(7);
+        PeriodicInterval mondays = new PeriodicInterval(BASE, week.toNanos(), Duration.ofHours(1).toNanos(), 10);
+        PeriodicInterval afterwards = new PeriodicInterval(BASE.plusWeeks(3).plusHours(1), week.toNanos() * 2,
+                Duration.ofHours(1).toNanos(), 10);
+        assertNull(mondays.findOverlap(afterwards, unused -> true, unused -> true));
+
+        PeriodicInterval overlapping = new PeriodicInterval(BASE.plusWeeks(3).plusMinutes(59), week.toNanos() * 2,
+                Duration.ofHours(1).toNanos(), 10);
+        long[] overlap = mondays.findOverlap(overlapping, unused -> true, unused -> true);
+        assertEquals(3, overlap[0]);
+        assertEquals(0, overlap[1]);
+        // Only the overlapping occurrences that are held count
+        overlap = mondays.findOverlap(overlapping, i -> i != 3, unused -> true);
+        assertEquals(5, overlap[0]);
+        assertEquals(1, overlap[1]);
+    }
+
+    @Test
+    public void getOccurrenceClashingWith_randomSeries_sameAsComparingOccurrences() {
+        Random random = new Random(44);
+        for (int round = 0; round < 2000; round++) {
+            LessonSeries series = randomSeries(random);
+            LessonSeries other = randomSeries(random);
+            boolean expected = series.getOccurrencesBetween(null, null).stream().anyMatch(occurrence ->
+                    other.getOccurrencesBetween(null, null).stream().anyMatch(occurrence::isClashWith));
+            Lesson clash = series.getOccurrenceClashingWith(other);
+            assertEquals(expected, clash != null, series + " " + other);
+            if (clash != null) {
+                assertTrue(series.isOccurrence(clash));
+                assertTrue(other.getOccurrencesBetween(null, null).stream().anyMatch(clash::isClashWith));
+            }
+
+            Lesson lesson = randomLesson(random, BASE.plusMinutes(30L * random.nextInt(20 * 7 * 48)));
+            expected = series.getOccurrencesBetween(null, null).stream().anyMatch(lesson::isClashWith);
+            clash = series.getOccurrenceClashingWith(lesson);
+            assertEquals(expected, clash != null, series + " " + lesson);
+            if (clash != null) {
+                assertTrue(series.isOccurrence(clash) && clash.isClashWith(lesson));
+            }
+        }
+    }
+
+    @Test
+    public void getLessonClashWithSeries_manyYearLongSeries_checkedWithoutExpanding() {
+        Schedule schedule = new Schedule();
+        LocalDate lastDay = BASE.toLocalDate().plusWeeks(52);
+        for (int i = 0; i < 200; i++) {
+            // Half hours of the week are taken by series of the same student, leaving an hour free
+            LocalDateTime start = BASE.plusMinutes(30L * (i < 100 ? i : i + 2));
+            Lesson first = new LessonBuilder().withStart(start).withMinutes(30).withStudents("A").build();
+            schedule.addSeries(new LessonSeries(first, 1, lastDay, Set.of()));
+        }
+
+        Lesson free = new LessonBuilder().withStart(BASE.plusHours(50)).withMinutes(60).withStudents("A").build();
+        Lesson taken = new LessonBuilder().withStart(BASE.plusHours(50).plusMinutes(30)).withMinutes(60)
+                .withStudents("A").build();
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (int i = 0; i < 100; i++) {
+                assertNull(schedule.getLessonClashWithSeries(new LessonSeries(free, 1, lastDay, Set.of())));
+                assertNotNull(schedule.getLessonClashWithSeries(new LessonSeries(taken, 1, lastDay, Set.of())));
+            }
+        });
+    }
+
+    private static LessonSeries randomSeries(Random random) {
+        Lesson first = randomLesson(random, BASE.plusMinutes(30L * random.nextInt(4 * 7 * 48)));
+        int interval = 1 + random.nextInt(4);
+        LocalDate lastDay = first.getStart().toLocalDate().plusDays(random.nextInt(20 * 7));
+        Set<LocalDate> exceptions = new HashSet<>();
+        List<Lesson> occurrences = new ArrayList<>(new LessonSeries(first, interval, lastDay, Set.of())
+                .getOccurrencesBetween(null, null));
+        for (Lesson occurrence : occurrences) {
+            if (random.nextInt(4) == 0) {
+                exceptions.add(occurrence.getStart().toLocalDate());
+            }
+        }
+        return new LessonSeries(first, interval, lastDay, exceptions);
+    }
+
+    private static Lesson randomLesson(Random random, LocalDateTime start) {
+        String[] students = {"A", "B"};
+        return new LessonBuilder().withStart(start).withMinutes(30 * (1 + random.nextInt(8)))
+                .withStudents(students[random.nextInt(students.length)]).build();
+    }
+}
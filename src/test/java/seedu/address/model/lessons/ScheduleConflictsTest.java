@@ -0,0 +1,73 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lessons.ScheduleConflicts.DoubleBooking;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.LessonBuilder;
+
+public class ScheduleConflictsTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2023, 10, 20, 0, 0);
+    private static final Name ALEX = new Name("Alex Yeoh");
+    private static final Name BERNICE = new Name("Bernice Yu");
+
+    @Test
+    public void of_noOverlaps_isEmpty() {
+        // Lessons may start exactly when others end
+        ScheduleConflicts conflicts = ScheduleConflicts.of(List.of(
+                new LessonBuilder().withStart(DAY.plusHours(9)).withStudents(ALEX).build(),
+                new LessonBuilder().withStart(DAY.plusHours(10)).withStudents(ALEX).build()));
+        assertTrue(conflicts.isEmpty());
+        assertEquals(List.of(), conflicts.getDoubleBookings());
+    }
+
+    @Test
+    public void of_overlappingLessons_groupedTransitively() {
+        Lesson long1 = new LessonBuilder().withStart(DAY.plusHours(9)).withEnd(DAY.plusHours(12))
+                .withStudents(ALEX).build();
+        Lesson inside = new LessonBuilder().withStart(DAY.plusHours(10)).withEnd(DAY.plusHours(12))
+                .withStudents(BERNICE).build();
+        Lesson overlapsEnd = new LessonBuilder().withStart(DAY.plusHours(11)).withEnd(DAY.plusHours(13))
+                .withStudents(ALEX, BERNICE).build();
+        Lesson separate = new LessonBuilder().withStart(DAY.plusHours(14)).withStudents(ALEX).build();
+        Lesson copy = new LessonBuilder().withStart(DAY.plusHours(14)).withStudents(ALEX).build();
+        ScheduleConflicts conflicts = ScheduleConflicts.of(List.of(separate, overlapsEnd, inside, long1, copy));
+
+        assertEquals(List.of(List.of(long1, inside, overlapsEnd), List.of(separate, copy)),
+                conflicts.getOverlappingGroups());
+        assertEquals(List.of(new DoubleBooking(ALEX, long1, overlapsEnd), new DoubleBooking(BERNICE, inside,
+                overlapsEnd), new DoubleBooking(ALEX, separate, copy)), conflicts.getDoubleBookings());
+    }
+
+    @Test
+    public void of_randomLessons_matchesPairwiseComparison() {
+        Random random = new Random(3);
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(2000);
+            lessons.add(new LessonBuilder().withStart(DAY.plusHours(start))
+                    .withEnd(DAY.plusHours(start + 1 + random.nextInt(3))).withStudents(ALEX).build());
+        }
+        ScheduleConflicts conflicts = ScheduleConflicts.of(lessons);
+
+        int overlappingLessons = 0;
+        for (Lesson lesson : lessons) {
+            if (lessons.stream().anyMatch(other -> other != lesson && other.isOverlappingWith(lesson))) {
+                overlappingLessons++;
+            }
+        }
+        assertEquals(overlappingLessons, conflicts.getOverlappingGroups().stream().mapToInt(List::size).sum());
+        // All lessons are ALEX's, so every lesson after the first of a group is double booked
+        assertEquals(overlappingLessons - conflicts.getOverlappingGroups().size(),
+                conflicts.getDoubleBookings().size());
+    }
+}
@@ -0,0 +1,290 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.lessons.exceptions.DuplicateLessonException;
+import seedu.address.model.lessons.exceptions.LessonNotFoundException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.LessonBuilder;
+
+public class ScheduleTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 10, 16, 8, 0);
+
+    @Test
+    public void getLessonsBetween_halfOpen() {
+        Schedule schedule = new Schedule();
+        Lesson first = new LessonBuilder().withStart(BASE).withStudents("A").build();
+        Lesson second = new LessonBuilder().withStart(BASE.plusDays(1)).withStudents("B").build();
+        Lesson third = new LessonBuilder().withStart(BASE.plusDays(2)).withStudents("C").build();
+        schedule.setLessons(List.of(third, first, second));
+
+        assertEquals(List.of(first, second), schedule.getLessonsBetween(BASE, BASE.plusDays(2)));
+        assertEquals(List.of(second, third), schedule.getLessonsBetween(BASE.plusMinutes(1), null));
+        assertEquals(List.of(first), schedule.getLessonsBetween(null, BASE.plusDays(1)));
+        assertEquals(List.of(second, third), schedule.getLessonsFrom(BASE.plusDays(1), 5));
+        assertEquals(List.of(first), schedule.getLessonsFrom(BASE, 1));
+    }
+
+    @Test
+    public void getLessonsBetween_afterEdits_sameAsScan() {
+        Schedule schedule = new Schedule();
+        List<Lesson> lessons = new ArrayList<>();
+        Random random = new Random(29);
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || lessons.isEmpty()) {
+                Lesson lesson = new LessonBuilder().withStart(BASE.plusMinutes(30L * random.nextInt(200)))
+                        .withStudents("A").build();
+                if (!schedule.contains(lesson)) {
+                    schedule.add(lesson);
+                    lessons.add(lesson);
+                }
+            } else if (operation == 1) {
+                schedule.remove(lessons.remove(random.nextInt(lessons.size())));
+            } else {
+                Lesson target = lessons.get(random.nextInt(lessons.size()));
+                Lesson edited = new LessonBuilder().withStart(BASE.plusMinutes(30L * random.nextInt(200)))
+                        .withStudents("A").build();
+                if (!schedule.contains(edited)) {
+                    schedule.setLesson(target, edited);
+                    lessons.set(lessons.indexOf(target), edited);
+                }
+            }
+
+            LocalDateTime from = BASE.plusMinutes(30L * random.nextInt(200));
+            LocalDateTime to = from.plusMinutes(30L * random.nextInt(50));
+            List<Lesson> expected = lessons.stream()
+                    .filter(lesson -> !lesson.getStart().isBefore(from) && lesson.getStart().isBefore(to))
+                    .sorted((a, b) -> a.getStart().compareTo(b.getStart()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, schedule.getLessonsBetween(from, to));
+        }
+    }
+
+    @Test
+    public void contains_lessonsAndSeries_sameAsScan() {
+        Schedule schedule = new Schedule();
+        List<Lesson> lessons = new ArrayList<>();
+        List<LessonSeries> seriesList = new ArrayList<>();
+        String[] students = {"A", "B", "C"};
+        Random random = new Random(39);
+        for (int i = 0; i < 30; i++) {
+            LocalDateTime start = BASE.plusMinutes(30L * random.nextInt(7 * 48));
+            Lesson first = new LessonBuilder().withStart(start).withStudents(students[random.nextInt(students.length)])
+                    .build();
+            LessonSeries series = new LessonSeries(first, 1 + random.nextInt(2), start.toLocalDate().plusWeeks(10),
+                    Set.of());
+            if (!schedule.containsAnyOf(series)) {
+                schedule.addSeries(series);
+                seriesList.add(series);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            Lesson lesson = new LessonBuilder().withStart(BASE.plusMinutes(30L * random.nextInt(7 * 48)))
+                    .withStudents(students[random.nextInt(students.length)]).build();
+            if (!schedule.contains(lesson)) {
+                schedule.add(lesson);
+                lessons.add(lesson);
+            }
+        }
+
+        for (int i = 0; i < 500; i++) {
+            Lesson lesson = new LessonBuilder().withStart(BASE.plusMinutes(30L * random.nextInt(12 * 7 * 48)))
+                    .withStudents(students[random.nextInt(students.length)]).build();
+            boolean expected = lessons.stream().anyMatch(lesson::isSameLesson)
+                    || seriesList.stream().anyMatch(series ->
+                            lesson.isSameLesson(series.getOccurrenceOn(lesson.getStart().toLocalDate())));
+            assertEquals(expected, schedule.contains(lesson), lesson.toString());
+        }
+    }
+
+    @Test
+    public void getLessonClashWith_onlySharedStudentsClash() {
+        Schedule schedule = new Schedule();
+        Lesson alex = new LessonBuilder().withStart(BASE).withStudents("Alex").build();
+        schedule.add(alex);
+
+        // Parallel lessons of other students are allowed, even at exactly the same time
+        Lesson bernice = new LessonBuilder().withStart(BASE).withStudents("Bernice").build();
+        assertNull(schedule.getLessonClashWith(bernice));
+        schedule.add(bernice);
+
+        Lesson group = new Lesson(BASE.plusMinutes(30), BASE.plusMinutes(90), new Subject("MATHEMATICS"),
+                new TaskList(), new Name("Charlotte"), new Name("Bernice"));
+        assertSame(bernice, schedule.getLessonClashWith(group));
+        assertFalse(schedule.hasLessonClashWith(
+                new LessonBuilder().withStart(BASE.plusHours(1)).withStudents("Bernice").build()));
+        assertFalse(schedule.hasLessonClashWith(
+                new LessonBuilder().withStart(BASE.minusHours(1)).withStudents("Alex").build()));
+    }
+
+    @Test
+    public void getLessonClashWith_afterEdits_sameAsScan() {
+        Schedule schedule = new Schedule();
+        List<Lesson> lessons = new ArrayList<>();
+        String[] students = {"A", "B", "C", "D", "E"};
+        Random random = new Random(41);
+        for (int i = 0; i < 300; i++) {
+            LocalDateTime start = BASE.plusMinutes(15L * random.nextInt(400));
+            Lesson lesson = new Lesson(start, start.plusMinutes(15L * (1 + random.nextInt(12))),
+                    new Subject("MATHEMATICS"), new TaskList(), new Name(students[random.nextInt(students.length)]),
+                    new Name(students[random.nextInt(students.length)]));
+            Lesson expected = lessons.stream().filter(lesson::isClashWith).findFirst().orElse(null);
+            assertEquals(expected != null, schedule.hasLessonClashWith(lesson));
+            if (expected == null) {
+                schedule.add(lesson);
+                lessons.add(lesson);
+            } else if (random.nextBoolean()) {
+                Lesson removed = lessons.remove(random.nextInt(lessons.size()));
+                schedule.remove(removed);
+            }
+        }
+    }
+
+    @Test
+    public void getLessonsBetween_withSeries_mergesOccurrencesInOrder() {
+        Schedule schedule = new Schedule();
+        Lesson single = new LessonBuilder().withStart(BASE.plusDays(8)).withStudents("B").build();
+        schedule.add(single);
+        LessonBuilder weekly = new LessonBuilder().withStudents("A");
+        schedule.addSeries(new LessonSeries(weekly.withStart(BASE).build(), 1, BASE.toLocalDate().plusWeeks(52),
+                Set.of()));
+
+        assertEquals(List.of(weekly.withStart(BASE.plusWeeks(1)).build(), single,
+                        weekly.withStart(BASE.plusWeeks(2)).build()),
+                schedule.getLessonsBetween(BASE.plusDays(1), BASE.plusWeeks(2).plusMinutes(1)));
+        assertEquals(List.of(weekly.withStart(BASE).build(), weekly.withStart(BASE.plusWeeks(1)).build()),
+                schedule.getLessonsFrom(BASE, 2));
+        assertEquals(54, schedule.getLessonsBetween(null, null).size());
+        assertTrue(schedule.contains(weekly.withStart(BASE.plusWeeks(30)).build()));
+        assertEquals(weekly.withStart(BASE.plusWeeks(30)).build(),
+                schedule.getLessonClashWith(weekly.withStart(BASE.plusWeeks(30).plusMinutes(30)).build()));
+        assertNull(schedule.getLessonClashWith(new LessonBuilder().withStart(BASE.plusWeeks(30).plusMinutes(30))
+                .withStudents("C").build()));
+    }
+
+    @Test
+    public void removeAndSetLesson_occurrence_onlyThatOccurrenceChanges() {
+        Schedule schedule = new Schedule();
+        LessonBuilder weekly = new LessonBuilder().withStudents("A");
+        LessonSeries series = new LessonSeries(weekly.withStart(BASE).build(), 1, BASE.toLocalDate().plusWeeks(3),
+                Set.of());
+        schedule.addSeries(series);
+
+        schedule.remove(weekly.withStart(BASE.plusWeeks(1)).build());
+        Lesson moved = weekly.withStart(BASE.plusWeeks(2).plusHours(3)).build();
+        schedule.setLesson(weekly.withStart(BASE.plusWeeks(2)).build(), moved);
+
+        assertEquals(List.of(weekly.withStart(BASE).build(), moved, weekly.withStart(BASE.plusWeeks(3)).build()),
+                schedule.getLessonsBetween(null, null));
+        assertEquals(List.of(moved), schedule.asUnmodifiableObservableList());
+        assertEquals(Set.of(BASE.toLocalDate().plusWeeks(1), BASE.toLocalDate().plusWeeks(2)),
+                schedule.asUnmodifiableObservableSeriesList().get(0).getExceptions());
+        assertThrows(LessonNotFoundException.class, () -> schedule.remove(weekly.withStart(BASE.plusWeeks(1)).build()));
+        assertThrows(DuplicateLessonException.class, () -> schedule.addSeries(series));
+    }
+
+    @Test
+    public void setLesson_occurrenceToDuplicate_rejectedWithoutChanges() {
+        Schedule schedule = new Schedule();
+        LessonBuilder weekly = new LessonBuilder().withStudents("A");
+        Lesson other = weekly.withStart(BASE.plusDays(1)).build();
+        schedule.add(other);
+        LessonSeries series = new LessonSeries(weekly.withStart(BASE).build(), 1, BASE.toLocalDate().plusWeeks(3),
+                Set.of());
+        schedule.addSeries(series);
+        List<String> changes = new ArrayList<>();
+        schedule.asUnmodifiableObservableSeriesList().addListener(
+                (ListChangeListener<LessonSeries>) change -> changes.add("series"));
+
+        assertThrows(DuplicateLessonException.class, () ->
+                schedule.setLesson(weekly.withStart(BASE.plusWeeks(1)).build(),
+                        weekly.withStart(BASE.plusWeeks(2)).build()));
+        assertThrows(DuplicateLessonException.class, () -> schedule.setLesson(weekly.withStart(BASE).build(), other));
+        assertEquals(List.of(), changes);
+        assertSame(series, schedule.asUnmodifiableObservableSeriesList().get(0));
+
+        // The occurrence itself is no longer in the series once edited, so it may be edited in place
+        Lesson renamed = new LessonBuilder().withStart(BASE).withSubject("ENGLISH").withStudents("A").build();
+        schedule.setLesson(weekly.withStart(BASE).build(), renamed);
+        assertEquals(List.of("series"), changes);
+        assertEquals(List.of(renamed, other), schedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_lessonsAndOccurrences_removedInOneChangePerList() {
+        Schedule schedule = new Schedule();
+        Lesson kept = new LessonBuilder().withStart(BASE.plusDays(1)).withStudents("B").build();
+        Lesson removed = new LessonBuilder().withStart(BASE.plusDays(2)).withStudents("C").build();
+        schedule.setLessons(List.of(kept, removed));
+        LessonBuilder weekly = new LessonBuilder().withStudents("A");
+        schedule.addSeries(new LessonSeries(weekly.withStart(BASE).build(), 1, BASE.toLocalDate().plusWeeks(3),
+                Set.of()));
+        List<String> changes = new ArrayList<>();
+        schedule.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Lesson>) change -> changes.add("lessons"));
+        schedule.asUnmodifiableObservableSeriesList().addListener(
+                (ListChangeListener<LessonSeries>) change -> changes.add("series"));
+
+        schedule.removeAll(List.of(removed, weekly.withStart(BASE.plusWeeks(1)).build(),
+                weekly.withStart(BASE.plusWeeks(3)).build()));
+
+        assertEquals(List.of("series", "lessons"), changes);
+        assertEquals(List.of(weekly.withStart(BASE).build(), kept, weekly.withStart(BASE.plusWeeks(2)).build()),
+                schedule.getLessonsBetween(null, null));
+        assertFalse(schedule.contains(removed));
+        assertThrows(LessonNotFoundException.class, () -> schedule.removeAll(List.of(removed)));
+    }
+
+    @Test
+    public void getLessonsAndSeriesOfStudent_byNameAndId_followChanges() {
+        Schedule schedule = new Schedule();
+        Lesson linked = new LessonBuilder().withStart(BASE).withStudents("A").build().withStudentIds(new long[] {7});
+        Lesson other = new LessonBuilder().withStart(BASE.plusDays(1)).withStudents("B").build();
+        schedule.setLessons(List.of(other, linked));
+        LessonSeries series = new LessonSeries(new LessonBuilder().withStart(BASE.plusDays(2)).withStudents("A").build()
+                .withStudentIds(new long[] {7}), 1, BASE.toLocalDate().plusWeeks(3), Set.of());
+        schedule.addSeries(series);
+
+        assertEquals(List.of(linked), schedule.getLessonsOfStudent(new Name("A")));
+        assertEquals(List.of(linked), schedule.getLessonsOfStudent(7));
+        assertEquals(List.of(series), schedule.getSeriesOfStudent(new Name("A")));
+        assertEquals(List.of(series), schedule.getSeriesOfStudent(7));
+        assertEquals(List.of(), schedule.getSeriesOfStudent(new Name("B")));
+
+        // Taking an occurrence out of the series replaces the series in the index
+        schedule.remove(new LessonBuilder().withStart(BASE.plusDays(9)).withStudents("A").build());
+        assertSame(schedule.asUnmodifiableObservableSeriesList().get(0), schedule.getSeriesOfStudent(7).get(0));
+        Lesson renamed = new LessonBuilder().withStart(BASE).withStudents("C").build().withStudentIds(new long[] {7});
+        schedule.setLesson(linked, renamed);
+        assertEquals(List.of(), schedule.getLessonsOfStudent(new Name("A")));
+        assertEquals(List.of(renamed), schedule.getLessonsOfStudent(7));
+        schedule.removeSeries(schedule.asUnmodifiableObservableSeriesList().get(0));
+        assertEquals(List.of(), schedule.getSeriesOfStudent(7));
+        assertEquals(List.of(), schedule.getSeriesOfStudent(new Name("A")));
+    }
+
+    @Test
+    public void lessonRange_weekOf_mondayToSunday() {
+        assertEquals(LessonRange.between(LocalDateTime.of(2023, 10, 16, 0, 0), LocalDateTime.of(2023, 10, 23, 0, 0)),
+                LessonRange.weekOf(LocalDate.of(2023, 10, 22)));
+    }
+}
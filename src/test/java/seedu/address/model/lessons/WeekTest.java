@@ -0,0 +1,60 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WeekTest {
+
+    @Test
+    public void isValidWeek() {
+        assertTrue(Week.isValidWeek("MON 15:00 18:00"));
+        assertTrue(Week.isValidWeek("mon 1500 1800, SUN 22:00 24:00"));
+        assertFalse(Week.isValidWeek(""));
+        assertFalse(Week.isValidWeek("MON 15:00"));
+        assertFalse(Week.isValidWeek("FUN 15:00 18:00"));
+        assertFalse(Week.isValidWeek("MON 18:00 15:00"));
+        assertFalse(Week.isValidWeek("MON 15:00 24:30"));
+        assertFalse(Week.isValidWeek("MON 15:00 18:00,"));
+        assertThrows(IllegalArgumentException.class, () -> new Week("MON 25:00 26:00"));
+    }
+
+    @Test
+    public void getFreeMinutes_overlappingTimings_joined() {
+        Week week = new Week("WED 16:00 18:00, MON 15:00 16:00, WED 17:00 20:00");
+        BitSet expected = new BitSet();
+        expected.set(16 * 60, 20 * 60);
+        assertEquals(expected, week.getFreeMinutes(DayOfWeek.WEDNESDAY));
+        assertTrue(week.getFreeMinutes(DayOfWeek.TUESDAY).isEmpty());
+        assertEquals(List.of(new LessonTiming(16 * 60, 20 * 60)), week.getTimings(Week.Days.WED));
+
+        // The returned minutes are a copy
+        week.getFreeMinutes(DayOfWeek.WEDNESDAY).clear();
+        assertEquals(expected, week.getFreeMinutes(DayOfWeek.WEDNESDAY));
+    }
+
+    @Test
+    public void serialize_roundTrips() {
+        Week week = new Week("WED 16:00 18:00, mon 1500 1600, WED 17:00 20:00, SUN 22:00 24:00");
+        assertEquals("MON 15:00 16:00, WED 16:00 20:00, SUN 22:00 24:00", week.serialize());
+        assertEquals(week, new Week(week.serialize()));
+        assertEquals("", Week.NONE.serialize());
+        assertTrue(Week.NONE.isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        Week week = new Week("MON 15:00 18:00");
+        assertTrue(week.equals(new Week("MON 15:00 16:00, MON 16:00 18:00")));
+        assertFalse(week.equals(new Week("TUE 15:00 18:00")));
+        assertFalse(week.equals(Week.NONE));
+        assertFalse(week.equals(null));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.DuplicateDetector.Group;
+import seedu.address.model.person.DuplicateDetector.Reason;
+
+public class DuplicateDetectorTest {
+
+    private static final Person ALEX = person("Alex Yeoh", "87438807", null);
+    private static final Person ALEX_SPACED = person("alex  yeoh", null, null);
+    private static final Person ALEX_TYPO = person("Alex Yeo", "87438807", null);
+    private static final Person BERNICE = person("Bernice Yu", null, "bernice@example.com");
+    private static final Person BERNICE_MAIDEN = person("Bernice Yeo", null, "BERNICE@example.com");
+    private static final Person DAVID = person("David Li", "87438807", null);
+
+    /**
+     * Returns a person with only the given details, as those of {@code PersonBuilder} would be shared.
+     */
+    private static Person person(String name, String phone, String email) {
+        Person.Builder person = new Person.Builder(new Name(name));
+        if (phone != null) {
+            person.withPhone(new Phone(phone));
+        }
+        if (email != null) {
+            person.withEmail(new Email(email));
+        }
+        return person.build();
+    }
+
+    @Test
+    public void findDuplicates_noDuplicates_returnsEmpty() {
+        assertEquals(List.of(), DuplicateDetector.findDuplicates(getTypicalPersons()));
+    }
+
+    @Test
+    public void findDuplicates_groupsTransitively() {
+        List<Group> groups = DuplicateDetector.findDuplicates(List.of(ALEX, BERNICE, ALEX_SPACED, DAVID,
+                BERNICE_MAIDEN, ALEX_TYPO));
+        // DAVID shares a phone with ALEX, but not a similar name
+        assertEquals(List.of(
+                new Group(List.of(ALEX, ALEX_SPACED, ALEX_TYPO),
+                        EnumSet.of(Reason.SAME_NAME, Reason.SIMILAR_NAME, Reason.SAME_PHONE)),
+                new Group(List.of(BERNICE, BERNICE_MAIDEN), EnumSet.of(Reason.SIMILAR_NAME, Reason.SAME_EMAIL))),
+                groups);
+    }
+
+    @Test
+    public void findDuplicates_similarNameWithoutContact_needsCloserName() {
+        Person bernie = person("Bernie Yu", null, null);
+        Person bernice = person("Bernice Yu", null, null);
+        Person bennet = person("Bennet Yu", null, null);
+        assertEquals(List.of(new Group(List.of(bernie, bernice), EnumSet.of(Reason.SIMILAR_NAME))),
+                DuplicateDetector.findDuplicates(List.of(bernie, bennet, bernice)));
+    }
+
+    @Test
+    public void findDuplicates_manyDistinctPersons_findsOnlyRepeatedName() {
+        Random random = new Random(11);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String name = randomWord(random) + " " + randomWord(random);
+            persons.add(person(name, String.valueOf(80000000 + i), null));
+        }
+        persons.add(person(persons.get(42).getName().fullName, "80000099", null));
+        List<Group> groups = DuplicateDetector.findDuplicates(persons);
+        assertEquals(1, groups.size());
+        assertEquals(List.of(persons.get(42), persons.get(2000)), groups.get(0).getPersons());
+    }
+
+    @Test
+    public void findDuplicates_manyPersonsSharingPhone_stillCompared() {
+        Random random = new Random(37);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < DuplicateDetector.MAX_BLOCK_SIZE + 100; i++) {
+            persons.add(person(randomWord(random) + " " + randomWord(random), "61234567", null));
+        }
+        persons.add(ALEX_TYPO);
+        persons.add(person("Alex Yeoh", "61234567", null));
+        List<Group> groups = DuplicateDetector.findDuplicates(persons);
+        assertEquals(List.of(new Group(List.of(ALEX_TYPO, persons.get(persons.size() - 1)),
+                EnumSet.of(Reason.SIMILAR_NAME))), groups);
+    }
+
+    @Test
+    public void findDuplicates_misspeltCommonName_found() {
+        Random random = new Random(41);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(person("Muhammad " + randomWord(random) + " Tan", String.valueOf(80000000 + i), null));
+        }
+        String name = persons.get(1234).getName().fullName;
+        Person misspelt = person(name.replace(" Tan", " Tann"), null, null);
+        persons.add(misspelt);
+        // Some of the random names are close enough to be duplicates too
+        assertTrue(DuplicateDetector.findDuplicates(persons).contains(
+                new Group(List.of(persons.get(1234), misspelt), EnumSet.of(Reason.SIMILAR_NAME))));
+    }
+
+    @Test
+    public void findDuplicates_hundredThousandPersons_fast() {
+        Random random = new Random(43);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            persons.add(person(randomWord(random) + " " + randomWord(random), String.valueOf(80000000 + i), null));
+        }
+        long startTime = System.nanoTime();
+        List<Group> groups = DuplicateDetector.findDuplicates(persons);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        assertEquals(List.of(), groups);
+        assertTrue(elapsedMillis < 5000, "Finding duplicates took " + elapsedMillis + " ms");
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+    @Test
+    public void nameSimilarity() {
+        assertEquals(1, DuplicateDetector.nameSimilarity("alex yeoh", "alex yeoh"));
+        assertEquals(1 - 1.0 / 9, DuplicateDetector.nameSimilarity("alex yeo", "alex yeoh"), 1e-9);
+        assertEquals("alex yeoh", DuplicateDetector.normalizeName("  Alex \t Yeoh "));
+    }
+}
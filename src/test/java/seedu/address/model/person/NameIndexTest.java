@@ -0,0 +1,159 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private static Person person(String name) {
+        return new PersonBuilder().withName(name).build();
+    }
+
+    private static List<String> names(List<NameIndex.Match> matches) {
+        return matches.stream().map(match -> match.getPerson().getName().fullName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void distance() {
+        assertEquals(0, NameIndex.distance("alex", "alex"));
+        assertEquals(1, NameIndex.distance("alex", "alx"));
+        assertEquals(3, NameIndex.distance("kitten", "sitting"));
+        assertEquals(4, NameIndex.distance("", "abcd"));
+    }
+
+    @Test
+    public void distance_bounded_stopsPastMaxDistance() {
+        assertEquals(3, NameIndex.distance("kitten", "sitting", 3));
+        assertEquals(3, NameIndex.distance("kitten", "sitting", 2));
+        assertEquals(2, NameIndex.distance("kitten", "sitting", 1));
+        assertEquals(1, NameIndex.distance("alex", "alx", 1));
+        assertEquals(2, NameIndex.distance("ab", "abcd", 1));
+    }
+
+    @Test
+    public void search_closestFirstIgnoringCase() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(person("Alex Yeoh"), person("Alex Yang"),
+                person("Bernice Yu"), person("Alexa Yeoh"));
+        NameIndex index = new NameIndex(persons);
+
+        List<NameIndex.Match> matches = index.search("ALEX YEOH", 1);
+        assertEquals(List.of("Alex Yeoh", "Alexa Yeoh"), names(matches));
+        assertTrue(matches.get(0).isExact());
+        assertEquals(List.of("Alex Yeoh", "Alexa Yeoh", "Alex Yang"), names(index.search("Alex Yeo", 3)));
+        assertEquals(List.of(), names(index.search("Charlotte", 2)));
+    }
+
+    @Test
+    public void search_followsListChanges() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(person("Alex Yeoh"), person("Bernice Yu"));
+        NameIndex index = new NameIndex(persons);
+
+        persons.add(person("David Li"));
+        assertEquals(List.of("David Li"), names(index.search("David Lee", 2)));
+        persons.set(0, person("Alex Tan"));
+        assertEquals(List.of("Alex Tan"), names(index.search("Alex Yeoh", 4)));
+        persons.remove(1);
+        assertEquals(List.of(), names(index.search("Bernice Yu", 2)));
+        persons.add(person("Bernice Yu"));
+        assertEquals(List.of("Bernice Yu"), names(index.search("Bernice Yu", 0)));
+        persons.setAll(person("Irfan Ibrahim"));
+        assertEquals(List.of("Irfan Ibrahim"), names(index.search("Irfan Ibrahin")));
+        assertEquals(List.of(), names(index.search("Alex Tan")));
+    }
+
+    @Test
+    public void search_afterChangeToManyPersons_followsLaterChanges() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(person("Alex Yeoh"), person("Bernice Yu"));
+        NameIndex index = new NameIndex(persons);
+
+        List<Person> replacement = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            replacement.add(person("Student " + i));
+        }
+        persons.setAll(replacement);
+        // Changed again before the next search, while the index is still to be rebuilt
+        persons.remove(0);
+        persons.add(person("Bernice Yu"));
+        assertEquals(List.of("Bernice Yu"), names(index.search("Bernice Yu", 0)));
+        assertEquals(List.of(), names(index.search("Student 0", 0)));
+
+        persons.remove(persons.size() - 1);
+        assertEquals(List.of(), names(index.search("Bernice Yu", 0)));
+        assertEquals(List.of("Student 49"), names(index.search("Student 49", 0)));
+    }
+
+    @Test
+    public void search_manyNames_underAMillisecond() {
+        String[] syllables = {"ah", "ais", "an", "bin", "char", "chu", "da", "dev", "el", "fan", "goh", "hui", "ir",
+            "jun", "ka", "ku", "lee", "li", "ling", "lot", "mad", "mar", "ming", "mo", "na", "nic", "nur", "ong",
+            "pri", "ra", "ri", "roy", "sa", "siew", "tan", "vid", "wei", "ya", "yeo", "ber"};
+        Random random = new Random(36);
+        List<Person> batch = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int word = 0; word < 3; word++) {
+                name.append(word == 0 ? "" : " ");
+                for (int j = 0; j < 2 + random.nextInt(2); j++) {
+                    name.append(syllables[random.nextInt(syllables.length)]);
+                }
+            }
+            batch.add(person(name.toString()));
+        }
+        ObservableList<Person> persons = FXCollections.observableArrayList(batch);
+        NameIndex index = new NameIndex(persons);
+        for (int i = 0; i < 500; i++) {
+            index.search(persons.get(random.nextInt(persons.size())).getName().fullName);
+        }
+
+        int searchCount = 500;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < searchCount; i++) {
+            String name = persons.get(random.nextInt(persons.size())).getName().fullName;
+            // Misspelt by dropping a character
+            int dropped = random.nextInt(name.length());
+            List<NameIndex.Match> matches = index.search(name.substring(0, dropped) + name.substring(dropped + 1));
+            assertTrue(names(matches).contains(name));
+        }
+        long elapsedMicros = (System.nanoTime() - startTime) / 1_000 / searchCount;
+
+        assertTrue(elapsedMicros < 1_000, "Each search took " + elapsedMicros + " us");
+    }
+
+    @Test
+    public void search_randomNames_matchesLinearScan() {
+        Random random = new Random(7);
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        for (int i = 0; i < 300; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int j = 0; j < 3 + random.nextInt(4); j++) {
+                name.append((char) ('a' + random.nextInt(4)));
+            }
+            persons.add(person(name.toString() + " " + i % 7));
+        }
+        NameIndex index = new NameIndex(persons);
+        persons.remove(0, 100);
+
+        for (Person query : new ArrayList<>(persons.subList(0, 50))) {
+            String queryName = query.getName().fullName.substring(1);
+            List<String> expected = persons.stream()
+                    .filter(person -> NameIndex.distance(queryName, person.getName().fullName) <= 2)
+                    .map(person -> person.getName().fullName)
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<String> actual = names(index.search(queryName, 2));
+            actual.sort(null);
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFieldTest {
+
+    @Test
+    public void changedBetween_samePerson_returnsEmptySet() {
+        assertEquals(Set.of(), PersonField.changedBetween(ALICE, new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void changedBetween_editedFields_returnsEditedFields() {
+        Person edited = new PersonBuilder(ALICE).withPhone("99999999").withTags("alumni").build();
+        assertEquals(EnumSet.of(PersonField.PHONE, PersonField.TAGS), PersonField.changedBetween(ALICE, edited));
+    }
+
+    @Test
+    public void changedBetween_differentPersons_includesName() {
+        assertEquals(true, PersonField.changedBetween(ALICE, BENSON).contains(PersonField.NAME));
+    }
+}
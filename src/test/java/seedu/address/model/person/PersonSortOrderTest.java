@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.PersonSortOrder.Key;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortOrderTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 19, 12, 0);
+
+    @Test
+    public void createComparator_insertionOrder_returnsNull() {
+        assertNull(PersonSortOrder.INSERTION_ORDER.createComparator(List.of(), List.of()));
+    }
+
+    @Test
+    public void createComparator_lesson_personsWithoutLessonsLast() {
+        Person early = new PersonBuilder().withName("Early").build();
+        Person late = new PersonBuilder().withName("Late").build();
+        Person none = new PersonBuilder().withName("None").build();
+        List<Lesson> upcoming = List.of(new LessonBuilder().withStart(NOW.plusHours(1)).withStudents("Early").build(),
+                new LessonBuilder().withStart(NOW.plusDays(1)).withStudents("Late").build(),
+                new LessonBuilder().withStart(NOW.plusDays(2)).withStudents("Early").build());
+        List<Person> persons = new ArrayList<>(List.of(none, late, early));
+
+        persons.sort(new PersonSortOrder(List.of(new Criterion(Key.LESSON, false)))
+                .createComparator(persons, upcoming));
+        assertEquals(List.of(early, late, none), persons);
+
+        persons.sort(new PersonSortOrder(List.of(new Criterion(Key.LESSON, true)))
+                .createComparator(persons, upcoming));
+        assertEquals(List.of(late, early, none), persons);
+    }
+
+    @Test
+    public void createComparator_aboveParallelThreshold_agreesWithKeys() {
+        Random random = new Random(30);
+        String[] subjects = {"BIOLOGY", "CHEMISTRY", "ENGLISH", "MATHEMATICS", "PHYSICS"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PersonSortOrder.PARALLEL_SORT_THRESHOLD + 500; i++) {
+            persons.add(new PersonBuilder().withName("Student " + random.nextInt(1000))
+                    .withSubjects(subjects[random.nextInt(subjects.length)])
+                    .withTags(random.nextBoolean() ? new String[] {"a"} : new String[0]).build());
+        }
+        PersonSortOrder order = new PersonSortOrder(List.of(new Criterion(Key.SUBJECT, true),
+                new Criterion(Key.TAGS, false), new Criterion(Key.NAME, false)));
+        Comparator<Person> expected = Comparator.<Person, String>comparing(person -> person.getSubjects().iterator()
+                        .next().subjectName.name()).reversed()
+                .thenComparingInt(person -> person.getTags().size())
+                .thenComparing(person -> person.getName().getCollationKey());
+
+        // ranked persons, and persons that are not ranked, compare the same as their keys
+        Comparator<Person> comparator = order.createComparator(persons.subList(0, persons.size() - 200), List.of());
+        for (int i = 0; i < 2000; i++) {
+            Person first = persons.get(random.nextInt(persons.size()));
+            Person second = persons.get(random.nextInt(persons.size()));
+            assertEquals(Integer.signum(expected.compare(first, second)),
+                    Integer.signum(comparator.compare(first, second)));
+        }
+    }
+
+    @Test
+    public void forget_removedPersons_droppedFromRanking() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        Person carl = new PersonBuilder().withName("Carl").build();
+        PersonSortOrder.Ranking ranking = new PersonSortOrder(List.of(new Criterion(Key.NAME, true)))
+                .createComparator(List.of(alice, bob), List.of());
+        // A person added after the ranking is compared by keys, which are then held for both persons compared
+        assertTrue(ranking.compare(carl, alice) < 0);
+        assertEquals(4, ranking.getHeldCount());
+
+        ranking.forget(List.of(alice, carl));
+        assertEquals(1, ranking.getHeldCount());
+        assertTrue(ranking.compare(bob, alice) < 0);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -24,6 +25,33 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void toBuilder_editedPhone_sharesUnchangedFields() {
+        Person edited = ALICE.toBuilder().withPhone(new Phone(VALID_PHONE_BOB)).build();
+        assertEquals(new Phone(VALID_PHONE_BOB), edited.getPhone());
+        assertEquals(ALICE.getPhone(), ALICE.toBuilder().build().getPhone());
+        // Fields that are not changed, including the sets, are the same objects
+        assertSame(ALICE.getEmail(), edited.getEmail());
+        assertSame(ALICE.getSubjects(), edited.getSubjects());
+        assertSame(ALICE.getTags(), edited.getTags());
+        assertEquals(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build(), edited);
+        assertEquals(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build().hashCode(), edited.hashCode());
+    }
+
+    @Test
+    public void builder_nullField_throwsNullPointerException() {
+        Person.Builder builder = ALICE.toBuilder();
+        assertThrows(NullPointerException.class, () -> builder.withName(null));
+        assertThrows(NullPointerException.class, () -> builder.withPhone(null));
+        assertThrows(NullPointerException.class, () -> builder.withEmail(null));
+        assertThrows(NullPointerException.class, () -> builder.withAddress(null));
+        assertThrows(NullPointerException.class, () -> builder.withSubjects(null));
+        assertThrows(NullPointerException.class, () -> builder.withTags(null));
+        assertThrows(NullPointerException.class, () -> builder.withRemark(null));
+        assertThrows(NullPointerException.class, () -> builder.withAvailability(null));
+        assertEquals(ALICE, builder.build());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -94,7 +122,8 @@ public class PersonTest {
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
                 + ", email=" + ALICE.getEmail() + ", address=" + ALICE.getAddress() + ", subjects="
-                + ALICE.getSubjects() + ", tags=" + ALICE.getTags() + ", remark=" + ALICE.getRemark() + "}";
+                + ALICE.getSubjects() + ", tags=" + ALICE.getTags() + ", remark=" + ALICE.getRemark()
+                + ", availability=" + ALICE.getAvailability() + "}";
         assertEquals(expected, ALICE.toString());
     }
 }
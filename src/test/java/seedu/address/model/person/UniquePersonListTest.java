@@ -2,6 +2,9 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -172,4 +175,73 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void add_personsWithoutIds_givenDistinctIds() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person alice = uniquePersonList.getPersonNamed(ALICE.getName());
+        Person bob = uniquePersonList.getPersonNamed(BOB.getName());
+        assertNotEquals(Person.NO_ID, alice.getId());
+        assertNotEquals(alice.getId(), bob.getId());
+        assertSame(alice, uniquePersonList.getPersonById(alice.getId()));
+        assertNull(uniquePersonList.getPersonById(Person.NO_ID));
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsIdOfReplacedPerson() {
+        uniquePersonList.add(ALICE);
+        long id = uniquePersonList.getPersonNamed(ALICE.getName()).getId();
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(id, uniquePersonList.getPersonNamed(BOB.getName()).getId());
+        assertNull(uniquePersonList.getPersonNamed(ALICE.getName()));
+
+        // Ids of removed persons are not given out again
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(ALICE);
+        assertNotEquals(id, uniquePersonList.getPersonNamed(ALICE.getName()).getId());
+    }
+
+    @Test
+    public void setPersons_personsWithIds_keepIdsUnlessTaken() {
+        Person alice = ALICE.toBuilder().withId(7).build();
+        Person bob = BOB.toBuilder().withId(7).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+        assertEquals(7, uniquePersonList.getPersonNamed(ALICE.getName()).getId());
+        assertEquals(8, uniquePersonList.getPersonNamed(BOB.getName()).getId());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesThemAndFreesTheirNames() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        uniquePersonList.setPersons(List.of(ALICE, BOB, carl));
+        uniquePersonList.removeAll(List.of(carl, ALICE));
+
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertNull(uniquePersonList.getPersonNamed(ALICE.getName()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE)));
+        // A person of the same name with other fields is not the person in the list
+        Person editedBob = new PersonBuilder(BOB).withAddress("Elsewhere").build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(editedBob)));
+    }
+
+    @Test
+    public void setPersons_targetsAndEditedPersons_replacedInPlaceKeepingIds() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        uniquePersonList.setPersons(List.of(ALICE, BOB, carl));
+        long carlId = uniquePersonList.getPersonNamed(carl.getName()).getId();
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedCarl = new PersonBuilder(carl).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.setPersons(List.of(carl, ALICE), List.of(editedCarl, editedAlice));
+
+        assertEquals(List.of(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(carlId, uniquePersonList.getPersonNamed(carl.getName()).getId());
+        assertSame(uniquePersonList.getPersonNamed(carl.getName()),
+                uniquePersonList.getPersonById(carlId));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                List.of(editedCarl), List.of(new PersonBuilder(BOB).build())));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(
+                List.of(carl), List.of(editedCarl)));
+    }
 }
@@ -0,0 +1,118 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonFilter.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final String[] NAME_TERMS = {"al", "ali", "mei", "meier", "ben", "x", "kur", "zzz", " "};
+    private static final String[] SUBJECTS = {"BIOLOGY", "CHEMISTRY", "ENGLISH", "MATHEMATICS", "PHYSICS"};
+    private static final String[] TAGS = {"friends", "owesmoney", "sec4"};
+    private static final String[] PHONES = {"94351253", "98765432", "00000000"};
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final QueryPlanner planner = new QueryPlanner(new PersonIndex(persons));
+
+    @Test
+    public void execute_mostSelectiveIndexDrivesPlan() {
+        QueryResult result = planner.execute(PersonQuery.of(
+                new PersonFilter(Field.SUBJECT, "biology", false),
+                new PersonFilter(Field.PHONE, "98765432", false),
+                new PersonFilter(Field.TAG, "friends", true)));
+        assertEquals(List.of(), result.getMatches());
+        assertTrue(result.getSteps().get(0).getDescription().startsWith("INDEX SCAN phone=98765432"));
+        assertEquals(1, result.getSteps().get(0).getEstimatedRows());
+        assertEquals(1, result.getSteps().get(0).getActualRows());
+        assertEquals(0, result.getSteps().get(result.getSteps().size() - 1).getActualRows());
+    }
+
+    @Test
+    public void execute_shortNameTerm_fullScan() {
+        QueryResult result = planner.execute(PersonQuery.of(PersonFilter.nameContains("Me")));
+        assertEquals("FULL SCAN persons", result.getSteps().get(0).getDescription());
+        assertEquals(List.of(BENSON, DANIEL, ELLE), result.getMatches());
+    }
+
+    @Test
+    public void execute_nameTrigrams_residualChecked() {
+        // "ier" and "mei" both occur in "Meier", but "eie" does not occur in "Elle Meyer"
+        QueryResult result = planner.execute(PersonQuery.of(PersonFilter.nameContains("meier")));
+        assertEquals(List.of(BENSON, DANIEL), result.getMatches());
+        assertTrue(result.explain().contains("CHECK name~meier"));
+    }
+
+    @Test
+    public void execute_listChanges_indexFollows() {
+        PersonQuery query = PersonQuery.of(new PersonFilter(Field.TAG, "sec4", false));
+        assertEquals(List.of(), planner.execute(query).getMatches());
+
+        Person added = new PersonBuilder().withName("Sec Four").withTags("sec4").build();
+        persons.add(added);
+        assertEquals(List.of(added), planner.execute(query).getMatches());
+
+        Person replacement = new PersonBuilder(ALICE).withTags("sec4").build();
+        persons.set(0, replacement);
+        assertEquals(List.of(replacement, added), planner.execute(query).getMatches());
+
+        persons.remove(0);
+        persons.add(0, CARL);
+        assertEquals(List.of(added), planner.execute(query).getMatches());
+    }
+
+    @Test
+    public void execute_randomQueries_sameAsFullScan() {
+        Random random = new Random(28);
+        for (int i = 0; i < 500; i++) {
+            PersonQuery query = randomQuery(random);
+            List<Person> expected = persons.stream().filter(query).collect(Collectors.toList());
+            QueryResult result = planner.execute(query);
+            assertEquals(expected, result.getMatches(), query.toString());
+            assertEquals(expected.size(), result.getSteps().get(result.getSteps().size() - 1).getActualRows());
+            assertTrue(persons.stream().allMatch(person -> result.asPredicate().test(person) == query.test(person)));
+        }
+    }
+
+    private static PersonQuery randomQuery(Random random) {
+        int filterCount = random.nextInt(4);
+        PersonFilter[] filters = new PersonFilter[filterCount];
+        for (int i = 0; i < filterCount; i++) {
+            boolean isNegated = random.nextInt(3) == 0;
+            switch (random.nextInt(4)) {
+            case 0:
+                filters[i] = new PersonFilter(Field.NAME, pick(random, NAME_TERMS), isNegated);
+                break;
+            case 1:
+                filters[i] = new PersonFilter(Field.SUBJECT, pick(random, SUBJECTS), isNegated);
+                break;
+            case 2:
+                filters[i] = new PersonFilter(Field.TAG, pick(random, TAGS), isNegated);
+                break;
+            default:
+                filters[i] = new PersonFilter(Field.PHONE, pick(random, PHONES), isNegated);
+            }
+        }
+        return PersonQuery.of(filters);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
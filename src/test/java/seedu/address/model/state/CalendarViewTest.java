@@ -0,0 +1,49 @@
+package seedu.address.model.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class CalendarViewTest {
+
+    @Test
+    public void weekOf_midweekDay_startsOnMonday() {
+        CalendarView view = CalendarView.weekOf(LocalDate.of(2023, 10, 12));
+        assertEquals(LocalDate.of(2023, 10, 9), view.getFirstDay());
+        assertEquals(LocalDate.of(2023, 10, 15), view.getLastDay());
+        assertEquals(7, view.getDayCount());
+        assertEquals("week of 9 Oct 2023", view.toString());
+    }
+
+    @Test
+    public void monthOf_day_coversWholeMonth() {
+        CalendarView view = CalendarView.monthOf(LocalDate.of(2024, 2, 14));
+        assertEquals(LocalDate.of(2024, 2, 1), view.getFirstDay());
+        assertEquals(29, view.getDayCount());
+        assertTrue(view.contains(LocalDate.of(2024, 2, 29)));
+        assertFalse(view.contains(LocalDate.of(2024, 3, 1)));
+        assertEquals("February 2024", view.toString());
+    }
+
+    @Test
+    public void nextAndPrevious() {
+        CalendarView week = CalendarView.weekOf(LocalDate.of(2023, 12, 28));
+        assertEquals(CalendarView.weekOf(LocalDate.of(2024, 1, 1)), week.next());
+        assertEquals(week, week.next().previous());
+        CalendarView month = CalendarView.monthOf(LocalDate.of(2023, 1, 31));
+        assertEquals(CalendarView.monthOf(LocalDate.of(2023, 2, 1)), month.next());
+        assertEquals(CalendarView.monthOf(LocalDate.of(2022, 12, 1)), month.previous());
+    }
+
+    @Test
+    public void equals() {
+        CalendarView view = CalendarView.weekOf(LocalDate.of(2023, 10, 9));
+        assertTrue(view.equals(CalendarView.of(CalendarView.Mode.WEEK, LocalDate.of(2023, 10, 15))));
+        assertFalse(view.equals(CalendarView.monthOf(LocalDate.of(2023, 10, 9))));
+        assertFalse(view.equals(null));
+    }
+}
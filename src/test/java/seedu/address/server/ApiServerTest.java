@@ -0,0 +1,164 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalLessons;
+
+public class ApiServerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), TypicalLessons.getTypicalScheduleList());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleListStorage(temporaryFolder.resolve("scheduleList.json")));
+        server = new ApiServer(new LogicManager(model, storage), 2);
+        server.start(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getPersons_pagination_returnsPage() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "?offset=1&limit=2", null);
+        assertEquals(200, response.statusCode());
+
+        Map<?, ?> page = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(model.getAddressBook().getPersonList().size(), page.get("total"));
+        List<?> items = (List<?>) page.get("items");
+        assertEquals(2, items.size());
+        Map<?, ?> firstItem = (Map<?, ?>) items.get(0);
+        assertEquals(model.getAddressBook().getPersonList().get(1).getName().fullName, firstItem.get("name"));
+    }
+
+    @Test
+    public void getPersons_invalidLimit_returnsBadRequest() throws Exception {
+        assertEquals(400, get(ApiServer.PERSONS_PATH + "?limit=0", null).statusCode());
+        assertEquals(400, get(ApiServer.PERSONS_PATH + "?offset=abc", null).statusCode());
+    }
+
+    @Test
+    public void get_pathUnderCollection_returnsNotFound() throws Exception {
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "XYZ", null).statusCode());
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "/anything", null).statusCode());
+        assertEquals(404, get(ApiServer.EVENTS_PATH + "/1", null).statusCode());
+        assertEquals(200, get(ApiServer.LESSONS_PATH + "?limit=1", null).statusCode());
+    }
+
+    @Test
+    public void getLessonsAndTasks_success() throws Exception {
+        Map<?, ?> lessons = JsonUtil.fromJsonString(get(ApiServer.LESSONS_PATH, null).body(), Map.class);
+        assertEquals(model.getScheduleList().getLessonList().size(), lessons.get("total"));
+
+        HttpResponse<String> tasks = get(ApiServer.TASKS_PATH, null);
+        assertEquals(200, tasks.statusCode());
+    }
+
+    @Test
+    public void getPersons_matchingEtag_returnsNotModified() throws Exception {
+        String etag = get(ApiServer.PERSONS_PATH, null).headers().firstValue("ETag").orElseThrow();
+        assertEquals(304, get(ApiServer.PERSONS_PATH, etag).statusCode());
+    }
+
+    @Test
+    public void postCommand_changesData_newEtag() throws Exception {
+        String etag = get(ApiServer.PERSONS_PATH, null).headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> response = post("add -name Amy Bee -phone 11111111 -email amy@example.com");
+        assertEquals(200, response.statusCode());
+
+        HttpResponse<String> persons = get(ApiServer.PERSONS_PATH, etag);
+        assertEquals(200, persons.statusCode());
+        assertNotEquals(etag, persons.headers().firstValue("ETag").orElseThrow());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = post("uicfhmowqewca");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("error"));
+    }
+
+    @Test
+    public void getEvents_dataChanged_streamsChange() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.EVENTS_PATH)).timeout(TIMEOUT).build();
+        HttpResponse<Stream<String>> events = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, events.statusCode());
+        Iterator<String> lines = events.body().iterator();
+        assertEquals("event: version", lines.next());
+
+        post("add -name Amy Bee -phone 11111111 -email amy@example.com");
+
+        CompletableFuture<Boolean> changeReceived = CompletableFuture.supplyAsync(() -> {
+            while (lines.hasNext()) {
+                if (lines.next().equals("event: change")) {
+                    return true;
+                }
+            }
+            return false;
+        });
+        assertTrue(changeReceived.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        events.body().close();
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).timeout(TIMEOUT).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String commandText) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH)).timeout(TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(commandText)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
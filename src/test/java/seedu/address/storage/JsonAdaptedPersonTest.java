@@ -12,9 +12,11 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lessons.Week;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
@@ -25,12 +27,14 @@ public class JsonAdaptedPersonTest {
 
     private static final String INVALID_SUBJECT = "POA!";
     private static final String INVALID_TAG = "#friend";
+    private static final String INVALID_AVAILABILITY = "MON 18:00 15:00";
 
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = BENSON.getPhone().toString();
     private static final String VALID_EMAIL = BENSON.getEmail().toString();
     private static final String VALID_ADDRESS = BENSON.getAddress().toString();
     private static final String VALID_REMARK = BENSON.getRemark().toString();
+    private static final String VALID_AVAILABILITY = "MON 15:00 18:00, WED 16:00 20:00";
 
     private static final List<JsonAdaptedSubject> VALID_SUBJECTS = BENSON.getSubjects().stream()
             .map(JsonAdaptedSubject::new)
@@ -49,7 +53,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -57,7 +61,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL,
-                VALID_ADDRESS, VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                VALID_ADDRESS, VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -66,7 +70,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -74,7 +78,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL,
-                VALID_ADDRESS, VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                VALID_ADDRESS, VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -83,7 +87,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ADDRESS,
-                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -91,7 +95,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_ADDRESS,
-                VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -100,7 +104,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS,
-                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -108,7 +112,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null,
-                VALID_SUBJECTS, VALID_TAGS, VALID_REMARK);
+                VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -119,7 +123,7 @@ public class JsonAdaptedPersonTest {
         invalidSubjects.add(new JsonAdaptedSubject(INVALID_SUBJECT));
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        invalidSubjects, VALID_TAGS, VALID_REMARK);
+                        invalidSubjects, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
     @Test
@@ -128,8 +132,39 @@ public class JsonAdaptedPersonTest {
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_SUBJECTS, invalidTags, VALID_REMARK);
+                        VALID_SUBJECTS, invalidTags, VALID_REMARK, VALID_AVAILABILITY);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidAvailability_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, INVALID_AVAILABILITY);
+        assertThrows(IllegalValueException.class, Week.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingAvailability_returnsPersonWithoutAvailability() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, null);
+        assertEquals(Week.NONE, person.toModelType().getAvailability());
+    }
+
+    @Test
+    public void toModelType_savedPerson_keepsId() throws Exception {
+        Person benson = BENSON.toBuilder().withId(42).build();
+        assertEquals(42, new JsonAdaptedPerson(benson).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingOrInvalidId_returnsPersonWithoutId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
+        assertEquals(Person.NO_ID, person.toModelType().getId());
+        person = new JsonAdaptedPerson(-3L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_SUBJECTS, VALID_TAGS, VALID_REMARK, VALID_AVAILABILITY);
+        assertEquals(Person.NO_ID, person.toModelType().getId());
+    }
 }
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.LessonSeries;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+public class JsonSerializableScheduleTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2023, 10, 16, 15, 0);
+
+    @Test
+    public void toModelType_withSeries_roundTrips() throws Exception {
+        ScheduleList schedule = new ScheduleList();
+        schedule.addLesson(new Lesson(START.plusDays(1), START.plusDays(1).plusHours(1), new Subject("ENGLISH"),
+                new TaskList(), new Name("Bernice")));
+        schedule.addSeries(new LessonSeries(new Lesson(START, START.plusHours(2), new Subject("MATHEMATICS"),
+                new TaskList(), new Name("Alex")), 2, LocalDate.of(2024, 6, 30), Set.of(LocalDate.of(2023, 10, 30))));
+
+        String json = JsonUtil.toJsonString(new JsonSerializableSchedule(schedule));
+        ScheduleList fromJson = JsonUtil.fromJsonString(json, JsonSerializableSchedule.class).toModelType();
+        assertEquals(schedule, fromJson);
+    }
+
+    @Test
+    public void toModelType_withoutSeries_hasNoSeries() throws Exception {
+        String json = "{ \"lessons\" : [] }";
+        ScheduleList fromJson = JsonUtil.fromJsonString(json, JsonSerializableSchedule.class).toModelType();
+        assertEquals(List.of(), fromJson.getSeriesList());
+    }
+
+    @Test
+    public void toModelType_invalidSeries_throwsIllegalValueException() throws Exception {
+        JsonAdaptedLesson first = new JsonAdaptedLesson(new Lesson(START, START.plusHours(2),
+                new Subject("MATHEMATICS"), new TaskList(), new Name("Alex")));
+        JsonSerializableSchedule badDate = new JsonSerializableSchedule(List.of(),
+                List.of(new JsonAdaptedLessonSeries(first, 1, "next year", List.of())));
+        assertThrows(IllegalValueException.class, badDate::toModelType);
+        JsonSerializableSchedule badInterval = new JsonSerializableSchedule(List.of(),
+                List.of(new JsonAdaptedLessonSeries(first, 0, "2024-06-30", List.of())));
+        assertThrows(IllegalValueException.class, LessonSeries.MESSAGE_CONSTRAINTS, badInterval::toModelType);
+    }
+}
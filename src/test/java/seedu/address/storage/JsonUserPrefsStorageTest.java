@@ -15,6 +15,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.billing.Rates;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
 
 public class JsonUserPrefsStorageTest {
 
@@ -115,6 +118,8 @@ public class JsonUserPrefsStorageTest {
 
         //Try saving when the file exists
         original.setGuiSettings(new GuiSettings(5, 5, 5, 5));
+        original.setRates(new Rates().withDefaultRate(4000).withStudentRate(new Name("Alex Yeoh"), 4550)
+                .withSubjectRate(new Subject("MATHEMATICS"), 5000));
         jsonUserPrefsStorage.saveUserPrefs(original);
         readBack = jsonUserPrefsStorage.readUserPrefs().get();
         assertEquals(original, readBack);
@@ -0,0 +1,113 @@
+package seedu.address.testutil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * A utility class to help with building Lesson objects.
+ */
+public class LessonBuilder {
+
+    public static final LocalDateTime DEFAULT_START = LocalDateTime.of(2023, 10, 16, 8, 0);
+    public static final int DEFAULT_MINUTES = 60;
+    public static final String DEFAULT_SUBJECT = "MATHEMATICS";
+    public static final String DEFAULT_STUDENT = "Alex Yeoh";
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private Subject subject;
+    private List<String> tasks;
+    private List<Name> students;
+
+    /**
+     * Creates a {@code LessonBuilder} with the default details.
+     */
+    public LessonBuilder() {
+        start = DEFAULT_START;
+        end = DEFAULT_START.plusMinutes(DEFAULT_MINUTES);
+        subject = new Subject(DEFAULT_SUBJECT);
+        tasks = new ArrayList<>();
+        students = List.of(new Name(DEFAULT_STUDENT));
+    }
+
+    /**
+     * Sets the start of the {@code Lesson} that we are building, keeping its length.
+     */
+    public LessonBuilder withStart(LocalDateTime start) {
+        Duration length = Duration.between(this.start, end);
+        this.start = start;
+        this.end = start.plus(length);
+        return this;
+    }
+
+    /**
+     * Sets the end of the {@code Lesson} that we are building.
+     */
+    public LessonBuilder withEnd(LocalDateTime end) {
+        this.end = end;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Lesson} that we are building to last {@code minutes} from its start.
+     */
+    public LessonBuilder withMinutes(int minutes) {
+        this.end = start.plusMinutes(minutes);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Subject} of the {@code Lesson} that we are building.
+     */
+    public LessonBuilder withSubject(String subject) {
+        this.subject = new Subject(subject);
+        return this;
+    }
+
+    /**
+     * Sets the descriptions of the tasks of the {@code Lesson} that we are building.
+     */
+    public LessonBuilder withTasks(String... tasks) {
+        this.tasks = List.of(tasks);
+        return this;
+    }
+
+    /**
+     * Parses the {@code students} into names and sets them as the students of the {@code Lesson} that we are
+     * building.
+     */
+    public LessonBuilder withStudents(String... students) {
+        this.students = new ArrayList<>();
+        for (String student : students) {
+            this.students.add(new Name(student));
+        }
+        return this;
+    }
+
+    /**
+     * Sets the students of the {@code Lesson} that we are building.
+     */
+    public LessonBuilder withStudents(Name... students) {
+        this.students = List.of(students);
+        return this;
+    }
+
+    /**
+     * Builds the {@code Lesson}, with a task list of its own.
+     */
+    public Lesson build() {
+        TaskList taskList = new TaskList();
+        for (String task : tasks) {
+            taskList.add(new Task(task));
+        }
+        return new Lesson(start, end, subject, taskList, new ArrayList<>(students));
+    }
+}
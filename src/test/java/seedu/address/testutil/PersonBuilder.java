@@ -3,6 +3,7 @@ package seedu.address.testutil;
 import java.util.HashSet;
 import java.util.Set;
 
+import seedu.address.model.lessons.Week;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -31,6 +32,7 @@ public class PersonBuilder {
     private Set<Subject> subjects;
     private Set<Tag> tags;
     private Remark remark;
+    private Week availability;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -43,6 +45,7 @@ public class PersonBuilder {
         subjects = new HashSet<>();
         tags = new HashSet<>();
         remark = new Remark(DEFAULT_REMARK);
+        availability = Week.NONE;
     }
 
     /**
@@ -56,6 +59,7 @@ public class PersonBuilder {
         subjects = new HashSet<>(personToCopy.getSubjects());
         tags = new HashSet<>(personToCopy.getTags());
         remark = personToCopy.getRemark();
+        availability = personToCopy.getAvailability();
     }
 
     /**
@@ -114,8 +118,20 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the availability of the {@code Person} that we are building.
+     */
+    public PersonBuilder withAvailability(String availability) {
+        this.availability = new Week(availability);
+        return this;
+    }
+
+    /**
+     * Builds the {@code Person}.
+     */
     public Person build() {
-        return new Person(name, phone, email, address, subjects, tags, remark);
+        return new Person.Builder(name).withPhone(phone).withEmail(email).withAddress(address)
+                .withSubjects(subjects).withTags(tags).withRemark(remark).withAvailability(availability).build();
     }
 
 }
@@ -0,0 +1,79 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.ui.CalendarLayout.LessonBlock;
+
+public class CalendarLayoutTest {
+
+    private static final LocalDate DAY = LocalDate.of(2023, 10, 9);
+
+    @Test
+    public void firstStartingFrom_sortedLessons_binarySearches() {
+        List<Lesson> lessons = List.of(new LessonBuilder().withStart(DAY.atTime(9, 0)).build(),
+                new LessonBuilder().withStart(DAY.atTime(10, 0)).build(),
+                new LessonBuilder().withStart(DAY.atTime(10, 0)).withMinutes(120).build());
+        assertEquals(0, CalendarLayout.firstStartingFrom(lessons, DAY.atStartOfDay()));
+        assertEquals(1, CalendarLayout.firstStartingFrom(lessons, DAY.atTime(9, 30)));
+        assertEquals(1, CalendarLayout.firstStartingFrom(lessons, DAY.atTime(10, 0)));
+        assertEquals(3, CalendarLayout.firstStartingFrom(lessons, DAY.atTime(10, 1)));
+    }
+
+    @Test
+    public void layoutDay_overlappingLessons_placedSideBySide() {
+        List<Lesson> lessons = new ArrayList<>();
+        lessons.add(new Lesson(DAY.minusDays(1).atTime(9, 0), DAY.minusDays(1).atTime(10, 0),
+                new Subject("BIOLOGY"), new TaskList(), new Name("Bernice Yu")));
+        lessons.add(new LessonBuilder().withStart(DAY.atTime(9, 0)).withEnd(DAY.atTime(11, 0)).build());
+        lessons.add(new LessonBuilder().withStart(DAY.atTime(9, 30)).withEnd(DAY.atTime(10, 0)).build());
+        lessons.add(new LessonBuilder().withStart(DAY.atTime(10, 0)).withEnd(DAY.atTime(10, 30)).build());
+        lessons.add(new LessonBuilder().withStart(DAY.atTime(10, 30)).withEnd(DAY.atTime(12, 0)).build());
+        lessons.add(new LessonBuilder().withStart(DAY.atTime(13, 0)).withEnd(DAY.atTime(14, 0)).build());
+
+        List<LessonBlock> blocks = CalendarLayout.layoutDay(lessons, DAY);
+        assertEquals(5, blocks.size());
+
+        // the first four lessons overlap in a chain, needing two columns at most
+        assertBlock(blocks.get(0), 2, 540, 660, 0, 2);
+        assertBlock(blocks.get(1), 3, 570, 600, 1, 2);
+        assertBlock(blocks.get(2), 4, 600, 630, 1, 2);
+        assertBlock(blocks.get(3), 5, 630, 720, 1, 2);
+        // a lesson overlapping nothing takes the whole day
+        assertBlock(blocks.get(4), 6, 780, 840, 0, 1);
+    }
+
+    @Test
+    public void layoutDay_irregularLessons_clippedToDay() {
+        LocalDateTime lateStart = DAY.atTime(23, 0);
+        List<Lesson> lessons = List.of(
+                new LessonBuilder().withStart(DAY.atTime(8, 0)).withEnd(DAY.atTime(7, 0)).build(),
+                new Lesson(lateStart, lateStart.plusHours(2), new Subject("BIOLOGY"), new TaskList()));
+
+        List<LessonBlock> blocks = CalendarLayout.layoutDay(lessons, DAY);
+        // a lesson ending before it starts is still drawn
+        assertBlock(blocks.get(0), 1, 480, 480 + CalendarLayout.MIN_BLOCK_MINUTES, 0, 1);
+        // a lesson running past midnight is cut off at the end of the day
+        assertBlock(blocks.get(1), 2, 1380, CalendarLayout.MINUTES_PER_DAY, 0, 1);
+    }
+
+    private static void assertBlock(LessonBlock block, int displayedIndex, int startMinute, int endMinute,
+            int column, int columnCount) {
+        assertEquals(displayedIndex, block.getDisplayedIndex());
+        assertEquals(startMinute, block.getStartMinute());
+        assertEquals(endMinute, block.getEndMinute());
+        assertEquals(column, block.getColumn());
+        assertEquals(columnCount, block.getColumnCount());
+    }
+}
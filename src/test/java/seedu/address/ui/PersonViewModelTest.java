@@ -0,0 +1,45 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.paint.Color;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonViewModelTest {
+
+    @Test
+    public void of_person_precomputesSortedTagsAndSubjects() {
+        Person person = new PersonBuilder().withTags("zeta", "alpha").withSubjects("BIOLOGY", "MATHEMATICS").build();
+        PersonViewModel viewModel = PersonViewModel.of(person);
+        assertEquals(List.of("alpha", "zeta"), viewModel.getTags());
+        assertEquals("MATHEMATICS", viewModel.getSubjects().get(0).getText());
+        assertEquals(Color.web("FireBrick"), viewModel.getSubjects().get(0).getColour());
+        assertSame(viewModel, PersonViewModel.of(person));
+    }
+
+    @Test
+    public void invalidate_person_recomputed() {
+        Person person = new PersonBuilder().build();
+        PersonViewModel viewModel = PersonViewModel.of(person);
+        PersonViewModel.invalidate(person);
+        assertNotSame(viewModel, PersonViewModel.of(person));
+    }
+
+    @Test
+    public void hasSameField() {
+        PersonViewModel viewModel = PersonViewModel.of(new PersonBuilder().build());
+        PersonViewModel editedViewModel = PersonViewModel.of(new PersonBuilder().withPhone("99999999").build());
+        assertFalse(viewModel.hasSameField(editedViewModel, "phone"));
+        assertTrue(viewModel.hasSameField(editedViewModel, "tags"));
+        assertTrue(viewModel.hasSameField(editedViewModel, "unknown"));
+    }
+}
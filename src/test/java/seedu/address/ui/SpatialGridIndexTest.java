@@ -0,0 +1,38 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class SpatialGridIndexTest {
+
+    @Test
+    public void find_pointInsideRectangle_returnsItem() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>(10);
+        index.add("wide", 5, 5, 100, 10);
+        index.add("tall", 50, 0, 10, 100);
+
+        assertEquals("wide", index.find(5, 5));
+        assertEquals("wide", index.find(104.9, 14.9));
+        assertNull(index.find(105, 10));
+        // the item added later is drawn on top
+        assertEquals("tall", index.find(55, 10));
+        assertEquals("tall", index.find(55, 99));
+        assertNull(index.find(-1, -1));
+    }
+
+    @Test
+    public void remove_item_noLongerFound() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>(10);
+        index.add("block", 0, 0, 30, 30);
+        index.add("block", 40, 40, 5, 5);
+        assertEquals(1, index.size());
+        assertNull(index.find(10, 10));
+        assertEquals("block", index.find(42, 42));
+
+        index.remove("block");
+        assertNull(index.find(42, 42));
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ViewModelCacheTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private String create(StringBuilder entity) {
+        created.incrementAndGet();
+        return entity.toString();
+    }
+
+    @Test
+    public void get_sameEntity_createdOnce() {
+        ViewModelCache<StringBuilder, String> cache = new ViewModelCache<>(2);
+        StringBuilder entity = new StringBuilder("a");
+        String viewModel = cache.get(entity, this::create);
+        assertSame(viewModel, cache.get(entity, this::create));
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void get_equalButDifferentEntity_createdAgain() {
+        ViewModelCache<String, String> cache = new ViewModelCache<>(2);
+        String entity = "entity";
+        String equalEntity = new String(entity);
+        assertNotSame(cache.get(entity, String::new), cache.get(equalEntity, String::new));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_overCapacity_evictsLeastRecentlyUsed() {
+        ViewModelCache<StringBuilder, String> cache = new ViewModelCache<>(2);
+        StringBuilder first = new StringBuilder("1");
+        StringBuilder second = new StringBuilder("2");
+        cache.get(first, this::create);
+        cache.get(second, this::create);
+        cache.get(first, this::create);
+        cache.get(new StringBuilder("3"), this::create);
+        assertEquals(2, cache.size());
+        assertEquals(3, created.get());
+
+        cache.get(first, this::create);
+        assertEquals(3, created.get());
+        cache.get(second, this::create);
+        assertEquals(4, created.get());
+    }
+
+    @Test
+    public void invalidate_cachedEntity_createdAgain() {
+        ViewModelCache<StringBuilder, String> cache = new ViewModelCache<>(2);
+        StringBuilder entity = new StringBuilder("a");
+        cache.get(entity, this::create);
+        cache.invalidate(entity);
+        entity.append("b");
+        assertEquals("ab", cache.get(entity, this::create));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    public void get_afterInvalidateAndClear_keepsCapacity() {
+        ViewModelCache<StringBuilder, String> cache = new ViewModelCache<>(2);
+        StringBuilder first = new StringBuilder("1");
+        StringBuilder second = new StringBuilder("2");
+        cache.get(first, this::create);
+        cache.get(second, this::create);
+        cache.invalidate(first);
+        cache.get(new StringBuilder("3"), this::create);
+        cache.get(second, this::create);
+        assertEquals(2, cache.size());
+        assertEquals(3, created.get());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.get(second, this::create);
+        cache.get(first, this::create);
+        cache.get(new StringBuilder("4"), this::create);
+        assertEquals(2, cache.size());
+        assertEquals(6, created.get());
+    }
+}